@@ -50,6 +50,7 @@ abstract class AbstractDatabaseObject
   private static final long serialVersionUID = 3099561832386790624L;
 
   private final Schema schema;
+  private transient String fullName;
 
   AbstractDatabaseObject(final Schema schema, final String name)
   {
@@ -134,6 +135,19 @@ abstract class AbstractDatabaseObject
    */
   @Override
   public String getFullName()
+  {
+    // Names do not change, so the full name is built only once, and
+    // can be used as a lookup key without allocation
+    String fullName = this.fullName;
+    if (fullName == null)
+    {
+      fullName = buildFullName();
+      this.fullName = fullName;
+    }
+    return fullName;
+  }
+
+  private String buildFullName()
   {
     final StringBuilder buffer = new StringBuilder(64);
     if (schema != null)
@@ -49,6 +49,7 @@ abstract class AbstractDependantObject<D extends DatabaseObject>
   private static final long serialVersionUID = -4327208866052082457L;
 
   private final DatabaseObjectReference<D> parent;
+  private transient String fullName;
 
   AbstractDependantObject(final DatabaseObjectReference<D> parent,
                           final String name)
@@ -96,6 +97,17 @@ abstract class AbstractDependantObject<D extends DatabaseObject>
    */
   @Override
   public String getFullName()
+  {
+    String fullName = this.fullName;
+    if (fullName == null)
+    {
+      fullName = buildFullName();
+      this.fullName = fullName;
+    }
+    return fullName;
+  }
+
+  private String buildFullName()
   {
     final StringBuilder buffer = new StringBuilder(64);
     if (parent != null)
@@ -38,6 +38,7 @@ import java.sql.SQLException;
 import java.util.Optional;
 import java.util.logging.Level;
 
+import schemacrawler.crawl.AdaptiveRetrievalStrategies.RetrievalType;
 import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.JavaSqlType;
 import schemacrawler.schema.Schema;
@@ -119,6 +120,20 @@ abstract class AbstractRetriever
     return belongsToCatalog && belongsToSchema;
   }
 
+  /**
+   * Falls back to per-table meta-data retrieval after a bulk meta-data
+   * call failed, and counts the retry in the crawl metrics.
+   *
+   * @param retrievalType
+   *        Kind of retrieval that failed
+   */
+  void fallBack(final RetrievalType retrievalType)
+  {
+    retrieverConnection.getAdaptiveRetrievalStrategies()
+      .fallBack(retrievalType);
+    retrieverConnection.getCrawlMetrics().addRetry(retrievalType.name());
+  }
+
   NamedObjectList<SchemaReference> getAllSchemas()
   {
     return catalog.getAllSchemas();
@@ -158,12 +173,16 @@ abstract class AbstractRetriever
     }
     else
     {
+      retrieverConnection.getCrawlMetrics()
+        .addFailure(getClass().getSimpleName());
       LOGGER.log(Level.WARNING, message, e);
     }
   }
 
   void logSQLFeatureNotSupported(final StringFormat message, final Throwable e)
   {
+    retrieverConnection.getCrawlMetrics()
+      .addFailure(getClass().getSimpleName());
     LOGGER.log(Level.WARNING, message);
     LOGGER.log(Level.FINE, message, e);
   }
@@ -207,39 +226,44 @@ abstract class AbstractRetriever
                                                      final String databaseSpecificTypeName,
                                                      final String mappedClassName)
   {
-    MutableColumnDataType columnDataType = catalog
-      .lookupColumnDataType(schema, databaseSpecificTypeName).orElse(catalog
-        .lookupSystemColumnDataType(databaseSpecificTypeName).orElse(null));
-    // Create new data type, if needed
-    if (columnDataType == null)
+    // Look up and create under the catalog lock, since column data
+    // types can be created concurrently by several retrievers
+    synchronized (catalog)
     {
-      columnDataType = new MutableColumnDataType(schema,
-                                                 databaseSpecificTypeName);
-      final JavaSqlType javaSqlType = retrieverConnection.getJavaSqlTypes()
-        .get(javaSqlTypeInt);
-      columnDataType.setJavaSqlType(javaSqlType);
-      if (isBlank(mappedClassName))
+      MutableColumnDataType columnDataType = catalog
+        .lookupColumnDataType(schema, databaseSpecificTypeName).orElse(catalog
+          .lookupSystemColumnDataType(databaseSpecificTypeName).orElse(null));
+      // Create new data type, if needed
+      if (columnDataType == null)
       {
-        final TypeMap typeMap = retrieverConnection.getTypeMap();
-        final Class<?> mappedClass;
-        if (typeMap.containsKey(databaseSpecificTypeName))
+        columnDataType = new MutableColumnDataType(schema,
+                                                   databaseSpecificTypeName);
+        final JavaSqlType javaSqlType = retrieverConnection.getJavaSqlTypes()
+          .get(javaSqlTypeInt);
+        columnDataType.setJavaSqlType(javaSqlType);
+        if (isBlank(mappedClassName))
         {
-          mappedClass = typeMap.get(databaseSpecificTypeName);
+          final TypeMap typeMap = retrieverConnection.getTypeMap();
+          final Class<?> mappedClass;
+          if (typeMap.containsKey(databaseSpecificTypeName))
+          {
+            mappedClass = typeMap.get(databaseSpecificTypeName);
+          }
+          else
+          {
+            mappedClass = typeMap.get(javaSqlType.getJavaSqlTypeName());
+          }
+          columnDataType.setTypeMappedClass(mappedClass);
         }
         else
         {
-          mappedClass = typeMap.get(javaSqlType.getJavaSqlTypeName());
+          columnDataType.setTypeMappedClass(mappedClassName);
         }
-        columnDataType.setTypeMappedClass(mappedClass);
-      }
-      else
-      {
-        columnDataType.setTypeMappedClass(mappedClassName);
-      }
 
-      catalog.addColumnDataType(columnDataType);
+        catalog.addColumnDataType(columnDataType);
+      }
+      return columnDataType;
     }
-    return columnDataType;
   }
 
   Optional<MutableRoutine> lookupRoutine(final String catalogName,
@@ -270,7 +294,8 @@ abstract class AbstractRetriever
 
   String nameQuotedName(final String name)
   {
-    return retrieverConnection.getIdentifiers().nameQuotedName(name);
+    return retrieverConnection.getStringPool()
+      .pooled(retrieverConnection.getIdentifiers().nameQuotedName(name));
   }
 
   String unquotedName(final String name)
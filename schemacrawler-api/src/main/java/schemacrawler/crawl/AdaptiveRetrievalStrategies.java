@@ -0,0 +1,398 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.logging.Level;
+
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.SchemaReference;
+import schemacrawler.schema.View;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import schemacrawler.utility.Identifiers;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Selects the cheapest meta-data retrieval strategy for each kind of
+ * retrieval that is configured to be adaptive. The driver is probed by
+ * timing per-table meta-data calls against a single bulk meta-data call
+ * on the smallest schema. Selected strategies are shared by all
+ * connections used for a crawl, so probing is done only once.
+ *
+ * @author Sualeh Fatehi
+ */
+final class AdaptiveRetrievalStrategies
+{
+
+  @FunctionalInterface
+  private interface MetadataCall
+  {
+
+    ResultSet call(DatabaseMetaData metaData)
+      throws SQLException;
+
+  }
+
+  private static final class Timing
+  {
+
+    private final long elapsed;
+    private final int rows;
+
+    Timing(final long elapsed, final int rows)
+    {
+      this.elapsed = elapsed;
+      this.rows = rows;
+    }
+
+  }
+
+  enum RetrievalType
+  {
+   tables,
+   table_columns,
+   primary_keys,
+   indexes,
+   foreign_keys;
+  }
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(AdaptiveRetrievalStrategies.class.getName());
+
+  /**
+   * Number of tables to sample for timing per-table calls.
+   */
+  private static final int SAMPLE_SIZE = 3;
+
+  private static Timing time(final DatabaseMetaData metaData,
+                             final MetadataCall metadataCall)
+    throws SQLException
+  {
+    final long start = System.nanoTime();
+    int rows = 0;
+    try (final ResultSet results = metadataCall.call(metaData);)
+    {
+      // Read all rows, since some drivers fetch lazily
+      while (results.next())
+      {
+        rows++;
+      }
+    }
+    return new Timing(System.nanoTime() - start, rows);
+  }
+
+  private final Map<RetrievalType, MetadataRetrievalStrategy> configuredStrategies;
+  private final Map<RetrievalType, MetadataRetrievalStrategy> selectedStrategies;
+
+  AdaptiveRetrievalStrategies(final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions)
+  {
+    configuredStrategies = new EnumMap<>(RetrievalType.class);
+    configuredStrategies.put(RetrievalType.tables,
+                             databaseSpecificOverrideOptions
+                               .getTableRetrievalStrategy());
+    configuredStrategies.put(RetrievalType.table_columns,
+                             databaseSpecificOverrideOptions
+                               .getTableColumnRetrievalStrategy());
+    configuredStrategies.put(RetrievalType.primary_keys,
+                             databaseSpecificOverrideOptions
+                               .getPrimaryKeyRetrievalStrategy());
+    configuredStrategies.put(RetrievalType.indexes,
+                             databaseSpecificOverrideOptions
+                               .getIndexRetrievalStrategy());
+    configuredStrategies.put(RetrievalType.foreign_keys,
+                             databaseSpecificOverrideOptions
+                               .getForeignKeyRetrievalStrategy());
+
+    selectedStrategies = new EnumMap<>(RetrievalType.class);
+  }
+
+  /**
+   * Records that a bulk meta-data call failed, so that per-table
+   * meta-data retrieval is used from now on.
+   *
+   * @param retrievalType
+   *        Kind of retrieval that failed
+   */
+  synchronized void fallBack(final RetrievalType retrievalType)
+  {
+    LOGGER.log(Level.WARNING,
+               new StringFormat("Falling back to per-table retrieval of %s",
+                                retrievalType));
+    selectedStrategies.put(retrievalType, MetadataRetrievalStrategy.metadata);
+  }
+
+  /**
+   * Gets the strategy to use for a kind of retrieval. Adaptive
+   * strategies that have not been probed yet use per-table meta-data
+   * retrieval, which is supported by all drivers.
+   *
+   * @param retrievalType
+   *        Kind of retrieval
+   * @return Strategy to use
+   */
+  synchronized MetadataRetrievalStrategy get(final RetrievalType retrievalType)
+  {
+    final MetadataRetrievalStrategy configuredStrategy = configuredStrategies
+      .get(retrievalType);
+    if (configuredStrategy != MetadataRetrievalStrategy.adaptive)
+    {
+      return configuredStrategy;
+    }
+    return selectedStrategies.getOrDefault(retrievalType,
+                                           MetadataRetrievalStrategy.metadata);
+  }
+
+  boolean isAdaptive(final RetrievalType retrievalType)
+  {
+    return configuredStrategies
+      .get(retrievalType) == MetadataRetrievalStrategy.adaptive;
+  }
+
+  /**
+   * Probes the cost of retrieving table details, such as columns and
+   * indexes, for every adaptive kind of retrieval that has not been
+   * probed yet.
+   *
+   * @param retrieverConnection
+   *        Connection to probe
+   * @param allTables
+   *        Tables that details will be retrieved for
+   */
+  synchronized void probeTableDetails(final RetrieverConnection retrieverConnection,
+                                      final NamedObjectList<MutableTable> allTables)
+  {
+    final DatabaseMetaData metaData = retrieverConnection.getMetaData();
+    final Identifiers identifiers = retrieverConnection.getIdentifiers();
+
+    final Map<Schema, List<MutableTable>> tablesBySchema = new LinkedHashMap<>();
+    for (final MutableTable table: allTables)
+    {
+      if (!(table instanceof View))
+      {
+        tablesBySchema
+          .computeIfAbsent(table.getSchema(), schema -> new ArrayList<>())
+          .add(table);
+      }
+    }
+    if (tablesBySchema.isEmpty())
+    {
+      return;
+    }
+
+    // Probe on the smallest schema, so that the bulk call is cheap
+    List<MutableTable> sampleTables = null;
+    for (final List<MutableTable> tables: tablesBySchema.values())
+    {
+      if (sampleTables == null || tables.size() < sampleTables.size())
+      {
+        sampleTables = tables;
+      }
+    }
+    final Schema schema = sampleTables.get(0).getSchema();
+    final String catalogName = identifiers
+      .unquotedName(schema.getCatalogName());
+    final String schemaName = identifiers.unquotedName(schema.getName());
+
+    probe(metaData,
+          RetrievalType.table_columns,
+          sampleTables,
+          table -> md -> md.getColumns(catalogName,
+                                       schemaName,
+                                       identifiers.unquotedName(table.getName()),
+                                       null),
+          md -> md.getColumns(catalogName, schemaName, "%", "%"));
+    probe(metaData,
+          RetrievalType.primary_keys,
+          sampleTables,
+          table -> md -> md.getPrimaryKeys(catalogName,
+                                           schemaName,
+                                           identifiers.unquotedName(table.getName())),
+          md -> md.getPrimaryKeys(catalogName, schemaName, "%"));
+    probe(metaData,
+          RetrievalType.indexes,
+          sampleTables,
+          table -> md -> md.getIndexInfo(catalogName,
+                                         schemaName,
+                                         identifiers.unquotedName(table.getName()),
+                                         false,
+                                         true),
+          md -> md.getIndexInfo(catalogName, schemaName, "%", false, true));
+    probe(metaData,
+          RetrievalType.foreign_keys,
+          sampleTables,
+          table -> md -> md.getImportedKeys(catalogName,
+                                            schemaName,
+                                            identifiers.unquotedName(table.getName())),
+          md -> md.getImportedKeys(catalogName, schemaName, "%"));
+  }
+
+  /**
+   * Probes the cost of retrieving tables, if tables are retrieved
+   * adaptively, and have not been probed yet. One per-schema call is
+   * timed against a single bulk call for all schemas.
+   *
+   * @param retrieverConnection
+   *        Connection to probe
+   * @param schemas
+   *        Schemas that tables will be retrieved for
+   * @param tableNamePattern
+   *        Table name pattern
+   * @param tableTypes
+   *        Table types to retrieve
+   */
+  synchronized void probeTables(final RetrieverConnection retrieverConnection,
+                                final Collection<SchemaReference> schemas,
+                                final String tableNamePattern,
+                                final String[] tableTypes)
+  {
+    if (!needsProbe(RetrievalType.tables))
+    {
+      return;
+    }
+    if (schemas.size() < 2)
+    {
+      select(RetrievalType.tables, MetadataRetrievalStrategy.metadata);
+      return;
+    }
+
+    final DatabaseMetaData metaData = retrieverConnection.getMetaData();
+    final Identifiers identifiers = retrieverConnection.getIdentifiers();
+    final Schema schema = schemas.iterator().next();
+    try
+    {
+      final Timing perSchemaTiming = time(metaData,
+                                      md -> md.getTables(identifiers
+                                        .unquotedName(schema.getCatalogName()),
+                                                         identifiers
+                                                           .unquotedName(schema
+                                                             .getName()),
+                                                         tableNamePattern,
+                                                         tableTypes));
+      final Timing bulkTiming = time(metaData,
+                                     md -> md.getTables(null,
+                                                        null,
+                                                        tableNamePattern,
+                                                        tableTypes));
+      final boolean isBulkCheaper = bulkTiming.rows >= perSchemaTiming.rows
+                                    && bulkTiming.elapsed < perSchemaTiming.elapsed
+                                                            * schemas.size();
+      select(RetrievalType.tables,
+             isBulkCheaper? MetadataRetrievalStrategy.metadata_all
+                          : MetadataRetrievalStrategy.metadata);
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.CONFIG, "Could not probe bulk table retrieval", e);
+      select(RetrievalType.tables, MetadataRetrievalStrategy.metadata);
+    }
+  }
+
+  private boolean needsProbe(final RetrievalType retrievalType)
+  {
+    return isAdaptive(retrievalType)
+           && !selectedStrategies.containsKey(retrievalType);
+  }
+
+  /**
+   * Compares the average time of a per-table call, against the time of
+   * a bulk call for the whole schema divided by the number of tables in
+   * the schema. Some drivers do not support patterns in bulk calls, and
+   * return no rows instead of failing, so a bulk call has to return at
+   * least the rows that the per-table calls did, for it to be used.
+   */
+  private void probe(final DatabaseMetaData metaData,
+                     final RetrievalType retrievalType,
+                     final List<MutableTable> schemaTables,
+                     final Function<MutableTable, MetadataCall> perTableCall,
+                     final MetadataCall bulkCall)
+  {
+    if (!needsProbe(retrievalType))
+    {
+      return;
+    }
+
+    try
+    {
+      final int sampleSize = Math.min(SAMPLE_SIZE, schemaTables.size());
+      long perTableTime = 0;
+      int perTableRows = 0;
+      for (int i = 0; i < sampleSize; i++)
+      {
+        final Timing timing = time(metaData,
+                                   perTableCall.apply(schemaTables.get(i)));
+        perTableTime = perTableTime + timing.elapsed;
+        perTableRows = perTableRows + timing.rows;
+      }
+      perTableTime = perTableTime / sampleSize;
+
+      final Timing bulkTiming = time(metaData, bulkCall);
+      final long bulkTimePerTable = bulkTiming.elapsed / schemaTables.size();
+      final boolean isBulkSupported = perTableRows > 0
+                                      && bulkTiming.rows >= perTableRows;
+
+      LOGGER.log(Level.CONFIG,
+                 new StringFormat("Probed retrieval of %s - %d ns per table for per-table calls, %d ns per table for bulk calls",
+                                  retrievalType,
+                                  perTableTime,
+                                  bulkTimePerTable));
+      select(retrievalType,
+             isBulkSupported && bulkTimePerTable < perTableTime? MetadataRetrievalStrategy.metadata_all
+                                                               : MetadataRetrievalStrategy.metadata);
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.CONFIG,
+                 new StringFormat("Could not probe bulk retrieval of %s",
+                                  retrievalType),
+                 e);
+      select(retrievalType, MetadataRetrievalStrategy.metadata);
+    }
+  }
+
+  private void select(final RetrievalType retrievalType,
+                      final MetadataRetrievalStrategy strategy)
+  {
+    LOGGER.log(Level.INFO,
+               new StringFormat("Selected %s strategy for retrieval of %s",
+                                strategy,
+                                retrievalType));
+    selectedStrategies.put(retrievalType, strategy);
+  }
+
+}
@@ -0,0 +1,56 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+
+/**
+ * Receives the tables of a database one chunk at a time, while the
+ * database is crawled. A chunk is a catalog that has the tables from a
+ * few schemas, and should not be held on to after it has been handled.
+ *
+ * @author Sualeh Fatehi
+ */
+@FunctionalInterface
+public interface CatalogChunkHandler
+{
+
+  /**
+   * Handles a chunk of the catalog.
+   *
+   * @param chunk
+   *        Catalog with the tables for a few schemas
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  void handle(Catalog chunk)
+    throws SchemaCrawlerException;
+
+}
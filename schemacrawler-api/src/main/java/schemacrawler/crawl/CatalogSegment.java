@@ -0,0 +1,376 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.InvalidObjectException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.SchemaReference;
+
+/**
+ * A group of schemas from a catalog, along with all of their tables,
+ * routines, sequences, synonyms and user-defined column data types.
+ * Schemas that refer to each other through foreign keys, synonyms or
+ * column data types are always placed in the same segment, so a segment
+ * can be serialized and loaded on its own, without dangling references
+ * into other segments. Schemas and system column data types are kept in
+ * the catalog header, and segments refer to them, so that every segment
+ * shares the same instances.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class CatalogSegment
+  implements Serializable
+{
+
+  /**
+   * Reference to a schema or a system column data type in the catalog
+   * header, which is serialized in place of the object itself, so that
+   * every segment shares the instances from the header.
+   */
+  private static final class SharedObjectReference
+    implements Serializable
+  {
+
+    private static final long serialVersionUID = 3301497526640137912L;
+
+    private final boolean isSchema;
+    private final String name;
+
+    SharedObjectReference(final boolean isSchema, final String name)
+    {
+      this.isSchema = isSchema;
+      this.name = name;
+    }
+
+  }
+
+  private static final long serialVersionUID = -5536436232466375203L;
+
+  /**
+   * Puts segments back together into a catalog, using a catalog header
+   * for the catalog-level information. The catalog is frozen, in the
+   * same way as a crawled catalog.
+   *
+   * @param catalogHeader
+   *        Catalog header, from {@link #catalogHeader(Catalog)}
+   * @param segments
+   *        Segments to add to the catalog
+   * @return Catalog with the objects from the segments
+   */
+  public static Catalog assemble(final Catalog catalogHeader,
+                                 final Collection<CatalogSegment> segments)
+  {
+    requireNonNull(segments, "No catalog segments provided");
+    final MutableCatalog catalog = new MutableCatalog(toMutableCatalog(catalogHeader));
+    for (final CatalogSegment segment: segments)
+    {
+      for (final MutableColumnDataType columnDataType: segment.columnDataTypes)
+      {
+        catalog.addColumnDataType(columnDataType);
+      }
+      for (final MutableTable table: segment.tables)
+      {
+        catalog.addTable(table);
+      }
+      for (final MutableRoutine routine: segment.routines)
+      {
+        catalog.addRoutine(routine);
+      }
+      for (final MutableSequence sequence: segment.sequences)
+      {
+        catalog.addSequence(sequence);
+      }
+      for (final MutableSynonym synonym: segment.synonyms)
+      {
+        catalog.addSynonym(synonym);
+      }
+    }
+    catalog.freeze();
+    return catalog;
+  }
+
+  /**
+   * Creates a catalog header, which has the catalog-level information,
+   * schemas and system column data types, but none of the database
+   * objects.
+   *
+   * @param catalog
+   *        Catalog to copy from
+   * @return Catalog header
+   */
+  public static Catalog catalogHeader(final Catalog catalog)
+  {
+    return new MutableCatalog(toMutableCatalog(catalog));
+  }
+
+  /**
+   * Replaces schemas and system column data types that are in the
+   * catalog header with references, when a segment is serialized. Use
+   * with {@link java.io.ObjectOutputStream#replaceObject(Object)}.
+   *
+   * @param catalogHeader
+   *        Catalog header, from {@link #catalogHeader(Catalog)}
+   * @param object
+   *        Object to be serialized
+   * @return Reference to a shared object, or the object itself
+   */
+  public static Object replaceSharedObject(final Catalog catalogHeader,
+                                           final Object object)
+  {
+    if (object instanceof Schema)
+    {
+      final String fullName = ((Schema) object).getFullName();
+      if (catalogHeader.lookupSchema(fullName).isPresent())
+      {
+        return new SharedObjectReference(true, fullName);
+      }
+    }
+    else if (object instanceof ColumnDataType)
+    {
+      final ColumnDataType columnDataType = (ColumnDataType) object;
+      if (columnDataType.getSchema().equals(new SchemaReference())
+          && catalogHeader.lookupSystemColumnDataType(columnDataType.getName())
+            .isPresent())
+      {
+        return new SharedObjectReference(false, columnDataType.getName());
+      }
+    }
+    return object;
+  }
+
+  /**
+   * Resolves references to schemas and system column data types with
+   * the instances in the catalog header, when a segment is
+   * deserialized. Use with
+   * {@link java.io.ObjectInputStream#resolveObject(Object)}.
+   *
+   * @param catalogHeader
+   *        Deserialized catalog header
+   * @param object
+   *        Deserialized object
+   * @return Shared object from the catalog header, or the object itself
+   * @throws InvalidObjectException
+   *         If the catalog header does not have a referenced object
+   */
+  public static Object resolveSharedObject(final Catalog catalogHeader,
+                                           final Object object)
+    throws InvalidObjectException
+  {
+    if (!(object instanceof SharedObjectReference))
+    {
+      return object;
+    }
+    final SharedObjectReference reference = (SharedObjectReference) object;
+    final Optional<?> sharedObject;
+    if (reference.isSchema)
+    {
+      sharedObject = catalogHeader.lookupSchema(reference.name);
+    }
+    else
+    {
+      sharedObject = catalogHeader.lookupSystemColumnDataType(reference.name);
+    }
+    if (!sharedObject.isPresent())
+    {
+      throw new InvalidObjectException("Catalog header does not have "
+                                       + reference.name);
+    }
+    return sharedObject.get();
+  }
+
+  /**
+   * Splits a catalog into segments of related schemas.
+   *
+   * @param catalog
+   *        Catalog to split
+   * @return Catalog segments
+   */
+  public static List<CatalogSegment> split(final Catalog catalog)
+  {
+    final MutableCatalog mutableCatalog = toMutableCatalog(catalog);
+
+    final Map<Schema, Schema> groups = new HashMap<>();
+    for (final Schema schema: mutableCatalog.getAllSchemas())
+    {
+      groups.put(schema, schema);
+    }
+    for (final MutableTable table: mutableCatalog.getAllTables())
+    {
+      for (final ForeignKey foreignKey: table.getForeignKeys())
+      {
+        for (final ColumnReference columnReference: foreignKey)
+        {
+          union(groups,
+                columnReference.getForeignKeyColumn().getSchema(),
+                columnReference.getPrimaryKeyColumn().getSchema());
+        }
+      }
+      for (final Column column: table.getColumns())
+      {
+        union(groups, table.getSchema(), column.getColumnDataType().getSchema());
+      }
+    }
+    for (final MutableSynonym synonym: mutableCatalog.getAllSynonyms())
+    {
+      final DatabaseObject referencedObject = synonym.getReferencedObject();
+      if (referencedObject != null)
+      {
+        union(groups, synonym.getSchema(), referencedObject.getSchema());
+      }
+    }
+
+    final Map<Schema, CatalogSegment> segments = new LinkedHashMap<>();
+    for (final Schema schema: mutableCatalog.getAllSchemas())
+    {
+      final CatalogSegment segment = segments
+        .computeIfAbsent(find(groups, schema), root -> new CatalogSegment());
+      segment.schemas.add(schema);
+    }
+
+    final SchemaReference systemSchema = new SchemaReference();
+    for (final MutableColumnDataType columnDataType: mutableCatalog
+      .getAllColumnDataTypes())
+    {
+      if (!columnDataType.getSchema().equals(systemSchema))
+      {
+        lookupSegment(segments, groups, columnDataType.getSchema())
+          .columnDataTypes.add(columnDataType);
+      }
+    }
+    for (final MutableTable table: mutableCatalog.getAllTables())
+    {
+      lookupSegment(segments, groups, table.getSchema()).tables.add(table);
+    }
+    for (final MutableRoutine routine: mutableCatalog.getAllRoutines())
+    {
+      lookupSegment(segments, groups, routine.getSchema()).routines
+        .add(routine);
+    }
+    for (final MutableSequence sequence: mutableCatalog.getAllSequences())
+    {
+      lookupSegment(segments, groups, sequence.getSchema()).sequences
+        .add(sequence);
+    }
+    for (final MutableSynonym synonym: mutableCatalog.getAllSynonyms())
+    {
+      lookupSegment(segments, groups, synonym.getSchema()).synonyms
+        .add(synonym);
+    }
+
+    return new ArrayList<>(segments.values());
+  }
+
+  private static Schema find(final Map<Schema, Schema> groups,
+                             final Schema schema)
+  {
+    Schema root = schema;
+    while (groups.containsKey(root) && !groups.get(root).equals(root))
+    {
+      root = groups.get(root);
+    }
+    return root;
+  }
+
+  private static CatalogSegment lookupSegment(final Map<Schema, CatalogSegment> segments,
+                                              final Map<Schema, Schema> groups,
+                                              final Schema schema)
+  {
+    // Objects in schemas that are not in the catalog, such as
+    // partial tables, are given a segment of their own
+    return segments.computeIfAbsent(find(groups, schema),
+                                    root -> new CatalogSegment());
+  }
+
+  private static MutableCatalog toMutableCatalog(final Catalog catalog)
+  {
+    requireNonNull(catalog, "No catalog provided");
+    if (!(catalog instanceof MutableCatalog))
+    {
+      throw new IllegalArgumentException("Catalog cannot be segmented, "
+                                         + catalog.getClass().getName());
+    }
+    return (MutableCatalog) catalog;
+  }
+
+  private static void union(final Map<Schema, Schema> groups,
+                            final Schema schema1,
+                            final Schema schema2)
+  {
+    if (!groups.containsKey(schema1) || !groups.containsKey(schema2))
+    {
+      return;
+    }
+    final Schema root1 = find(groups, schema1);
+    final Schema root2 = find(groups, schema2);
+    if (!root1.equals(root2))
+    {
+      groups.put(root2, root1);
+    }
+  }
+
+  private final List<Schema> schemas = new ArrayList<>();
+  private final List<MutableColumnDataType> columnDataTypes = new ArrayList<>();
+  private final List<MutableTable> tables = new ArrayList<>();
+  private final List<MutableRoutine> routines = new ArrayList<>();
+  private final List<MutableSequence> sequences = new ArrayList<>();
+  private final List<MutableSynonym> synonyms = new ArrayList<>();
+
+  private CatalogSegment()
+  {
+    // Created by splitting a catalog
+  }
+
+  /**
+   * Gets the schemas in this segment.
+   *
+   * @return Schemas in the segment
+   */
+  public List<Schema> getSchemas()
+  {
+    return new ArrayList<>(schemas);
+  }
+
+}
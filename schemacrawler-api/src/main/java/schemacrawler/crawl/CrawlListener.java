@@ -0,0 +1,76 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import java.time.Duration;
+
+/**
+ * Receives crawl metrics as they are measured, while the database is
+ * crawled. Methods may be called from more than one thread at the same
+ * time when the database is crawled in parallel, so listeners need to
+ * be thread-safe, and should return quickly.
+ *
+ * @author Sualeh Fatehi
+ */
+public interface CrawlListener
+{
+
+  /**
+   * Called at the end of a crawl, with all the metrics for the crawl.
+   *
+   * @param crawlMetrics
+   *        Metrics for the crawl
+   */
+  void crawlCompleted(CrawlMetrics crawlMetrics);
+
+  /**
+   * Called when a phase of the crawl has completed.
+   *
+   * @param phase
+   *        Name of the phase
+   * @param duration
+   *        Wall time taken by the phase
+   */
+  void phaseCompleted(String phase, Duration duration);
+
+  /**
+   * Called when the results of a metadata call or a data dictionary
+   * query have been read.
+   *
+   * @param source
+   *        Name of the metadata call or query
+   * @param rows
+   *        Number of rows read
+   * @param duration
+   *        Wall time from when the results were obtained, to when they
+   *        were closed
+   */
+  void resultsRead(String source, long rows, Duration duration);
+
+}
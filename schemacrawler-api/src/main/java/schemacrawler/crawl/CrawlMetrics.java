@@ -0,0 +1,384 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.Table;
+import sf.util.StopWatch;
+
+/**
+ * Metrics for a crawl, with the wall time for each phase of the crawl,
+ * the number of metadata calls and rows read, the number of objects
+ * created and filtered, and the number of retrievals that were retried
+ * or failed. Metrics are collected from all the connections used for a
+ * crawl, and can be read as the crawl progresses, or exported as JSON.
+ * All times are in milliseconds.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class CrawlMetrics
+{
+
+  private static void add(final Map<String, Long> counts,
+                          final String key,
+                          final long count)
+  {
+    counts.merge(key, count, Long::sum);
+  }
+
+  private static void appendJson(final StringBuilder buffer,
+                                 final String name,
+                                 final Map<String, Long> values)
+  {
+    appendJsonString(buffer, name);
+    buffer.append(": {");
+    boolean isFirst = true;
+    for (final Map.Entry<String, Long> value: values.entrySet())
+    {
+      if (!isFirst)
+      {
+        buffer.append(",");
+      }
+      isFirst = false;
+      buffer.append(System.lineSeparator()).append("    ");
+      appendJsonString(buffer, value.getKey());
+      buffer.append(": ").append(value.getValue());
+    }
+    if (!isFirst)
+    {
+      buffer.append(System.lineSeparator()).append("  ");
+    }
+    buffer.append("}");
+  }
+
+  private static void appendJsonString(final StringBuilder buffer,
+                                       final String text)
+  {
+    buffer.append('"');
+    for (int i = 0; i < text.length(); i++)
+    {
+      final char ch = text.charAt(i);
+      if (ch == '"' || ch == '\\')
+      {
+        buffer.append('\\').append(ch);
+      }
+      else if (ch < ' ')
+      {
+        buffer.append(String.format("\\u%04x", (int) ch));
+      }
+      else
+      {
+        buffer.append(ch);
+      }
+    }
+    buffer.append('"');
+  }
+
+  private static Map<String, Long> copy(final Map<String, Long> values)
+  {
+    return Collections.unmodifiableMap(new LinkedHashMap<>(values));
+  }
+
+  private static Map<String, Long> toMillis(final Map<String, Duration> durations)
+  {
+    final Map<String, Long> millis = new LinkedHashMap<>();
+    for (final Map.Entry<String, Duration> duration: durations.entrySet())
+    {
+      millis.put(duration.getKey(), duration.getValue().toMillis());
+    }
+    return Collections.unmodifiableMap(millis);
+  }
+
+  private final List<CrawlListener> crawlListeners;
+  private final Map<String, Duration> phaseTimes;
+  private final Map<String, Long> metadataCalls;
+  private final Map<String, Long> rowsRead;
+  private final Map<String, Duration> readTimes;
+  private final Map<String, Long> objectsCreated;
+  private final Map<String, Long> objectsFiltered;
+  private final Map<String, Long> retries;
+  private final Map<String, Long> failures;
+
+  CrawlMetrics()
+  {
+    this(Collections.emptyList());
+  }
+
+  CrawlMetrics(final List<CrawlListener> crawlListeners)
+  {
+    this.crawlListeners = new ArrayList<>(requireNonNull(crawlListeners,
+                                                         "No crawl listeners provided"));
+    phaseTimes = new LinkedHashMap<>();
+    metadataCalls = new LinkedHashMap<>();
+    rowsRead = new LinkedHashMap<>();
+    readTimes = new LinkedHashMap<>();
+    objectsCreated = new LinkedHashMap<>();
+    objectsFiltered = new LinkedHashMap<>();
+    retries = new LinkedHashMap<>();
+    failures = new LinkedHashMap<>();
+  }
+
+  /**
+   * Gets the number of retrievals that failed, and were skipped, by the
+   * retriever that failed.
+   *
+   * @return Number of failures by retriever
+   */
+  public synchronized Map<String, Long> getFailures()
+  {
+    return copy(failures);
+  }
+
+  /**
+   * Gets the number of metadata calls and data dictionary queries that
+   * were made, by call or query name.
+   *
+   * @return Number of calls by source
+   */
+  public synchronized Map<String, Long> getMetadataCalls()
+  {
+    return copy(metadataCalls);
+  }
+
+  /**
+   * Gets the number of objects that were created, by type of object.
+   *
+   * @return Number of objects by type
+   */
+  public synchronized Map<String, Long> getObjectsCreated()
+  {
+    return copy(objectsCreated);
+  }
+
+  /**
+   * Gets the number of objects that were filtered out after they were
+   * retrieved, by type of object.
+   *
+   * @return Number of objects by type
+   */
+  public synchronized Map<String, Long> getObjectsFiltered()
+  {
+    return copy(objectsFiltered);
+  }
+
+  /**
+   * Gets the wall time for each phase of the crawl. Phases that were
+   * run more than once, such as per-schema phases of a parallel crawl,
+   * are added up.
+   *
+   * @return Time in milliseconds by phase
+   */
+  public synchronized Map<String, Long> getPhaseTimes()
+  {
+    return toMillis(phaseTimes);
+  }
+
+  /**
+   * Gets the time taken to read the results of metadata calls and data
+   * dictionary queries, by call or query name.
+   *
+   * @return Time in milliseconds by source
+   */
+  public synchronized Map<String, Long> getReadTimes()
+  {
+    return toMillis(readTimes);
+  }
+
+  /**
+   * Gets the number of retrievals that failed, and were retried with a
+   * different retrieval strategy, by kind of retrieval.
+   *
+   * @return Number of retries by kind of retrieval
+   */
+  public synchronized Map<String, Long> getRetries()
+  {
+    return copy(retries);
+  }
+
+  /**
+   * Gets the number of rows read from the results of metadata calls and
+   * data dictionary queries, by call or query name.
+   *
+   * @return Number of rows by source
+   */
+  public synchronized Map<String, Long> getRowsRead()
+  {
+    return copy(rowsRead);
+  }
+
+  /**
+   * Exports the metrics as a JSON object, with an object for each kind
+   * of metric. Times are in milliseconds.
+   *
+   * @return Metrics as JSON
+   */
+  public synchronized String toJson()
+  {
+    final StringBuilder buffer = new StringBuilder(1024);
+    buffer.append("{").append(System.lineSeparator()).append("  ");
+    appendJson(buffer, "phaseTimes", getPhaseTimes());
+    buffer.append(",").append(System.lineSeparator()).append("  ");
+    appendJson(buffer, "metadataCalls", metadataCalls);
+    buffer.append(",").append(System.lineSeparator()).append("  ");
+    appendJson(buffer, "rowsRead", rowsRead);
+    buffer.append(",").append(System.lineSeparator()).append("  ");
+    appendJson(buffer, "readTimes", getReadTimes());
+    buffer.append(",").append(System.lineSeparator()).append("  ");
+    appendJson(buffer, "objectsCreated", objectsCreated);
+    buffer.append(",").append(System.lineSeparator()).append("  ");
+    appendJson(buffer, "objectsFiltered", objectsFiltered);
+    buffer.append(",").append(System.lineSeparator()).append("  ");
+    appendJson(buffer, "retries", retries);
+    buffer.append(",").append(System.lineSeparator()).append("  ");
+    appendJson(buffer, "failures", failures);
+    buffer.append(System.lineSeparator()).append("}");
+    return buffer.toString();
+  }
+
+  @Override
+  public String toString()
+  {
+    return toJson();
+  }
+
+  /**
+   * Counts the objects in a catalog, other than tables and their
+   * details.
+   */
+  synchronized void addCreatedObjects(final Catalog catalog)
+  {
+    add(objectsCreated, "schemas", catalog.getSchemas().size());
+    add(objectsCreated,
+        "columnDataTypes",
+        catalog.getColumnDataTypes().size()
+                           + catalog.getSystemColumnDataTypes().size());
+    add(objectsCreated, "routines", catalog.getRoutines().size());
+    add(objectsCreated, "synonyms", catalog.getSynonyms().size());
+    add(objectsCreated, "sequences", catalog.getSequences().size());
+  }
+
+  /**
+   * Counts the tables in a catalog, or in a chunk of a catalog, along
+   * with their columns, indexes, foreign keys and triggers.
+   */
+  synchronized void addCreatedTables(final Catalog catalog)
+  {
+    long columns = 0;
+    long indexes = 0;
+    long foreignKeys = 0;
+    long triggers = 0;
+    for (final Table table: catalog.getTables())
+    {
+      columns = columns + table.getColumns().size();
+      indexes = indexes + table.getIndexes().size();
+      foreignKeys = foreignKeys + table.getImportedForeignKeys().size();
+      triggers = triggers + table.getTriggers().size();
+    }
+    add(objectsCreated, "tables", catalog.getTables().size());
+    add(objectsCreated, "columns", columns);
+    add(objectsCreated, "indexes", indexes);
+    add(objectsCreated, "foreignKeys", foreignKeys);
+    add(objectsCreated, "triggers", triggers);
+  }
+
+  synchronized void addFailure(final String retriever)
+  {
+    add(failures, retriever, 1);
+  }
+
+  synchronized void addFilteredObjects(final Class<? extends NamedObject> clazz,
+                                       final long count)
+  {
+    // Use the same names as for objects created, such as "tables"
+    final String typeName = clazz.getSimpleName();
+    add(objectsFiltered,
+        Character.toLowerCase(typeName.charAt(0)) + typeName.substring(1)
+                         + "s",
+        count);
+  }
+
+  /**
+   * Adds the time taken by each task of a stop watch as a phase, named
+   * for the stop watch and the task.
+   */
+  void addPhases(final StopWatch stopWatch)
+  {
+    for (final Map.Entry<String, Duration> task: stopWatch.getTaskDurations()
+      .entrySet())
+    {
+      final String phase = stopWatch.getId() + "." + task.getKey();
+      synchronized (this)
+      {
+        phaseTimes.merge(phase, task.getValue(), Duration::plus);
+      }
+      for (final CrawlListener crawlListener: crawlListeners)
+      {
+        crawlListener.phaseCompleted(phase, task.getValue());
+      }
+    }
+  }
+
+  void addResults(final String source, final long rows, final Duration duration)
+  {
+    synchronized (this)
+    {
+      add(metadataCalls, source, 1);
+      add(rowsRead, source, rows);
+      readTimes.merge(source, duration, Duration::plus);
+    }
+    for (final CrawlListener crawlListener: crawlListeners)
+    {
+      crawlListener.resultsRead(source, rows, duration);
+    }
+  }
+
+  synchronized void addRetry(final String retrievalType)
+  {
+    add(retries, retrievalType, 1);
+  }
+
+  void crawlCompleted()
+  {
+    for (final CrawlListener crawlListener: crawlListeners)
+    {
+      crawlListener.crawlCompleted(this);
+    }
+  }
+
+}
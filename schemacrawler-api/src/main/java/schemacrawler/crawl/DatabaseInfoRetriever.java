@@ -404,12 +404,15 @@ final class DatabaseInfoRetriever
       statement = connection.createStatement();
       results = new MetadataResultSet(typeInfoSql,
                                       statement,
-                                      getSchemaInclusionRule());
+                                      getSchemaInclusionRule(),
+                                      getRetrieverConnection());
     }
     else
     {
       statement = null;
-      results = new MetadataResultSet(getMetaData().getTypeInfo());
+      results = new MetadataResultSet(getMetaData().getTypeInfo(),
+                                      getRetrieverConnection());
+      results.setSource("getTypeInfo");
     }
 
     try
@@ -505,8 +508,10 @@ final class DatabaseInfoRetriever
       .getUDTs(unquotedName(catalogName),
                unquotedName(schemaName),
                "%",
-               null));)
+               null),
+                                                                 getRetrieverConnection());)
     {
+      results.setSource("getUDTs");
       while (results.next())
       {
         // "TYPE_CAT", "TYPE_SCHEM"
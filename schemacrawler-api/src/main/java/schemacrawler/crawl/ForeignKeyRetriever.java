@@ -39,6 +39,7 @@ import java.sql.Statement;
 import java.util.Optional;
 import java.util.logging.Level;
 
+import schemacrawler.crawl.AdaptiveRetrievalStrategies.RetrievalType;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.ForeignKey;
 import schemacrawler.schema.ForeignKeyDeferrability;
@@ -106,7 +107,8 @@ final class ForeignKeyRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(extForeignKeysSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getRetrieverConnection());)
     {
       while (results.next())
       {
@@ -144,6 +146,8 @@ final class ForeignKeyRetriever
   {
     requireNonNull(allTables);
 
+    final AdaptiveRetrievalStrategies retrievalStrategies = getRetrieverConnection()
+      .getAdaptiveRetrievalStrategies();
     final MetadataRetrievalStrategy fkRetrievalStrategy = getRetrieverConnection()
       .getForeignKeyRetrievalStrategy();
     switch (fkRetrievalStrategy)
@@ -158,7 +162,22 @@ final class ForeignKeyRetriever
       case metadata_all:
         LOGGER.log(Level.INFO,
                    "Retrieving foreign keys, using fast meta-data retrieval");
-        retrieveForeignKeysFromMetadataForAllTables();
+        try
+        {
+          retrieveForeignKeysFromMetadataForAllTables();
+        }
+        catch (final SQLException e)
+        {
+          if (!retrievalStrategies.isAdaptive(RetrievalType.foreign_keys))
+          {
+            throw e;
+          }
+          LOGGER.log(Level.WARNING,
+                     "Could not retrieve foreign keys using fast meta-data retrieval",
+                     e);
+          fallBack(RetrievalType.foreign_keys);
+          retrieveForeignKeysFromMetadata(allTables);
+        }
         break;
 
       case metadata:
@@ -330,7 +349,8 @@ final class ForeignKeyRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(fkSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getRetrieverConnection());)
     {
       results.setDescription("retrieveForeignKeysUsingSql");
       createForeignKeys(results, foreignKeys);
@@ -359,8 +379,10 @@ final class ForeignKeyRetriever
       try (final MetadataResultSet results = new MetadataResultSet(metaData
         .getImportedKeys(unquotedName(table.getSchema().getCatalogName()),
                          unquotedName(table.getSchema().getName()),
-                         unquotedName(table.getName())));)
+                         unquotedName(table.getName())),
+                                                                   getRetrieverConnection());)
       {
+        results.setSource("getImportedKeys");
         createForeignKeys(results, foreignKeys);
       }
       catch (final SQLException e)
@@ -375,8 +397,10 @@ final class ForeignKeyRetriever
       try (final MetadataResultSet results = new MetadataResultSet(metaData
         .getExportedKeys(unquotedName(table.getSchema().getCatalogName()),
                          unquotedName(table.getSchema().getName()),
-                         unquotedName(table.getName())));)
+                         unquotedName(table.getName())),
+                                                                   getRetrieverConnection());)
       {
+        results.setSource("getExportedKeys");
         createForeignKeys(results, foreignKeys);
       }
       catch (final SQLException e)
@@ -397,8 +421,12 @@ final class ForeignKeyRetriever
     try (final MetadataResultSet results = new MetadataResultSet(metaData
       .getImportedKeys(null,
                        null,
-                       "%"));)
+                       "%"),
+                                                                 getRetrieverConnection());)
     {
+      results.setSource("getImportedKeys");
+      results.setFetchSize(getRetrieverConnection()
+        .getBulkMetadataFetchSize());
       createForeignKeys(results, foreignKeys);
     }
 
@@ -408,8 +436,12 @@ final class ForeignKeyRetriever
     try (final MetadataResultSet results = new MetadataResultSet(metaData
       .getExportedKeys(null,
                        null,
-                       "%"));)
+                       "%"),
+                                                                 getRetrieverConnection());)
     {
+      results.setSource("getExportedKeys");
+      results.setFetchSize(getRetrieverConnection()
+        .getBulkMetadataFetchSize());
       createForeignKeys(results, foreignKeys);
     }
   }
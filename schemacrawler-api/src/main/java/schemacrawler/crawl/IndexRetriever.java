@@ -38,6 +38,7 @@ import java.sql.Statement;
 import java.util.Optional;
 import java.util.logging.Level;
 
+import schemacrawler.crawl.AdaptiveRetrievalStrategies.RetrievalType;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.IndexColumnSortSequence;
 import schemacrawler.schema.IndexType;
@@ -76,6 +77,8 @@ final class IndexRetriever
   {
     requireNonNull(allTables);
 
+    final AdaptiveRetrievalStrategies retrievalStrategies = getRetrieverConnection()
+      .getAdaptiveRetrievalStrategies();
     final MetadataRetrievalStrategy indexRetrievalStrategy = getRetrieverConnection()
       .getIndexRetrievalStrategy();
     switch (indexRetrievalStrategy)
@@ -89,7 +92,22 @@ final class IndexRetriever
       case metadata_all:
         LOGGER.log(Level.INFO,
                    "Retrieving indexes, using fast meta-data retrieval");
-        retrieveIndexesFromMetadataForAllTables(allTables);
+        try
+        {
+          retrieveIndexesFromMetadataForAllTables(allTables);
+        }
+        catch (final SQLException e)
+        {
+          if (!retrievalStrategies.isAdaptive(RetrievalType.indexes))
+          {
+            throw e;
+          }
+          LOGGER.log(Level.WARNING,
+                     "Could not retrieve indexes using fast meta-data retrieval",
+                     e);
+          fallBack(RetrievalType.indexes);
+          retrieveIndexesFromMetadata(allTables);
+        }
         break;
 
       case metadata:
@@ -108,6 +126,8 @@ final class IndexRetriever
   {
     requireNonNull(allTables);
 
+    final AdaptiveRetrievalStrategies retrievalStrategies = getRetrieverConnection()
+      .getAdaptiveRetrievalStrategies();
     final MetadataRetrievalStrategy pkRetrievalStrategy = getRetrieverConnection()
       .getPrimaryKeyRetrievalStrategy();
     switch (pkRetrievalStrategy)
@@ -122,7 +142,22 @@ final class IndexRetriever
       case metadata_all:
         LOGGER.log(Level.INFO,
                    "Retrieving primary keys, using fast meta-data retrieval");
-        retrievePrimaryKeysFromMetadataForAllTables(allTables);
+        try
+        {
+          retrievePrimaryKeysFromMetadataForAllTables(allTables);
+        }
+        catch (final SQLException e)
+        {
+          if (!retrievalStrategies.isAdaptive(RetrievalType.primary_keys))
+          {
+            throw e;
+          }
+          LOGGER.log(Level.WARNING,
+                     "Could not retrieve primary keys using fast meta-data retrieval",
+                     e);
+          fallBack(RetrievalType.primary_keys);
+          retrievePrimaryKeysFromMetadata(allTables);
+        }
         break;
 
       case metadata:
@@ -292,7 +327,8 @@ final class IndexRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(indexesSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getRetrieverConnection());)
     {
       results.setDescription("retrieveIndexesFromDataDictionary");
       while (results.next())
@@ -324,8 +360,10 @@ final class IndexRetriever
                     unquotedName(table.getSchema().getName()),
                     unquotedName(table.getName()),
                     unique,
-                    true/* approximate */));)
+                    true/* approximate */),
+                                                                 getRetrieverConnection());)
     {
+      results.setSource("getIndexInfo");
       createIndexes(table, results);
     }
     catch (final SQLException e)
@@ -365,8 +403,12 @@ final class IndexRetriever
                     null,
                     "%",
                     unique,
-                    true/* approximate */));)
+                    true/* approximate */),
+                                                                 getRetrieverConnection());)
     {
+      results.setSource("getIndexInfo");
+      results.setFetchSize(getRetrieverConnection()
+        .getBulkMetadataFetchSize());
       while (results.next())
       {
         final Optional<MutableTable> optionalTable = lookupTable(allTables,
@@ -405,7 +447,8 @@ final class IndexRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(pkSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getRetrieverConnection());)
     {
       results.setDescription("retrievePrimaryKeysFromDataDictionary");
       while (results.next())
@@ -439,8 +482,10 @@ final class IndexRetriever
       try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
         .getPrimaryKeys(unquotedName(table.getSchema().getCatalogName()),
                         unquotedName(table.getSchema().getName()),
-                        unquotedName(table.getName())));)
+                        unquotedName(table.getName())),
+                                                                   getRetrieverConnection());)
       {
+        results.setSource("getPrimaryKeys");
         while (results.next())
         {
           createPrimaryKeyForTable(table, results);
@@ -460,8 +505,12 @@ final class IndexRetriever
     try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
       .getPrimaryKeys(null,
                       null,
-                      "%"));)
+                      "%"),
+                                                                 getRetrieverConnection());)
     {
+      results.setSource("getPrimaryKeys");
+      results.setFetchSize(getRetrieverConnection()
+        .getBulkMetadataFetchSize());
       while (results.next())
       {
         final Optional<MutableTable> optionalTable = lookupTable(allTables,
@@ -42,14 +42,14 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Set;
 import java.util.logging.Level;
 
 import schemacrawler.schemacrawler.InclusionRule;
@@ -62,7 +62,11 @@ import sf.util.StringFormat;
  * A wrapper around a JDBC resultset obtained from a database metadata
  * call. This allows type-safe methods to obtain boolean, integer and
  * string data, while abstracting away the quirks of the JDBC metadata
- * API.
+ * API. Strings that are read are pooled for the crawl, so that repeated
+ * values are kept once. Column names are resolved to column indexes
+ * once, when the result set is opened, and values are read by index.
+ * The number of rows read, and the time taken to read them, are added
+ * to the crawl metrics when the result set is closed.
  *
  * @author Sualeh Fatehi
  */
@@ -73,39 +77,82 @@ final class MetadataResultSet
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(MetadataResultSet.class.getName());
 
-  private static final int FETCHSIZE = 20;
+  private static Statement withFetchSize(final Statement statement,
+                                        final int fetchSize)
+  {
+    try
+    {
+      statement.setFetchSize(fetchSize);
+    }
+    catch (final NullPointerException | SQLException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+    }
+    return statement;
+  }
 
   private String description;
+  private String source;
   private final ResultSet results;
+  private final StringPool stringPool;
+  private final CrawlMetrics crawlMetrics;
+  private final long openedAt;
   private final List<String> resultSetColumns;
-  private Set<String> readColumns;
+  private final Map<String, Integer> columnIndexes;
+  private final boolean[] readColumns;
 
   private int rowCount;
 
+  /**
+   * Executes an INFORMATION_SCHEMA view query, using the bulk metadata
+   * fetch size for the connection.
+   */
   MetadataResultSet(final Query query,
                     final Statement statement,
-                    final InclusionRule schemaInclusionRule)
+                    final InclusionRule schemaInclusionRule,
+                    final RetrieverConnection retrieverConnection)
     throws SQLException
   {
-    this(executeAgainstSchema(query, statement, schemaInclusionRule));
+    this(executeAgainstSchema(query,
+                              withFetchSize(statement,
+                                            retrieverConnection
+                                              .getBulkMetadataFetchSize()),
+                              schemaInclusionRule),
+         retrieverConnection.getStringPool(),
+         retrieverConnection.getCrawlMetrics(),
+         retrieverConnection.getBulkMetadataFetchSize());
     if (query.hasName())
     {
       description = query.getName();
     }
   }
 
-  MetadataResultSet(final ResultSet resultSet)
+  /**
+   * Wraps the results of a database metadata call, using the metadata
+   * fetch size for the connection.
+   */
+  MetadataResultSet(final ResultSet resultSet,
+                    final RetrieverConnection retrieverConnection)
+    throws SQLException
+  {
+    this(resultSet,
+         retrieverConnection.getStringPool(),
+         retrieverConnection.getCrawlMetrics(),
+         retrieverConnection.getMetadataFetchSize());
+  }
+
+  private MetadataResultSet(final ResultSet resultSet,
+                            final StringPool stringPool,
+                            final CrawlMetrics crawlMetrics,
+                            final int fetchSize)
     throws SQLException
   {
+    openedAt = System.nanoTime();
     results = requireNonNull(resultSet, "Cannot use null results");
-    try
-    {
-      results.setFetchSize(FETCHSIZE);
-    }
-    catch (final NullPointerException | SQLException e)
-    {
-      LOGGER.log(Level.WARNING, "Could not set fetch size", e);
-    }
+    this.stringPool = requireNonNull(stringPool, "No string pool provided");
+    this.crawlMetrics = requireNonNull(crawlMetrics,
+                                       "No crawl metrics provided");
+    setFetchSize(fetchSize);
 
     final List<String> resultSetColumns = new ArrayList<>();
     try
@@ -128,7 +175,15 @@ final class MetadataResultSet
     }
     this.resultSetColumns = Collections.unmodifiableList(resultSetColumns);
 
-    readColumns = new HashSet<>();
+    // Resolve column names to indexes once, keeping the first column
+    // if a name is repeated, since that is the one that JDBC reads by
+    // name
+    columnIndexes = new HashMap<>();
+    for (int i = 0; i < resultSetColumns.size(); i++)
+    {
+      columnIndexes.putIfAbsent(resultSetColumns.get(i), i + 1);
+    }
+    readColumns = new boolean[resultSetColumns.size()];
   }
 
   /**
@@ -145,6 +200,23 @@ final class MetadataResultSet
   {
     results.close();
 
+    final String metricsSource;
+    if (!isBlank(description))
+    {
+      metricsSource = description;
+    }
+    else if (!isBlank(source))
+    {
+      metricsSource = source;
+    }
+    else
+    {
+      metricsSource = "unnamed";
+    }
+    crawlMetrics.addResults(metricsSource,
+                            rowCount,
+                            Duration.ofNanos(System.nanoTime() - openedAt));
+
     if (LOGGER.isLoggable(Level.INFO) && !isBlank(description))
     {
       LOGGER.log(Level.INFO,
@@ -164,14 +236,23 @@ final class MetadataResultSet
   Map<String, Object> getAttributes()
   {
     final Map<String, Object> attributes = new HashMap<>();
-    for (final String columnName: resultSetColumns)
+    for (int i = 0; i < resultSetColumns.size(); i++)
     {
-      if (!readColumns.contains(columnName))
+      final String columnName = resultSetColumns.get(i);
+      final int columnIndex = columnIndexes.get(columnName);
+      if (columnIndex == i + 1 && !readColumns[i])
       {
         try
         {
-          final Object value = results.getObject(columnName);
-          attributes.put(columnName, value);
+          final Object value = results.getObject(columnIndex);
+          if (value instanceof String)
+          {
+            attributes.put(columnName, stringPool.pooled((String) value));
+          }
+          else
+          {
+            attributes.put(columnName, value);
+          }
         }
         catch (final SQLException | ArrayIndexOutOfBoundsException e)
         {
@@ -223,11 +304,12 @@ final class MetadataResultSet
    */
   boolean getBoolean(final String columnName)
   {
-    if (useColumn(columnName))
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0)
     {
       try
       {
-        final Object booleanValue = results.getObject(columnName);
+        final Object booleanValue = results.getObject(columnIndex);
         final String stringBooleanValue;
         if (results.wasNull() || booleanValue == null)
         {
@@ -331,11 +413,12 @@ final class MetadataResultSet
   int getInt(final String columnName, final int defaultValue)
   {
     int value = defaultValue;
-    if (useColumn(columnName))
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0)
     {
       try
       {
-        value = results.getInt(columnName);
+        value = results.getInt(columnIndex);
         if (results.wasNull())
         {
           LOGGER.log(Level.FINER,
@@ -369,11 +452,12 @@ final class MetadataResultSet
   long getLong(final String columnName, final long defaultValue)
   {
     long value = defaultValue;
-    if (useColumn(columnName))
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0)
     {
       try
       {
-        value = results.getLong(columnName);
+        value = results.getLong(columnIndex);
         if (results.wasNull())
         {
           LOGGER.log(Level.FINER,
@@ -407,11 +491,12 @@ final class MetadataResultSet
   short getShort(final String columnName, final short defaultValue)
   {
     short value = defaultValue;
-    if (useColumn(columnName))
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0)
     {
       try
       {
-        value = results.getShort(columnName);
+        value = results.getShort(columnIndex);
         if (results.wasNull())
         {
           LOGGER.log(Level.FINER,
@@ -442,11 +527,12 @@ final class MetadataResultSet
   String getString(final String columnName)
   {
     String value = null;
-    if (useColumn(columnName))
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0)
     {
       try
       {
-        value = results.getString(columnName);
+        value = results.getString(columnIndex);
         if (results.wasNull())
         {
           value = null;
@@ -454,7 +540,7 @@ final class MetadataResultSet
 
         if (value != null)
         {
-          value = value.trim();
+          value = stringPool.pooled(value.trim());
         }
       }
       catch (final SQLException e)
@@ -483,7 +569,7 @@ final class MetadataResultSet
   boolean next()
     throws SQLException
   {
-    readColumns = new HashSet<>();
+    Arrays.fill(readColumns, false);
 
     final boolean next = results.next();
     logSQLWarnings(results);
@@ -500,15 +586,61 @@ final class MetadataResultSet
     this.description = description;
   }
 
-  private boolean useColumn(final String columnName)
+  /**
+   * Sets the name of the metadata call that the results are from, for
+   * crawl metrics. Unlike the description, the source is not logged
+   * when the results are closed, since metadata calls are often made
+   * once for each table.
+   *
+   * @param source
+   *        Name of the metadata call
+   */
+  void setSource(final String source)
   {
-    final boolean useColumn = columnName != null
-                              && resultSetColumns.contains(columnName);
-    if (useColumn)
+    this.source = source;
+  }
+
+  /**
+   * Gives the JDBC driver a hint about the number of rows to fetch in a
+   * round trip to the database. Retrievals that read metadata for all
+   * tables at once can use a larger fetch size than the default.
+   *
+   * @param fetchSize
+   *        Number of rows to fetch, or zero to leave the choice to the
+   *        JDBC driver
+   */
+  void setFetchSize(final int fetchSize)
+  {
+    try
+    {
+      results.setFetchSize(fetchSize);
+    }
+    catch (final NullPointerException | SQLException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+    }
+  }
+
+  /**
+   * Marks a column as read for the current row.
+   *
+   * @param columnName
+   *        Column name
+   * @return Column index, or 0 if the column is not in the result set
+   */
+  private int useColumn(final String columnName)
+  {
+    if (columnName == null)
+    {
+      return 0;
+    }
+    final Integer columnIndex = columnIndexes.get(columnName);
+    if (columnIndex == null)
     {
-      readColumns.add(columnName);
+      return 0;
     }
-    return useColumn;
+    readColumns[columnIndex - 1] = true;
+    return columnIndex;
   }
 
 }
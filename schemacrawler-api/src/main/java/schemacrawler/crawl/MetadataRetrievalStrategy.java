@@ -33,6 +33,12 @@ public enum MetadataRetrievalStrategy
 
  metadata,
  metadata_all,
- data_dictionary_all;
+ data_dictionary_all,
+ /**
+  * Selects between per-table and bulk meta-data retrieval, based on
+  * the measured cost of each, and falls back to per-table retrieval if
+  * a bulk call fails.
+  */
+ adaptive;
 
 }
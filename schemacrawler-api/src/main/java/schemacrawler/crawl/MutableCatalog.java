@@ -29,17 +29,15 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 
-import static java.util.Objects.requireNonNull;
-
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
-import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.ColumnDataType;
 import schemacrawler.schema.CrawlInfo;
-import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.NamedObject;
 import schemacrawler.schema.Reducer;
 import schemacrawler.schema.Reducible;
@@ -52,7 +50,11 @@ import schemacrawler.schema.Table;
 
 /**
  * Database and connection information. Created from metadata returned
- * by a JDBC call, and other sources of information.
+ * by a JDBC call, and other sources of information. Objects are added
+ * to, and looked up from the catalog under a lock, so that the catalog
+ * can be populated by retrievers running on several threads. Once the
+ * catalog is frozen at the end of a crawl, objects are looked up
+ * without the lock.
  *
  * @author Sualeh Fatehi sualeh@hotmail.com
  */
@@ -61,26 +63,6 @@ final class MutableCatalog
   implements Catalog, Reducible
 {
 
-  private final class FilterBySchema
-    implements Predicate<DatabaseObject>
-  {
-
-    private final Schema schema;
-
-    public FilterBySchema(final Schema schema)
-    {
-      this.schema = requireNonNull(schema, "No schema provided");
-    }
-
-    @Override
-    public boolean test(final DatabaseObject databaseObject)
-    {
-      return databaseObject != null
-             && databaseObject.getSchema().equals(schema);
-    }
-
-  }
-
   private static final long serialVersionUID = 4051323422934251828L;
   private final MutableDatabaseInfo databaseInfo;
   private final MutableJdbcDriverInfo jdbcDriverInfo;
@@ -93,6 +75,7 @@ final class MutableCatalog
   private final NamedObjectList<MutableSynonym> synonyms = new NamedObjectList<>();
 
   private final NamedObjectList<MutableSequence> sequences = new NamedObjectList<>();
+  private volatile boolean frozen;
 
   MutableCatalog(final String name)
   {
@@ -102,6 +85,42 @@ final class MutableCatalog
     schemaCrawlerInfo = new ImmutableSchemaCrawlerInfo();
   }
 
+  /**
+   * Creates a catalog that shares the catalog-level information, schemas
+   * and system column data types with another catalog, but none of its
+   * tables, routines, synonyms, sequences or user-defined column data
+   * types.
+   *
+   * @param catalog
+   *        Catalog to copy from
+   */
+  MutableCatalog(final MutableCatalog catalog)
+  {
+    super(catalog.getName());
+    databaseInfo = catalog.databaseInfo;
+    jdbcDriverInfo = catalog.jdbcDriverInfo;
+    schemaCrawlerInfo = catalog.schemaCrawlerInfo;
+    crawlInfo = catalog.crawlInfo;
+    setRemarks(catalog.getRemarks());
+    for (final Map.Entry<String, Object> attribute: catalog.getAttributes()
+      .entrySet())
+    {
+      setAttribute(attribute.getKey(), attribute.getValue());
+    }
+    for (final SchemaReference schema: catalog.schemas)
+    {
+      schemas.add(schema);
+    }
+    final SchemaReference systemSchema = new SchemaReference();
+    for (final MutableColumnDataType columnDataType: catalog.columnDataTypes)
+    {
+      if (columnDataType.getSchema().equals(systemSchema))
+      {
+        columnDataTypes.add(columnDataType);
+      }
+    }
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -117,16 +136,7 @@ final class MutableCatalog
   @Override
   public Collection<ColumnDataType> getColumnDataTypes(final Schema schema)
   {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<ColumnDataType> columnDataTypes = new ArrayList<>();
-    for (final ColumnDataType columnDataType: this.columnDataTypes)
-    {
-      if (filter.test(columnDataType))
-      {
-        columnDataTypes.add(columnDataType);
-      }
-    }
-    return columnDataTypes;
+    return new ArrayList<ColumnDataType>(columnDataTypes.values(schema));
   }
 
   @Override
@@ -165,16 +175,7 @@ final class MutableCatalog
   @Override
   public Collection<Routine> getRoutines(final Schema schema)
   {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<Routine> routines = new ArrayList<>();
-    for (final Routine routine: this.routines)
-    {
-      if (filter.test(routine))
-      {
-        routines.add(routine);
-      }
-    }
-    return routines;
+    return new ArrayList<Routine>(routines.values(schema));
   }
 
   /**
@@ -210,16 +211,7 @@ final class MutableCatalog
   @Override
   public Collection<Sequence> getSequences(final Schema schema)
   {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<Sequence> sequences = new ArrayList<>();
-    for (final Sequence sequence: this.sequences)
-    {
-      if (filter.test(sequence))
-      {
-        sequences.add(sequence);
-      }
-    }
-    return sequences;
+    return new ArrayList<Sequence>(sequences.values(schema));
   }
 
   /**
@@ -237,16 +229,7 @@ final class MutableCatalog
   @Override
   public Collection<Synonym> getSynonyms(final Schema schema)
   {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<Synonym> synonyms = new ArrayList<>();
-    for (final Synonym synonym: this.synonyms)
-    {
-      if (filter.test(synonym))
-      {
-        synonyms.add(synonym);
-      }
-    }
-    return synonyms;
+    return new ArrayList<Synonym>(synonyms.values(schema));
   }
 
   /**
@@ -273,16 +256,7 @@ final class MutableCatalog
   @Override
   public Collection<Table> getTables(final Schema schema)
   {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<Table> tables = new ArrayList<>();
-    for (final Table table: this.tables)
-    {
-      if (filter.test(table))
-      {
-        tables.add(table);
-      }
-    }
-    return tables;
+    return new ArrayList<Table>(tables.values(schema));
   }
 
   /**
@@ -292,7 +266,7 @@ final class MutableCatalog
   public Optional<MutableColumnDataType> lookupColumnDataType(final Schema schema,
                                                               final String name)
   {
-    return columnDataTypes.lookup(schema, name);
+    return read(() -> columnDataTypes.lookup(schema, name));
   }
 
   /**
@@ -302,7 +276,7 @@ final class MutableCatalog
   public Optional<MutableRoutine> lookupRoutine(final Schema schema,
                                                 final String name)
   {
-    return routines.lookup(schema, name);
+    return read(() -> routines.lookup(schema, name));
   }
 
   /**
@@ -311,7 +285,7 @@ final class MutableCatalog
   @Override
   public Optional<SchemaReference> lookupSchema(final String name)
   {
-    return schemas.lookup(name);
+    return read(() -> schemas.lookup(name));
   }
 
   /**
@@ -321,7 +295,7 @@ final class MutableCatalog
   public Optional<MutableSequence> lookupSequence(final Schema schemaRef,
                                                   final String name)
   {
-    return sequences.lookup(schemaRef, name);
+    return read(() -> sequences.lookup(schemaRef, name));
   }
 
   /**
@@ -331,7 +305,7 @@ final class MutableCatalog
   public Optional<MutableSynonym> lookupSynonym(final Schema schemaRef,
                                                 final String name)
   {
-    return synonyms.lookup(schemaRef, name);
+    return read(() -> synonyms.lookup(schemaRef, name));
   }
 
   /**
@@ -350,11 +324,11 @@ final class MutableCatalog
   public Optional<MutableTable> lookupTable(final Schema schemaRef,
                                             final String name)
   {
-    return tables.lookup(schemaRef, name);
+    return read(() -> tables.lookup(schemaRef, name));
   }
 
   @Override
-  public <N extends NamedObject> void reduce(final Class<N> clazz,
+  public synchronized <N extends NamedObject> void reduce(final Class<N> clazz,
                                              final Reducer<N> reducer)
   {
     if (reducer == null)
@@ -386,7 +360,42 @@ final class MutableCatalog
     }
   }
 
-  void addColumnDataType(final MutableColumnDataType columnDataType)
+  /**
+   * Counts the objects of a type that can be reduced.
+   *
+   * @param clazz
+   *        Type of object
+   * @return Number of objects of the type
+   */
+  synchronized int count(final Class<? extends NamedObject> clazz)
+  {
+    if (Schema.class.isAssignableFrom(clazz))
+    {
+      return schemas.size();
+    }
+    else if (Table.class.isAssignableFrom(clazz))
+    {
+      return tables.size();
+    }
+    else if (Routine.class.isAssignableFrom(clazz))
+    {
+      return routines.size();
+    }
+    else if (Synonym.class.isAssignableFrom(clazz))
+    {
+      return synonyms.size();
+    }
+    else if (Sequence.class.isAssignableFrom(clazz))
+    {
+      return sequences.size();
+    }
+    else
+    {
+      return 0;
+    }
+  }
+
+  synchronized void addColumnDataType(final MutableColumnDataType columnDataType)
   {
     if (columnDataType != null)
     {
@@ -394,12 +403,12 @@ final class MutableCatalog
     }
   }
 
-  void addRoutine(final MutableRoutine routine)
+  synchronized void addRoutine(final MutableRoutine routine)
   {
     routines.add(routine);
   }
 
-  Schema addSchema(final SchemaReference schema)
+  synchronized Schema addSchema(final SchemaReference schema)
   {
     schemas.add(schema);
     return schema;
@@ -410,21 +419,61 @@ final class MutableCatalog
     return addSchema(new SchemaReference(catalogName, schemaName));
   }
 
-  void addSequence(final MutableSequence sequence)
+  synchronized void addSequence(final MutableSequence sequence)
   {
     sequences.add(sequence);
   }
 
-  void addSynonym(final MutableSynonym synonym)
+  synchronized void addSynonym(final MutableSynonym synonym)
   {
     synonyms.add(synonym);
   }
 
-  void addTable(final MutableTable table)
+  synchronized void addTable(final MutableTable table)
   {
     tables.add(table);
   }
 
+  synchronized void removeTable(final MutableTable table)
+  {
+    tables.remove(table);
+  }
+
+  /**
+   * Freezes the catalog at the end of a crawl, so that no more objects
+   * can be added to it. The named object lists of the catalog, and of
+   * the tables and routines in it, are kept in a compact form, and
+   * objects are looked up without locks. A frozen catalog can still be
+   * reduced.
+   */
+  synchronized void freeze()
+  {
+    if (frozen)
+    {
+      return;
+    }
+    for (final MutableTable table: tables)
+    {
+      table.freeze();
+    }
+    for (final MutableRoutine routine: routines)
+    {
+      routine.freeze();
+    }
+    schemas.freeze();
+    columnDataTypes.freeze();
+    tables.freeze();
+    routines.freeze();
+    synonyms.freeze();
+    sequences.freeze();
+    frozen = true;
+  }
+
+  NamedObjectList<MutableColumnDataType> getAllColumnDataTypes()
+  {
+    return columnDataTypes;
+  }
+
   NamedObjectList<MutableRoutine> getAllRoutines()
   {
     return routines;
@@ -435,6 +484,16 @@ final class MutableCatalog
     return schemas;
   }
 
+  NamedObjectList<MutableSequence> getAllSequences()
+  {
+    return sequences;
+  }
+
+  NamedObjectList<MutableSynonym> getAllSynonyms()
+  {
+    return synonyms;
+  }
+
   NamedObjectList<MutableTable> getAllTables()
   {
     return tables;
@@ -442,7 +501,12 @@ final class MutableCatalog
 
   MutableColumnDataType lookupColumnDataTypeByType(final int type)
   {
-    return columnDataTypes.lookupColumnDataTypeByType(type);
+    return read(() -> columnDataTypes.lookupColumnDataTypeByType(type));
+  }
+
+  boolean isFrozen()
+  {
+    return frozen;
   }
 
   void setCrawlHeaderInfo(final String title)
@@ -453,4 +517,20 @@ final class MutableCatalog
                                        title);
   }
 
+  /**
+   * Reads from the catalog under the lock that is used to add objects,
+   * unless the catalog is frozen.
+   */
+  private <T> T read(final Supplier<T> reader)
+  {
+    if (frozen)
+    {
+      return reader.get();
+    }
+    synchronized (this)
+    {
+      return reader.get();
+    }
+  }
+
 }
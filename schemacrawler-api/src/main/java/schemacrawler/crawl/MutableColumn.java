@@ -169,6 +169,11 @@ class MutableColumn
     privileges.add(privilege);
   }
 
+  void freeze()
+  {
+    privileges.freeze();
+  }
+
   void markAsPartOfIndex()
   {
     isPartOfIndex = true;
@@ -114,6 +114,13 @@ final class MutableFunction
     columns.add(column);
   }
 
+  @Override
+  void freeze()
+  {
+    super.freeze();
+    columns.freeze();
+  }
+
   void setReturnType(final FunctionReturnType returnType)
   {
     this.returnType = requireNonNull(returnType, "Null function return type");
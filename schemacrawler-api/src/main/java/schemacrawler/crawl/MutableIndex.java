@@ -216,6 +216,12 @@ class MutableIndex
     }
   }
 
+  void freeze()
+  {
+    columns.freeze();
+    definition.trimToSize();
+  }
+
   final void setCardinality(final int cardinality)
   {
     this.cardinality = cardinality;
@@ -102,6 +102,13 @@ final class MutableProcedure
     columns.add(column);
   }
 
+  @Override
+  void freeze()
+  {
+    super.freeze();
+    columns.freeze();
+  }
+
   void setReturnType(final ProcedureReturnType returnType)
   {
     this.returnType = requireNonNull(returnType, "Null procedure return type");
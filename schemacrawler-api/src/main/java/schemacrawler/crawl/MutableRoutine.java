@@ -121,6 +121,11 @@ abstract class MutableRoutine
     }
   }
 
+  void freeze()
+  {
+    definition.trimToSize();
+  }
+
   void setRoutineBodyType(final RoutineBodyType routineBodyType)
   {
     this.routineBodyType = routineBodyType;
@@ -394,6 +394,39 @@ class MutableTable
     }
   }
 
+  void freeze()
+  {
+    for (final MutableColumn column: columns)
+    {
+      column.freeze();
+    }
+    for (final MutableColumn column: hiddenColumns)
+    {
+      column.freeze();
+    }
+    for (final MutableIndex index: indexes)
+    {
+      index.freeze();
+    }
+    for (final MutableTableConstraint constraint: constraints)
+    {
+      constraint.freeze();
+    }
+    if (primaryKey != null)
+    {
+      primaryKey.freeze();
+    }
+
+    columns.freeze();
+    hiddenColumns.freeze();
+    foreignKeys.freeze();
+    indexes.freeze();
+    constraints.freeze();
+    triggers.freeze();
+    privileges.freeze();
+    definition.trimToSize();
+  }
+
   void setPrimaryKeyAndReplaceIndex(final MutablePrimaryKey primaryKey)
   {
     if (primaryKey == null)
@@ -134,6 +134,12 @@ class MutableTableConstraint
     }
   }
 
+  void freeze()
+  {
+    columns.freeze();
+    definition.trimToSize();
+  }
+
   void setDeferrable(final boolean deferrable)
   {
     this.deferrable = deferrable;
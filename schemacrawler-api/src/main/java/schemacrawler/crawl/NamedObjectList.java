@@ -34,6 +34,7 @@ import static sf.util.Utility.isBlank;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -41,12 +42,21 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Predicate;
 
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.DependantObject;
 import schemacrawler.schema.NamedObject;
 import sf.util.ObjectToString;
 
 /**
  * Ordered list of named objects, that can be searched associatively.
+ * Besides the map of objects by lookup key, an index of objects by the
+ * lookup key of their parent (generally a schema or a table) and then
+ * by name is kept, so that looking up an object in a parent does not
+ * need a new lookup key to be built. Once a list is frozen, objects can
+ * no longer be added to it, and its maps are no longer modified, so
+ * that it can be read concurrently without locks.
  *
  * @author Sualeh Fatehi
  */
@@ -54,41 +64,165 @@ class NamedObjectList<N extends NamedObject>
   implements Serializable, Collection<N>
 {
 
-  private static final long serialVersionUID = 3257847666804142128L;
-
-  private static String makeLookupKey(final NamedObject namedObject)
+  /**
+   * Named objects in a frozen list, kept by lookup key, and indexed by
+   * the lookup key of their parent and then by name, in the same way as
+   * in a list that is not frozen, so that lookups are hash lookups. The
+   * maps are never modified once the frozen objects are created. All
+   * empty frozen lists share the same instance. Objects can be removed
+   * from a frozen list, by replacing its frozen objects.
+   */
+  private static final class FrozenObjects<N extends NamedObject>
+    implements Serializable
   {
-    final String key;
-    if (namedObject == null)
+
+    private static final long serialVersionUID = -4785960286212479338L;
+
+    private static final FrozenObjects<?> EMPTY = new FrozenObjects<>(Collections
+      .emptyMap(), Collections.emptyList());
+
+    static <N extends NamedObject> FrozenObjects<N> empty()
     {
-      key = null;
+      return (FrozenObjects<N>) EMPTY;
     }
-    else
+
+    static <N extends NamedObject> FrozenObjects<N> of(final Map<String, N> objects,
+                                                       final List<N> values)
     {
-      key = namedObject.getLookupKey();
+      if (objects.isEmpty())
+      {
+        return empty();
+      }
+      return new FrozenObjects<>(objects, values);
     }
-    return key;
+
+    private final Map<String, N> objects;
+    private final Map<String, Map<String, N>> index;
+    private final List<N> values;
+
+    private FrozenObjects(final Map<String, N> objects, final List<N> values)
+    {
+      this.objects = new HashMap<>(objects);
+      index = new HashMap<>();
+      for (final Map.Entry<String, N> entry: this.objects.entrySet())
+      {
+        addToIndex(index, entry.getValue(), entry.getKey());
+      }
+      this.values = compact(values);
+    }
+
+    N get(final String key)
+    {
+      return objects.get(key);
+    }
+
+    N lookup(final String parentKey, final String name)
+    {
+      final Map<String, N> namedObjects = index.get(parentKey);
+      if (namedObjects == null || name == null)
+      {
+        return null;
+      }
+      return namedObjects.get(name);
+    }
+
+    FrozenObjects<N> retain(final Predicate<N> retain)
+    {
+      final Map<String, N> retainedObjects = new HashMap<>();
+      for (final Map.Entry<String, N> entry: objects.entrySet())
+      {
+        if (retain.test(entry.getValue()))
+        {
+          retainedObjects.put(entry.getKey(), entry.getValue());
+        }
+      }
+      if (retainedObjects.size() == objects.size())
+      {
+        return this;
+      }
+      else if (retainedObjects.isEmpty())
+      {
+        return empty();
+      }
+
+      final List<N> retainedValues = new ArrayList<>(retainedObjects.size());
+      for (final N namedObject: values)
+      {
+        if (retain.test(namedObject))
+        {
+          retainedValues.add(namedObject);
+        }
+      }
+      return new FrozenObjects<>(retainedObjects, retainedValues);
+    }
+
+    int size()
+    {
+      return objects.size();
+    }
+
+    List<N> values()
+    {
+      return values;
+    }
+
+    List<N> values(final String parentKey, final NamedObject parent)
+    {
+      return NamedObjectList.values(index, parentKey, parent);
+    }
+
+    private List<N> compact(final List<N> list)
+    {
+      if (list.isEmpty())
+      {
+        return Collections.emptyList();
+      }
+      else
+      {
+        return Collections
+          .unmodifiableList(Arrays.asList((N[]) list.toArray(new NamedObject[list
+            .size()])));
+      }
+    }
+
+    private Object readResolve()
+    {
+      if (objects.isEmpty())
+      {
+        return EMPTY;
+      }
+      return this;
+    }
+
   }
 
-  private static String makeLookupKey(final NamedObject namedObject,
-                                      final String name)
+  private static final long serialVersionUID = 3257847666804142128L;
+
+  private static <N extends NamedObject> void addToIndex(final Map<String, Map<String, N>> index,
+                                                         final N namedObject,
+                                                         final String key)
   {
-    final StringBuilder buffer = new StringBuilder(256);
+    final String parentKey = makeParentLookupKey(namedObject, key);
+    Map<String, N> namedObjects = index.get(parentKey);
+    if (namedObjects == null)
+    {
+      namedObjects = new HashMap<>();
+      index.put(parentKey, namedObjects);
+    }
+    namedObjects.put(makeName(parentKey, key), namedObject);
+  }
 
+  private static String makeLookupKey(final NamedObject namedObject)
+  {
     final String key;
-    final String namedObjectLookupKey = makeLookupKey(namedObject);
-
-    if (namedObjectLookupKey != null)
+    if (namedObject == null)
     {
-      buffer.append(namedObjectLookupKey);
+      key = null;
     }
-    if (buffer.length() > 0)
+    else
     {
-      buffer.append('.');
+      key = namedObject.getLookupKey();
     }
-    buffer.append(name);
-
-    key = buffer.toString();
     return key;
   }
 
@@ -110,7 +244,100 @@ class NamedObjectList<N extends NamedObject>
     return key;
   }
 
-  private final Map<String, N> objects = new HashMap<>();
+  /**
+   * Gets the lookup key of the parent of a named object, provided that
+   * the lookup key of the named object is made up of the lookup key of
+   * the parent, and the name of the object, in the same way that
+   * {@link #lookup(NamedObject, String)} expects.
+   */
+  private static String makeParentLookupKey(final NamedObject namedObject,
+                                            final String key)
+  {
+    final String parentKey = makeLookupKey(getParent(namedObject));
+    if (isBlank(parentKey) || key == null
+        || key.length() <= parentKey.length()
+        || key.charAt(parentKey.length()) != '.'
+        || !key.startsWith(parentKey))
+    {
+      return "";
+    }
+    else
+    {
+      return parentKey;
+    }
+  }
+
+  private static NamedObject getParent(final NamedObject namedObject)
+  {
+    if (namedObject instanceof DependantObject)
+    {
+      return ((DependantObject<?>) namedObject).getParent();
+    }
+    else if (namedObject instanceof DatabaseObject)
+    {
+      return ((DatabaseObject) namedObject).getSchema();
+    }
+    else
+    {
+      return null;
+    }
+  }
+
+  private static String makeName(final String parentKey, final String key)
+  {
+    if (parentKey.isEmpty())
+    {
+      return key;
+    }
+    else
+    {
+      return key.substring(parentKey.length() + 1);
+    }
+  }
+
+  /**
+   * Gets the named objects that belong to a parent from an index by
+   * parent, in sorted order.
+   */
+  private static <N extends NamedObject> List<N> values(final Map<String, Map<String, N>> index,
+                                                        final String parentKey,
+                                                        final NamedObject parent)
+  {
+    final List<N> values = new ArrayList<>();
+    if (!isBlank(parentKey))
+    {
+      final Map<String, N> namedObjects = index.get(parentKey);
+      if (namedObjects != null)
+      {
+        values.addAll(namedObjects.values());
+      }
+    }
+    // Objects with lookup keys that are not made up from the lookup key
+    // of their parent are indexed without a parent
+    final Map<String, N> unparentedObjects = index.get("");
+    if (unparentedObjects != null)
+    {
+      for (final N namedObject: unparentedObjects.values())
+      {
+        if (parent.equals(getParent(namedObject)))
+        {
+          values.add(namedObject);
+        }
+      }
+    }
+    Collections.sort(values);
+    return values;
+  }
+
+  private Map<String, N> objects;
+  private volatile FrozenObjects<N> frozenObjects;
+  private transient Map<String, Map<String, N>> index;
+  private transient List<N> sortedValues;
+
+  NamedObjectList()
+  {
+    objects = new HashMap<>();
+  }
 
   /**
    * Add a named object to the list.
@@ -122,8 +349,18 @@ class NamedObjectList<N extends NamedObject>
   public boolean add(final N namedObject)
   {
     requireNonNull(namedObject, "Cannot add a null object to the list");
+    if (frozenObjects != null)
+    {
+      throw new UnsupportedOperationException("Cannot add to a frozen list");
+    }
     final String key = makeLookupKey(namedObject);
-    objects.put(key, namedObject);
+    final N previousObject = objects.put(key, namedObject);
+    if (previousObject != null)
+    {
+      removeFromIndex(previousObject, key);
+    }
+    addToIndex(getIndex(), namedObject, key);
+    sortedValues = null;
     return true;
   }
 
@@ -136,13 +373,20 @@ class NamedObjectList<N extends NamedObject>
   @Override
   public void clear()
   {
+    if (frozenObjects != null)
+    {
+      frozenObjects = FrozenObjects.empty();
+      return;
+    }
     objects.clear();
+    index = null;
+    sortedValues = null;
   }
 
   @Override
   public boolean contains(final Object object)
   {
-    return objects.containsKey(makeLookupKey((N) object));
+    return internalGet(makeLookupKey((N) object)).isPresent();
   }
 
   @Override
@@ -161,7 +405,7 @@ class NamedObjectList<N extends NamedObject>
   @Override
   public boolean isEmpty()
   {
-    return objects.isEmpty();
+    return size() == 0;
   }
 
   /**
@@ -176,7 +420,7 @@ class NamedObjectList<N extends NamedObject>
   @Override
   public boolean remove(final Object object)
   {
-    final N removedObject = objects.remove(makeLookupKey((N) object));
+    final N removedObject = remove((N) object);
     return removedObject != null;
   }
 
@@ -187,20 +431,7 @@ class NamedObjectList<N extends NamedObject>
     {
       return false;
     }
-
-    boolean modified = false;
-    final Iterator<N> iterator = iterator();
-    while (iterator.hasNext())
-    {
-      final N namedObject = iterator.next();
-      if (namedObject != null && c.contains(namedObject))
-      {
-        final String key = makeLookupKey(namedObject);
-        objects.remove(key);
-        modified = true;
-      }
-    }
-    return modified;
+    return retain(namedObject -> !c.contains(namedObject));
   }
 
   @Override
@@ -210,20 +441,7 @@ class NamedObjectList<N extends NamedObject>
     {
       return false;
     }
-
-    boolean modified = false;
-    final Iterator<N> iterator = iterator();
-    while (iterator.hasNext())
-    {
-      final N namedObject = iterator.next();
-      if (namedObject != null && !c.contains(namedObject))
-      {
-        final String key = makeLookupKey(namedObject);
-        objects.remove(key);
-        modified = true;
-      }
-    }
-    return modified;
+    return retain(namedObject -> c.contains(namedObject));
   }
 
   /**
@@ -234,6 +452,11 @@ class NamedObjectList<N extends NamedObject>
   @Override
   public int size()
   {
+    final FrozenObjects<N> frozenObjects = this.frozenObjects;
+    if (frozenObjects != null)
+    {
+      return frozenObjects.size();
+    }
     return objects.size();
   }
 
@@ -258,10 +481,56 @@ class NamedObjectList<N extends NamedObject>
     return ObjectToString.toString(values());
   }
 
+  /**
+   * Freezes the list, so that no more objects can be added to it. The
+   * objects in the list are sorted for the last time, and kept in maps
+   * that are no longer modified, so that they can be read concurrently
+   * without locks. Objects can still be removed from a frozen list.
+   */
+  void freeze()
+  {
+    if (frozenObjects != null)
+    {
+      return;
+    }
+    // Sort again, since the sort order of some objects, such as foreign
+    // keys, can change while they are being retrieved
+    sortedValues = null;
+    frozenObjects = FrozenObjects.of(objects, values());
+    objects = null;
+    index = null;
+    sortedValues = null;
+  }
+
+  boolean isFrozen()
+  {
+    return frozenObjects != null;
+  }
+
   Optional<N> lookup(final NamedObject namedObject, final String name)
   {
-    final String key = makeLookupKey(namedObject, name);
-    return internalGet(key);
+    final String parentKey = makeLookupKey(namedObject);
+    final FrozenObjects<N> frozenObjects = this.frozenObjects;
+    if (frozenObjects != null)
+    {
+      return Optional.ofNullable(frozenObjects.lookup(parentKey == null? ""
+                                                                       : parentKey,
+                                                      name));
+    }
+    final Map<String, N> namedObjects;
+    if (parentKey == null)
+    {
+      namedObjects = getIndex().get("");
+    }
+    else
+    {
+      namedObjects = getIndex().get(parentKey);
+    }
+    if (namedObjects == null || name == null)
+    {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(namedObjects.get(name));
   }
 
   /**
@@ -279,29 +548,156 @@ class NamedObjectList<N extends NamedObject>
 
   N remove(final N namedObject)
   {
-    return objects.remove(makeLookupKey(namedObject));
+    return remove(makeLookupKey(namedObject));
   }
 
   N remove(final String fullName)
   {
-    return objects.remove(makeLookupKey(fullName));
+    final String key = makeLookupKey(fullName);
+    final FrozenObjects<N> frozenObjects = this.frozenObjects;
+    if (frozenObjects != null)
+    {
+      final N removedObject = frozenObjects.get(key);
+      if (removedObject != null)
+      {
+        this.frozenObjects = frozenObjects
+          .retain(namedObject -> namedObject != removedObject);
+      }
+      return removedObject;
+    }
+    final N removedObject = objects.remove(key);
+    if (removedObject != null)
+    {
+      removeFromIndex(removedObject, key);
+      sortedValues = null;
+    }
+    return removedObject;
   }
 
   /**
-   * Gets all named objects in the list, in sorted order.
+   * Marks the list to be sorted again, after the sort order of objects
+   * in it has changed, such as when tables are given sort indexes.
+   * Frozen lists are not sorted again.
+   */
+  void invalidateSortOrder()
+  {
+    sortedValues = null;
+  }
+
+  /**
+   * Gets all named objects in the list, in sorted order. The sorted
+   * list is kept until objects are added or removed, or until the sort
+   * order is invalidated. Lists are always sorted again when they are
+   * frozen. Frozen lists are not sorted again.
    *
    * @return All named objects
    */
   List<N> values()
   {
-    final List<N> all = new ArrayList<>(objects.values());
-    Collections.sort(all);
-    return all;
+    final FrozenObjects<N> frozenObjects = this.frozenObjects;
+    if (frozenObjects != null)
+    {
+      return frozenObjects.values();
+    }
+    List<N> values = sortedValues;
+    if (values == null)
+    {
+      final List<N> all = new ArrayList<>(objects.values());
+      Collections.sort(all);
+      values = Collections.unmodifiableList(all);
+      sortedValues = values;
+    }
+    return values;
+  }
+
+  /**
+   * Gets the named objects in the list that belong to a parent
+   * (generally a schema or a table), in sorted order. The objects are
+   * found from the index by parent, so the cost is proportional to the
+   * number of objects in the parent, rather than to the size of the
+   * list.
+   *
+   * @param parent
+   *        Parent of the named objects
+   * @return Named objects that belong to the parent
+   */
+  List<N> values(final NamedObject parent)
+  {
+    requireNonNull(parent, "No parent provided");
+    final String parentKey = makeLookupKey(parent);
+    final FrozenObjects<N> frozenObjects = this.frozenObjects;
+    if (frozenObjects != null)
+    {
+      return frozenObjects.values(parentKey, parent);
+    }
+    return values(getIndex(), parentKey, parent);
+  }
+
+  private Map<String, Map<String, N>> getIndex()
+  {
+    Map<String, Map<String, N>> index = this.index;
+    if (index == null)
+    {
+      // Build the index after deserialization, or after the list is
+      // cleared, and publish it only when it is complete
+      index = new HashMap<>();
+      for (final Map.Entry<String, N> entry: objects.entrySet())
+      {
+        addToIndex(index, entry.getValue(), entry.getKey());
+      }
+      this.index = index;
+    }
+    return index;
   }
 
   private Optional<N> internalGet(final String key)
   {
+    final FrozenObjects<N> frozenObjects = this.frozenObjects;
+    if (frozenObjects != null)
+    {
+      return Optional.ofNullable(frozenObjects.get(key));
+    }
     return Optional.ofNullable(objects.get(key));
   }
 
+  private boolean retain(final Predicate<N> retain)
+  {
+    final FrozenObjects<N> frozenObjects = this.frozenObjects;
+    if (frozenObjects != null)
+    {
+      final FrozenObjects<N> retainedObjects = frozenObjects.retain(retain);
+      this.frozenObjects = retainedObjects;
+      return retainedObjects != frozenObjects;
+    }
+
+    boolean modified = false;
+    for (final N namedObject: values())
+    {
+      if (!retain.test(namedObject))
+      {
+        remove(namedObject);
+        modified = true;
+      }
+    }
+    return modified;
+  }
+
+  private void removeFromIndex(final N namedObject, final String key)
+  {
+    if (index == null)
+    {
+      return;
+    }
+    final String parentKey = makeParentLookupKey(namedObject, key);
+    final Map<String, N> namedObjects = index.get(parentKey);
+    if (namedObjects != null)
+    {
+      namedObjects.remove(makeName(parentKey, key));
+      if (namedObjects.isEmpty())
+      {
+        index.remove(parentKey);
+      }
+    }
+  }
+
 }
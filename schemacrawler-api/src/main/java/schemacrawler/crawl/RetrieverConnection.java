@@ -38,6 +38,7 @@ import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.util.logging.Level;
 
+import schemacrawler.crawl.AdaptiveRetrievalStrategies.RetrievalType;
 import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
@@ -122,20 +123,52 @@ final class RetrieverConnection
   private final DatabaseMetaData metaData;
   private final boolean supportsCatalogs;
   private final boolean supportsSchemas;
-  private final MetadataRetrievalStrategy tableRetrievalStrategy;
-  private final MetadataRetrievalStrategy tableColumnRetrievalStrategy;
-  private final MetadataRetrievalStrategy pkRetrievalStrategy;
-  private final MetadataRetrievalStrategy indexRetrievalStrategy;
-  private final MetadataRetrievalStrategy fkRetrievalStrategy;
+  private final AdaptiveRetrievalStrategies retrievalStrategies;
   private final Identifiers identifiers;
   private final InformationSchemaViews informationSchemaViews;
   private final TableTypes tableTypes;
   private final JavaSqlTypes javaSqlTypes;
   private final TypeMap typeMap;
+  private final StringPool stringPool;
+  private final CrawlMetrics crawlMetrics;
+  private final int metadataFetchSize;
+  private final int bulkMetadataFetchSize;
 
   RetrieverConnection(final Connection connection,
                       final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions)
     throws SQLException
+  {
+    this(connection, databaseSpecificOverrideOptions, null, null, null);
+  }
+
+  /**
+   * Creates a retriever connection that shares selected retrieval
+   * strategies, the pool of strings read, and crawl metrics, with other
+   * connections used for the same crawl.
+   *
+   * @param connection
+   *        Database connection
+   * @param databaseSpecificOverrideOptions
+   *        Database specific overrides
+   * @param retrievalStrategies
+   *        Shared retrieval strategies, or null if the connection is
+   *        used on its own
+   * @param stringPool
+   *        Shared string pool, or null if the connection is used on its
+   *        own
+   * @param crawlMetrics
+   *        Shared crawl metrics, or null if the connection is used on its
+   *        own
+   * @throws SQLException
+   *         On a bad connection
+   */
+
+  RetrieverConnection(final Connection connection,
+                      final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions,
+                      final AdaptiveRetrievalStrategies retrievalStrategies,
+                      final StringPool stringPool,
+                      final CrawlMetrics crawlMetrics)
+    throws SQLException
   {
     try
     {
@@ -154,6 +187,14 @@ final class RetrieverConnection
     informationSchemaViews = databaseSpecificOverrideOptions
       .getInformationSchemaViews();
 
+    metadataFetchSize = databaseSpecificOverrideOptions.getMetadataFetchSize();
+    bulkMetadataFetchSize = databaseSpecificOverrideOptions
+      .getBulkMetadataFetchSize();
+    LOGGER.log(Level.CONFIG,
+               new StringFormat("Metadata fetch size is %d, and bulk metadata fetch size is %d",
+                                metadataFetchSize,
+                                bulkMetadataFetchSize));
+
     supportsCatalogs = lookupSupportsCatalogs(databaseSpecificOverrideOptions,
                                               metaData);
     LOGGER
@@ -168,16 +209,32 @@ final class RetrieverConnection
            new StringFormat("Database %s schemas",
                             supportsSchemas? "supports": "does not support"));
 
-    tableRetrievalStrategy = databaseSpecificOverrideOptions
-      .getTableRetrievalStrategy();
-    tableColumnRetrievalStrategy = databaseSpecificOverrideOptions
-      .getTableColumnRetrievalStrategy();
-    pkRetrievalStrategy = databaseSpecificOverrideOptions
-      .getPrimaryKeyRetrievalStrategy();
-    indexRetrievalStrategy = databaseSpecificOverrideOptions
-      .getIndexRetrievalStrategy();
-    fkRetrievalStrategy = databaseSpecificOverrideOptions
-      .getForeignKeyRetrievalStrategy();
+    if (retrievalStrategies == null)
+    {
+      this.retrievalStrategies = new AdaptiveRetrievalStrategies(databaseSpecificOverrideOptions);
+    }
+    else
+    {
+      this.retrievalStrategies = retrievalStrategies;
+    }
+
+    if (stringPool == null)
+    {
+      this.stringPool = new StringPool();
+    }
+    else
+    {
+      this.stringPool = stringPool;
+    }
+
+    if (crawlMetrics == null)
+    {
+      this.crawlMetrics = new CrawlMetrics();
+    }
+    else
+    {
+      this.crawlMetrics = crawlMetrics;
+    }
 
     final String identifierQuoteString = lookupIdentifierQuoteString(databaseSpecificOverrideOptions,
                                                                      metaData);
@@ -197,22 +254,43 @@ final class RetrieverConnection
 
   public MetadataRetrievalStrategy getForeignKeyRetrievalStrategy()
   {
-    return fkRetrievalStrategy;
+    return retrievalStrategies.get(RetrievalType.foreign_keys);
   }
 
   public MetadataRetrievalStrategy getIndexRetrievalStrategy()
   {
-    return indexRetrievalStrategy;
+    return retrievalStrategies.get(RetrievalType.indexes);
   }
 
   public MetadataRetrievalStrategy getPrimaryKeyRetrievalStrategy()
   {
-    return pkRetrievalStrategy;
+    return retrievalStrategies.get(RetrievalType.primary_keys);
   }
 
   public MetadataRetrievalStrategy getTableRetrievalStrategy()
   {
-    return tableRetrievalStrategy;
+    return retrievalStrategies.get(RetrievalType.tables);
+  }
+
+  AdaptiveRetrievalStrategies getAdaptiveRetrievalStrategies()
+  {
+    return retrievalStrategies;
+  }
+
+  /**
+   * Gets the fetch size for INFORMATION_SCHEMA view queries, and for
+   * metadata calls that retrieve objects for all tables at once.
+   *
+   * @return Bulk metadata fetch size
+   */
+  int getBulkMetadataFetchSize()
+  {
+    return bulkMetadataFetchSize;
+  }
+
+  CrawlMetrics getCrawlMetrics()
+  {
+    return crawlMetrics;
   }
 
   Connection getConnection()
@@ -240,6 +318,17 @@ final class RetrieverConnection
     return javaSqlTypes;
   }
 
+  /**
+   * Gets the fetch size for metadata calls for a single table, or for a
+   * few objects.
+   *
+   * @return Metadata fetch size
+   */
+  int getMetadataFetchSize()
+  {
+    return metadataFetchSize;
+  }
+
   DatabaseMetaData getMetaData()
   {
     return metaData;
@@ -247,7 +336,12 @@ final class RetrieverConnection
 
   MetadataRetrievalStrategy getTableColumnRetrievalStrategy()
   {
-    return tableColumnRetrievalStrategy;
+    return retrievalStrategies.get(RetrievalType.table_columns);
+  }
+
+  StringPool getStringPool()
+  {
+    return stringPool;
   }
 
   TableTypes getTableTypes()
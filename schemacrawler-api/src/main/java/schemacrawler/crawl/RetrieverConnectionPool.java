@@ -0,0 +1,216 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.logging.Level;
+
+import javax.sql.DataSource;
+
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * A bounded pool of retriever connections, used for crawling in
+ * parallel. Connections are opened lazily from the data source, up to
+ * the maximum number allowed, and are all closed when the pool is
+ * closed.
+ *
+ * @author Sualeh Fatehi
+ */
+final class RetrieverConnectionPool
+  implements AutoCloseable
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(RetrieverConnectionPool.class.getName());
+
+  private final DataSource dataSource;
+  private final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions;
+  private final int maxConnections;
+  private final AdaptiveRetrievalStrategies retrievalStrategies;
+  private final StringPool stringPool;
+  private final CrawlMetrics crawlMetrics;
+  private final List<RetrieverConnection> allConnections;
+  private final BlockingQueue<RetrieverConnection> idleConnections;
+
+  RetrieverConnectionPool(final DataSource dataSource,
+                          final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions,
+                          final int maxConnections,
+                          final CrawlMetrics crawlMetrics)
+  {
+    this.dataSource = requireNonNull(dataSource, "No data source provided");
+    this.databaseSpecificOverrideOptions = requireNonNull(databaseSpecificOverrideOptions,
+                                                          "No database specific overrides provided");
+    if (maxConnections < 1)
+    {
+      throw new IllegalArgumentException("At least one connection is needed for crawling");
+    }
+    this.maxConnections = maxConnections;
+    // Share selected retrieval strategies, so that probing is done once
+    retrievalStrategies = new AdaptiveRetrievalStrategies(databaseSpecificOverrideOptions);
+    // Share strings read on all connections, for the same crawl
+    stringPool = new StringPool();
+    this.crawlMetrics = requireNonNull(crawlMetrics,
+                                       "No crawl metrics provided");
+    allConnections = new ArrayList<>(maxConnections);
+    idleConnections = new LinkedBlockingQueue<>();
+  }
+
+  /**
+   * Closes all connections opened by this pool.
+   */
+  @Override
+  public void close()
+  {
+    synchronized (allConnections)
+    {
+      for (final RetrieverConnection retrieverConnection: allConnections)
+      {
+        try
+        {
+          retrieverConnection.getConnection().close();
+        }
+        catch (final SQLException e)
+        {
+          LOGGER.log(Level.WARNING, "Could not close connection", e);
+        }
+      }
+      allConnections.clear();
+      idleConnections.clear();
+    }
+  }
+
+  int getMaxConnections()
+  {
+    return maxConnections;
+  }
+
+  StringPool getStringPool()
+  {
+    return stringPool;
+  }
+
+  /**
+   * Borrows a connection from the pool, opening a new one if the
+   * maximum has not been reached, or waiting for one to be released
+   * otherwise.
+   *
+   * @return Retriever connection
+   * @throws SQLException
+   *         On an exception opening a new connection
+   * @throws InterruptedException
+   *         If interrupted while waiting for a connection
+   */
+  RetrieverConnection borrow()
+    throws SQLException, InterruptedException
+  {
+    final Optional<RetrieverConnection> retrieverConnection = tryBorrow();
+    if (retrieverConnection.isPresent())
+    {
+      return retrieverConnection.get();
+    }
+    else
+    {
+      return idleConnections.take();
+    }
+  }
+
+  /**
+   * Returns a borrowed connection to the pool.
+   *
+   * @param retrieverConnection
+   *        Borrowed connection
+   */
+  void release(final RetrieverConnection retrieverConnection)
+  {
+    if (retrieverConnection != null)
+    {
+      idleConnections.offer(retrieverConnection);
+    }
+  }
+
+  /**
+   * Borrows a connection from the pool if one is idle, or if the
+   * maximum has not been reached, without waiting otherwise.
+   *
+   * @return Retriever connection, if one could be had without waiting
+   * @throws SQLException
+   *         On an exception opening a new connection
+   */
+  Optional<RetrieverConnection> tryBorrow()
+    throws SQLException
+  {
+    final RetrieverConnection idleConnection = idleConnections.poll();
+    if (idleConnection != null)
+    {
+      return Optional.of(idleConnection);
+    }
+
+    synchronized (allConnections)
+    {
+      if (allConnections.size() < maxConnections)
+      {
+        final Connection connection = dataSource.getConnection();
+        final RetrieverConnection retrieverConnection;
+        try
+        {
+          retrieverConnection = new RetrieverConnection(connection,
+                                                        databaseSpecificOverrideOptions,
+                                                        retrievalStrategies,
+                                                        stringPool,
+                                                        crawlMetrics);
+        }
+        catch (final SQLException e)
+        {
+          connection.close();
+          throw e;
+        }
+        allConnections.add(retrieverConnection);
+        LOGGER.log(Level.FINE,
+                   new StringFormat("Opened connection %d of %d for crawling",
+                                    allConnections.size(),
+                                    maxConnections));
+        return Optional.of(retrieverConnection);
+      }
+    }
+
+    return Optional.empty();
+  }
+
+}
@@ -91,7 +91,8 @@ final class RoutineExtRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(routineDefinitionsSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getRetrieverConnection());)
     {
       while (results.next())
       {
@@ -95,8 +95,10 @@ final class RoutineRetriever
       .getFunctionColumns(unquotedName(function.getSchema().getCatalogName()),
                           unquotedName(function.getSchema().getName()),
                           unquotedName(function.getName()),
-                          null));)
+                          null),
+                                                                 getRetrieverConnection());)
     {
+      results.setSource("getFunctionColumns");
       while (results.next())
       {
         final String columnCatalogName = nameQuotedName(results
@@ -197,8 +199,10 @@ final class RoutineRetriever
     final String schemaName = schema.getName();
 
     try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getFunctions(unquotedName(catalogName), unquotedName(schemaName), "%"));)
+      .getFunctions(unquotedName(catalogName), unquotedName(schemaName), "%"),
+                                                                 getRetrieverConnection());)
     {
+      results.setSource("getFunctions");
       while (results.next())
       {
         // "FUNCTION_CAT", "FUNCTION_SCHEM"
@@ -262,8 +266,10 @@ final class RoutineRetriever
       .getProcedureColumns(unquotedName(procedure.getSchema().getCatalogName()),
                            unquotedName(procedure.getSchema().getName()),
                            unquotedName(procedure.getName()),
-                           null));)
+                           null),
+                                                                 getRetrieverConnection());)
     {
+      results.setSource("getProcedureColumns");
       while (results.next())
       {
         final String columnCatalogName = nameQuotedName(results
@@ -361,7 +367,8 @@ final class RoutineRetriever
     try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
       .getProcedures(unquotedName(catalogName),
                      unquotedName(schemaName),
-                     "%"));)
+                     "%"),
+                                                                 getRetrieverConnection());)
     {
       results.setDescription("retrieveProcedures");
       while (results.next())
@@ -36,12 +36,23 @@ import static schemacrawler.filter.FilterFactory.tableFilter;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
 import java.util.logging.Level;
 
+import javax.sql.DataSource;
+
 import schemacrawler.schema.Catalog;
-import schemacrawler.schema.Reducible;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.Reducer;
 import schemacrawler.schema.ResultsColumns;
 import schemacrawler.schema.Routine;
 import schemacrawler.schema.RoutineType;
@@ -68,6 +79,15 @@ import sf.util.StringFormat;
 public final class SchemaCrawler
 {
 
+  @FunctionalInterface
+  private interface CrawlTask
+  {
+
+    void crawl(RetrieverConnection retrieverConnection)
+      throws SchemaCrawlerException;
+
+  }
+
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(SchemaCrawler.class.getName());
 
@@ -144,6 +164,7 @@ public final class SchemaCrawler
       });
 
       LOGGER.log(Level.INFO, stopWatch.stringify());
+      retrieverConnection.getCrawlMetrics().addPhases(stopWatch);
     }
     catch (final Exception e)
     {
@@ -234,6 +255,7 @@ public final class SchemaCrawler
       });
 
       LOGGER.log(Level.INFO, stopWatch.stringify());
+      retrieverConnection.getCrawlMetrics().addPhases(stopWatch);
     }
     catch (final Exception e)
     {
@@ -253,9 +275,9 @@ public final class SchemaCrawler
     }
   }
 
-  private static void crawlRoutines(final MutableCatalog catalog,
-                                    final RetrieverConnection retrieverConnection,
-                                    final SchemaCrawlerOptions options)
+  private static void crawlRoutineDetails(final MutableCatalog catalog,
+                                          final RetrieverConnection retrieverConnection,
+                                          final SchemaCrawlerOptions options)
     throws SchemaCrawlerException
   {
 
@@ -263,14 +285,12 @@ public final class SchemaCrawler
     final boolean retrieveRoutines = infoLevel.isRetrieveRoutines();
     if (!retrieveRoutines)
     {
-      LOGGER.log(Level.INFO,
-                 "Not retrieving routines, since this was not requested");
       return;
     }
 
-    final StopWatch stopWatch = new StopWatch("crawlRoutines");
+    final StopWatch stopWatch = new StopWatch("crawlRoutineDetails");
 
-    LOGGER.log(Level.INFO, "Crawling routines");
+    LOGGER.log(Level.INFO, "Crawling routine details");
 
     final RoutineRetriever retriever;
     final RoutineExtRetriever retrieverExtra;
@@ -282,23 +302,6 @@ public final class SchemaCrawler
                                                options);
       final Collection<RoutineType> routineTypes = options.getRoutineTypes();
 
-      stopWatch.time("retrieveRoutines", () -> {
-        for (final Schema schema: retriever.getAllSchemas())
-        {
-          if (routineTypes.contains(RoutineType.procedure))
-          {
-            retriever.retrieveProcedures(schema,
-                                         options.getRoutineInclusionRule());
-          }
-          if (routineTypes.contains(RoutineType.function))
-          {
-            retriever.retrieveFunctions(schema,
-                                        options.getRoutineInclusionRule());
-          }
-        }
-        return null;
-      });
-
       final NamedObjectList<MutableRoutine> allRoutines = catalog
         .getAllRoutines();
       LOGGER.log(Level.INFO,
@@ -339,8 +342,10 @@ public final class SchemaCrawler
       stopWatch.time("filterRoutines", () -> {
         // Filter the list of routines based on grep criteria
         final Predicate<Routine> routineFilter = routineFilter(options);
-        ((Reducible) catalog).reduce(Routine.class,
-                                     new RoutinesReducer(routineFilter));
+        reduce(catalog,
+               Routine.class,
+               new RoutinesReducer(routineFilter),
+               retrieverConnection.getCrawlMetrics());
         return null;
       });
 
@@ -353,6 +358,72 @@ public final class SchemaCrawler
       });
 
       LOGGER.log(Level.INFO, stopWatch.stringify());
+      retrieverConnection.getCrawlMetrics().addPhases(stopWatch);
+    }
+    catch (final Exception e)
+    {
+      if (e instanceof SchemaCrawlerSQLException)
+      {
+        throw new SchemaCrawlerException(e.getMessage(), e.getCause());
+      }
+      else if (e instanceof SchemaCrawlerException)
+      {
+        throw (SchemaCrawlerException) e;
+      }
+      else
+      {
+        throw new SchemaCrawlerException("Exception retrieving routine information",
+                                         e);
+      }
+    }
+  }
+
+  private static void crawlRoutines(final MutableCatalog catalog,
+                                    final RetrieverConnection retrieverConnection,
+                                    final SchemaCrawlerOptions options,
+                                    final NamedObjectList<SchemaReference> schemas)
+    throws SchemaCrawlerException
+  {
+
+    final SchemaInfoLevel infoLevel = options.getSchemaInfoLevel();
+    final boolean retrieveRoutines = infoLevel.isRetrieveRoutines();
+    if (!retrieveRoutines)
+    {
+      LOGGER.log(Level.INFO,
+                 "Not retrieving routines, since this was not requested");
+      return;
+    }
+
+    final StopWatch stopWatch = new StopWatch("crawlRoutines");
+
+    LOGGER.log(Level.INFO, "Crawling routines");
+
+    try
+    {
+      final RoutineRetriever retriever = new RoutineRetriever(retrieverConnection,
+                                                              catalog,
+                                                              options);
+      final Collection<RoutineType> routineTypes = options.getRoutineTypes();
+
+      stopWatch.time("retrieveRoutines", () -> {
+        for (final Schema schema: schemas)
+        {
+          if (routineTypes.contains(RoutineType.procedure))
+          {
+            retriever.retrieveProcedures(schema,
+                                         options.getRoutineInclusionRule());
+          }
+          if (routineTypes.contains(RoutineType.function))
+          {
+            retriever.retrieveFunctions(schema,
+                                        options.getRoutineInclusionRule());
+          }
+        }
+        return null;
+      });
+
+      LOGGER.log(Level.INFO, stopWatch.stringify());
+      retrieverConnection.getCrawlMetrics().addPhases(stopWatch);
     }
     catch (final Exception e)
     {
@@ -393,11 +464,15 @@ public final class SchemaCrawler
       });
 
       stopWatch.time("sortAndFilterSchemas", () -> {
-        ((Reducible) catalog).reduce(Schema.class, new SchemasReducer(options));
+        reduce(catalog,
+               Schema.class,
+               new SchemasReducer(options),
+               retrieverConnection.getCrawlMetrics());
         return null;
       });
 
       LOGGER.log(Level.INFO, stopWatch.stringify());
+      retrieverConnection.getCrawlMetrics().addPhases(stopWatch);
 
       final NamedObjectList<SchemaReference> schemas = retriever
         .getAllSchemas();
@@ -457,12 +532,15 @@ public final class SchemaCrawler
       });
 
       stopWatch.time("sortAndFilterSequences", () -> {
-        ((Reducible) catalog).reduce(Sequence.class,
-                                     new SequencesReducer(options));
+        reduce(catalog,
+               Sequence.class,
+               new SequencesReducer(options),
+               retrieverConnection.getCrawlMetrics());
         return null;
       });
 
       LOGGER.log(Level.INFO, stopWatch.stringify());
+      retrieverConnection.getCrawlMetrics().addPhases(stopWatch);
     }
     catch (final Exception e)
     {
@@ -514,12 +592,15 @@ public final class SchemaCrawler
       });
 
       stopWatch.time("sortAndFilterSynonms", () -> {
-        ((Reducible) catalog).reduce(Synonym.class,
-                                     new SynonymsReducer(options));
+        reduce(catalog,
+               Synonym.class,
+               new SynonymsReducer(options),
+               retrieverConnection.getCrawlMetrics());
         return null;
       });
 
       LOGGER.log(Level.INFO, stopWatch.stringify());
+      retrieverConnection.getCrawlMetrics().addPhases(stopWatch);
     }
     catch (final Exception e)
     {
@@ -539,9 +620,82 @@ public final class SchemaCrawler
     }
   }
 
-  private static void crawlTables(final MutableCatalog catalog,
-                                  final RetrieverConnection retrieverConnection,
-                                  final SchemaCrawlerOptions options)
+  /**
+   * Crawls table details, reusing tables from a previous crawl that
+   * have not changed since, if any. Unchanged tables are taken out of the
+   * catalog while details are retrieved for the remaining tables, and
+   * put back afterwards, so that no retriever touches them.
+   */
+  private static void crawlTableDetails(final MutableCatalog catalog,
+                                        final RetrieverConnection retrieverConnection,
+                                        final SchemaCrawlerOptions options,
+                                        final TableShards tableShards,
+                                        final Catalog previousCatalog)
+    throws SchemaCrawlerException
+  {
+    final SchemaInfoLevel infoLevel = options.getSchemaInfoLevel();
+    if (!infoLevel.isRetrieveTables())
+    {
+      return;
+    }
+
+    final StopWatch stopWatch = new StopWatch("crawlTableDetailsIncrementally");
+
+    try
+    {
+      final TableChangeRetriever changeRetriever = new TableChangeRetriever(retrieverConnection,
+                                                                            catalog,
+                                                                            options);
+
+      final NamedObjectList<MutableTable> unchangedTables = stopWatch
+        .time("removeUnchangedTables",
+              () -> changeRetriever.removeUnchangedTables(previousCatalog));
+
+      crawlTableDetails(catalog, retrieverConnection, options, tableShards);
+
+      stopWatch.time("reuseUnchangedTables", () -> {
+        if (unchangedTables.isEmpty())
+        {
+          return null;
+        }
+        for (final MutableTable table: unchangedTables)
+        {
+          catalog.addTable(table);
+        }
+
+        // Sort all tables again, since reused tables were not sorted
+        final TablesGraph tablesGraph = new TablesGraph(catalog
+          .getAllTables());
+        tablesGraph.setTablesSortIndexes();
+
+        return null;
+      });
+
+      LOGGER.log(Level.INFO, stopWatch.stringify());
+      retrieverConnection.getCrawlMetrics().addPhases(stopWatch);
+    }
+    catch (final Exception e)
+    {
+      if (e instanceof SchemaCrawlerSQLException)
+      {
+        throw new SchemaCrawlerException(e.getMessage(), e.getCause());
+      }
+      else if (e instanceof SchemaCrawlerException)
+      {
+        throw (SchemaCrawlerException) e;
+      }
+      else
+      {
+        throw new SchemaCrawlerException("Exception retrieving table information",
+                                         e);
+      }
+    }
+  }
+
+  private static void crawlTableDetails(final MutableCatalog catalog,
+                                        final RetrieverConnection retrieverConnection,
+                                        final SchemaCrawlerOptions options,
+                                        final TableShards tableShards)
     throws SchemaCrawlerException
   {
 
@@ -549,26 +703,18 @@ public final class SchemaCrawler
     final boolean retrieveTables = infoLevel.isRetrieveTables();
     if (!retrieveTables)
     {
-      LOGGER.log(Level.INFO,
-                 "Not retrieving tables, since this was not requested");
       return;
     }
 
-    final StopWatch stopWatch = new StopWatch("crawlTables");
+    final StopWatch stopWatch = new StopWatch("crawlTableDetails");
 
-    LOGGER.log(Level.INFO, "Crawling tables");
+    LOGGER.log(Level.INFO, "Crawling table details");
 
     try
     {
-      final TableRetriever retriever = new TableRetriever(retrieverConnection,
-                                                          catalog,
-                                                          options);
       final TableColumnRetriever columnRetriever = new TableColumnRetriever(retrieverConnection,
                                                                             catalog,
                                                                             options);
-      final IndexRetriever indexRetriever = new IndexRetriever(retrieverConnection,
-                                                               catalog,
-                                                               options);
       final ForeignKeyRetriever fkRetriever = new ForeignKeyRetriever(retrieverConnection,
                                                                       catalog,
                                                                       options);
@@ -579,16 +725,6 @@ public final class SchemaCrawler
                                                                      catalog,
                                                                      options);
 
-      stopWatch.time("retrieveTables", () -> {
-        final NamedObjectList<SchemaReference> schemas = retriever
-          .getAllSchemas();
-        retriever.retrieveTables(schemas,
-                                 options.getTableNamePattern(),
-                                 options.getTableTypes(),
-                                 options.getTableInclusionRule());
-        return null;
-      });
-
       final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
       LOGGER.log(Level.INFO,
                  new StringFormat("Retrieved %d tables", allTables.size()));
@@ -597,11 +733,22 @@ public final class SchemaCrawler
         return;
       }
 
+      retrieverConnection.getAdaptiveRetrievalStrategies()
+        .probeTableDetails(retrieverConnection, allTables);
+
       stopWatch.time("retrieveColumns", () -> {
         if (infoLevel.isRetrieveTableColumns())
         {
-          columnRetriever.retrieveColumns(allTables,
-                                          options.getColumnInclusionRule());
+          tableShards.retrieve(retrieverConnection,
+                               allTables,
+                               retrieverConnection
+                                 .getTableColumnRetrievalStrategy(),
+                               (rc, tables) -> new TableColumnRetriever(rc,
+                                                                        catalog,
+                                                                        options)
+                                 .retrieveColumns(tables,
+                                                  options
+                                                    .getColumnInclusionRule()));
         }
         if (infoLevel.isRetrieveHiddenTableColumns())
         {
@@ -636,8 +783,10 @@ public final class SchemaCrawler
         // Filter the list of tables based on grep criteria, and
         // parent-child relationships
         final Predicate<Table> tableFilter = tableFilter(options);
-        ((Reducible) catalog).reduce(Table.class,
-                                     new TablesReducer(options, tableFilter));
+        reduce(catalog,
+               Table.class,
+               new TablesReducer(options, tableFilter),
+               retrieverConnection.getCrawlMetrics());
 
         // Sort the remaining tables
         final TablesGraph tablesGraph = new TablesGraph(allTables);
@@ -652,11 +801,25 @@ public final class SchemaCrawler
         {
           if (infoLevel.isRetrieveIndexes())
           {
-            indexRetriever.retrieveIndexes(allTables);
+            tableShards.retrieve(retrieverConnection,
+                                 allTables,
+                                 retrieverConnection
+                                   .getIndexRetrievalStrategy(),
+                                 (rc, tables) -> new IndexRetriever(rc,
+                                                                    catalog,
+                                                                    options)
+                                   .retrieveIndexes(tables));
           }
           // Setting primary keys will use indexes with a similar name,
           // if available
-          indexRetriever.retrievePrimaryKeys(allTables);
+          tableShards.retrieve(retrieverConnection,
+                               allTables,
+                               retrieverConnection
+                                 .getPrimaryKeyRetrievalStrategy(),
+                               (rc, tables) -> new IndexRetriever(rc,
+                                                                  catalog,
+                                                                  options)
+                                 .retrievePrimaryKeys(tables));
           if (infoLevel.isRetrievePrimaryKeyDefinitions())
           {
             retrieverExtra.retrievePrimaryKeyDefinitions(allTables);
@@ -743,6 +906,7 @@ public final class SchemaCrawler
       });
 
       LOGGER.log(Level.INFO, stopWatch.stringify());
+      retrieverConnection.getCrawlMetrics().addPhases(stopWatch);
     }
     catch (final Exception e)
     {
@@ -762,8 +926,144 @@ public final class SchemaCrawler
     }
   }
 
+  private static void crawlTables(final MutableCatalog catalog,
+                                  final RetrieverConnection retrieverConnection,
+                                  final SchemaCrawlerOptions options,
+                                  final NamedObjectList<SchemaReference> schemas)
+    throws SchemaCrawlerException
+  {
+
+    final SchemaInfoLevel infoLevel = options.getSchemaInfoLevel();
+    final boolean retrieveTables = infoLevel.isRetrieveTables();
+    if (!retrieveTables)
+    {
+      LOGGER.log(Level.INFO,
+                 "Not retrieving tables, since this was not requested");
+      return;
+    }
+
+    final StopWatch stopWatch = new StopWatch("crawlTables");
+
+    LOGGER.log(Level.INFO, "Crawling tables");
+
+    try
+    {
+      final TableRetriever retriever = new TableRetriever(retrieverConnection,
+                                                          catalog,
+                                                          options);
+
+      stopWatch.time("retrieveTables", () -> {
+        retriever.retrieveTables(schemas,
+                                 options.getTableNamePattern(),
+                                 options.getTableTypes(),
+                                 options.getTableInclusionRule());
+        return null;
+      });
+
+      LOGGER.log(Level.INFO, stopWatch.stringify());
+      retrieverConnection.getCrawlMetrics().addPhases(stopWatch);
+    }
+    catch (final Exception e)
+    {
+      if (e instanceof SchemaCrawlerSQLException)
+      {
+        throw new SchemaCrawlerException(e.getMessage(), e.getCause());
+      }
+      else if (e instanceof SchemaCrawlerException)
+      {
+        throw (SchemaCrawlerException) e;
+      }
+      else
+      {
+        throw new SchemaCrawlerException("Exception retrieving table information",
+                                         e);
+      }
+    }
+  }
+
+  private static <N extends NamedObject> void reduce(final MutableCatalog catalog,
+                                                     final Class<N> clazz,
+                                                     final Reducer<N> reducer,
+                                                     final CrawlMetrics crawlMetrics)
+  {
+    final int count = catalog.count(clazz);
+    catalog.reduce(clazz, reducer);
+    crawlMetrics.addFilteredObjects(clazz, count - catalog.count(clazz));
+  }
+
+  private static Collection<NamedObjectList<SchemaReference>> splitBySchema(final MutableCatalog catalog)
+  {
+    final Collection<NamedObjectList<SchemaReference>> schemaLists = new ArrayList<>();
+    for (final SchemaReference schema: catalog.getAllSchemas())
+    {
+      final NamedObjectList<SchemaReference> schemaList = new NamedObjectList<>();
+      schemaList.add(schema);
+      schemaLists.add(schemaList);
+    }
+    return schemaLists;
+  }
+
+  private static Future<Void> submit(final ExecutorService executorService,
+                                     final RetrieverConnectionPool connectionPool,
+                                     final CrawlTask crawlTask)
+  {
+    return executorService.submit(() -> {
+      final RetrieverConnection retrieverConnection = connectionPool.borrow();
+      try
+      {
+        crawlTask.crawl(retrieverConnection);
+      }
+      finally
+      {
+        connectionPool.release(retrieverConnection);
+      }
+      return null;
+    });
+  }
+
+  private static void waitFor(final List<Future<Void>> crawlTasks)
+    throws SchemaCrawlerException
+  {
+    try
+    {
+      for (final Future<Void> crawlTask: crawlTasks)
+      {
+        crawlTask.get();
+      }
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerException("Interrupted while crawling", e);
+    }
+    catch (final ExecutionException e)
+    {
+      final Throwable cause = e.getCause();
+      if (cause instanceof SchemaCrawlerException)
+      {
+        throw (SchemaCrawlerException) cause;
+      }
+      else
+      {
+        throw new SchemaCrawlerException("Exception crawling in parallel",
+                                         cause);
+      }
+    }
+    finally
+    {
+      for (final Future<Void> crawlTask: crawlTasks)
+      {
+        crawlTask.cancel(true);
+      }
+    }
+  }
+
   private final Connection connection;
+  private final DataSource dataSource;
+  private final int maxConnections;
   private final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions;
+  private final List<CrawlListener> crawlListeners;
+  private volatile CrawlMetrics crawlMetrics;
 
   /**
    * Constructs a SchemaCrawler object, from a connection.
@@ -780,12 +1080,64 @@ public final class SchemaCrawler
     throws SchemaCrawlerException
   {
     this.connection = requireNonNull(connection, "No connection specified");
+    dataSource = null;
+    maxConnections = 1;
     this.databaseSpecificOverrideOptions = requireNonNull(databaseSpecificOverrideOptions,
                                                           "No database specific overrides provided");
+    crawlListeners = new CopyOnWriteArrayList<>();
   }
 
   /**
-   * Crawls the database, to obtain database metadata.
+   * Constructs a SchemaCrawler object that crawls in parallel, using up
+   * to the given number of connections from a data source. Independent
+   * crawl phases, and per-schema retrievals of tables and routines, are
+   * run concurrently. All connections are closed at the end of the
+   * crawl.
+   *
+   * @param dataSource
+   *        Source of database connections.
+   * @param databaseSpecificOverrideOptions
+   *        Database specific overrides
+   * @param maxConnections
+   *        Maximum number of connections to use, which is also the
+   *        maximum number of concurrent crawl tasks
+   * @throws SchemaCrawlerException
+   *         On a SchemaCrawler exception
+   */
+  public SchemaCrawler(final DataSource dataSource,
+                       final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions,
+                       final int maxConnections)
+    throws SchemaCrawlerException
+  {
+    connection = null;
+    this.dataSource = requireNonNull(dataSource, "No data source specified");
+    if (maxConnections < 1)
+    {
+      throw new SchemaCrawlerException("At least one connection is needed for crawling");
+    }
+    this.maxConnections = maxConnections;
+    this.databaseSpecificOverrideOptions = requireNonNull(databaseSpecificOverrideOptions,
+                                                          "No database specific overrides provided");
+    crawlListeners = new CopyOnWriteArrayList<>();
+  }
+
+  /**
+   * Adds a listener that receives crawl metrics as they are measured,
+   * for crawls started after the listener is added.
+   *
+   * @param crawlListener
+   *        Crawl listener
+   */
+  public void addCrawlListener(final CrawlListener crawlListener)
+  {
+    crawlListeners.add(requireNonNull(crawlListener,
+                                      "No crawl listener provided"));
+  }
+
+  /**
+   * Crawls the database, to obtain database metadata. The catalog is
+   * frozen at the end of the crawl, so that it takes less memory, and
+   * can be read from several threads without locks.
    *
    * @param options
    *        SchemaCrawler options that control what metadata is returned
@@ -796,35 +1148,394 @@ public final class SchemaCrawler
   public Catalog crawl(final SchemaCrawlerOptions options)
     throws SchemaCrawlerException
   {
+    return crawl(options, null);
+  }
+
+  /**
+   * Crawls the database incrementally, to obtain database metadata.
+   * Tables that have not changed since the previous crawl, going by
+   * their last DDL times in the data dictionary, are reused from the
+   * previous catalog, instead of having their columns, indexes, foreign
+   * keys and constraints retrieved again. The previous catalog should
+   * have been crawled with the same options, and should not be used
+   * after this crawl, since its unchanged tables become part of the new
+   * catalog. If no SQL for table last DDL times is provided by the
+   * database connector, all tables are crawled.
+   *
+   * @param options
+   *        SchemaCrawler options that control what metadata is returned
+   * @param previousCatalog
+   *        Catalog from a previous crawl, or null to crawl all tables
+   * @return Database metadata
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  public Catalog crawl(final SchemaCrawlerOptions options,
+                       final Catalog previousCatalog)
+    throws SchemaCrawlerException
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions;
+    if (options == null)
+    {
+      schemaCrawlerOptions = new SchemaCrawlerOptions();
+    }
+    else
+    {
+      schemaCrawlerOptions = options;
+    }
+
+    if (dataSource != null)
+    {
+      return crawlInParallel(schemaCrawlerOptions, previousCatalog);
+    }
+
     final MutableCatalog catalog = new MutableCatalog("catalog");
+    final CrawlMetrics crawlMetrics = newCrawlMetrics();
     try
     {
-      final SchemaCrawlerOptions schemaCrawlerOptions;
-      if (options == null)
+      final RetrieverConnection retrieverConnection = new RetrieverConnection(connection,
+                                                                              databaseSpecificOverrideOptions,
+                                                                              null,
+                                                                              null,
+                                                                              crawlMetrics);
+
+      crawlSchemas(catalog, retrieverConnection, schemaCrawlerOptions);
+      crawlDatabaseInfo(catalog, retrieverConnection, schemaCrawlerOptions);
+      crawlColumnDataTypes(catalog, retrieverConnection, schemaCrawlerOptions);
+      crawlTables(catalog,
+                  retrieverConnection,
+                  schemaCrawlerOptions,
+                  catalog.getAllSchemas());
+      crawlTableDetails(catalog,
+                        retrieverConnection,
+                        schemaCrawlerOptions,
+                        new TableShards(),
+                        previousCatalog);
+      crawlRoutines(catalog,
+                    retrieverConnection,
+                    schemaCrawlerOptions,
+                    catalog.getAllSchemas());
+      crawlRoutineDetails(catalog, retrieverConnection, schemaCrawlerOptions);
+      crawlSynonyms(catalog, retrieverConnection, schemaCrawlerOptions);
+      crawlSequences(catalog, retrieverConnection, schemaCrawlerOptions);
+
+      catalog.freeze();
+      LOGGER.log(Level.INFO, retrieverConnection.getStringPool().toString());
+
+      crawlMetrics.addCreatedObjects(catalog);
+      crawlMetrics.addCreatedTables(catalog);
+      crawlMetrics.crawlCompleted();
+
+      return catalog;
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerException("Database access exception", e);
+    }
+  }
+
+  /**
+   * Crawls the database with tables retrieved in chunks of a few
+   * schemas at a time. Each chunk is handed to the chunk handler as soon
+   * as its tables and table details are retrieved, and is not referenced
+   * after that, so memory use depends on the size of a chunk, rather
+   * than on the size of the database. Foreign keys to tables in other
+   * chunks refer to partial tables. The returned catalog has the
+   * schemas, database information, column data types, routines,
+   * synonyms and sequences, but no tables. If tables are filtered by
+   * their relationships to other tables, the whole database is crawled
+   * as a single chunk.
+   *
+   * @param options
+   *        SchemaCrawler options that control what metadata is returned
+   * @param schemasPerChunk
+   *        Number of schemas in each chunk
+   * @param chunkHandler
+   *        Handler for each chunk of tables
+   * @return Database metadata, without tables
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  public Catalog crawlInChunks(final SchemaCrawlerOptions options,
+                               final int schemasPerChunk,
+                               final CatalogChunkHandler chunkHandler)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(chunkHandler, "No chunk handler provided");
+    if (schemasPerChunk < 1)
+    {
+      throw new SchemaCrawlerException("At least one schema is needed in each chunk");
+    }
+    final SchemaCrawlerOptions schemaCrawlerOptions;
+    if (options == null)
+    {
+      schemaCrawlerOptions = new SchemaCrawlerOptions();
+    }
+    else
+    {
+      schemaCrawlerOptions = options;
+    }
+
+    final Connection connection;
+    if (dataSource != null)
+    {
+      try
       {
-        schemaCrawlerOptions = new SchemaCrawlerOptions();
+        connection = dataSource.getConnection();
       }
-      else
+      catch (final SQLException e)
       {
-        schemaCrawlerOptions = options;
+        throw new SchemaCrawlerException("Could not obtain a connection", e);
       }
+    }
+    else
+    {
+      connection = this.connection;
+    }
+
+    final MutableCatalog catalog = new MutableCatalog("catalog");
+    final CrawlMetrics crawlMetrics = newCrawlMetrics();
+    try
+    {
       final RetrieverConnection retrieverConnection = new RetrieverConnection(connection,
-                                                                              databaseSpecificOverrideOptions);
+                                                                              databaseSpecificOverrideOptions,
+                                                                              null,
+                                                                              null,
+                                                                              crawlMetrics);
 
       crawlSchemas(catalog, retrieverConnection, schemaCrawlerOptions);
       crawlDatabaseInfo(catalog, retrieverConnection, schemaCrawlerOptions);
       crawlColumnDataTypes(catalog, retrieverConnection, schemaCrawlerOptions);
-      crawlTables(catalog, retrieverConnection, schemaCrawlerOptions);
-      crawlRoutines(catalog, retrieverConnection, schemaCrawlerOptions);
+
+      final boolean filterByRelationships = schemaCrawlerOptions
+        .getChildTableFilterDepth() > 0
+                                            || schemaCrawlerOptions
+                                              .getParentTableFilterDepth() > 0;
+      final List<NamedObjectList<SchemaReference>> chunks = new ArrayList<>();
+      NamedObjectList<SchemaReference> chunkSchemas = new NamedObjectList<>();
+      for (final SchemaReference schema: catalog.getAllSchemas())
+      {
+        if (!filterByRelationships && chunkSchemas.size() == schemasPerChunk)
+        {
+          chunks.add(chunkSchemas);
+          chunkSchemas = new NamedObjectList<>();
+        }
+        chunkSchemas.add(schema);
+      }
+      if (!chunkSchemas.isEmpty())
+      {
+        chunks.add(chunkSchemas);
+      }
+
+      for (final NamedObjectList<SchemaReference> schemas: chunks)
+      {
+        final MutableCatalog chunk = new MutableCatalog(catalog);
+        crawlTables(chunk, retrieverConnection, schemaCrawlerOptions, schemas);
+        crawlTableDetails(chunk,
+                          retrieverConnection,
+                          schemaCrawlerOptions,
+                          new TableShards());
+        chunk.freeze();
+        crawlMetrics.addCreatedTables(chunk);
+        chunkHandler.handle(chunk);
+      }
+
+      crawlRoutines(catalog,
+                    retrieverConnection,
+                    schemaCrawlerOptions,
+                    catalog.getAllSchemas());
+      crawlRoutineDetails(catalog, retrieverConnection, schemaCrawlerOptions);
       crawlSynonyms(catalog, retrieverConnection, schemaCrawlerOptions);
       crawlSequences(catalog, retrieverConnection, schemaCrawlerOptions);
 
+      catalog.freeze();
+      LOGGER.log(Level.INFO, retrieverConnection.getStringPool().toString());
+
+      crawlMetrics.addCreatedObjects(catalog);
+      crawlMetrics.crawlCompleted();
+
       return catalog;
     }
     catch (final SQLException e)
     {
       throw new SchemaCrawlerException("Database access exception", e);
     }
+    finally
+    {
+      if (dataSource != null)
+      {
+        try
+        {
+          connection.close();
+        }
+        catch (final SQLException e)
+        {
+          LOGGER.log(Level.WARNING, "Could not close connection", e);
+        }
+      }
+    }
+  }
+
+  /**
+   * Gets the metrics for the most recent crawl, which can be read while
+   * the crawl is still in progress.
+   *
+   * @return Crawl metrics, or null if no crawl has been started
+   */
+  public CrawlMetrics getCrawlMetrics()
+  {
+    return crawlMetrics;
+  }
+
+  /**
+   * Crawls in stages. Schemas are needed by every other phase, so they
+   * are crawled first. Next, database information, column data types,
+   * sequences, and the tables and routines in each schema are retrieved
+   * concurrently. Then table details and routine details are retrieved
+   * concurrently, since they create column data types, and need all the
+   * system data types to be known. Columns, indexes and primary keys
+   * that are retrieved table by table are sharded across connections.
+   * Synonyms are crawled last, since they reference tables and
+   * routines.
+   */
+  private Catalog crawlInParallel(final SchemaCrawlerOptions options,
+                                  final Catalog previousCatalog)
+    throws SchemaCrawlerException
+  {
+    final MutableCatalog catalog = new MutableCatalog("catalog");
+    final CrawlMetrics crawlMetrics = newCrawlMetrics();
+    final ExecutorService executorService = Executors
+      .newFixedThreadPool(maxConnections);
+    final ExecutorService shardExecutorService = Executors
+      .newFixedThreadPool(maxConnections);
+    try (final RetrieverConnectionPool connectionPool = new RetrieverConnectionPool(dataSource,
+                                                                                    databaseSpecificOverrideOptions,
+                                                                                    maxConnections,
+                                                                                    crawlMetrics);)
+    {
+      final TableShards tableShards = new TableShards(connectionPool,
+                                                      shardExecutorService);
+      final StopWatch stopWatch = new StopWatch("crawlInParallel");
+
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Crawling in parallel, using up to %d connections",
+                                  maxConnections));
+
+      stopWatch.time("crawlSchemas", () -> {
+        waitFor(Arrays.asList(submit(executorService,
+                                     connectionPool,
+                                     rc -> crawlSchemas(catalog, rc, options))));
+        return null;
+      });
+
+      stopWatch.time("crawlTablesAndRoutines", () -> {
+        final List<Future<Void>> crawlTasks = new ArrayList<>();
+        crawlTasks.add(submit(executorService,
+                              connectionPool,
+                              rc -> crawlDatabaseInfo(catalog, rc, options)));
+        crawlTasks.add(submit(executorService,
+                              connectionPool,
+                              rc -> crawlColumnDataTypes(catalog,
+                                                         rc,
+                                                         options)));
+        crawlTasks.add(submit(executorService,
+                              connectionPool,
+                              rc -> crawlSequences(catalog, rc, options)));
+
+        // Bulk retrieval strategies get tables for all schemas in one
+        // call, so there is nothing to gain from splitting by schema
+        final boolean retrieveTablesBySchema = databaseSpecificOverrideOptions
+          .getTableRetrievalStrategy() == MetadataRetrievalStrategy.metadata;
+        if (retrieveTablesBySchema)
+        {
+          for (final NamedObjectList<SchemaReference> schema: splitBySchema(catalog))
+          {
+            crawlTasks.add(submit(executorService,
+                                  connectionPool,
+                                  rc -> crawlTables(catalog,
+                                                    rc,
+                                                    options,
+                                                    schema)));
+          }
+        }
+        else
+        {
+          crawlTasks.add(submit(executorService,
+                                connectionPool,
+                                rc -> crawlTables(catalog,
+                                                  rc,
+                                                  options,
+                                                  catalog.getAllSchemas())));
+        }
+        for (final NamedObjectList<SchemaReference> schema: splitBySchema(catalog))
+        {
+          crawlTasks.add(submit(executorService,
+                                connectionPool,
+                                rc -> crawlRoutines(catalog,
+                                                    rc,
+                                                    options,
+                                                    schema)));
+        }
+        waitFor(crawlTasks);
+        return null;
+      });
+
+      stopWatch.time("crawlDetails", () -> {
+        waitFor(Arrays.asList(submit(executorService,
+                                     connectionPool,
+                                     rc -> crawlTableDetails(catalog,
+                                                             rc,
+                                                             options,
+                                                             tableShards,
+                                                             previousCatalog)),
+                              submit(executorService,
+                                     connectionPool,
+                                     rc -> crawlRoutineDetails(catalog,
+                                                               rc,
+                                                               options))));
+        return null;
+      });
+
+      stopWatch.time("crawlSynonyms", () -> {
+        waitFor(Arrays.asList(submit(executorService,
+                                     connectionPool,
+                                     rc -> crawlSynonyms(catalog,
+                                                         rc,
+                                                         options))));
+        return null;
+      });
+
+      LOGGER.log(Level.INFO, stopWatch.stringify());
+      crawlMetrics.addPhases(stopWatch);
+
+      catalog.freeze();
+      LOGGER.log(Level.INFO, connectionPool.getStringPool().toString());
+
+      crawlMetrics.addCreatedObjects(catalog);
+      crawlMetrics.addCreatedTables(catalog);
+      crawlMetrics.crawlCompleted();
+
+      return catalog;
+    }
+    catch (final SchemaCrawlerException e)
+    {
+      throw e;
+    }
+    catch (final Exception e)
+    {
+      throw new SchemaCrawlerException("Exception crawling in parallel", e);
+    }
+    finally
+    {
+      executorService.shutdownNow();
+      shardExecutorService.shutdownNow();
+    }
+  }
+
+  private CrawlMetrics newCrawlMetrics()
+  {
+    crawlMetrics = new CrawlMetrics(crawlListeners);
+    return crawlMetrics;
   }
 
 }
@@ -175,7 +175,8 @@ final class SchemaRetriever
     if (supportsSchemas)
     {
       try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-        .getSchemas());)
+        .getSchemas(),
+                                                                   getRetrieverConnection());)
       {
         results.setDescription("retrieveAllSchemas");
         while (results.next())
@@ -250,7 +251,8 @@ final class SchemaRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(schemataSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getRetrieverConnection());)
     {
       results.setDescription("retrieveAllSchemasFromInformationSchemaViews");
       while (results.next())
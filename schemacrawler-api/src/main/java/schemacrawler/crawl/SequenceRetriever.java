@@ -106,7 +106,8 @@ final class SequenceRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(sequencesDefinitionSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getRetrieverConnection());)
     {
       while (results.next())
       {
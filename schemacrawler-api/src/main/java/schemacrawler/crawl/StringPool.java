@@ -0,0 +1,148 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of strings read from database metadata, so that strings that
+ * repeat across the catalog, such as column names, data type names,
+ * default values and remarks, are kept once. A pool is used for a
+ * single crawl, and is shared by all the connections of the crawl,
+ * unlike {@link String#intern()}, which keeps strings for the life of
+ * the JVM. Long strings, such as definitions, are rarely repeated, and
+ * are not pooled.
+ *
+ * @author Sualeh Fatehi
+ */
+final class StringPool
+{
+
+  private static final int MAX_POOLED_LENGTH = 256;
+
+  /**
+   * Estimates the heap taken by a string, with compressed references
+   * and compact strings, which is the header and fields of the string,
+   * and the header and bytes of its array, aligned to 8 bytes.
+   */
+  private static long estimateSize(final String string)
+  {
+    int bytesPerChar = 1;
+    for (int i = 0; i < string.length(); i++)
+    {
+      if (string.charAt(i) > 0xFF)
+      {
+        bytesPerChar = 2;
+        break;
+      }
+    }
+    final long arraySize = 16 + (long) string.length() * bytesPerChar;
+    return 24 + (arraySize + 7) / 8 * 8;
+  }
+
+  private final ConcurrentMap<String, String> strings;
+  private final LongAdder lookups;
+  private final LongAdder duplicates;
+  private final LongAdder bytesSaved;
+
+  StringPool()
+  {
+    strings = new ConcurrentHashMap<>();
+    lookups = new LongAdder();
+    duplicates = new LongAdder();
+    bytesSaved = new LongAdder();
+  }
+
+  long getBytesSaved()
+  {
+    return bytesSaved.sum();
+  }
+
+  long getDuplicates()
+  {
+    return duplicates.sum();
+  }
+
+  long getLookups()
+  {
+    return lookups.sum();
+  }
+
+  int size()
+  {
+    return strings.size();
+  }
+
+  /**
+   * Gets the pooled instance of a string, adding the string to the
+   * pool if it is not already there.
+   *
+   * @param string
+   *        String to pool
+   * @return Pooled string, or the string itself if it is not pooled
+   */
+  String pooled(final String string)
+  {
+    if (string == null || string.length() > MAX_POOLED_LENGTH)
+    {
+      return string;
+    }
+
+    lookups.increment();
+    final String pooledString = strings.putIfAbsent(string, string);
+    if (pooledString == null)
+    {
+      return string;
+    }
+    if (pooledString != string)
+    {
+      duplicates.increment();
+      bytesSaved.add(estimateSize(string));
+    }
+    return pooledString;
+  }
+
+  /**
+   * Reports on the strings pooled, and the estimated heap saved by not
+   * keeping duplicates.
+   */
+  @Override
+  public String toString()
+  {
+    return String
+      .format("String pool has %d strings; %d of %d strings read were duplicates, saving about %d bytes",
+              size(),
+              getDuplicates(),
+              getLookups(),
+              getBytesSaved());
+  }
+
+}
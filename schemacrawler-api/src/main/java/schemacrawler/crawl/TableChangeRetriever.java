@@ -0,0 +1,340 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.ForeignKeyColumnReference;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.utility.Query;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * A retriever that uses the last DDL times of tables from the data
+ * dictionary to find tables that have not changed since a previous
+ * crawl, so that their details can be reused instead of being
+ * retrieved again.
+ *
+ * @author Sualeh Fatehi
+ */
+final class TableChangeRetriever
+  extends AbstractRetriever
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(TableChangeRetriever.class.getName());
+
+  static final String LAST_DDL_TIME = "LAST_DDL_TIME";
+
+  private final SchemaCrawlerOptions options;
+
+  TableChangeRetriever(final RetrieverConnection retrieverConnection,
+                       final MutableCatalog catalog,
+                       final SchemaCrawlerOptions options)
+    throws SQLException
+  {
+    super(retrieverConnection, catalog, options);
+    this.options = options;
+  }
+
+  /**
+   * Removes tables that have not changed since the previous crawl from
+   * the catalog, and returns the previously crawled tables in their
+   * place. A table is unchanged if its last DDL time is the same as in
+   * the previous crawl, and if every table that it is related to by a
+   * foreign key, either in the previous crawl or now, is also
+   * unchanged, so that foreign keys between reused tables and retrieved
+   * tables are never stale.
+   *
+   * @param previousCatalog
+   *        Catalog from a previous crawl, with the same options, or
+   *        null if there was no previous crawl
+   * @return Previously crawled tables that can be reused
+   */
+  NamedObjectList<MutableTable> removeUnchangedTables(final Catalog previousCatalog)
+    throws SQLException
+  {
+    final NamedObjectList<MutableTable> unchangedTables = new NamedObjectList<>();
+
+    final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
+      .getInformationSchemaViews();
+    if (!informationSchemaViews.hasExtTableDdlTimesSql())
+    {
+      LOGGER.log(Level.INFO,
+                 "Not retrieving table last DDL times, since no SQL was provided");
+      return unchangedTables;
+    }
+
+    // Always retrieve last DDL times, so that this catalog can be used
+    // for the next incremental crawl
+    retrieveTableDdlTimes(informationSchemaViews.getExtTableDdlTimesSql());
+
+    if (previousCatalog == null)
+    {
+      return unchangedTables;
+    }
+    if (options.getChildTableFilterDepth() > 0
+        || options.getParentTableFilterDepth() > 0)
+    {
+      LOGGER
+        .log(Level.INFO,
+             "Not reusing tables from the previous crawl, since related tables are being included");
+      return unchangedTables;
+    }
+
+    // Find tables with the same last DDL time as before
+    final Set<Table> candidateTables = new HashSet<>();
+    for (final MutableTable table: catalog.getAllTables())
+    {
+      final Object lastDdlTime = table.getAttribute(LAST_DDL_TIME);
+      final Optional<? extends Table> previousTable = previousCatalog
+        .lookupTable(table.getSchema(), table.getName());
+      if (lastDdlTime != null && previousTable.isPresent()
+          && previousTable.get() instanceof MutableTable
+          && Objects.equals(lastDdlTime,
+                            previousTable.get().getAttribute(LAST_DDL_TIME)))
+      {
+        candidateTables.add(previousTable.get());
+      }
+    }
+
+    // Retrieve tables again if changed or new tables reference them now,
+    // since those foreign keys are not in the previous catalog
+    if (options.getSchemaInfoLevel().isRetrieveForeignKeys())
+    {
+      try
+      {
+        removeCandidatesRelatedToChangedTables(previousCatalog,
+                                               candidateTables);
+      }
+      catch (final SQLException e)
+      {
+        LOGGER
+          .log(Level.WARNING,
+               "Not reusing tables from the previous crawl, since foreign keys of changed tables could not be retrieved",
+               e);
+        return unchangedTables;
+      }
+    }
+
+    // Retrieve tables again if they are related to changed tables
+    boolean removedCandidate;
+    do
+    {
+      removedCandidate = false;
+      for (final Table table: new HashSet<>(candidateTables))
+      {
+        if (!isRelatedToCandidatesOnly(table, candidateTables))
+        {
+          candidateTables.remove(table);
+          removedCandidate = true;
+        }
+      }
+    } while (removedCandidate);
+
+    for (final Table table: candidateTables)
+    {
+      final MutableTable previousTable = (MutableTable) table;
+      catalog.removeTable(previousTable);
+      unchangedTables.add(previousTable);
+    }
+
+    LOGGER.log(Level.INFO,
+               new StringFormat("Reusing %d unchanged tables, and retrieving details for %d tables",
+                                unchangedTables.size(),
+                                catalog.getAllTables().size()));
+
+    return unchangedTables;
+  }
+
+  private boolean isRelatedToCandidatesOnly(final Table table,
+                                            final Set<Table> candidateTables)
+  {
+    for (final ForeignKey foreignKey: table.getForeignKeys())
+    {
+      for (final ForeignKeyColumnReference columnReference: foreignKey)
+      {
+        for (final Table relatedTable: new Table[] {
+                                                     columnReference
+                                                       .getPrimaryKeyColumn()
+                                                       .getParent(),
+                                                     columnReference
+                                                       .getForeignKeyColumn()
+                                                       .getParent() })
+        {
+          // Partial tables were not crawled, so they cannot change
+          if (relatedTable instanceof MutableTable
+              && !candidateTables.contains(relatedTable))
+          {
+            return false;
+          }
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Removes candidate tables that are referenced by, or reference, a
+   * table that will be retrieved. The foreign keys of these tables are
+   * read from the database, since they may have changed since the
+   * previous crawl.
+   */
+  private void removeCandidatesRelatedToChangedTables(final Catalog previousCatalog,
+                                                      final Set<Table> candidateTables)
+    throws SQLException
+  {
+    final List<MutableTable> changedTables = new ArrayList<>();
+    for (final MutableTable table: catalog.getAllTables())
+    {
+      final Optional<? extends Table> previousTable = previousCatalog
+        .lookupTable(table.getSchema(), table.getName());
+      if (!previousTable.isPresent()
+          || !candidateTables.contains(previousTable.get()))
+      {
+        changedTables.add(table);
+      }
+    }
+    if (candidateTables.isEmpty() || changedTables.isEmpty())
+    {
+      return;
+    }
+
+    final DatabaseMetaData metaData = getMetaData();
+    for (final MutableTable table: changedTables)
+    {
+      final String catalogName = unquotedName(table.getSchema()
+        .getCatalogName());
+      final String schemaName = unquotedName(table.getSchema().getName());
+      final String tableName = unquotedName(table.getName());
+      try (final MetadataResultSet results = new MetadataResultSet(metaData
+        .getImportedKeys(catalogName, schemaName, tableName),
+                                                                   getRetrieverConnection());)
+      {
+        results.setSource("getImportedKeys");
+        removeRelatedCandidates(results, "PK", previousCatalog, candidateTables);
+      }
+      try (final MetadataResultSet results = new MetadataResultSet(metaData
+        .getExportedKeys(catalogName, schemaName, tableName),
+                                                                   getRetrieverConnection());)
+      {
+        results.setSource("getExportedKeys");
+        removeRelatedCandidates(results, "FK", previousCatalog, candidateTables);
+      }
+    }
+  }
+
+  private void removeRelatedCandidates(final MetadataResultSet results,
+                                       final String prefix,
+                                       final Catalog previousCatalog,
+                                       final Set<Table> candidateTables)
+    throws SQLException
+  {
+    while (results.next())
+    {
+      final String catalogName = nameQuotedName(results
+        .getString(prefix + "TABLE_CAT"));
+      final String schemaName = nameQuotedName(results
+        .getString(prefix + "TABLE_SCHEM"));
+      final String tableName = nameQuotedName(results
+        .getString(prefix + "TABLE_NAME"));
+
+      final Optional<MutableTable> relatedTable = lookupTable(catalogName,
+                                                              schemaName,
+                                                              tableName);
+      if (!relatedTable.isPresent())
+      {
+        continue;
+      }
+      final Optional<? extends Table> previousTable = previousCatalog
+        .lookupTable(relatedTable.get().getSchema(),
+                     relatedTable.get().getName());
+      if (previousTable.isPresent()
+          && candidateTables.remove(previousTable.get()))
+      {
+        LOGGER.log(Level.FINE,
+                   new StringFormat("Retrieving unchanged table <%s> again, since it is related to a changed table",
+                                    relatedTable.get()));
+      }
+    }
+  }
+
+  private void retrieveTableDdlTimes(final Query tableDdlTimesSql)
+    throws SQLException
+  {
+    final Connection connection = getDatabaseConnection();
+    try (final Statement statement = connection.createStatement();
+        final MetadataResultSet results = new MetadataResultSet(tableDdlTimesSql,
+                                                                statement,
+                                                                getSchemaInclusionRule(),
+                                                                getRetrieverConnection());)
+    {
+      results.setDescription("retrieveTableDdlTimes");
+      while (results.next())
+      {
+        final String catalogName = nameQuotedName(results
+          .getString("TABLE_CATALOG"));
+        final String schemaName = nameQuotedName(results.getString("TABLE_SCHEMA"));
+        final String tableName = nameQuotedName(results.getString("TABLE_NAME"));
+
+        final Optional<MutableTable> tableOptional = lookupTable(catalogName,
+                                                                 schemaName,
+                                                                 tableName);
+        if (!tableOptional.isPresent())
+        {
+          LOGGER.log(Level.FINE,
+                     new StringFormat("Cannot find table <%s.%s.%s>",
+                                      catalogName,
+                                      schemaName,
+                                      tableName));
+          continue;
+        }
+
+        final MutableTable table = tableOptional.get();
+        table.setAttribute(LAST_DDL_TIME, results.getString(LAST_DDL_TIME));
+      }
+    }
+  }
+
+}
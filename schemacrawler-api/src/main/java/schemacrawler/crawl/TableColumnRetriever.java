@@ -38,6 +38,7 @@ import java.sql.Statement;
 import java.util.Optional;
 import java.util.logging.Level;
 
+import schemacrawler.crawl.AdaptiveRetrievalStrategies.RetrievalType;
 import schemacrawler.filter.InclusionRuleFilter;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.SchemaReference;
@@ -85,6 +86,8 @@ final class TableColumnRetriever
       return;
     }
 
+    final AdaptiveRetrievalStrategies retrievalStrategies = getRetrieverConnection()
+      .getAdaptiveRetrievalStrategies();
     final MetadataRetrievalStrategy tableColumnRetrievalStrategy = getRetrieverConnection()
       .getTableColumnRetrievalStrategy();
     switch (tableColumnRetrievalStrategy)
@@ -99,7 +102,22 @@ final class TableColumnRetriever
       case metadata_all:
         LOGGER.log(Level.INFO,
                    "Retrieving table columns, using fast meta-data retrieval");
-        retrieveColumnsFromMetadataForAllTables(allTables, columnFilter);
+        try
+        {
+          retrieveColumnsFromMetadataForAllTables(allTables, columnFilter);
+        }
+        catch (final SQLException e)
+        {
+          if (!retrievalStrategies.isAdaptive(RetrievalType.table_columns))
+          {
+            throw e;
+          }
+          LOGGER.log(Level.WARNING,
+                     "Could not retrieve table columns using fast meta-data retrieval",
+                     e);
+          fallBack(RetrievalType.table_columns);
+          retrieveColumnsFromMetadata(allTables, columnFilter);
+        }
         break;
 
       case metadata:
@@ -141,7 +159,8 @@ final class TableColumnRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(hiddenColumnsSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getRetrieverConnection());)
     {
       results.setDescription("retrieveHiddenColumns");
       while (results.next())
@@ -278,7 +297,8 @@ final class TableColumnRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(tableColumnsSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getRetrieverConnection());)
     {
       results.setDescription("retrieveColumnsFromDataDictionary");
       while (results.next())
@@ -299,8 +319,10 @@ final class TableColumnRetriever
         .getColumns(unquotedName(table.getSchema().getCatalogName()),
                     unquotedName(table.getSchema().getName()),
                     unquotedName(table.getName()),
-                    null));)
+                    null),
+                                                                   getRetrieverConnection());)
       {
+        results.setSource("getColumns");
         while (results.next())
         {
           createTableColumn(results, allTables, columnFilter, false);
@@ -324,8 +346,12 @@ final class TableColumnRetriever
       .getColumns(null,
                   null,
                   "%",
-                  "%"));)
+                  "%"),
+                                                                 getRetrieverConnection());)
     {
+      results.setSource("getColumns");
+      results.setFetchSize(getRetrieverConnection()
+        .getBulkMetadataFetchSize());
       while (results.next())
       {
         createTableColumn(results, allTables, columnFilter, false);
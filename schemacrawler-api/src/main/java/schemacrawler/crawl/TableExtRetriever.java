@@ -99,7 +99,8 @@ final class TableExtRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(columnAttributesSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getRetrieverConnection());)
     {
 
       while (results.next())
@@ -181,7 +182,8 @@ final class TableExtRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(tableAttributesSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getRetrieverConnection());)
     {
 
       while (results.next())
@@ -250,7 +252,8 @@ final class TableExtRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(extIndexColumnsInformationSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getRetrieverConnection());)
     {
 
       while (results.next())
@@ -357,7 +360,8 @@ final class TableExtRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(extIndexesInformationSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getRetrieverConnection());)
     {
 
       while (results.next())
@@ -448,7 +452,8 @@ final class TableExtRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(extPrimaryKeysSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getRetrieverConnection());)
     {
       while (results.next())
       {
@@ -499,8 +504,10 @@ final class TableExtRetriever
       .getColumnPrivileges(null,
                            null,
                            "%",
-                           "%"));)
+                           "%"),
+                                                                 getRetrieverConnection());)
     {
+      results.setSource("getColumnPrivileges");
       createPrivileges(results, true);
     }
     catch (final Exception e)
@@ -542,7 +549,8 @@ final class TableExtRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(tableDefinitionsInformationSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getRetrieverConnection());)
     {
 
       while (results.next())
@@ -590,8 +598,10 @@ final class TableExtRetriever
     try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
       .getTablePrivileges(null,
                           null,
-                          "%"));)
+                          "%"),
+                                                                 getRetrieverConnection());)
     {
+      results.setSource("getTablePrivileges");
       createPrivileges(results, false);
     }
     catch (final Exception e)
@@ -629,7 +639,8 @@ final class TableExtRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(triggerInformationSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getRetrieverConnection());)
     {
 
       while (results.next())
@@ -727,7 +738,8 @@ final class TableExtRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(viewInformationSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getRetrieverConnection());)
     {
 
       while (results.next())
@@ -39,6 +39,7 @@ import java.util.Collection;
 import java.util.Optional;
 import java.util.logging.Level;
 
+import schemacrawler.crawl.AdaptiveRetrievalStrategies.RetrievalType;
 import schemacrawler.filter.InclusionRuleFilter;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.SchemaReference;
@@ -91,6 +92,13 @@ final class TableRetriever
       return;
     }
 
+    final AdaptiveRetrievalStrategies retrievalStrategies = getRetrieverConnection()
+      .getAdaptiveRetrievalStrategies();
+    retrievalStrategies.probeTables(getRetrieverConnection(),
+                                    schemas,
+                                    tableNamePattern,
+                                    getRetrieverConnection().getTableTypes()
+                                      .filterUnknown(tableTypes));
     final MetadataRetrievalStrategy tableRetrievalStrategy = getRetrieverConnection()
       .getTableRetrievalStrategy();
     switch (tableRetrievalStrategy)
@@ -107,10 +115,28 @@ final class TableRetriever
       case metadata_all:
         LOGGER.log(Level.INFO,
                    "Retrieving tables, using fast meta-data retrieval");
-        retrieveTablesFromMetadataForAllTables(schemas,
-                                               tableNamePattern,
-                                               tableTypes,
-                                               tableFilter);
+        try
+        {
+          retrieveTablesFromMetadataForAllTables(schemas,
+                                                 tableNamePattern,
+                                                 tableTypes,
+                                                 tableFilter);
+        }
+        catch (final SQLException e)
+        {
+          if (!retrievalStrategies.isAdaptive(RetrievalType.tables))
+          {
+            throw e;
+          }
+          LOGGER.log(Level.WARNING,
+                     "Could not retrieve tables using fast meta-data retrieval",
+                     e);
+          fallBack(RetrievalType.tables);
+          retrieveTablesFromMetadata(schemas,
+                                     tableNamePattern,
+                                     tableTypes,
+                                     tableFilter);
+        }
         break;
 
       case metadata:
@@ -199,7 +225,8 @@ final class TableRetriever
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results = new MetadataResultSet(tablesSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaInclusionRule(),
+                                                                getRetrieverConnection());)
     {
       results.setDescription("retrieveTablesFromDataDictionary");
       while (results.next())
@@ -236,7 +263,8 @@ final class TableRetriever
         .getTables(unquotedName(catalogName),
                    unquotedName(schemaName),
                    tableNamePattern,
-                   filteredTableTypes));)
+                   filteredTableTypes),
+                                                                   getRetrieverConnection());)
       {
         results.setDescription("retrieveTables");
         while (results.next())
@@ -266,8 +294,11 @@ final class TableRetriever
       .getTables(null,
                  null,
                  tableNamePattern,
-                 filteredTableTypes));)
+                 filteredTableTypes),
+                                                                 getRetrieverConnection());)
     {
+      results.setFetchSize(getRetrieverConnection()
+        .getBulkMetadataFetchSize());
       results.setDescription("retrieveTables");
       while (results.next())
       {
@@ -0,0 +1,266 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+
+import schemacrawler.schema.Schema;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerSQLException;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Splits tables into shards, and retrieves details for each shard on
+ * its own connection and thread. Shards are made by schema, or if there
+ * are fewer schemas than connections, into as many buckets as there
+ * are connections. Only per-table meta-data retrieval benefits from
+ * sharding, since bulk retrieval strategies get details for all tables
+ * in a single call.
+ *
+ * @author Sualeh Fatehi
+ */
+final class TableShards
+{
+
+  @FunctionalInterface
+  interface ShardTask
+  {
+
+    void retrieve(RetrieverConnection retrieverConnection,
+                  NamedObjectList<MutableTable> shard)
+      throws Exception;
+
+  }
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(TableShards.class.getName());
+
+  static List<NamedObjectList<MutableTable>> split(final NamedObjectList<MutableTable> allTables,
+                                                   final int numberOfShards)
+  {
+    final Map<Schema, NamedObjectList<MutableTable>> schemaShards = new LinkedHashMap<>();
+    for (final MutableTable table: allTables)
+    {
+      schemaShards.computeIfAbsent(table.getSchema(),
+                                   schema -> new NamedObjectList<>())
+        .add(table);
+    }
+    if (schemaShards.size() >= numberOfShards)
+    {
+      return new ArrayList<>(schemaShards.values());
+    }
+
+    final List<NamedObjectList<MutableTable>> shards = new ArrayList<>();
+    for (int i = 0; i < Math.min(numberOfShards, allTables.size()); i++)
+    {
+      shards.add(new NamedObjectList<>());
+    }
+    int i = 0;
+    for (final MutableTable table: allTables)
+    {
+      shards.get(i % shards.size()).add(table);
+      i++;
+    }
+    return shards;
+  }
+
+  private final RetrieverConnectionPool connectionPool;
+  private final ExecutorService executorService;
+
+  /**
+   * Tables are not sharded, and details are retrieved on the caller's
+   * connection.
+   */
+  TableShards()
+  {
+    connectionPool = null;
+    executorService = null;
+  }
+
+  /**
+   * Tables are sharded, and details for shards are retrieved on
+   * connections from the pool, using helper threads from the executor.
+   */
+  TableShards(final RetrieverConnectionPool connectionPool,
+              final ExecutorService executorService)
+  {
+    this.connectionPool = requireNonNull(connectionPool,
+                                         "No connection pool provided");
+    this.executorService = requireNonNull(executorService,
+                                          "No executor provided");
+  }
+
+  /**
+   * Retrieves table details, one shard at a time. The caller's
+   * connection always works on shards, and helpers work on the
+   * remaining shards only if they can get a connection from the pool
+   * without waiting, so retrieval cannot deadlock even when the pool is
+   * exhausted.
+   *
+   * @param retrieverConnection
+   *        Connection held by the caller
+   * @param allTables
+   *        Tables to retrieve details for
+   * @param retrievalStrategy
+   *        Retrieval strategy for the details
+   * @param shardTask
+   *        Retrieves details for one shard of tables
+   */
+  void retrieve(final RetrieverConnection retrieverConnection,
+                final NamedObjectList<MutableTable> allTables,
+                final MetadataRetrievalStrategy retrievalStrategy,
+                final ShardTask shardTask)
+    throws SchemaCrawlerException
+  {
+    if (connectionPool == null
+        || retrievalStrategy != MetadataRetrievalStrategy.metadata
+        || connectionPool.getMaxConnections() == 1)
+    {
+      run(shardTask, retrieverConnection, allTables);
+      return;
+    }
+
+    final Queue<NamedObjectList<MutableTable>> shards = new ConcurrentLinkedQueue<>(split(allTables,
+                                                                                          connectionPool
+                                                                                            .getMaxConnections()));
+    LOGGER.log(Level.INFO,
+               new StringFormat("Retrieving details for %d tables in %d shards",
+                                allTables.size(),
+                                shards.size()));
+
+    final int numberOfHelpers = Math.min(shards.size(),
+                                         connectionPool.getMaxConnections())
+                                - 1;
+    final List<Future<Void>> helpers = new ArrayList<>();
+    for (int i = 0; i < numberOfHelpers; i++)
+    {
+      helpers.add(executorService.submit(() -> {
+        final Optional<RetrieverConnection> optionalConnection = connectionPool
+          .tryBorrow();
+        if (optionalConnection.isPresent())
+        {
+          try
+          {
+            drain(shards, shardTask, optionalConnection.get());
+          }
+          finally
+          {
+            connectionPool.release(optionalConnection.get());
+          }
+        }
+        return null;
+      }));
+    }
+
+    try
+    {
+      drain(shards, shardTask, retrieverConnection);
+      for (final Future<Void> helper: helpers)
+      {
+        helper.get();
+      }
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerException("Interrupted while retrieving table details",
+                                       e);
+    }
+    catch (final ExecutionException e)
+    {
+      final Throwable cause = e.getCause();
+      if (cause instanceof SchemaCrawlerException)
+      {
+        throw (SchemaCrawlerException) cause;
+      }
+      else
+      {
+        throw new SchemaCrawlerException("Exception retrieving table details",
+                                         cause);
+      }
+    }
+    finally
+    {
+      for (final Future<Void> helper: helpers)
+      {
+        helper.cancel(true);
+      }
+    }
+  }
+
+  private void drain(final Queue<NamedObjectList<MutableTable>> shards,
+                     final ShardTask shardTask,
+                     final RetrieverConnection retrieverConnection)
+    throws SchemaCrawlerException
+  {
+    NamedObjectList<MutableTable> shard;
+    while ((shard = shards.poll()) != null)
+    {
+      run(shardTask, retrieverConnection, shard);
+    }
+  }
+
+  private void run(final ShardTask shardTask,
+                   final RetrieverConnection retrieverConnection,
+                   final NamedObjectList<MutableTable> shard)
+    throws SchemaCrawlerException
+  {
+    try
+    {
+      shardTask.retrieve(retrieverConnection, shard);
+    }
+    catch (final SchemaCrawlerSQLException e)
+    {
+      throw new SchemaCrawlerException(e.getMessage(), e.getCause());
+    }
+    catch (final SchemaCrawlerException e)
+    {
+      throw e;
+    }
+    catch (final Exception e)
+    {
+      throw new SchemaCrawlerException("Exception retrieving table details",
+                                       e);
+    }
+  }
+
+}
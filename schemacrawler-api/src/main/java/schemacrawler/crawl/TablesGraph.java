@@ -48,9 +48,12 @@ final class TablesGraph
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(TablesGraph.class.getName());
 
+  private final NamedObjectList<MutableTable> tables;
+
   TablesGraph(final NamedObjectList<MutableTable> tables)
   {
     super("catalog");
+    this.tables = tables;
 
     if (tables == null)
     {
@@ -102,6 +105,10 @@ final class TablesGraph
           sortIndex++;
         }
       }
+      if (tables != null)
+      {
+        tables.invalidateSortOrder();
+      }
     }
     catch (final GraphException e)
     {
@@ -45,6 +45,7 @@ public final class SchemaReference
   private final String catalogName;
   private final String schemaName;
   private final Map<String, Object> attributeMap = new HashMap<>();
+  private transient String fullName;
 
   public SchemaReference()
   {
@@ -173,6 +174,17 @@ public final class SchemaReference
 
   @Override
   public String getFullName()
+  {
+    String fullName = this.fullName;
+    if (fullName == null)
+    {
+      fullName = buildFullName();
+      this.fullName = fullName;
+    }
+    return fullName;
+  }
+
+  private String buildFullName()
   {
     final StringBuilder buffer = new StringBuilder(64);
 
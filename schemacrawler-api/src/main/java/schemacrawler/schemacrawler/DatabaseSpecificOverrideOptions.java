@@ -47,6 +47,8 @@ public final class DatabaseSpecificOverrideOptions
   private final MetadataRetrievalStrategy pkRetrievalStrategy;
   private final MetadataRetrievalStrategy indexRetrievalStrategy;
   private final MetadataRetrievalStrategy fkRetrievalStrategy;
+  private final int metadataFetchSize;
+  private final int bulkMetadataFetchSize;
   private final String identifierQuoteString;
   private final InformationSchemaViews informationSchemaViews;
 
@@ -66,11 +68,18 @@ public final class DatabaseSpecificOverrideOptions
     pkRetrievalStrategy = bldr.getPrimaryKeyRetrievalStrategy();
     indexRetrievalStrategy = bldr.getIndexRetrievalStrategy();
     fkRetrievalStrategy = bldr.getForeignKeyRetrievalStrategy();
+    metadataFetchSize = bldr.getMetadataFetchSize();
+    bulkMetadataFetchSize = bldr.getBulkMetadataFetchSize();
     identifierQuoteString = bldr.getIdentifierQuoteString();
     informationSchemaViews = bldr.getInformationSchemaViewsBuilder()
       .toOptions();
   }
 
+  public int getBulkMetadataFetchSize()
+  {
+    return bulkMetadataFetchSize;
+  }
+
   public MetadataRetrievalStrategy getForeignKeyRetrievalStrategy()
   {
     return fkRetrievalStrategy;
@@ -95,6 +104,11 @@ public final class DatabaseSpecificOverrideOptions
     return informationSchemaViews;
   }
 
+  public int getMetadataFetchSize()
+  {
+    return metadataFetchSize;
+  }
+
   public MetadataRetrievalStrategy getPrimaryKeyRetrievalStrategy()
   {
     return pkRetrievalStrategy;
@@ -41,6 +41,10 @@ public class DatabaseSpecificOverrideOptionsBuilder
   private static final String SC_RETRIEVAL_PRIMARY_KEYS = "schemacrawler.schema.retrieval.strategy.primarykeys";
   private static final String SC_RETRIEVAL_INDEXES = "schemacrawler.schema.retrieval.strategy.indexes";
   private static final String SC_RETRIEVAL_FOREIGN_KEYS = "schemacrawler.schema.retrieval.strategy.foreignkeys";
+  private static final String SC_RETRIEVAL_FETCH_SIZE = "schemacrawler.schema.retrieval.fetchsize";
+  private static final String SC_RETRIEVAL_BULK_FETCH_SIZE = "schemacrawler.schema.retrieval.fetchsize.bulk";
+
+  private static final int DEFAULT_FETCH_SIZE = 20;
 
   private Optional<Boolean> supportsSchemas;
   private Optional<Boolean> supportsCatalogs;
@@ -49,6 +53,8 @@ public class DatabaseSpecificOverrideOptionsBuilder
   private MetadataRetrievalStrategy pkRetrievalStrategy;
   private MetadataRetrievalStrategy indexRetrievalStrategy;
   private MetadataRetrievalStrategy fkRetrievalStrategy;
+  private int metadataFetchSize;
+  private int bulkMetadataFetchSize;
   private String identifierQuoteString;
   private final InformationSchemaViewsBuilder informationSchemaViewsBuilder;
 
@@ -63,6 +69,8 @@ public class DatabaseSpecificOverrideOptionsBuilder
     pkRetrievalStrategy = MetadataRetrievalStrategy.metadata;
     indexRetrievalStrategy = MetadataRetrievalStrategy.metadata;
     fkRetrievalStrategy = MetadataRetrievalStrategy.metadata;
+    metadataFetchSize = DEFAULT_FETCH_SIZE;
+    bulkMetadataFetchSize = DEFAULT_FETCH_SIZE;
   }
 
   public DatabaseSpecificOverrideOptionsBuilder(final Config map)
@@ -117,9 +125,19 @@ public class DatabaseSpecificOverrideOptionsBuilder
     fkRetrievalStrategy = configProperties
       .getEnumValue(SC_RETRIEVAL_FOREIGN_KEYS, fkRetrievalStrategy);
 
+    withMetadataFetchSize(configProperties
+      .getIntegerValue(SC_RETRIEVAL_FETCH_SIZE, metadataFetchSize));
+    withBulkMetadataFetchSize(configProperties
+      .getIntegerValue(SC_RETRIEVAL_BULK_FETCH_SIZE, bulkMetadataFetchSize));
+
     return this;
   }
 
+  public int getBulkMetadataFetchSize()
+  {
+    return bulkMetadataFetchSize;
+  }
+
   public MetadataRetrievalStrategy getForeignKeyRetrievalStrategy()
   {
     return fkRetrievalStrategy;
@@ -140,6 +158,11 @@ public class DatabaseSpecificOverrideOptionsBuilder
     return informationSchemaViewsBuilder;
   }
 
+  public int getMetadataFetchSize()
+  {
+    return metadataFetchSize;
+  }
+
   public MetadataRetrievalStrategy getPrimaryKeyRetrievalStrategy()
   {
     return pkRetrievalStrategy;
@@ -210,6 +233,28 @@ public class DatabaseSpecificOverrideOptionsBuilder
     return new DatabaseSpecificOverrideOptions(this);
   }
 
+  /**
+   * Sets the fetch size for bulk metadata retrieval, that is, for
+   * INFORMATION_SCHEMA view queries, and for metadata calls that
+   * retrieve objects for all tables at once. A fetch size of zero
+   * leaves the choice to the JDBC driver.
+   *
+   * @param bulkMetadataFetchSize
+   *        Number of rows to fetch in a round trip to the database
+   */
+  public DatabaseSpecificOverrideOptionsBuilder withBulkMetadataFetchSize(final int bulkMetadataFetchSize)
+  {
+    if (bulkMetadataFetchSize < 0)
+    {
+      this.bulkMetadataFetchSize = DEFAULT_FETCH_SIZE;
+    }
+    else
+    {
+      this.bulkMetadataFetchSize = bulkMetadataFetchSize;
+    }
+    return this;
+  }
+
   public DatabaseSpecificOverrideOptionsBuilder withForeignKeyRetrievalStrategy(final MetadataRetrievalStrategy fkRetrievalStrategy)
   {
     if (fkRetrievalStrategy == null)
@@ -241,6 +286,27 @@ public class DatabaseSpecificOverrideOptionsBuilder
     return informationSchemaViewsBuilder;
   }
 
+  /**
+   * Sets the fetch size for metadata retrieval for a single table, or
+   * for a few objects. A fetch size of zero leaves the choice to the
+   * JDBC driver.
+   *
+   * @param metadataFetchSize
+   *        Number of rows to fetch in a round trip to the database
+   */
+  public DatabaseSpecificOverrideOptionsBuilder withMetadataFetchSize(final int metadataFetchSize)
+  {
+    if (metadataFetchSize < 0)
+    {
+      this.metadataFetchSize = DEFAULT_FETCH_SIZE;
+    }
+    else
+    {
+      this.metadataFetchSize = metadataFetchSize;
+    }
+    return this;
+  }
+
   public DatabaseSpecificOverrideOptionsBuilder withoutIdentifierQuoteString()
   {
     identifierQuoteString = null;
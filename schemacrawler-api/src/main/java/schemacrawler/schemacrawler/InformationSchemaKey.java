@@ -46,6 +46,8 @@ public enum InformationSchemaKey
  EXT_PRIMARY_KEYS(METADATA_EXTENSION),
  EXT_SYNONYMS(METADATA_EXTENSION),
  EXT_TABLES(METADATA_EXTENSION),
+ EXT_TABLE_DDL_TIMES(METADATA_EXTENSION),
+ EXT_TABLE_ROW_COUNTS(METADATA_EXTENSION),
  EXT_TABLE_CONSTRAINTS(METADATA_EXTENSION),
  FOREIGN_KEYS(DATABASE_METADATA),
  INDEXES(DATABASE_METADATA),
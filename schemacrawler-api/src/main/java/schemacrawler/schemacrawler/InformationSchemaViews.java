@@ -40,6 +40,8 @@ import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_PRIMARY_KEYS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_SYNONYMS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLES;
 import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_CONSTRAINTS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_DDL_TIMES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_ROW_COUNTS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.FOREIGN_KEYS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.INDEXES;
 import static schemacrawler.schemacrawler.InformationSchemaKey.OVERRIDE_TYPE_INFO;
@@ -192,6 +194,30 @@ public final class InformationSchemaViews
                      informationSchemaQueries.get(EXT_TABLE_CONSTRAINTS));
   }
 
+  /**
+   * Gets the table last DDL times SQL from the additional
+   * configuration.
+   *
+   * @return Table last DDL times SQL.
+   */
+  public Query getExtTableDdlTimesSql()
+  {
+    return new Query(EXT_TABLE_DDL_TIMES.name(),
+                     informationSchemaQueries.get(EXT_TABLE_DDL_TIMES));
+  }
+
+  /**
+   * Gets the estimated table row counts SQL from the additional
+   * configuration.
+   *
+   * @return Estimated table row counts SQL.
+   */
+  public Query getExtTableRowCountsSql()
+  {
+    return new Query(EXT_TABLE_ROW_COUNTS.name(),
+                     informationSchemaQueries.get(EXT_TABLE_ROW_COUNTS));
+  }
+
   /**
    * Gets the table definitions SQL from the additional configuration.
    *
@@ -281,6 +307,18 @@ public final class InformationSchemaViews
     return new Query(SEQUENCES.name(), informationSchemaQueries.get(SEQUENCES));
   }
 
+  /**
+   * Gets the SQL for an information schema view, as provided.
+   *
+   * @param key
+   *        Information schema view
+   * @return SQL, or null if none was provided
+   */
+  public String getSql(final InformationSchemaKey key)
+  {
+    return informationSchemaQueries.get(key);
+  }
+
   /**
    * Gets the synonyms SQL from the additional configuration.
    *
@@ -397,6 +435,16 @@ public final class InformationSchemaViews
     return informationSchemaQueries.containsKey(EXT_TABLE_CONSTRAINTS);
   }
 
+  public boolean hasExtTableDdlTimesSql()
+  {
+    return informationSchemaQueries.containsKey(EXT_TABLE_DDL_TIMES);
+  }
+
+  public boolean hasExtTableRowCountsSql()
+  {
+    return informationSchemaQueries.containsKey(EXT_TABLE_ROW_COUNTS);
+  }
+
   public boolean hasExtTablesSql()
   {
     return informationSchemaQueries.containsKey(EXT_TABLES);
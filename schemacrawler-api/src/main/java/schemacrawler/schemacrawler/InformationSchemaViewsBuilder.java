@@ -40,6 +40,8 @@ import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_PRIMARY_KEYS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_SYNONYMS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLES;
 import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_CONSTRAINTS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_DDL_TIMES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_ROW_COUNTS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.FOREIGN_KEYS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.INDEXES;
 import static schemacrawler.schemacrawler.InformationSchemaKey.OVERRIDE_TYPE_INFO;
@@ -253,6 +255,30 @@ public final class InformationSchemaViewsBuilder
     return this;
   }
 
+  /**
+   * Sets the table last DDL times SQL.
+   *
+   * @param sql
+   *        Table last DDL times SQL.
+   */
+  public InformationSchemaViewsBuilder withExtTableDdlTimesSql(final String sql)
+  {
+    informationSchemaQueries.put(EXT_TABLE_DDL_TIMES, sql);
+    return this;
+  }
+
+  /**
+   * Sets the estimated table row counts SQL.
+   *
+   * @param sql
+   *        Estimated table row counts SQL.
+   */
+  public InformationSchemaViewsBuilder withExtTableRowCountsSql(final String sql)
+  {
+    informationSchemaQueries.put(EXT_TABLE_ROW_COUNTS, sql);
+    return this;
+  }
+
   /**
    * Sets the table definitions SQL.
    *
@@ -144,6 +144,16 @@ public final class RegularExpressionRule
     return true;
   }
 
+  /**
+   * Returns the regular expression for names to exclude.
+   *
+   * @return Regular expression for exclusion
+   */
+  public Pattern getExclusionPattern()
+  {
+    return patternExclude;
+  }
+
   @Override
   public Pattern getInclusionPattern()
   {
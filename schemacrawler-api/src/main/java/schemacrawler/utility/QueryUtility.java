@@ -29,6 +29,7 @@ package schemacrawler.utility;
 
 
 import static java.util.Objects.requireNonNull;
+import static sf.util.DatabaseUtility.createStatement;
 import static sf.util.DatabaseUtility.executeSql;
 import static sf.util.DatabaseUtility.executeSqlForLong;
 import static sf.util.DatabaseUtility.executeSqlForScalar;
@@ -38,6 +39,7 @@ import static sf.util.Utility.isBlank;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.sql.Statement;
 import java.util.Collections;
 import java.util.HashMap;
@@ -101,6 +103,18 @@ public final class QueryUtility
     return executeSqlForLong(connection, sql);
   }
 
+  public static long executeForLong(final Query query,
+                                    final Statement statement,
+                                    final Table table)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(query, "No query provided");
+    final String sql = getQuery(query, table, true);
+    LOGGER.log(Level.FINE,
+               new StringFormat("Executing %s: %n%s", query.getName(), sql));
+    return executeSqlForLong(statement, sql);
+  }
+
   public static Object executeForScalar(final Query query,
                                         final Connection connection)
     throws SchemaCrawlerException
@@ -124,6 +138,151 @@ public final class QueryUtility
     return executeSqlForScalar(connection, sql);
   }
 
+  /**
+   * Executes a query that returns a scalar value for each of a number
+   * of tables. The queries for the tables are combined with UNION ALL
+   * into batches, so that values for many tables are obtained in a few
+   * round trips. Tables are left out of the results if their batch
+   * could not be executed, or if the query returned more than one row
+   * for the table, so that the caller can query them one at a time. The
+   * query should name its column, since some databases do not allow
+   * derived tables with unnamed columns. If the connection is in a
+   * transaction, each batch is run inside a savepoint, so that a failed
+   * batch does not abort the transaction. If the database does not
+   * support savepoints, no batches are run in a transaction.
+   *
+   * @param query
+   *        Query that returns a single column, and at most one row, for
+   *        a table
+   * @param connection
+   *        Connection to execute the query on
+   * @param tables
+   *        Tables to execute the query for
+   * @param batchSize
+   *        Number of tables to query in each round trip
+   * @return Scalar values for the tables, which may be null if the query
+   *         did not return a row for the table
+   */
+  public static Map<Table, Object> executeForScalars(final Query query,
+                                                     final Connection connection,
+                                                     final List<? extends Table> tables,
+                                                     final int batchSize)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(query, "No query provided");
+    requireNonNull(tables, "No tables provided");
+
+    final Map<Table, Object> scalars = new HashMap<>();
+    if (tables.isEmpty())
+    {
+      return scalars;
+    }
+
+    final int tablesPerBatch = Math.max(1, batchSize);
+    try (final Statement statement = createStatement(connection);)
+    {
+      final boolean isInTransaction = !connection.getAutoCommit();
+      if (isInTransaction && !connection.getMetaData().supportsSavepoints())
+      {
+        LOGGER.log(Level.FINE,
+                   new StringFormat("Not batching %s, since the connection is in a transaction without savepoints",
+                                    query.getName()));
+        return scalars;
+      }
+
+      for (int i = 0; i < tables.size(); i = i + tablesPerBatch)
+      {
+        executeForScalars(query,
+                          statement,
+                          isInTransaction,
+                          tables.subList(i,
+                                         Math.min(i + tablesPerBatch,
+                                                  tables.size())),
+                          scalars);
+      }
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerException(query.getName(), e);
+    }
+    return scalars;
+  }
+
+  private static void executeForScalars(final Query query,
+                                        final Statement statement,
+                                        final boolean isInTransaction,
+                                        final List<? extends Table> batch,
+                                        final Map<Table, Object> scalars)
+    throws SQLException
+  {
+    final StringBuilder buffer = new StringBuilder(1024);
+    for (int i = 0; i < batch.size(); i++)
+    {
+      if (i > 0)
+      {
+        buffer.append(System.lineSeparator()).append("UNION ALL")
+          .append(System.lineSeparator());
+      }
+      buffer.append("SELECT ").append(i)
+        .append(" AS TABLE_INDEX, SCALAR_QUERY.* FROM (")
+        .append(getQuery(query, batch.get(i), true)).append(") SCALAR_QUERY");
+    }
+    final String sql = buffer.toString();
+    LOGGER.log(Level.FINE,
+               new StringFormat("Executing %s for %d tables: %n%s",
+                                query.getName(),
+                                batch.size(),
+                                sql));
+
+    // Failures are expected on databases that do not allow the query to
+    // be used as a derived table, and the caller falls back to
+    // querying one table at a time
+    final Connection connection = statement.getConnection();
+    final Savepoint savepoint;
+    if (isInTransaction)
+    {
+      savepoint = connection.setSavepoint();
+    }
+    else
+    {
+      savepoint = null;
+    }
+    try (final ResultSet results = statement.executeQuery(sql);)
+    {
+      readScalars(query, results, batch, scalars);
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.FINE,
+                 new StringFormat("Could not execute %s for %d tables",
+                                  query.getName(),
+                                  batch.size()),
+                 e);
+      if (savepoint != null)
+      {
+        connection.rollback(savepoint);
+      }
+      return;
+    }
+
+    // Some drivers do not support releasing savepoints, and the
+    // savepoint is released anyway when the transaction ends
+    if (savepoint != null)
+    {
+      try
+      {
+        connection.releaseSavepoint(savepoint);
+      }
+      catch (final SQLException e)
+      {
+        LOGGER.log(Level.FINE,
+                   new StringFormat("Could not release savepoint for %s",
+                                    query.getName()),
+                   e);
+      }
+    }
+  }
+
   private static String getColumnsListAsString(final List<Column> columns,
                                                final boolean omitLargeObjectColumns)
   {
@@ -213,6 +372,41 @@ public final class QueryUtility
     return sql;
   }
 
+  private static void readScalars(final Query query,
+                                  final ResultSet results,
+                                  final List<? extends Table> batch,
+                                  final Map<Table, Object> scalars)
+    throws SQLException
+  {
+    if (results.getMetaData().getColumnCount() != 2)
+    {
+      LOGGER.log(Level.FINE,
+                 new StringFormat("Too many columns of data returned for %s",
+                                  query.getName()));
+      return;
+    }
+
+    final Object[] values = new Object[batch.size()];
+    final int[] rowCounts = new int[batch.size()];
+    while (results.next())
+    {
+      final int index = results.getInt(1);
+      if (index >= 0 && index < values.length)
+      {
+        values[index] = results.getObject(2);
+        rowCounts[index] = rowCounts[index] + 1;
+      }
+    }
+
+    for (int i = 0; i < values.length; i++)
+    {
+      if (rowCounts[i] <= 1)
+      {
+        scalars.put(batch.get(i), values[i]);
+      }
+    }
+  }
+
   private QueryUtility()
   {
     // Prevent instantiation
@@ -178,6 +178,20 @@ public final class DatabaseUtility
     throws SchemaCrawlerException
   {
     final Object longValue = executeSqlForScalar(connection, sql);
+    return toLong(longValue);
+  }
+
+  public static long executeSqlForLong(final Statement statement,
+                                       final String sql)
+    throws SchemaCrawlerException
+  {
+    final Object longValue = executeSqlForScalar(statement, sql);
+    return toLong(longValue);
+  }
+
+  private static long toLong(final Object longValue)
+    throws SchemaCrawlerException
+  {
     // Error checking
     if (longValue == null || !(longValue instanceof Number))
     {
@@ -191,8 +205,26 @@ public final class DatabaseUtility
                                            final String sql)
     throws SchemaCrawlerException
   {
-    try (final Statement statement = createStatement(connection);
-        final ResultSet resultSet = executeSql(statement, sql);)
+    try (final Statement statement = createStatement(connection);)
+    {
+      return executeSqlForScalar(statement, sql);
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerException(sql, e);
+    }
+  }
+
+  /**
+   * Executes SQL on a statement that has been created by the caller,
+   * so that the caller can set a query timeout, or cancel the query
+   * from another thread. The statement is not closed.
+   */
+  public static Object executeSqlForScalar(final Statement statement,
+                                           final String sql)
+    throws SchemaCrawlerException
+  {
+    try (final ResultSet resultSet = executeSql(statement, sql);)
     {
       if (resultSet == null)
       {
@@ -38,8 +38,11 @@ import java.time.Instant;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.function.Supplier;
 
@@ -63,6 +66,11 @@ public final class StopWatch
       return duration;
     }
 
+    public String getTaskName()
+    {
+      return taskName;
+    }
+
     @Override
     public String toString()
     {
@@ -98,6 +106,23 @@ public final class StopWatch
     return id;
   }
 
+  /**
+   * Gets the time taken by each task, in the order that the tasks were
+   * first run. Times for tasks that were run more than once are added
+   * up.
+   *
+   * @return Time taken by each task
+   */
+  public Map<String, Duration> getTaskDurations()
+  {
+    final Map<String, Duration> taskDurations = new LinkedHashMap<>();
+    for (final TaskInfo task: tasks)
+    {
+      taskDurations.merge(task.getTaskName(), task.getDuration(), Duration::plus);
+    }
+    return Collections.unmodifiableMap(taskDurations);
+  }
+
   /**
    * Return whether the stop watch is currently running.
    *
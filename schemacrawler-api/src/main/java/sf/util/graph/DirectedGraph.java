@@ -28,24 +28,40 @@ http://www.gnu.org/licenses/
 package sf.util.graph;
 
 
-import java.util.HashMap;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableCollection;
+import static java.util.Collections.unmodifiableSet;
+
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
+/**
+ * Simple directed graph. The graph keeps lists of incoming and
+ * outgoing edges for each vertex, so that graph algorithms can visit
+ * the edges of a vertex without scanning all of the edges in the
+ * graph. Vertices and edges are kept in the order that they are added.
+ */
 public class DirectedGraph<T extends Comparable<? super T>>
 {
 
   private final String name;
   private final Map<T, Vertex<T>> verticesMap;
   private final Set<DirectedEdge<T>> edges;
+  private final Map<Vertex<T>, Set<DirectedEdge<T>>> incomingEdges;
+  private final Map<Vertex<T>, Set<DirectedEdge<T>>> outgoingEdges;
 
   public DirectedGraph(final String name)
   {
     this.name = name;
-    verticesMap = new HashMap<>();
-    edges = new HashSet<>();
+    verticesMap = new LinkedHashMap<>();
+    edges = new LinkedHashSet<>();
+    incomingEdges = new LinkedHashMap<>();
+    outgoingEdges = new LinkedHashMap<>();
   }
 
   /**
@@ -62,7 +78,13 @@ public class DirectedGraph<T extends Comparable<? super T>>
   {
     if (!from.equals(to))
     {
-      edges.add(new DirectedEdge<>(addVertex(from), addVertex(to)));
+      final DirectedEdge<T> edge = new DirectedEdge<>(addVertex(from),
+                                                      addVertex(to));
+      if (edges.add(edge))
+      {
+        outgoingEdges.get(edge.getFrom()).add(edge);
+        incomingEdges.get(edge.getTo()).add(edge);
+      }
     }
   }
 
@@ -84,6 +106,8 @@ public class DirectedGraph<T extends Comparable<? super T>>
     {
       vertex = new Vertex<>(value);
       verticesMap.put(value, vertex);
+      incomingEdges.put(vertex, new LinkedHashSet<>());
+      outgoingEdges.put(vertex, new LinkedHashSet<>());
     }
     return vertex;
   }
@@ -97,15 +121,7 @@ public class DirectedGraph<T extends Comparable<? super T>>
   {
     Objects.requireNonNull(vertexTo);
 
-    final Set<DirectedEdge<T>> incomingEdges = new HashSet<>();
-    for (final DirectedEdge<T> edge: edges)
-    {
-      if (edge.getTo().equals(vertexTo))
-      {
-        incomingEdges.add(edge);
-      }
-    }
-    return incomingEdges;
+    return new HashSet<>(incomingEdges(vertexTo));
   }
 
   /**
@@ -120,15 +136,7 @@ public class DirectedGraph<T extends Comparable<? super T>>
   {
     Objects.requireNonNull(vertexFrom);
 
-    final Set<DirectedEdge<T>> outgoingEdges = new HashSet<>();
-    for (final DirectedEdge<T> edge: edges)
-    {
-      if (edge.getFrom().equals(vertexFrom))
-      {
-        outgoingEdges.add(edge);
-      }
-    }
-    return outgoingEdges;
+    return new HashSet<>(outgoingEdges(vertexFrom));
   }
 
   @Override
@@ -164,4 +172,43 @@ public class DirectedGraph<T extends Comparable<? super T>>
     return new HashSet<>(verticesMap.values());
   }
 
+  /**
+   * Live, read-only view of the edges that end at a vertex, without
+   * making a copy.
+   *
+   * @param vertexTo
+   *        Vertex at the end of the edges
+   * @return Incoming edges, or an empty set if the vertex is not in the
+   *         graph
+   */
+  Set<DirectedEdge<T>> incomingEdges(final Vertex<T> vertexTo)
+  {
+    return unmodifiableSet(incomingEdges.getOrDefault(vertexTo, emptySet()));
+  }
+
+  /**
+   * Live, read-only view of the edges that start at a vertex, without
+   * making a copy.
+   *
+   * @param vertexFrom
+   *        Vertex at the start of the edges
+   * @return Outgoing edges, or an empty set if the vertex is not in the
+   *         graph
+   */
+  Set<DirectedEdge<T>> outgoingEdges(final Vertex<T> vertexFrom)
+  {
+    return unmodifiableSet(outgoingEdges.getOrDefault(vertexFrom, emptySet()));
+  }
+
+  /**
+   * Live, read-only view of the vertices of the graph, in the order
+   * that they were added, without making a copy.
+   *
+   * @return Vertices
+   */
+  Collection<Vertex<T>> vertices()
+  {
+    return unmodifiableCollection(verticesMap.values());
+  }
+
 }
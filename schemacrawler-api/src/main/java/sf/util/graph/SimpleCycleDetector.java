@@ -28,34 +28,20 @@ http://www.gnu.org/licenses/
 package sf.util.graph;
 
 
-import java.util.Collection;
 import java.util.Objects;
 
+/**
+ * Detects cycles in a directed graph. Since simple directed graphs do
+ * not allow self-loops, the graph contains a cycle if it has a strongly
+ * connected component of more than one vertex.
+ *
+ * @author Sualeh Fatehi
+ * @param <T>
+ *        Any comparable class
+ */
 public class SimpleCycleDetector<T extends Comparable<? super T>>
 {
 
-  enum TraversalState
-  {
-
-   notStarted("white"),
-   inProgress("lightgray"),
-   marked("red"),
-   complete("gray");
-
-    private final String color;
-
-    private TraversalState(final String color)
-    {
-      this.color = color;
-    }
-
-    public String getColor()
-    {
-      return color;
-    }
-
-  }
-
   private final DirectedGraph<T> graph;
 
   public SimpleCycleDetector(final DirectedGraph<T> graph)
@@ -70,58 +56,8 @@ public class SimpleCycleDetector<T extends Comparable<? super T>>
    */
   public boolean containsCycle()
   {
-    final Collection<Vertex<T>> vertices = clearTraversalStates();
-    for (final Vertex<T> vertex: vertices)
-    {
-      if (vertex.getAttribute("traversalstate") == TraversalState.notStarted)
-      {
-        if (visitForCyles(vertex))
-        {
-          return true;
-        }
-      }
-    }
-
-    return false;
-  }
-
-  private Collection<Vertex<T>> clearTraversalStates()
-  {
-    final Collection<Vertex<T>> vertices = graph.vertexSet();
-    for (final Vertex<T> vertex: vertices)
-    {
-      vertex.putAttribute("traversalstate", TraversalState.notStarted);
-    }
-    return vertices;
-  }
-
-  private boolean visitForCyles(final Vertex<T> vertex)
-  {
-    vertex.putAttribute("traversalstate", TraversalState.inProgress);
-
-    for (final DirectedEdge<T> edge: graph.edgeSet())
-    {
-      if (edge.isFrom(vertex))
-      {
-        final Vertex<T> to = edge.getTo();
-        if (to.getAttribute("traversalstate") == TraversalState.inProgress)
-        {
-          to.putAttribute("traversalstate", TraversalState.marked);
-          return true;
-        }
-        else if (to.getAttribute("traversalstate") == TraversalState.notStarted)
-        {
-          if (visitForCyles(to))
-          {
-            return true;
-          }
-        }
-      }
-    }
-
-    vertex.putAttribute("traversalstate", TraversalState.complete);
-
-    return false;
+    return !new TarjanStronglyConnectedComponentFinder<>(graph)
+      .detectCycles().isEmpty();
   }
 
 }
@@ -31,10 +31,23 @@ package sf.util.graph;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+/**
+ * Topological sort, using <a href=
+ * "https://en.wikipedia.org/wiki/Topological_sorting#Kahn.27s_algorithm">
+ * Kahn's algorithm</a>. Vertices are sorted in levels - first all the
+ * vertices with no incoming edges, then the vertices that only have
+ * incoming edges from the first level, and so on. Vertices within a
+ * level are sorted by value, so that the sort order is deterministic.
+ *
+ * @author Sualeh Fatehi
+ * @param <T>
+ *        Any comparable class
+ */
 public class SimpleTopologicalSort<T extends Comparable<? super T>>
 {
 
@@ -48,105 +61,66 @@ public class SimpleTopologicalSort<T extends Comparable<? super T>>
   public List<T> topologicalSort()
     throws GraphException
   {
-    if (containsCycle())
-    {
-      throw new GraphException("Graph contains a cycle, so cannot be topologically sorted");
-    }
-
-    final Collection<Vertex<T>> vertices = graph.vertexSet();
+    final Collection<Vertex<T>> vertices = graph.vertices();
     final int collectionSize = vertices.size();
 
-    final Collection<DirectedEdge<T>> edges = new ArrayList<>(graph.edgeSet());
-    final List<T> sortedValues = new ArrayList<>(collectionSize);
-
-    while (!vertices.isEmpty())
+    // Count incoming edges, and find the vertices at the first level
+    final Map<Vertex<T>, Integer> inDegrees = new HashMap<>(collectionSize);
+    List<Vertex<T>> verticesAtLevel = new ArrayList<>();
+    for (final Vertex<T> vertex: vertices)
     {
-
-      final List<T> nodesAtLevel = new ArrayList<>(collectionSize);
-
-      // Remove unattached nodes
-      for (final Iterator<Vertex<T>> iterator = vertices.iterator(); iterator
-        .hasNext();)
+      final int inDegree = graph.incomingEdges(vertex).size();
+      if (inDegree == 0)
       {
-        final Vertex<T> vertex = iterator.next();
-        if (isUnattachedNode(vertex, edges))
-        {
-          nodesAtLevel.add(vertex.getValue());
-          iterator.remove();
-        }
+        verticesAtLevel.add(vertex);
       }
-
-      // Find all nodes at the current level
-      final List<Vertex<T>> startNodes = new ArrayList<>(collectionSize);
-      for (final Vertex<T> vertex: vertices)
+      else
       {
-        if (isStartNode(vertex, edges))
-        {
-          startNodes.add(vertex);
-        }
+        inDegrees.put(vertex, inDegree);
       }
+    }
 
-      for (final Vertex<T> vertex: startNodes)
+    final List<T> sortedValues = new ArrayList<>(collectionSize);
+    while (!verticesAtLevel.isEmpty())
+    {
+      final List<T> nodesAtLevel = new ArrayList<>(verticesAtLevel.size());
+      final List<Vertex<T>> verticesAtNextLevel = new ArrayList<>();
+      for (final Vertex<T> vertex: verticesAtLevel)
       {
         // Save the vertex value
         nodesAtLevel.add(vertex.getValue());
-        // Remove all out edges
-        dropOutEdges(vertex, edges);
-        // Remove the vertex itself
-        vertices.remove(vertex);
+        // Drop out edges, and find vertices that have no more incoming
+        // edges
+        for (final DirectedEdge<T> edge: graph.outgoingEdges(vertex))
+        {
+          final Vertex<T> to = edge.getTo();
+          final int inDegree = inDegrees.get(to) - 1;
+          if (inDegree == 0)
+          {
+            inDegrees.remove(to);
+            verticesAtNextLevel.add(to);
+          }
+          else
+          {
+            inDegrees.put(to, inDegree);
+          }
+        }
       }
 
       Collections.sort(nodesAtLevel);
       sortedValues.addAll(nodesAtLevel);
-    }
 
-    return sortedValues;
-  }
-
-  private boolean containsCycle()
-  {
-    final SimpleCycleDetector<T> cycleDetector = new SimpleCycleDetector<>(graph);
-    return cycleDetector.containsCycle();
-  }
-
-  private void dropOutEdges(final Vertex<T> vertex,
-                            final Collection<DirectedEdge<T>> edges)
-  {
-    for (final Iterator<DirectedEdge<T>> iterator = edges.iterator(); iterator
-      .hasNext();)
-    {
-      final DirectedEdge<T> edge = iterator.next();
-      if (edge.isFrom(vertex))
-      {
-        iterator.remove();
-      }
+      verticesAtLevel = verticesAtNextLevel;
     }
-  }
 
-  private boolean isStartNode(final Vertex<T> vertex,
-                              final Collection<DirectedEdge<T>> edges)
-  {
-    for (final DirectedEdge<T> edge: edges)
+    // Vertices on a cycle, or reachable from a cycle, never run out of
+    // incoming edges
+    if (!inDegrees.isEmpty())
     {
-      if (edge.isTo(vertex))
-      {
-        return false;
-      }
+      throw new GraphException("Graph contains a cycle, so cannot be topologically sorted");
     }
-    return true;
-  }
 
-  private boolean isUnattachedNode(final Vertex<T> vertex,
-                                   final Collection<DirectedEdge<T>> edges)
-  {
-    for (final DirectedEdge<T> edge: edges)
-    {
-      if (edge.isTo(vertex) || edge.isFrom(vertex))
-      {
-        return false;
-      }
-    }
-    return true;
+    return sortedValues;
   }
 
 }
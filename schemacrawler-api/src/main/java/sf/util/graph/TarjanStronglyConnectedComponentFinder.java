@@ -28,17 +28,23 @@ http://www.gnu.org/licenses/
 package sf.util.graph;
 
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Stack;
 
 /**
  * Implementation of <a href=
  * "https://en.wikipedia.org/wiki/Tarjan%27s_strongly_connected_components_algorithm">
- * Tarjan's algorithm</a>
+ * Tarjan's algorithm</a>. The depth-first search uses an explicit
+ * stack rather than recursion, so that long chains of foreign keys do
+ * not overflow the thread stack.
  *
  * @author Sualeh Fatehi
  * @param <T>
@@ -47,80 +53,123 @@ import java.util.Stack;
 public class TarjanStronglyConnectedComponentFinder<T extends Comparable<? super T>>
 {
 
+  /**
+   * Traversal state for a vertex that has been visited.
+   */
+  private static final class TraversalState<T>
+  {
+
+    private final int index;
+    private int lowlink;
+    private boolean onStack;
+    private final Iterator<DirectedEdge<T>> outgoingEdges;
+
+    TraversalState(final int index,
+                   final Iterator<DirectedEdge<T>> outgoingEdges)
+    {
+      this.index = index;
+      lowlink = index;
+      onStack = true;
+      this.outgoingEdges = outgoingEdges;
+    }
+
+  }
+
   private final DirectedGraph<T> graph;
-  private final Collection<List<T>> stronglyConnectedComponents;
-  private final Stack<Vertex<T>> stack;
 
   public TarjanStronglyConnectedComponentFinder(final DirectedGraph<T> graph)
   {
     this.graph = Objects.requireNonNull(graph);
-
-    stronglyConnectedComponents = new HashSet<>();
-    stack = new Stack<>();
   }
 
   /**
-   * Calculates the sets of strongly connected vertices.
+   * Calculates the sets of strongly connected vertices. Only components
+   * of more than one vertex are returned, since those are cycles. The
+   * vertex values in each component are sorted.
    *
-   * @param graph
-   *        Graph to detect cycles within.
-   * @return Set of strongly connected components (sets of vertices)
+   * @return Strongly connected components (lists of vertex values)
    */
   public Collection<List<T>> detectCycles()
   {
-    for (final Vertex<T> vertex: graph.vertexSet())
-    {
-      if (!vertex.hasAttribute("index"))
-      {
-        strongConnect(vertex, 0);
-      }
-    }
-    return stronglyConnectedComponents;
-  }
-
-  private void strongConnect(final Vertex<T> vertexFrom, final int index)
-  {
-    vertexFrom.putAttribute("index", index);
-    vertexFrom.putAttribute("lowlink", index);
-    stack.push(vertexFrom);
+    final Collection<List<T>> stronglyConnectedComponents = new ArrayList<>();
+    final Map<Vertex<T>, TraversalState<T>> traversalStates = new HashMap<>();
+    final Deque<Vertex<T>> stack = new ArrayDeque<>();
+    final Deque<Vertex<T>> path = new ArrayDeque<>();
 
-    for (final DirectedEdge<T> edge: graph.getOutgoingEdges(vertexFrom))
+    int index = 0;
+    for (final Vertex<T> root: graph.vertices())
     {
-      final Vertex<T> vertexTo = edge.getTo();
-      if (!vertexTo.hasAttribute("index"))
-      {
-        // Successor vertex has not yet been visited; recurse on it
-        strongConnect(vertexTo, index + 1);
-        vertexFrom.putAttribute("lowlink",
-                                Math
-                                  .min((int) vertexFrom.getAttribute("lowlink"),
-                                       (int) vertexTo.getAttribute("lowlink")));
-      }
-      else if (stack.contains(vertexTo))
+      if (traversalStates.containsKey(root))
       {
-        // Successor vertex is on stack, hence in the current SCC
-        vertexFrom.putAttribute("lowlink",
-                                Math
-                                  .min((int) vertexFrom.getAttribute("lowlink"),
-                                       (int) vertexTo.getAttribute("index")));
+        continue;
       }
-    }
 
-    if (vertexFrom.getAttribute("lowlink") == vertexFrom.getAttribute("index"))
-    {
-      final LinkedList<T> scc = new LinkedList<>();
-      Vertex<T> sccVertex;
-      do
+      index = visit(root, index, traversalStates, stack, path);
+      while (!path.isEmpty())
       {
-        sccVertex = stack.pop();
-        scc.addFirst(sccVertex.getValue());
-      } while (!vertexFrom.equals(sccVertex));
-      if (scc.size() > 1)
-      {
-        stronglyConnectedComponents.add(scc);
+        final Vertex<T> vertexFrom = path.peek();
+        final TraversalState<T> fromState = traversalStates.get(vertexFrom);
+        if (fromState.outgoingEdges.hasNext())
+        {
+          final Vertex<T> vertexTo = fromState.outgoingEdges.next().getTo();
+          final TraversalState<T> toState = traversalStates.get(vertexTo);
+          if (toState == null)
+          {
+            // Successor vertex has not yet been visited; descend into it
+            index = visit(vertexTo, index, traversalStates, stack, path);
+          }
+          else if (toState.onStack)
+          {
+            // Successor vertex is on stack, hence in the current SCC
+            fromState.lowlink = Math.min(fromState.lowlink, toState.index);
+          }
+          continue;
+        }
+
+        // All successors have been visited
+        path.pop();
+        if (fromState.lowlink == fromState.index)
+        {
+          final List<T> scc = new ArrayList<>();
+          Vertex<T> sccVertex;
+          do
+          {
+            sccVertex = stack.pop();
+            traversalStates.get(sccVertex).onStack = false;
+            scc.add(sccVertex.getValue());
+          } while (!vertexFrom.equals(sccVertex));
+          if (scc.size() > 1)
+          {
+            Collections.sort(scc);
+            stronglyConnectedComponents.add(scc);
+          }
+        }
+        if (!path.isEmpty())
+        {
+          final TraversalState<T> parentState = traversalStates
+            .get(path.peek());
+          parentState.lowlink = Math.min(parentState.lowlink,
+                                         fromState.lowlink);
+        }
       }
     }
 
+    return stronglyConnectedComponents;
+  }
+
+  private int visit(final Vertex<T> vertex,
+                    final int index,
+                    final Map<Vertex<T>, TraversalState<T>> traversalStates,
+                    final Deque<Vertex<T>> stack,
+                    final Deque<Vertex<T>> path)
+  {
+    traversalStates
+      .put(vertex,
+           new TraversalState<>(index,
+                                graph.outgoingEdges(vertex).iterator()));
+    stack.push(vertex);
+    path.push(vertex);
+    return index + 1;
   }
 
 }
@@ -0,0 +1,107 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.util.Map;
+
+import org.junit.Test;
+
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptionsBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+
+public class MetadataResultSetTest
+  extends BaseDatabaseTest
+{
+
+  @Test
+  public void fetchSizesFromConfig()
+  {
+    final DatabaseSpecificOverrideOptions defaults = new DatabaseSpecificOverrideOptions();
+    assertEquals(20, defaults.getMetadataFetchSize());
+    assertEquals(20, defaults.getBulkMetadataFetchSize());
+
+    final Config config = new Config();
+    config.put("schemacrawler.schema.retrieval.fetchsize", "50");
+    config.put("schemacrawler.schema.retrieval.fetchsize.bulk", "5000");
+    final DatabaseSpecificOverrideOptions options = new DatabaseSpecificOverrideOptionsBuilder(config)
+      .toOptions();
+    assertEquals(50, options.getMetadataFetchSize());
+    assertEquals(5000, options.getBulkMetadataFetchSize());
+
+    final DatabaseSpecificOverrideOptions negativeOptions = new DatabaseSpecificOverrideOptionsBuilder()
+      .withMetadataFetchSize(-1).withBulkMetadataFetchSize(-1).toOptions();
+    assertEquals(20, negativeOptions.getMetadataFetchSize());
+    assertEquals(20, negativeOptions.getBulkMetadataFetchSize());
+  }
+
+  @Test
+  public void readColumnsByIndex()
+    throws Exception
+  {
+    final DatabaseSpecificOverrideOptions options = new DatabaseSpecificOverrideOptionsBuilder()
+      .withMetadataFetchSize(7).withBulkMetadataFetchSize(500).toOptions();
+    try (final Connection connection = getConnection();)
+    {
+      final RetrieverConnection retrieverConnection = new RetrieverConnection(connection,
+                                                                              options);
+      assertEquals(7, retrieverConnection.getMetadataFetchSize());
+      assertEquals(500, retrieverConnection.getBulkMetadataFetchSize());
+
+      final ResultSet resultSet = connection.getMetaData()
+        .getTables(null, "BOOKS", "AUTHORS", null);
+      try (final MetadataResultSet results = new MetadataResultSet(resultSet,
+                                                                   retrieverConnection);)
+      {
+        assertTrue(results.next());
+        assertEquals("AUTHORS", results.getString("TABLE_NAME"));
+        assertEquals("BOOKS", results.getString("TABLE_SCHEM"));
+        assertNull(results.getString("NO_SUCH_COLUMN"));
+        assertNull(results.getString(null));
+        assertEquals(-1, results.getInt("NO_SUCH_COLUMN", -1));
+
+        final Map<String, Object> attributes = results.getAttributes();
+        assertFalse(attributes.containsKey("TABLE_NAME"));
+        assertFalse(attributes.containsKey("TABLE_SCHEM"));
+        assertEquals("TABLE", attributes.get("TABLE_TYPE"));
+
+        assertFalse(results.next());
+      }
+    }
+  }
+
+}
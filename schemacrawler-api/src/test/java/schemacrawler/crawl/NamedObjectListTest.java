@@ -0,0 +1,262 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.SchemaReference;
+
+public class NamedObjectListTest
+{
+
+  private static <N extends NamedObject> NamedObjectList<N> roundTrip(final NamedObjectList<N> namedObjectList)
+    throws Exception
+  {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(bytes);)
+    {
+      out.writeObject(namedObjectList);
+    }
+    try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes
+      .toByteArray()));)
+    {
+      return (NamedObjectList<N>) in.readObject();
+    }
+  }
+
+  private final SchemaReference schema = new SchemaReference("CATALOG",
+                                                             "SCHEMA");
+
+  @Test
+  public void lookupByParentAndName()
+  {
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    final MutableTable table = new MutableTable(schema, "CUSTOMER");
+    final MutableTable dottedTable = new MutableTable(schema, "A.B");
+    tables.add(table);
+    tables.add(dottedTable);
+
+    // Use a new schema reference, the way that retrievers do
+    final SchemaReference schemaRef = new SchemaReference("CATALOG",
+                                                          "SCHEMA");
+    assertSame(table, tables.lookup(schemaRef, "CUSTOMER").get());
+    assertSame(dottedTable, tables.lookup(schemaRef, "A.B").get());
+    assertSame(table, tables.lookup("CATALOG.SCHEMA.CUSTOMER").get());
+    assertFalse(tables.lookup(schemaRef, "customer").isPresent());
+    assertFalse(tables.lookup(new SchemaReference("CATALOG", "OTHER"),
+                              "CUSTOMER")
+      .isPresent());
+
+    final MutableColumn column = new MutableColumn(table, "ID");
+    final NamedObjectList<MutableColumn> columns = new NamedObjectList<>();
+    columns.add(column);
+    assertSame(column, columns.lookup(table, "ID").get());
+  }
+
+  @Test
+  public void lookupAfterDeserialization()
+    throws Exception
+  {
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    tables.add(new MutableTable(schema, "CUSTOMER"));
+
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(bytes);)
+    {
+      out.writeObject(tables);
+    }
+    final NamedObjectList<MutableTable> deserializedTables;
+    try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes
+      .toByteArray()));)
+    {
+      deserializedTables = (NamedObjectList<MutableTable>) in.readObject();
+    }
+
+    assertTrue(deserializedTables.lookup(schema, "CUSTOMER").isPresent());
+  }
+
+  @Test
+  public void removeFromIndex()
+  {
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    final MutableTable table = new MutableTable(schema, "CUSTOMER");
+    tables.add(table);
+    tables.remove(table);
+
+    assertFalse(tables.lookup(schema, "CUSTOMER").isPresent());
+    assertTrue(tables.isEmpty());
+
+    tables.add(table);
+    assertSame(table, tables.lookup(schema, "CUSTOMER").get());
+    tables.clear();
+    assertFalse(tables.lookup(schema, "CUSTOMER").isPresent());
+  }
+
+  @Test
+  public void sortedValues()
+  {
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    final MutableTable tableA = new MutableTable(schema, "A");
+    final MutableTable tableB = new MutableTable(schema, "B");
+    tables.add(tableB);
+    tables.add(tableA);
+
+    final List<MutableTable> values = tables.values();
+    assertEquals(tableA, values.get(0));
+    assertSame(values, tables.values());
+
+    // Sort order of tables can change after they are added
+    tableA.setSortIndex(2);
+    tableB.setSortIndex(1);
+    assertSame(values, tables.values());
+    tables.invalidateSortOrder();
+    assertEquals(tableB, tables.values().get(0));
+
+    // Frozen lists are always sorted again
+    tableA.setSortIndex(0);
+    tables.freeze();
+    assertEquals(tableA, tables.values().get(0));
+  }
+
+  @Test
+  public void valuesByParent()
+  {
+    final SchemaReference otherSchema = new SchemaReference("CATALOG",
+                                                            "OTHER");
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    final MutableTable tableA = new MutableTable(schema, "A");
+    final MutableTable tableB = new MutableTable(schema, "B");
+    final MutableTable otherTable = new MutableTable(otherSchema, "A");
+    tables.add(tableB);
+    tables.add(otherTable);
+    tables.add(tableA);
+
+    assertEquals(Arrays.asList(tableA, tableB),
+                 tables.values(new SchemaReference("CATALOG", "SCHEMA")));
+    assertEquals(Arrays.asList(otherTable), tables.values(otherSchema));
+    assertTrue(tables.values(new SchemaReference("CATALOG", "NONE"))
+      .isEmpty());
+
+    // Reducers remove objects from the list
+    tables.retainAll(Arrays.asList(tableB, otherTable));
+    assertEquals(Arrays.asList(tableB), tables.values(schema));
+
+    final MutableColumnDataType systemType = new MutableColumnDataType(new SchemaReference(),
+                                                                       "INTEGER");
+    final ColumnDataTypes columnDataTypes = new ColumnDataTypes();
+    columnDataTypes.add(systemType);
+    columnDataTypes.add(new MutableColumnDataType(schema, "UDT"));
+    assertEquals(Arrays.asList(systemType),
+                 columnDataTypes.values(new SchemaReference()));
+  }
+
+  @Test
+  public void frozenList()
+    throws Exception
+  {
+    final SchemaReference otherSchema = new SchemaReference("CATALOG",
+                                                            "OTHER");
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    final MutableTable tableA = new MutableTable(schema, "A");
+    final MutableTable tableB = new MutableTable(schema, "B");
+    final MutableTable dottedTable = new MutableTable(schema, "B.C");
+    final MutableTable otherTable = new MutableTable(otherSchema, "A");
+    tables.add(tableB);
+    tables.add(otherTable);
+    tables.add(dottedTable);
+    tables.add(tableA);
+    tables.freeze();
+
+    assertTrue(tables.isFrozen());
+    assertEquals(4, tables.size());
+    assertEquals(Arrays.asList(tableA, tableB, dottedTable),
+                 tables.values(new SchemaReference("CATALOG", "SCHEMA")));
+    assertSame(tableA, tables.lookup(schema, "A").get());
+    assertSame(dottedTable, tables.lookup(schema, "B.C").get());
+    assertSame(otherTable, tables.lookup("CATALOG.OTHER.A").get());
+    assertFalse(tables.lookup(schema, "C").isPresent());
+    assertTrue(tables.contains(tableB));
+
+    final NamedObjectList<MutableTable> deserializedTables = roundTrip(tables);
+    assertTrue(deserializedTables.isFrozen());
+    assertEquals(4, deserializedTables.size());
+    assertTrue(deserializedTables.lookup(otherSchema, "A").isPresent());
+
+    // Frozen lists can be reduced
+    assertTrue(tables.retainAll(Arrays.asList(tableA, otherTable)));
+    assertFalse(tables.retainAll(Arrays.asList(tableA, otherTable)));
+    assertEquals(Arrays.asList(tableA), tables.values(schema));
+    assertFalse(tables.lookup(schema, "B").isPresent());
+    tables.remove(tableA);
+    assertEquals(Arrays.asList(otherTable), tables.values());
+
+    try
+    {
+      tables.add(tableB);
+      fail("Should not be able to add to a frozen list");
+    }
+    catch (final UnsupportedOperationException e)
+    {
+      // Expected
+    }
+  }
+
+  @Test
+  public void frozenListsShareEmptyObjects()
+    throws Exception
+  {
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    tables.freeze();
+    final NamedObjectList<MutableColumn> columns = new NamedObjectList<>();
+    columns.freeze();
+
+    assertNotSame(tables, columns);
+    assertSame(Collections.emptyList(), tables.values());
+    assertTrue(roundTrip(tables).values().isEmpty());
+    assertTrue(tables.values(schema).isEmpty());
+    assertFalse(tables.lookup(schema, "A").isPresent());
+  }
+
+}
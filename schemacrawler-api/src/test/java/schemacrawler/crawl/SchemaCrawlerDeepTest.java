@@ -40,6 +40,7 @@ import schemacrawler.schema.Constraint;
 import schemacrawler.schema.ForeignKey;
 import schemacrawler.schema.Index;
 import schemacrawler.schema.Privilege;
+import schemacrawler.schema.Reducible;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.SchemaReference;
 import schemacrawler.schema.Table;
@@ -51,6 +52,31 @@ public class SchemaCrawlerDeepTest
   extends BaseDatabaseTest
 {
 
+  @Test
+  public void frozenCatalog()
+    throws Exception
+  {
+    final Catalog catalog = getCatalog(new SchemaCrawlerOptions());
+    assertTrue("Catalog should be frozen",
+               ((MutableCatalog) catalog).isFrozen());
+
+    final Schema schema = new SchemaReference("PUBLIC", "BOOKS");
+    final Table table = catalog.lookupTable(schema, "AUTHORS").get();
+    assertTrue("Could not find column",
+               table.lookupColumn("FIRSTNAME").isPresent());
+    assertEquals("Could not find any tables",
+                 6,
+                 catalog.getTables(schema).size());
+
+    ((Reducible) catalog)
+      .reduce(Table.class,
+              new TablesReducer(new SchemaCrawlerOptions(),
+                                t -> t.getName().equals("AUTHORS")));
+    assertEquals("Could not reduce tables",
+                 1,
+                 catalog.getTables(schema).size());
+  }
+
   @Test
   public void tableEquals()
     throws Exception
@@ -0,0 +1,98 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.SchemaReference;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.test.utility.BaseDatabaseTest;
+
+public class StringPoolTest
+  extends BaseDatabaseTest
+{
+
+  @Test
+  public void pooledStrings()
+  {
+    final StringPool stringPool = new StringPool();
+    final String string = new String("VARCHAR");
+    final String duplicate = new String("VARCHAR");
+    assertNotSame(string, duplicate);
+
+    assertSame(string, stringPool.pooled(string));
+    assertSame(string, stringPool.pooled(duplicate));
+    assertSame(string, stringPool.pooled(string));
+    assertNull(stringPool.pooled(null));
+
+    assertEquals(1, stringPool.size());
+    assertEquals(3, stringPool.getLookups());
+    assertEquals(1, stringPool.getDuplicates());
+    assertEquals(48, stringPool.getBytesSaved());
+  }
+
+  @Test
+  public void longStringsAreNotPooled()
+  {
+    final StringPool stringPool = new StringPool();
+    final StringBuilder buffer = new StringBuilder();
+    for (int i = 0; i < 300; i++)
+    {
+      buffer.append('x');
+    }
+    final String string = buffer.toString();
+    final String duplicate = buffer.toString();
+
+    assertSame(string, stringPool.pooled(string));
+    assertSame(duplicate, stringPool.pooled(duplicate));
+    assertEquals(0, stringPool.size());
+  }
+
+  @Test
+  public void crawlSharesStrings()
+    throws Exception
+  {
+    final Catalog catalog = getCatalog(new SchemaCrawlerOptions());
+    final Schema schema = new SchemaReference("PUBLIC", "BOOKS");
+    final Column authorId = catalog.lookupTable(schema, "AUTHORS").get()
+      .lookupColumn("ID").get();
+    final Column bookId = catalog.lookupTable(schema, "BOOKS").get()
+      .lookupColumn("ID").get();
+    assertSame(authorId.getName(), bookId.getName());
+  }
+
+}
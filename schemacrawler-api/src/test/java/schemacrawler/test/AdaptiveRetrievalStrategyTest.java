@@ -0,0 +1,93 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import schemacrawler.crawl.MetadataRetrievalStrategy;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+
+public class AdaptiveRetrievalStrategyTest
+  extends BaseDatabaseTest
+{
+
+  @Test
+  public void adaptiveMatchesMetadata()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+
+    final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions = new DatabaseSpecificOverrideOptionsBuilder()
+      .withTableRetrievalStrategy(MetadataRetrievalStrategy.adaptive)
+      .withTableColumnRetrievalStrategy(MetadataRetrievalStrategy.adaptive)
+      .withPrimaryKeyRetrievalStrategy(MetadataRetrievalStrategy.adaptive)
+      .withIndexRetrievalStrategy(MetadataRetrievalStrategy.adaptive)
+      .withForeignKeyRetrievalStrategy(MetadataRetrievalStrategy.adaptive)
+      .toOptions();
+
+    final Catalog metadataCatalog = getCatalog(schemaCrawlerOptions);
+    final Catalog adaptiveCatalog = getCatalog(databaseSpecificOverrideOptions,
+                                               schemaCrawlerOptions);
+
+    assertEquals("Tables do not match",
+                 metadataCatalog.getTables().size(),
+                 adaptiveCatalog.getTables().size());
+    for (final Schema schema: metadataCatalog.getSchemas())
+    {
+      for (final Table table: metadataCatalog.getTables(schema))
+      {
+        final Table adaptiveTable = adaptiveCatalog
+          .lookupTable(schema, table.getName()).get();
+        assertEquals("Columns do not match for " + table,
+                     table.getColumns().toString(),
+                     adaptiveTable.getColumns().toString());
+        assertEquals("Indexes do not match for " + table,
+                     table.getIndexes().toString(),
+                     adaptiveTable.getIndexes().toString());
+        assertEquals("Primary keys do not match for " + table,
+                     String.valueOf(table.getPrimaryKey()),
+                     String.valueOf(adaptiveTable.getPrimaryKey()));
+        assertEquals("Foreign keys do not match for " + table,
+                     table.getForeignKeys().toString(),
+                     adaptiveTable.getForeignKeys().toString());
+      }
+    }
+  }
+
+}
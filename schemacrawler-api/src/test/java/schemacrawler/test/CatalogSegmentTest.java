@@ -0,0 +1,126 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import schemacrawler.crawl.CatalogSegment;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+
+public class CatalogSegmentTest
+  extends BaseDatabaseTest
+{
+
+  @Test
+  public void foreignKeysStayWithinSegment()
+    throws Exception
+  {
+    final Catalog catalog = getMaximumCatalog();
+
+    for (final CatalogSegment segment: CatalogSegment.split(catalog))
+    {
+      final Set<Schema> schemas = new HashSet<>(segment.getSchemas());
+      final Catalog segmentCatalog = CatalogSegment
+        .assemble(CatalogSegment.catalogHeader(catalog), asList(segment));
+      for (final Table table: segmentCatalog.getTables())
+      {
+        for (final ForeignKey foreignKey: table.getForeignKeys())
+        {
+          for (final ColumnReference columnReference: foreignKey)
+          {
+            assertTrue("Foreign key crosses segments " + foreignKey,
+                       schemas.contains(columnReference.getPrimaryKeyColumn()
+                         .getSchema()));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void splitAndAssemble()
+    throws Exception
+  {
+    final Catalog catalog = getMaximumCatalog();
+
+    final List<CatalogSegment> segments = CatalogSegment.split(catalog);
+    final Set<Schema> segmentSchemas = new HashSet<>();
+    for (final CatalogSegment segment: segments)
+    {
+      segmentSchemas.addAll(segment.getSchemas());
+    }
+    assertEquals(new HashSet<>(catalog.getSchemas()), segmentSchemas);
+
+    final Catalog catalogHeader = CatalogSegment.catalogHeader(catalog);
+    assertEquals(catalog.getSchemas(), catalogHeader.getSchemas());
+    assertEquals(0, catalogHeader.getTables().size());
+    assertEquals(catalog.getSystemColumnDataTypes().size(),
+                 catalogHeader.getSystemColumnDataTypes().size());
+
+    final Catalog assembledCatalog = CatalogSegment.assemble(catalogHeader,
+                                                             segments);
+    assertEquals(catalog.getTables(), assembledCatalog.getTables());
+    assertEquals(catalog.getRoutines(), assembledCatalog.getRoutines());
+    assertEquals(catalog.getSequences(), assembledCatalog.getSequences());
+    assertEquals(catalog.getSynonyms(), assembledCatalog.getSynonyms());
+    assertEquals(catalog.getColumnDataTypes().size(),
+                 assembledCatalog.getColumnDataTypes().size());
+  }
+
+  private List<CatalogSegment> asList(final CatalogSegment segment)
+  {
+    final List<CatalogSegment> segments = new ArrayList<>();
+    segments.add(segment);
+    return segments;
+  }
+
+  private Catalog getMaximumCatalog()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+    return getCatalog(schemaCrawlerOptions);
+  }
+
+}
@@ -0,0 +1,170 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import schemacrawler.crawl.CrawlListener;
+import schemacrawler.crawl.CrawlMetrics;
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import schemacrawler.schemacrawler.RegularExpressionExclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+
+public class CrawlMetricsTest
+  extends BaseDatabaseTest
+{
+
+  @Test
+  public void crawlListener()
+    throws Exception
+  {
+    final List<CrawlMetrics> completedCrawls = new ArrayList<>();
+    final List<String> phases = new ArrayList<>();
+    final AtomicLong rowsRead = new AtomicLong();
+
+    final SchemaCrawler schemaCrawler = new SchemaCrawler(getConnection(),
+                                                          new DatabaseSpecificOverrideOptions());
+    schemaCrawler.addCrawlListener(new CrawlListener()
+    {
+
+      @Override
+      public void crawlCompleted(final CrawlMetrics crawlMetrics)
+      {
+        completedCrawls.add(crawlMetrics);
+      }
+
+      @Override
+      public void phaseCompleted(final String phase, final Duration duration)
+      {
+        phases.add(phase);
+      }
+
+      @Override
+      public void resultsRead(final String source,
+                              final long rows,
+                              final Duration duration)
+      {
+        rowsRead.addAndGet(rows);
+      }
+
+    });
+    schemaCrawler.crawl(newSchemaCrawlerOptions());
+
+    final CrawlMetrics crawlMetrics = schemaCrawler.getCrawlMetrics();
+    assertEquals(1, completedCrawls.size());
+    assertSame(crawlMetrics, completedCrawls.get(0));
+    assertTrue(phases.contains("crawlSchemas.retrieveSchemas"));
+    assertEquals(crawlMetrics.getPhaseTimes().keySet(),
+                 new LinkedHashSet<>(phases));
+    assertEquals(sum(crawlMetrics.getRowsRead().values()), rowsRead.get());
+  }
+
+  @Test
+  public void crawlMetrics()
+    throws Exception
+  {
+    final SchemaCrawler schemaCrawler = new SchemaCrawler(getConnection(),
+                                                          new DatabaseSpecificOverrideOptions());
+    assertNull(schemaCrawler.getCrawlMetrics());
+
+    final Catalog catalog = schemaCrawler.crawl(newSchemaCrawlerOptions());
+    final CrawlMetrics crawlMetrics = schemaCrawler.getCrawlMetrics();
+    assertNotNull(crawlMetrics);
+
+    assertTrue(crawlMetrics.getPhaseTimes()
+      .containsKey("crawlTableDetails.retrieveColumns"));
+    assertTrue(crawlMetrics.getMetadataCalls().containsKey("getColumns"));
+    assertTrue(sum(crawlMetrics.getRowsRead().values()) > 0);
+    assertEquals(Long.valueOf(catalog.getSchemas().size()),
+                 crawlMetrics.getObjectsCreated().get("schemas"));
+    assertEquals(Long.valueOf(catalog.getTables().size()),
+                 crawlMetrics.getObjectsCreated().get("tables"));
+    assertTrue(crawlMetrics.getObjectsFiltered().containsKey("tables"));
+
+    final String json = crawlMetrics.toJson();
+    assertTrue(json, json.startsWith("{"));
+    assertTrue(json, json.contains("\"objectsCreated\": {"));
+  }
+
+  @Test
+  public void parallelCrawlMetrics()
+    throws Exception
+  {
+    final SchemaCrawler schemaCrawler = new SchemaCrawler(getConnection(),
+                                                          new DatabaseSpecificOverrideOptions());
+    schemaCrawler.crawl(newSchemaCrawlerOptions());
+
+    final SchemaCrawler parallelSchemaCrawler = new SchemaCrawler(getDataSource(),
+                                                                  new DatabaseSpecificOverrideOptions(),
+                                                                  4);
+    parallelSchemaCrawler.crawl(newSchemaCrawlerOptions());
+
+    assertEquals(schemaCrawler.getCrawlMetrics().getObjectsCreated(),
+                 parallelSchemaCrawler.getCrawlMetrics().getObjectsCreated());
+    assertEquals(sum(schemaCrawler.getCrawlMetrics().getRowsRead().values()),
+                 sum(parallelSchemaCrawler.getCrawlMetrics().getRowsRead()
+                   .values()));
+  }
+
+  private SchemaCrawlerOptions newSchemaCrawlerOptions()
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+    schemaCrawlerOptions
+      .setSchemaInclusionRule(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
+    return schemaCrawlerOptions;
+  }
+
+  private long sum(final Iterable<Long> values)
+  {
+    long sum = 0;
+    for (final long value: values)
+    {
+      sum = sum + value;
+    }
+    return sum;
+  }
+
+}
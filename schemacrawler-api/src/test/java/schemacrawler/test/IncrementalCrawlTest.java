@@ -0,0 +1,199 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.Statement;
+
+import org.junit.Test;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+
+public class IncrementalCrawlTest
+  extends BaseDatabaseTest
+{
+
+  private static final String TABLE_DDL_TIMES_SQL = "SELECT TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME, "
+                                                    + "CASE WHEN TABLE_NAME = '%s' THEN '2017-01-02' ELSE '2017-01-01' END AS LAST_DDL_TIME "
+                                                    + "FROM INFORMATION_SCHEMA.TABLES";
+
+  @Test
+  public void changedTablesAreRetrievedAgain()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+
+    final Catalog previousCatalog = crawl(schemaCrawlerOptions, "", null);
+    final Catalog catalog = crawl(schemaCrawlerOptions,
+                                  "AUTHORS",
+                                  previousCatalog);
+
+    int reusedTables = 0;
+    for (final Schema schema: catalog.getSchemas())
+    {
+      for (final Table table: catalog.getTables(schema))
+      {
+        final Table previousTable = previousCatalog
+          .lookupTable(schema, table.getName()).get();
+        if (table.getName().equals("AUTHORS")
+            || table.getName().equals("BOOKAUTHORS"))
+        {
+          // Changed table, and table related to it by a foreign key
+          assertNotSame("Changed table was reused " + table,
+                        previousTable,
+                        table);
+        }
+        else if (table == previousTable)
+        {
+          reusedTables++;
+        }
+        assertEquals("Columns do not match for " + table,
+                     previousTable.getColumns().toString(),
+                     table.getColumns().toString());
+        assertEquals("Foreign keys do not match for " + table,
+                     previousTable.getForeignKeys().toString(),
+                     table.getForeignKeys().toString());
+      }
+    }
+    assertTrue("No unchanged tables were reused", reusedTables > 0);
+  }
+
+  @Test
+  public void newTablesReferencingUnchangedTables()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+
+    final Catalog previousCatalog = crawl(schemaCrawlerOptions, "", null);
+    try (final Connection connection = getConnection();
+        final Statement statement = connection.createStatement();)
+    {
+      statement
+        .execute("CREATE TABLE BOOKS.MAGAZINES (ID INTEGER PRIMARY KEY, PUBLISHERID INTEGER, "
+                 + "CONSTRAINT FK_MAGAZINES_PUBLISHERS FOREIGN KEY (PUBLISHERID) REFERENCES BOOKS.PUBLISHERS (ID))");
+      try
+      {
+        final Catalog catalog = crawl(schemaCrawlerOptions,
+                                      "",
+                                      previousCatalog);
+        final Catalog fullCatalog = crawl(schemaCrawlerOptions, "", null);
+
+        final Schema schema = catalog.lookupSchema("PUBLIC.BOOKS").get();
+        final Table publishers = catalog.lookupTable(schema, "PUBLISHERS")
+          .get();
+        final Table magazines = catalog.lookupTable(schema, "MAGAZINES").get();
+        assertNotSame("Referenced table was reused",
+                      previousCatalog.lookupTable(schema, "PUBLISHERS").get(),
+                      publishers);
+        assertEquals(1, publishers.getExportedForeignKeys().size());
+        assertSame("Foreign key does not reference the new table",
+                   magazines,
+                   publishers.getExportedForeignKeys().iterator().next()
+                     .getColumnReferences().get(0).getForeignKeyColumn()
+                     .getParent());
+
+        assertEquals("Table count does not match",
+                     fullCatalog.getTables().size(),
+                     catalog.getTables().size());
+        for (final Table fullTable: fullCatalog.getTables())
+        {
+          final Table table = catalog
+            .lookupTable(fullTable.getSchema(), fullTable.getName()).get();
+          assertEquals("Columns do not match for " + table,
+                       fullTable.getColumns().toString(),
+                       table.getColumns().toString());
+          assertEquals("Foreign keys do not match for " + table,
+                       fullTable.getForeignKeys().toString(),
+                       table.getForeignKeys().toString());
+        }
+      }
+      finally
+      {
+        statement.execute("DROP TABLE BOOKS.MAGAZINES");
+      }
+    }
+  }
+
+  @Test
+  public void unchangedTablesAreReused()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+
+    final Catalog previousCatalog = crawl(schemaCrawlerOptions, "", null);
+    final Catalog catalog = crawl(schemaCrawlerOptions, "", previousCatalog);
+
+    assertEquals("Table count does not match",
+                 previousCatalog.getTables().size(),
+                 catalog.getTables().size());
+    for (final Schema schema: catalog.getSchemas())
+    {
+      for (final Table table: catalog.getTables(schema))
+      {
+        assertSame("Unchanged table was not reused " + table,
+                   previousCatalog.lookupTable(schema, table.getName()).get(),
+                   table);
+      }
+    }
+  }
+
+  private Catalog crawl(final SchemaCrawlerOptions schemaCrawlerOptions,
+                        final String changedTableName,
+                        final Catalog previousCatalog)
+    throws Exception
+  {
+    final DatabaseSpecificOverrideOptionsBuilder databaseSpecificOverrideOptionsBuilder = new DatabaseSpecificOverrideOptionsBuilder();
+    databaseSpecificOverrideOptionsBuilder.getInformationSchemaViewsBuilder()
+      .withExtTableDdlTimesSql(String.format(TABLE_DDL_TIMES_SQL,
+                                             changedTableName));
+    final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions = databaseSpecificOverrideOptionsBuilder
+      .toOptions();
+
+    final SchemaCrawler schemaCrawler = new SchemaCrawler(getConnection(),
+                                                          databaseSpecificOverrideOptions);
+    return schemaCrawler.crawl(schemaCrawlerOptions, previousCatalog);
+  }
+
+}
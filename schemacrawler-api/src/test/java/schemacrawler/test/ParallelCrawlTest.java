@@ -0,0 +1,178 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptionsBuilder;
+import schemacrawler.schemacrawler.RegularExpressionExclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.test.utility.TestWriter;
+import schemacrawler.utility.NamedObjectSort;
+
+public class ParallelCrawlTest
+  extends BaseDatabaseTest
+{
+
+  @Test
+  public void parallelCounts()
+    throws Exception
+  {
+    final Config config = Config
+      .loadResource("/hsqldb.INFORMATION_SCHEMA.config.properties");
+    final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions = new DatabaseSpecificOverrideOptionsBuilder()
+      .fromConfig(config).toOptions();
+
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+    schemaCrawlerOptions
+      .setSchemaInclusionRule(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
+
+    for (final int maxConnections: new int[] { 1, 4 })
+    {
+      try (final TestWriter out = new TestWriter("text");)
+      {
+        final Catalog catalog = getCatalogInParallel(databaseSpecificOverrideOptions,
+                                                     schemaCrawlerOptions,
+                                                     maxConnections);
+        final Schema[] schemas = catalog.getSchemas().toArray(new Schema[0]);
+        assertEquals("Schema count does not match", 5, schemas.length);
+        for (final Schema schema: schemas)
+        {
+          out.println("schema: " + schema.getFullName());
+          final Table[] tables = catalog.getTables(schema)
+            .toArray(new Table[0]);
+          Arrays.sort(tables, NamedObjectSort.alphabetical);
+          for (final Table table: tables)
+          {
+            out.println("  table: " + table.getFullName());
+            out.println("    # columns: " + table.getColumns().size());
+            out.println("    # constraints: "
+                        + table.getTableConstraints().size());
+            out.println("    # indexes: " + table.getIndexes().size());
+            out.println("    # foreign keys: "
+                        + table.getForeignKeys().size());
+            out.println("    # imported foreign keys: "
+                        + table.getExportedForeignKeys().size());
+            out.println("    # exported: "
+                        + table.getImportedForeignKeys().size());
+            out.println("    # privileges: " + table.getPrivileges().size());
+          }
+        }
+
+        // Same output as the sequential crawl
+        out.assertEquals("SchemaCrawlerTest.counts");
+      }
+    }
+  }
+
+  @Test
+  public void parallelMatchesSequential()
+    throws Exception
+  {
+    // Fewer connections than schemas, so tables are sharded by schema
+    assertParallelMatchesSequential(3);
+  }
+
+  @Test
+  public void shardedMatchesSequential()
+    throws Exception
+  {
+    // More connections than schemas, so tables are sharded into buckets
+    assertParallelMatchesSequential(8);
+  }
+
+  private void assertParallelMatchesSequential(final int maxConnections)
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+
+    final Catalog sequentialCatalog = getCatalog(schemaCrawlerOptions);
+    final Catalog parallelCatalog = getCatalogInParallel(new DatabaseSpecificOverrideOptions(),
+                                                         schemaCrawlerOptions,
+                                                         maxConnections);
+
+    assertEquals("Schemas do not match",
+                 sequentialCatalog.getSchemas().toString(),
+                 parallelCatalog.getSchemas().toString());
+    assertEquals("Column data types do not match",
+                 sequentialCatalog.getColumnDataTypes().size(),
+                 parallelCatalog.getColumnDataTypes().size());
+    for (final Schema schema: sequentialCatalog.getSchemas())
+    {
+      final Table[] sequentialTables = sequentialCatalog.getTables(schema)
+        .toArray(new Table[0]);
+      final Table[] parallelTables = parallelCatalog.getTables(schema)
+        .toArray(new Table[0]);
+      assertEquals("Tables do not match for " + schema,
+                   Arrays.asList(sequentialTables).toString(),
+                   Arrays.asList(parallelTables).toString());
+      for (int i = 0; i < sequentialTables.length; i++)
+      {
+        assertEquals("Columns do not match for " + sequentialTables[i],
+                     sequentialTables[i].getColumns().toString(),
+                     parallelTables[i].getColumns().toString());
+        assertEquals("Indexes do not match for " + sequentialTables[i],
+                     sequentialTables[i].getIndexes().toString(),
+                     parallelTables[i].getIndexes().toString());
+        assertEquals("Primary keys do not match for " + sequentialTables[i],
+                     String.valueOf(sequentialTables[i].getPrimaryKey()),
+                     String.valueOf(parallelTables[i].getPrimaryKey()));
+      }
+
+      final Routine[] sequentialRoutines = sequentialCatalog
+        .getRoutines(schema).toArray(new Routine[0]);
+      final Routine[] parallelRoutines = parallelCatalog.getRoutines(schema)
+        .toArray(new Routine[0]);
+      assertEquals("Routines do not match for " + schema,
+                   Arrays.asList(sequentialRoutines).toString(),
+                   Arrays.asList(parallelRoutines).toString());
+    }
+    assertEquals("Synonyms do not match",
+                 sequentialCatalog.getSynonyms().toString(),
+                 parallelCatalog.getSynonyms().toString());
+    assertEquals("Sequences do not match",
+                 sequentialCatalog.getSequences().toString(),
+                 parallelCatalog.getSequences().toString());
+  }
+
+}
@@ -0,0 +1,152 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static schemacrawler.utility.QueryUtility.executeForScalar;
+import static schemacrawler.utility.QueryUtility.executeForScalars;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.utility.Query;
+
+public class QueryUtilityTest
+  extends BaseDatabaseTest
+{
+
+  @Test
+  public void scalarsInBatches()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions
+      .setSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+
+    final Catalog catalog = getCatalog(schemaCrawlerOptions);
+    final List<Table> tables = new ArrayList<>();
+    for (final Table table: catalog.getTables())
+    {
+      if (table.getTableType().isView())
+      {
+        continue;
+      }
+      tables.add(table);
+    }
+    assertTrue("No tables found", tables.size() > 3);
+
+    final Query query = new Query("Count",
+                                  "SELECT COUNT(*) AS ROW_COUNT FROM ${table}");
+    try (final Connection connection = getConnection();)
+    {
+      final Map<Table, Object> counts = executeForScalars(query,
+                                                          connection,
+                                                          tables,
+                                                          3);
+      assertEquals(tables.size(), counts.size());
+      for (final Table table: tables)
+      {
+        final Object count = executeForScalar(query, connection, table);
+        assertEquals(table.getFullName(),
+                     ((Number) count).longValue(),
+                     ((Number) counts.get(table)).longValue());
+      }
+    }
+  }
+
+  @Test
+  public void scalarsInTransaction()
+    throws Exception
+  {
+    final Catalog catalog = getCatalog(new SchemaCrawlerOptions());
+    final List<Table> tables = new ArrayList<>();
+    tables.add(catalog.lookupTable(catalog.lookupSchema("PUBLIC.BOOKS").get(),
+                                   "AUTHORS")
+      .get());
+    tables.add(catalog.lookupTable(catalog.lookupSchema("PUBLIC.BOOKS").get(),
+                                   "BOOKS")
+      .get());
+
+    final Query badQuery = new Query("Bad count",
+                                     "SELECT COUNT(*) AS ROW_COUNT FROM ${table} WHERE NO_SUCH_COLUMN = 1");
+    final Query query = new Query("Count",
+                                  "SELECT COUNT(*) AS ROW_COUNT FROM ${table}");
+    try (final Connection connection = getConnection();)
+    {
+      connection.setAutoCommit(false);
+      try
+      {
+        // A failed batch is rolled back to its savepoint, and the
+        // transaction can still be used
+        assertTrue(executeForScalars(badQuery, connection, tables, 10)
+          .isEmpty());
+        assertEquals(tables.size(),
+                     executeForScalars(query, connection, tables, 10).size());
+      }
+      finally
+      {
+        connection.rollback();
+        connection.setAutoCommit(true);
+      }
+    }
+  }
+
+  @Test
+  public void scalarsWithTooManyRows()
+    throws Exception
+  {
+    final Catalog catalog = getCatalog(new SchemaCrawlerOptions());
+    final Table table = catalog.lookupTable(catalog.lookupSchema("PUBLIC.BOOKS")
+      .get(), "AUTHORS").get();
+    final List<Table> tables = new ArrayList<>();
+    tables.add(table);
+
+    final Query query = new Query("Rows", "SELECT 1 FROM ${table}");
+    try (final Connection connection = getConnection();)
+    {
+      final Map<Table, Object> values = executeForScalars(query,
+                                                          connection,
+                                                          tables,
+                                                          10);
+      assertTrue("Table with more than one row should not have a value",
+                 values.isEmpty());
+    }
+  }
+
+}
@@ -0,0 +1,148 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test.graph;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import schemacrawler.test.utility.TestName;
+import sf.util.graph.DirectedGraph;
+import sf.util.graph.GraphException;
+import sf.util.graph.TarjanStronglyConnectedComponentFinder;
+
+/**
+ * Tests for large graphs, and for the order of results.
+ */
+public class LargeDirectedGraphTest
+  extends GraphTestBase
+{
+
+  @Rule
+  public TestName testName = new TestName();
+
+  @Test
+  public void longChain()
+    throws Exception
+  {
+    final int size = 100_000;
+    final DirectedGraph<Integer> graph = new DirectedGraph<>(testName
+      .currentMethodFullName());
+    for (int i = size - 1; i > 0; i--)
+    {
+      graph.addEdge(i - 1, i);
+    }
+
+    assertFalse(containsCycleSimple(graph));
+    assertFalse(containsCycleTarjan(graph));
+
+    final List<Integer> sorted = topologicalSort(graph);
+    assertEquals(size, sorted.size());
+    for (int i = 0; i < size; i++)
+    {
+      assertEquals(Integer.valueOf(i), sorted.get(i));
+    }
+
+    graph.addEdge(size - 1, 0);
+    assertTrue(containsCycleSimple(graph));
+    assertTrue(containsCycleTarjan(graph));
+  }
+
+  @Test
+  public void stronglyConnectedComponents()
+    throws Exception
+  {
+    final DirectedGraph<String> graph = new DirectedGraph<>(testName
+      .currentMethodFullName());
+    graph.addEdge("D", "C");
+    graph.addEdge("C", "B");
+    graph.addEdge("B", "D");
+    graph.addEdge("B", "E");
+    graph.addEdge("F", "E");
+    graph.addEdge("E", "F");
+    graph.addEdge("G", "A");
+
+    final TarjanStronglyConnectedComponentFinder<String> finder = new TarjanStronglyConnectedComponentFinder<>(graph);
+    final List<List<String>> expected = Arrays
+      .asList(Arrays.asList("E", "F"), Arrays.asList("B", "C", "D"));
+    // Detecting cycles again gives the same results
+    for (int i = 0; i < 2; i++)
+    {
+      final Collection<List<String>> sccs = finder.detectCycles();
+      assertEquals(expected, new ArrayList<>(sccs));
+    }
+  }
+
+  @Test
+  public void topologicalSortIsDeterministic()
+    throws Exception
+  {
+    final DirectedGraph<String> graph1 = new DirectedGraph<>(testName
+      .currentMethodFullName());
+    graph1.addEdge("A", "B");
+    graph1.addEdge("B", "C");
+    graph1.addEdge("A", "D");
+    graph1.addEdge("D", "C");
+    graph1.addVertex("E");
+
+    final DirectedGraph<String> graph2 = new DirectedGraph<>(testName
+      .currentMethodFullName());
+    graph2.addVertex("E");
+    graph2.addEdge("D", "C");
+    graph2.addEdge("A", "D");
+    graph2.addEdge("B", "C");
+    graph2.addEdge("A", "B");
+
+    assertEquals("[A, E, B, D, C]", topologicalSort(graph1).toString());
+    assertEquals(topologicalSort(graph1), topologicalSort(graph2));
+  }
+
+  @Test(expected = GraphException.class)
+  public void topologicalSortReachableFromCycle()
+    throws Exception
+  {
+    final DirectedGraph<String> graph = new DirectedGraph<>(testName
+      .currentMethodFullName());
+    graph.addEdge("A", "B");
+    graph.addEdge("B", "C");
+    graph.addEdge("C", "B");
+    graph.addEdge("C", "D");
+
+    topologicalSort(graph);
+  }
+
+}
@@ -37,7 +37,10 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.logging.Level;
 
+import javax.sql.DataSource;
+
 import org.custommonkey.xmlunit.XMLUnit;
+import org.hsqldb.jdbc.JDBCDataSource;
 import org.junit.BeforeClass;
 
 import schemacrawler.crawl.SchemaCrawler;
@@ -93,6 +96,33 @@ public abstract class BaseDatabaseTest
                       schemaCrawlerOptions);
   }
 
+  protected Catalog getCatalogInParallel(final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions,
+                                         final SchemaCrawlerOptions schemaCrawlerOptions,
+                                         final int maxConnections)
+    throws SchemaCrawlerException
+  {
+    final SchemaCrawler schemaCrawler = new SchemaCrawler(getDataSource(),
+                                                          databaseSpecificOverrideOptions,
+                                                          maxConnections);
+    final Catalog catalog = schemaCrawler.crawl(schemaCrawlerOptions);
+
+    return catalog;
+  }
+
+  /**
+   * Gets a data source that can open more than one connection.
+   *
+   * @return Data source
+   */
+  protected DataSource getDataSource()
+  {
+    final JDBCDataSource dataSource = new JDBCDataSource();
+    dataSource.setUrl(TestDatabase.CONNECTION_STRING);
+    dataSource.setUser("sa");
+    dataSource.setPassword("");
+    return dataSource;
+  }
+
   /**
    * Gets the connection.
    *
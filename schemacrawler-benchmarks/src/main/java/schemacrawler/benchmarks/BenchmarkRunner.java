@@ -0,0 +1,75 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.benchmarks;
+
+
+import java.nio.file.Paths;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs benchmarks, taking the usual JMH command-line arguments.
+ * Results are published as JSON, by default to
+ * schemacrawler-benchmarks.json in the working directory, so that
+ * results can be compared between releases.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class BenchmarkRunner
+{
+
+  public static void main(final String[] args)
+    throws Exception
+  {
+    final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+
+    final ChainedOptionsBuilder optionsBuilder = new OptionsBuilder()
+      .parent(commandLineOptions);
+    if (!commandLineOptions.getResultFormat().hasValue())
+    {
+      optionsBuilder.resultFormat(ResultFormatType.JSON);
+    }
+    if (!commandLineOptions.getResult().hasValue())
+    {
+      optionsBuilder.result(Paths.get("schemacrawler-benchmarks.json")
+        .toString());
+    }
+
+    new Runner(optionsBuilder.build()).run();
+  }
+
+  private BenchmarkRunner()
+  {
+    // Prevent instantiation
+  }
+
+}
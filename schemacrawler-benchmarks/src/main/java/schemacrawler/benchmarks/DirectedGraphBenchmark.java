@@ -0,0 +1,122 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.benchmarks;
+
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import sf.util.graph.DirectedGraph;
+import sf.util.graph.GraphException;
+import sf.util.graph.SimpleCycleDetector;
+import sf.util.graph.SimpleTopologicalSort;
+import sf.util.graph.TarjanStronglyConnectedComponentFinder;
+
+/**
+ * Sorts, and detects cycles in, a large random directed acyclic graph,
+ * shaped like the foreign keys of a large schema. Edges always go from
+ * a lower to a higher vertex, so the graph has no cycles.
+ *
+ * @author Sualeh Fatehi
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DirectedGraphBenchmark
+{
+
+  @Param("30000")
+  public int vertices;
+
+  @Param("60000")
+  public int edges;
+
+  private DirectedGraph<Integer> graph;
+
+  @Benchmark
+  public boolean containsCycle()
+  {
+    return new SimpleCycleDetector<>(graph).containsCycle();
+  }
+
+  @Benchmark
+  public Collection<List<Integer>> detectCycles()
+  {
+    return new TarjanStronglyConnectedComponentFinder<>(graph).detectCycles();
+  }
+
+  @Setup(Level.Trial)
+  public void setUp()
+  {
+    final Random random = new Random(7);
+    graph = new DirectedGraph<>("benchmark");
+    for (int i = 0; i < vertices; i++)
+    {
+      graph.addVertex(i);
+    }
+    for (int i = 0; i < edges; i++)
+    {
+      final int from = random.nextInt(vertices);
+      final int to = random.nextInt(vertices);
+      if (from < to)
+      {
+        graph.addEdge(from, to);
+      }
+      else
+      {
+        graph.addEdge(to, from);
+      }
+    }
+  }
+
+  @Benchmark
+  public List<Integer> topologicalSort()
+    throws GraphException
+  {
+    return new SimpleTopologicalSort<>(graph).topologicalSort();
+  }
+
+}
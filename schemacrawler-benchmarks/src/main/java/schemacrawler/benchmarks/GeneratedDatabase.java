@@ -0,0 +1,188 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.benchmarks;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import schemacrawler.schemacrawler.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.testdb.TestDatabase;
+import schemacrawler.tools.options.InfoLevel;
+
+/**
+ * A large, generated schema, added to the test database. Each
+ * generated table has a foreign key to the previous table, and a
+ * column that is named like the primary key of the table before that,
+ * but without a foreign key, so that weak associations can be found.
+ *
+ * @author Sualeh Fatehi
+ */
+@State(Scope.Benchmark)
+public class GeneratedDatabase
+{
+
+  private static final String SCHEMA_PREFIX = "GENERATED_";
+
+  @Param("10")
+  public int schemas;
+
+  @Param("50")
+  public int tablesPerSchema;
+
+  @Param("10")
+  public int columnsPerTable;
+
+  private Connection connection;
+
+  public Catalog crawl(final SchemaCrawlerOptions options)
+    throws SchemaCrawlerException
+  {
+    final SchemaCrawler schemaCrawler = new SchemaCrawler(connection,
+                                                          new DatabaseSpecificOverrideOptions());
+    return schemaCrawler.crawl(options);
+  }
+
+  public Connection getConnection()
+  {
+    return requireNonNull(connection, "Database has not been set up");
+  }
+
+  public SchemaCrawlerOptions newSchemaCrawlerOptions(final String infoLevel)
+  {
+    final SchemaCrawlerOptions options = new SchemaCrawlerOptions();
+    options.setSchemaInfoLevel(InfoLevel.valueOfFromString(infoLevel)
+      .buildSchemaInfoLevel());
+    options
+      .setSchemaInclusionRule(new RegularExpressionInclusionRule("PUBLIC\\."
+                                                                 + SCHEMA_PREFIX
+                                                                 + ".*"));
+    return options;
+  }
+
+  @Setup(Level.Trial)
+  public void setUp()
+    throws SQLException
+  {
+    TestDatabase.initialize();
+    connection = DriverManager.getConnection(TestDatabase.CONNECTION_STRING,
+                                             "sa",
+                                             "");
+    createSchemas();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown()
+    throws SQLException
+  {
+    if (connection != null)
+    {
+      connection.close();
+      connection = null;
+    }
+  }
+
+  private void createSchemas()
+    throws SQLException
+  {
+    try (final Statement statement = connection.createStatement();)
+    {
+      for (int schemaIndex = 0; schemaIndex < schemas; schemaIndex++)
+      {
+        final String schema = String.format("%s%03d",
+                                            SCHEMA_PREFIX,
+                                            schemaIndex);
+        statement.addBatch(String
+          .format("DROP SCHEMA %s IF EXISTS CASCADE", schema));
+        statement.addBatch(String.format("CREATE SCHEMA %s", schema));
+        for (int tableIndex = 0; tableIndex < tablesPerSchema; tableIndex++)
+        {
+          statement.addBatch(tableDdl(schema, tableIndex));
+          statement.addBatch(String
+            .format("CREATE INDEX %s.IDX_%s ON %s.%s (NAME)",
+                    schema,
+                    tableName(tableIndex),
+                    schema,
+                    tableName(tableIndex)));
+        }
+      }
+      statement.executeBatch();
+    }
+  }
+
+  private String tableDdl(final String schema, final int tableIndex)
+  {
+    final StringBuilder buffer = new StringBuilder(1024);
+    buffer.append(String.format("CREATE TABLE %s.%s (%n",
+                                schema,
+                                tableName(tableIndex)));
+    buffer.append("  ID INTEGER NOT NULL PRIMARY KEY,\n");
+    buffer.append("  NAME VARCHAR(100) NOT NULL");
+    for (int columnIndex = 0; columnIndex < columnsPerTable; columnIndex++)
+    {
+      buffer.append(String.format(",%n  COLUMN_%03d VARCHAR(50)",
+                                  columnIndex));
+    }
+    if (tableIndex > 0)
+    {
+      buffer.append(String.format(",%n  %s_ID INTEGER REFERENCES %s.%s (ID)",
+                                  tableName(tableIndex - 1),
+                                  schema,
+                                  tableName(tableIndex - 1)));
+    }
+    if (tableIndex > 1)
+    {
+      buffer.append(String.format(",%n  %s_ID INTEGER",
+                                  tableName(tableIndex - 2)));
+    }
+    buffer.append("\n)");
+    return buffer.toString();
+  }
+
+  private String tableName(final int tableIndex)
+  {
+    return String.format("TABLE_%03d", tableIndex);
+  }
+
+}
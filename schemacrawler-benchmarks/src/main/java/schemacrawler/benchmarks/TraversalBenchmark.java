@@ -0,0 +1,127 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.benchmarks;
+
+
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.tools.executable.BaseStagedExecutable;
+import schemacrawler.tools.integration.graph.GraphExecutable;
+import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.text.schema.SchemaTextExecutable;
+
+/**
+ * Traverses a crawled catalog with the text, JSON and dot formatters,
+ * writing output that is thrown away.
+ *
+ * @author Sualeh Fatehi
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TraversalBenchmark
+{
+
+  private static final class DiscardingWriter
+    extends Writer
+  {
+
+    @Override
+    public void close()
+    {
+    }
+
+    @Override
+    public void flush()
+    {
+    }
+
+    @Override
+    public void write(final char[] cbuf, final int off, final int len)
+    {
+    }
+
+  }
+
+  @Param({ "text", "json", "scdot" })
+  public String outputFormat;
+
+  private SchemaCrawlerOptions options;
+  private Catalog catalog;
+
+  @Setup(Level.Trial)
+  public void setUp(final GeneratedDatabase database)
+    throws Exception
+  {
+    options = database.newSchemaCrawlerOptions("maximum");
+    catalog = database.crawl(options);
+  }
+
+  @Benchmark
+  public void traverse(final GeneratedDatabase database)
+    throws Exception
+  {
+    final BaseStagedExecutable executable;
+    if ("scdot".equals(outputFormat))
+    {
+      executable = new GraphExecutable("graph");
+    }
+    else
+    {
+      executable = new SchemaTextExecutable("details");
+    }
+    executable.setSchemaCrawlerOptions(options);
+    executable.setAdditionalConfiguration(new Config());
+    executable
+      .setOutputOptions(new OutputOptions(outputFormat,
+                                          new DiscardingWriter()));
+
+    executable.executeOn(catalog, database.getConnection());
+  }
+
+}
@@ -0,0 +1,94 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.benchmarks;
+
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.tools.integration.serialization.XmlSerializedCatalog;
+
+/**
+ * Saves and loads an XML offline snapshot of the generated schema.
+ *
+ * @author Sualeh Fatehi
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class XmlSnapshotBenchmark
+{
+
+  private Catalog catalog;
+  private String snapshot;
+
+  @Benchmark
+  public Catalog load()
+    throws Exception
+  {
+    return new XmlSerializedCatalog(new StringReader(snapshot));
+  }
+
+  @Benchmark
+  public int save()
+    throws Exception
+  {
+    final StringWriter writer = new StringWriter();
+    new XmlSerializedCatalog(catalog).save(writer);
+    return writer.getBuffer().length();
+  }
+
+  @Setup(Level.Trial)
+  public void setUp(final GeneratedDatabase database)
+    throws Exception
+  {
+    catalog = database.crawl(database.newSchemaCrawlerOptions("maximum"));
+
+    final StringWriter writer = new StringWriter();
+    new XmlSerializedCatalog(catalog).save(writer);
+    snapshot = writer.toString();
+  }
+
+}
@@ -0,0 +1,137 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.SchemaReference;
+
+/**
+ * Gets the tables, routines, sequences and synonyms of every schema
+ * in a catalog, the way that the schema traverser does. This benchmark
+ * is in the crawl package, since mutable catalogs are not public.
+ *
+ * @author Sualeh Fatehi
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MutableCatalogBenchmark
+{
+
+  @Param("500")
+  public int schemas;
+
+  @Param("20")
+  public int tablesPerSchema;
+
+  private MutableCatalog catalog;
+  private List<Schema> schemaList;
+
+  @Benchmark
+  public void getRoutinesBySchema(final Blackhole blackhole)
+  {
+    for (final Schema schema: schemaList)
+    {
+      blackhole.consume(catalog.getRoutines(schema));
+    }
+  }
+
+  @Benchmark
+  public void getSequencesBySchema(final Blackhole blackhole)
+  {
+    for (final Schema schema: schemaList)
+    {
+      blackhole.consume(catalog.getSequences(schema));
+    }
+  }
+
+  @Benchmark
+  public void getSynonymsBySchema(final Blackhole blackhole)
+  {
+    for (final Schema schema: schemaList)
+    {
+      blackhole.consume(catalog.getSynonyms(schema));
+    }
+  }
+
+  @Benchmark
+  public void getTablesBySchema(final Blackhole blackhole)
+  {
+    for (final Schema schema: schemaList)
+    {
+      blackhole.consume(catalog.getTables(schema));
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setUp()
+  {
+    catalog = new MutableCatalog("CATALOG");
+    schemaList = new ArrayList<>(schemas);
+    for (int schemaIndex = 0; schemaIndex < schemas; schemaIndex++)
+    {
+      final SchemaReference schema = new SchemaReference("CATALOG",
+                                                         String
+                                                           .format("SCHEMA_%03d",
+                                                                   schemaIndex));
+      catalog.addSchema(schema);
+      schemaList.add(schema);
+      for (int index = 0; index < tablesPerSchema; index++)
+      {
+        final String name = String.format("OBJECT_%03d", index);
+        catalog.addTable(new MutableTable(schema, name));
+        catalog.addRoutine(new MutableProcedure(schema, name));
+        catalog.addSequence(new MutableSequence(schema, name));
+        catalog.addSynonym(new MutableSynonym(schema, name));
+      }
+    }
+  }
+
+}
@@ -0,0 +1,125 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.SchemaReference;
+
+/**
+ * Adds tables to, and looks up tables in, a named object list, the
+ * way that retrievers do for every row of metadata. This benchmark is
+ * in the crawl package, since named object lists are not public.
+ *
+ * @author Sualeh Fatehi
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NamedObjectListBenchmark
+{
+
+  @Param({ "10", "100" })
+  public int schemas;
+
+  @Param("100")
+  public int tablesPerSchema;
+
+  private List<MutableTable> tables;
+  private NamedObjectList<MutableTable> tablesList;
+
+  @Benchmark
+  public NamedObjectList<MutableTable> add()
+  {
+    final NamedObjectList<MutableTable> namedObjectList = new NamedObjectList<>();
+    for (final MutableTable table: tables)
+    {
+      namedObjectList.add(table);
+    }
+    return namedObjectList;
+  }
+
+  @Benchmark
+  public void lookup(final Blackhole blackhole)
+  {
+    for (final MutableTable table: tables)
+    {
+      blackhole.consume(tablesList.lookup(table.getSchema(), table.getName()));
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setUp()
+  {
+    tables = new ArrayList<>(schemas * tablesPerSchema);
+    tablesList = new NamedObjectList<>();
+    for (int schemaIndex = 0; schemaIndex < schemas; schemaIndex++)
+    {
+      final Schema schema = new SchemaReference("CATALOG",
+                                                String.format("SCHEMA_%03d",
+                                                              schemaIndex));
+      for (int tableIndex = 0; tableIndex < tablesPerSchema; tableIndex++)
+      {
+        final MutableTable table = new MutableTable(schema,
+                                                    String
+                                                      .format("TABLE_%03d",
+                                                              tableIndex));
+        tables.add(table);
+        tablesList.add(table);
+      }
+    }
+  }
+
+  @Benchmark
+  public int values()
+  {
+    return tablesList.values().size();
+  }
+
+}
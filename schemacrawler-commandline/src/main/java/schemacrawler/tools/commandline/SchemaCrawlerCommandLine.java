@@ -40,6 +40,7 @@ import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.UserCredentials;
 import schemacrawler.tools.databaseconnector.DatabaseConnector;
+import schemacrawler.tools.executable.BaseStagedExecutable;
 import schemacrawler.tools.executable.Executable;
 import schemacrawler.tools.options.OutputOptions;
 import sf.util.SchemaCrawlerLogger;
@@ -125,6 +126,10 @@ public final class SchemaCrawlerCommandLine
     executable.setOutputOptions(outputOptions);
     executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
     executable.setAdditionalConfiguration(config);
+    if (executable instanceof BaseStagedExecutable)
+    {
+      ((BaseStagedExecutable) executable).setDataSource(connectionOptions);
+    }
     // Execute
     try (final Connection connection = connectionOptions.getConnection();)
     {
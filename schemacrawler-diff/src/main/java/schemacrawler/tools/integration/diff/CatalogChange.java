@@ -0,0 +1,149 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.diff;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import schemacrawler.schema.NamedObject;
+
+/**
+ * A change to a database object, between a base catalog and another
+ * catalog.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class CatalogChange
+{
+
+  private final CatalogChangeType changeType;
+  private final Class<? extends NamedObject> objectType;
+  private final String key;
+  private final NamedObject baseObject;
+  private final NamedObject otherObject;
+  private final List<String> changedAttributes;
+
+  CatalogChange(final CatalogChangeType changeType,
+                final Class<? extends NamedObject> objectType,
+                final String key,
+                final NamedObject baseObject,
+                final NamedObject otherObject,
+                final List<String> changedAttributes)
+  {
+    this.changeType = requireNonNull(changeType, "No change type provided");
+    this.objectType = requireNonNull(objectType, "No object type provided");
+    this.key = requireNonNull(key, "No key provided");
+    this.baseObject = baseObject;
+    this.otherObject = otherObject;
+    this.changedAttributes = Collections
+      .unmodifiableList(new ArrayList<>(changedAttributes));
+  }
+
+  /**
+   * Gets the object from the base catalog, or null if the object was
+   * added.
+   *
+   * @return Object from the base catalog
+   */
+  public NamedObject getBaseObject()
+  {
+    return baseObject;
+  }
+
+  /**
+   * Gets the names of the attributes that differ, for a changed object.
+   * Changes to child objects, such as the columns of a table, are
+   * reported as separate changes.
+   *
+   * @return Names of changed attributes
+   */
+  public List<String> getChangedAttributes()
+  {
+    return changedAttributes;
+  }
+
+  /**
+   * Gets the type of change.
+   *
+   * @return Type of change
+   */
+  public CatalogChangeType getChangeType()
+  {
+    return changeType;
+  }
+
+  /**
+   * Gets the key that the object was matched on. The key is the lookup
+   * key of the object, relative to its schema.
+   *
+   * @return Key of the object
+   */
+  public String getKey()
+  {
+    return key;
+  }
+
+  /**
+   * Gets the type of the object, such as a table or a column.
+   *
+   * @return Type of the object
+   */
+  public Class<? extends NamedObject> getObjectType()
+  {
+    return objectType;
+  }
+
+  /**
+   * Gets the object from the other catalog, or null if the object was
+   * removed.
+   *
+   * @return Object from the other catalog
+   */
+  public NamedObject getOtherObject()
+  {
+    return otherObject;
+  }
+
+  @Override
+  public String toString()
+  {
+    final StringBuilder buffer = new StringBuilder();
+    buffer.append(objectType.getSimpleName().toLowerCase()).append(" ")
+      .append(key).append(" (").append(changeType).append(")");
+    if (!changedAttributes.isEmpty())
+    {
+      buffer.append(" ").append(changedAttributes);
+    }
+    return buffer.toString();
+  }
+
+}
@@ -0,0 +1,52 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.diff;
+
+
+/**
+ * Type of change to a database object, between two catalogs.
+ *
+ * @author Sualeh Fatehi
+ */
+public enum CatalogChangeType
+{
+
+ /**
+  * Object is only in the other catalog.
+  */
+ added,
+ /**
+  * Object is in both catalogs, but some attributes differ.
+  */
+ changed,
+ /**
+  * Object is only in the base catalog.
+  */
+ removed;
+
+}
@@ -0,0 +1,668 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.diff;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.IndexColumn;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineColumn;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.Trigger;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Finds structural differences between two catalogs. Schemas, tables,
+ * routines, and the columns, indexes, foreign keys and triggers of
+ * tables are matched on their lookup keys, and only attributes that
+ * describe the structure of the objects are compared. Remarks, and the
+ * definitions of tables and routines, are compared only if asked for.
+ * Schemas are compared in parallel, but changes are always reported in
+ * the order of the base catalog, followed by objects added in the other
+ * catalog. Added and removed schemas are reported before changes within
+ * schemas.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class CatalogDiffer
+{
+
+  /**
+   * Compares attributes of matched objects, and finds changes to their
+   * child objects.
+   */
+  @FunctionalInterface
+  private interface MatchedObjectsDiffer<N extends NamedObject>
+  {
+
+    void diff(String key,
+              N baseObject,
+              N otherObject,
+              List<String> changedAttributes,
+              List<CatalogChange> childChanges);
+
+  }
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(CatalogDiffer.class.getName());
+
+  private static List<CatalogChange> await(final Future<List<CatalogChange>> future)
+    throws SchemaCrawlerException
+  {
+    try
+    {
+      return future.get();
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerException("Interrupted while comparing catalogs",
+                                       e);
+    }
+    catch (final ExecutionException e)
+    {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException)
+      {
+        throw (RuntimeException) cause;
+      }
+      else
+      {
+        throw new SchemaCrawlerException(cause.getMessage(), cause);
+      }
+    }
+  }
+
+  private static <N extends NamedObject> Function<N, String> childKey(final String parentKey)
+  {
+    return namedObject -> parentKey + "." + namedObject.getName();
+  }
+
+  private static void compare(final List<String> changedAttributes,
+                              final String attribute,
+                              final Object baseValue,
+                              final Object otherValue)
+  {
+    if (!Objects.equals(baseValue, otherValue))
+    {
+      changedAttributes.add(attribute);
+    }
+  }
+
+  private static <N extends NamedObject> void diff(final Class<N> objectType,
+                                                   final Collection<? extends N> baseObjects,
+                                                   final Collection<? extends N> otherObjects,
+                                                   final Function<N, String> keyFunction,
+                                                   final MatchedObjectsDiffer<N> matchedObjectsDiffer,
+                                                   final List<CatalogChange> changes)
+  {
+    final Map<String, N> otherObjectsMap = new LinkedHashMap<>();
+    for (final N otherObject: otherObjects)
+    {
+      otherObjectsMap.put(keyFunction.apply(otherObject), otherObject);
+    }
+
+    for (final N baseObject: baseObjects)
+    {
+      final String key = keyFunction.apply(baseObject);
+      final N otherObject = otherObjectsMap.remove(key);
+      if (otherObject == null)
+      {
+        changes.add(new CatalogChange(CatalogChangeType.removed,
+                                      objectType,
+                                      key,
+                                      baseObject,
+                                      null,
+                                      Collections.emptyList()));
+        continue;
+      }
+
+      final List<String> changedAttributes = new ArrayList<>();
+      final List<CatalogChange> childChanges = new ArrayList<>();
+      matchedObjectsDiffer
+        .diff(key, baseObject, otherObject, changedAttributes, childChanges);
+      if (!changedAttributes.isEmpty() || !childChanges.isEmpty())
+      {
+        changes.add(new CatalogChange(CatalogChangeType.changed,
+                                      objectType,
+                                      key,
+                                      baseObject,
+                                      otherObject,
+                                      changedAttributes));
+        changes.addAll(childChanges);
+      }
+    }
+
+    for (final Map.Entry<String, N> addedObject: otherObjectsMap.entrySet())
+    {
+      changes.add(new CatalogChange(CatalogChangeType.added,
+                                    objectType,
+                                    addedObject.getKey(),
+                                    null,
+                                    addedObject.getValue(),
+                                    Collections.emptyList()));
+    }
+  }
+
+  private static List<String> foreignKeyColumnReferences(final ForeignKey foreignKey)
+  {
+    final List<String> columnReferences = new ArrayList<>();
+    for (final ColumnReference columnReference: foreignKey)
+    {
+      final Column foreignKeyColumn = columnReference.getForeignKeyColumn();
+      final Column primaryKeyColumn = columnReference.getPrimaryKeyColumn();
+      columnReferences.add(String.format("%s --> %s",
+                                         relativeKey(foreignKeyColumn
+                                           .getSchema(), foreignKeyColumn),
+                                         relativeKey(primaryKeyColumn
+                                           .getSchema(), primaryKeyColumn)));
+    }
+    return columnReferences;
+  }
+
+  private static List<String> indexColumns(final Index index)
+  {
+    final List<String> indexColumns = new ArrayList<>();
+    if (index != null)
+    {
+      for (final IndexColumn indexColumn: index)
+      {
+        indexColumns
+          .add(indexColumn.getName() + " " + indexColumn.getSortSequence());
+      }
+    }
+    return indexColumns;
+  }
+
+  private static String relativeKey(final Schema schema,
+                                    final NamedObject namedObject)
+  {
+    final String lookupKey = namedObject.getLookupKey();
+    final String schemaPrefix = schema.getFullName() + ".";
+    if (lookupKey.startsWith(schemaPrefix))
+    {
+      return lookupKey.substring(schemaPrefix.length());
+    }
+    else
+    {
+      return lookupKey;
+    }
+  }
+
+  private static List<String> routineColumns(final Routine routine)
+  {
+    final List<String> routineColumns = new ArrayList<>();
+    for (final RoutineColumn<? extends Routine> routineColumn: routine
+      .getColumns())
+    {
+      routineColumns.add(String.format("%s %s %s",
+                                       routineColumn.getName(),
+                                       routineColumn.getColumnType(),
+                                       routineColumn.getColumnDataType()
+                                         .getName()));
+    }
+    return routineColumns;
+  }
+
+  private final int maxThreads;
+  private boolean isCompareDefinitions;
+  private boolean isCompareRemarks;
+
+  /**
+   * Creates a differ that compares schemas one after the other.
+   */
+  public CatalogDiffer()
+  {
+    this(1);
+  }
+
+  /**
+   * Creates a differ that compares schemas in parallel.
+   *
+   * @param maxThreads
+   *        Maximum number of schemas to compare at the same time
+   */
+  public CatalogDiffer(final int maxThreads)
+  {
+    this.maxThreads = Math.max(1, maxThreads);
+  }
+
+  /**
+   * Finds the changes from the base catalog to the other catalog.
+   *
+   * @param baseCatalog
+   *        Base catalog
+   * @param otherCatalog
+   *        Catalog to compare with the base catalog
+   * @return Changes, in the order of the base catalog
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  public List<CatalogChange> diff(final Catalog baseCatalog,
+                                  final Catalog otherCatalog)
+    throws SchemaCrawlerException
+  {
+    final List<CatalogChange> changes = new ArrayList<>();
+    diff(baseCatalog, otherCatalog, changes::add);
+    return changes;
+  }
+
+  /**
+   * Finds the changes from the base catalog to the other catalog, and
+   * passes them on as they are found. Changes are passed on one schema
+   * at a time, in the order of the base catalog, and always on the
+   * calling thread.
+   *
+   * @param baseCatalog
+   *        Base catalog
+   * @param otherCatalog
+   *        Catalog to compare with the base catalog
+   * @param changeHandler
+   *        Handler for changes
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  public void diff(final Catalog baseCatalog,
+                   final Catalog otherCatalog,
+                   final Consumer<CatalogChange> changeHandler)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(baseCatalog, "No base catalog provided");
+    requireNonNull(otherCatalog, "No other catalog provided");
+    requireNonNull(changeHandler, "No change handler provided");
+
+    final List<Schema[]> matchedSchemas = new ArrayList<>();
+    final List<CatalogChange> schemaChanges = new ArrayList<>();
+    final Collection<Schema> baseSchemas = baseCatalog.getSchemas();
+    final Collection<Schema> otherSchemas = otherCatalog.getSchemas();
+    if (baseSchemas.size() == 1 && otherSchemas.size() == 1)
+    {
+      // Catalogs from two databases with a single schema each are
+      // compared even if the schemas are named differently
+      matchedSchemas.add(new Schema[] {
+                                        baseSchemas.iterator().next(),
+                                        otherSchemas.iterator().next() });
+    }
+    else
+    {
+      diff(Schema.class,
+           baseSchemas,
+           otherSchemas,
+           Schema::getLookupKey,
+           (key, baseSchema, otherSchema, changedAttributes, childChanges) -> matchedSchemas
+             .add(new Schema[] { baseSchema, otherSchema }),
+           schemaChanges);
+    }
+
+    schemaChanges.forEach(changeHandler);
+
+    LOGGER.log(Level.INFO,
+               new StringFormat("Comparing %d schemas, with %d threads",
+                                matchedSchemas.size(),
+                                maxThreads));
+
+    if (maxThreads == 1 || matchedSchemas.size() < 2)
+    {
+      for (final Schema[] schemas: matchedSchemas)
+      {
+        diffSchemas(baseCatalog, otherCatalog, schemas[0], schemas[1])
+          .forEach(changeHandler);
+      }
+    }
+    else
+    {
+      final ExecutorService executor = Executors
+        .newFixedThreadPool(Math.min(maxThreads, matchedSchemas.size()));
+      try
+      {
+        final List<Future<List<CatalogChange>>> results = new ArrayList<>();
+        for (final Schema[] schemas: matchedSchemas)
+        {
+          results.add(executor.submit(() -> diffSchemas(baseCatalog,
+                                                        otherCatalog,
+                                                        schemas[0],
+                                                        schemas[1])));
+        }
+        for (final Future<List<CatalogChange>> result: results)
+        {
+          await(result).forEach(changeHandler);
+        }
+      }
+      finally
+      {
+        executor.shutdownNow();
+      }
+    }
+
+  }
+
+  /**
+   * Whether the definitions of tables, such as views, and routines are
+   * compared. Definitions are not compared by default, since databases
+   * often reformat the source text of an object without a change to
+   * its structure.
+   *
+   * @return Whether definitions are compared
+   */
+  public boolean isCompareDefinitions()
+  {
+    return isCompareDefinitions;
+  }
+
+  /**
+   * Whether the remarks of tables, columns and routines are compared.
+   * Remarks are not compared by default, since they do not describe the
+   * structure of an object.
+   *
+   * @return Whether remarks are compared
+   */
+  public boolean isCompareRemarks()
+  {
+    return isCompareRemarks;
+  }
+
+  /**
+   * Sets whether the definitions of tables and routines are compared.
+   *
+   * @param compareDefinitions
+   *        Whether definitions are compared
+   */
+  public void setCompareDefinitions(final boolean compareDefinitions)
+  {
+    isCompareDefinitions = compareDefinitions;
+  }
+
+  /**
+   * Sets whether the remarks of tables, columns and routines are
+   * compared.
+   *
+   * @param compareRemarks
+   *        Whether remarks are compared
+   */
+  public void setCompareRemarks(final boolean compareRemarks)
+  {
+    isCompareRemarks = compareRemarks;
+  }
+
+  private void diffColumns(final String key,
+                           final Column baseColumn,
+                           final Column otherColumn,
+                           final List<String> changedAttributes,
+                           final List<CatalogChange> childChanges)
+  {
+    compare(changedAttributes,
+            "columnDataType",
+            baseColumn.getColumnDataType().getName(),
+            otherColumn.getColumnDataType().getName());
+    compare(changedAttributes,
+            "size",
+            baseColumn.getSize(),
+            otherColumn.getSize());
+    compare(changedAttributes,
+            "decimalDigits",
+            baseColumn.getDecimalDigits(),
+            otherColumn.getDecimalDigits());
+    compare(changedAttributes,
+            "nullable",
+            baseColumn.isNullable(),
+            otherColumn.isNullable());
+    compare(changedAttributes,
+            "defaultValue",
+            baseColumn.getDefaultValue(),
+            otherColumn.getDefaultValue());
+    compare(changedAttributes,
+            "autoIncremented",
+            baseColumn.isAutoIncremented(),
+            otherColumn.isAutoIncremented());
+    compare(changedAttributes,
+            "generated",
+            baseColumn.isGenerated(),
+            otherColumn.isGenerated());
+    compare(changedAttributes,
+            "hidden",
+            baseColumn.isHidden(),
+            otherColumn.isHidden());
+    if (isCompareRemarks)
+    {
+      compare(changedAttributes,
+              "remarks",
+              baseColumn.getRemarks(),
+              otherColumn.getRemarks());
+    }
+  }
+
+  private void diffForeignKeys(final String key,
+                               final ForeignKey baseForeignKey,
+                               final ForeignKey otherForeignKey,
+                               final List<String> changedAttributes,
+                               final List<CatalogChange> childChanges)
+  {
+    compare(changedAttributes,
+            "columnReferences",
+            foreignKeyColumnReferences(baseForeignKey),
+            foreignKeyColumnReferences(otherForeignKey));
+    compare(changedAttributes,
+            "updateRule",
+            baseForeignKey.getUpdateRule(),
+            otherForeignKey.getUpdateRule());
+    compare(changedAttributes,
+            "deleteRule",
+            baseForeignKey.getDeleteRule(),
+            otherForeignKey.getDeleteRule());
+  }
+
+  private void diffIndexes(final String key,
+                           final Index baseIndex,
+                           final Index otherIndex,
+                           final List<String> changedAttributes,
+                           final List<CatalogChange> childChanges)
+  {
+    compare(changedAttributes,
+            "unique",
+            baseIndex.isUnique(),
+            otherIndex.isUnique());
+    compare(changedAttributes,
+            "indexType",
+            baseIndex.getIndexType(),
+            otherIndex.getIndexType());
+    compare(changedAttributes,
+            "columns",
+            indexColumns(baseIndex),
+            indexColumns(otherIndex));
+  }
+
+  private void diffRoutines(final String key,
+                            final Routine baseRoutine,
+                            final Routine otherRoutine,
+                            final List<String> changedAttributes,
+                            final List<CatalogChange> childChanges)
+  {
+    compare(changedAttributes,
+            "routineType",
+            baseRoutine.getRoutineType(),
+            otherRoutine.getRoutineType());
+    compare(changedAttributes,
+            "returnType",
+            baseRoutine.getReturnType(),
+            otherRoutine.getReturnType());
+    compare(changedAttributes,
+            "routineBodyType",
+            baseRoutine.getRoutineBodyType(),
+            otherRoutine.getRoutineBodyType());
+    compare(changedAttributes,
+            "columns",
+            routineColumns(baseRoutine),
+            routineColumns(otherRoutine));
+    if (isCompareDefinitions)
+    {
+      compare(changedAttributes,
+              "definition",
+              baseRoutine.getDefinition(),
+              otherRoutine.getDefinition());
+    }
+    if (isCompareRemarks)
+    {
+      compare(changedAttributes,
+              "remarks",
+              baseRoutine.getRemarks(),
+              otherRoutine.getRemarks());
+    }
+  }
+
+  private List<CatalogChange> diffSchemas(final Catalog baseCatalog,
+                                          final Catalog otherCatalog,
+                                          final Schema baseSchema,
+                                          final Schema otherSchema)
+  {
+    final List<CatalogChange> changes = new ArrayList<>();
+
+    diff(Table.class,
+         baseCatalog.getTables(baseSchema),
+         otherCatalog.getTables(otherSchema),
+         table -> relativeKey(table.getSchema(), table),
+         this::diffTables,
+         changes);
+
+    diff(Routine.class,
+         baseCatalog.getRoutines(baseSchema),
+         otherCatalog.getRoutines(otherSchema),
+         routine -> relativeKey(routine.getSchema(), routine),
+         this::diffRoutines,
+         changes);
+
+    return changes;
+  }
+
+  private void diffTables(final String key,
+                          final Table baseTable,
+                          final Table otherTable,
+                          final List<String> changedAttributes,
+                          final List<CatalogChange> childChanges)
+  {
+    compare(changedAttributes,
+            "tableType",
+            baseTable.getTableType(),
+            otherTable.getTableType());
+    compare(changedAttributes,
+            "primaryKey",
+            indexColumns(baseTable.getPrimaryKey()),
+            indexColumns(otherTable.getPrimaryKey()));
+    if (isCompareDefinitions)
+    {
+      compare(changedAttributes,
+              "definition",
+              baseTable.getDefinition(),
+              otherTable.getDefinition());
+    }
+    if (isCompareRemarks)
+    {
+      compare(changedAttributes,
+              "remarks",
+              baseTable.getRemarks(),
+              otherTable.getRemarks());
+    }
+
+    diff(Column.class,
+         baseTable.getColumns(),
+         otherTable.getColumns(),
+         childKey(key),
+         this::diffColumns,
+         childChanges);
+    diff(Index.class,
+         baseTable.getIndexes(),
+         otherTable.getIndexes(),
+         childKey(key),
+         this::diffIndexes,
+         childChanges);
+    diff(ForeignKey.class,
+         baseTable.getImportedForeignKeys(),
+         otherTable.getImportedForeignKeys(),
+         childKey(key),
+         this::diffForeignKeys,
+         childChanges);
+    diff(Trigger.class,
+         baseTable.getTriggers(),
+         otherTable.getTriggers(),
+         childKey(key),
+         this::diffTriggers,
+         childChanges);
+  }
+
+  private void diffTriggers(final String key,
+                            final Trigger baseTrigger,
+                            final Trigger otherTrigger,
+                            final List<String> changedAttributes,
+                            final List<CatalogChange> childChanges)
+  {
+    compare(changedAttributes,
+            "eventManipulationType",
+            baseTrigger.getEventManipulationType(),
+            otherTrigger.getEventManipulationType());
+    compare(changedAttributes,
+            "conditionTiming",
+            baseTrigger.getConditionTiming(),
+            otherTrigger.getConditionTiming());
+    compare(changedAttributes,
+            "actionOrientation",
+            baseTrigger.getActionOrientation(),
+            otherTrigger.getActionOrientation());
+    compare(changedAttributes,
+            "actionCondition",
+            baseTrigger.getActionCondition(),
+            otherTrigger.getActionCondition());
+    compare(changedAttributes,
+            "actionStatement",
+            baseTrigger.getActionStatement(),
+            otherTrigger.getActionStatement());
+  }
+
+}
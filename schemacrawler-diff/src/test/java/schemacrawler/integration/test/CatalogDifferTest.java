@@ -0,0 +1,332 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.integration.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.Trigger;
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptionsBuilder;
+import schemacrawler.schemacrawler.InclusionRule;
+import schemacrawler.schemacrawler.RegularExpressionExclusionRule;
+import schemacrawler.schemacrawler.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.tools.integration.diff.CatalogChange;
+import schemacrawler.tools.integration.diff.CatalogChangeType;
+import schemacrawler.tools.integration.diff.CatalogDiffer;
+
+public class CatalogDifferTest
+  extends BaseDatabaseTest
+{
+
+  @Test
+  public void diffColumnChanges()
+    throws Exception
+  {
+    final List<CatalogChange> changes = diffTestSchemas(new CatalogDiffer());
+
+    assertEquals(Arrays.asList("nullable"),
+                 getChangedAttributes(changes, Column.class, "PARENTS.NAME"));
+    assertEquals(Arrays.asList("columnDataType"),
+                 getChangedAttributes(changes, Column.class, "CHILDREN.CODE"));
+    assertFalse(findChange(changes, Column.class, "PARENTS.ID").isPresent());
+  }
+
+  @Test
+  public void diffForeignKeyChanges()
+    throws Exception
+  {
+    final List<CatalogChange> changes = diffTestSchemas(new CatalogDiffer());
+
+    assertEquals(Arrays.asList("deleteRule"),
+                 getChangedAttributes(changes,
+                                      ForeignKey.class,
+                                      "CHILDREN.FK_PARENT"));
+  }
+
+  @Test
+  public void diffIndexChanges()
+    throws Exception
+  {
+    final List<CatalogChange> changes = diffTestSchemas(new CatalogDiffer());
+
+    assertEquals(Arrays.asList("unique"),
+                 getChangedAttributes(changes,
+                                      Index.class,
+                                      "CHILDREN.IDX_CODE"));
+  }
+
+  @Test
+  public void diffRemarks()
+    throws Exception
+  {
+    // Remarks are not compared by default
+    final List<CatalogChange> changes = diffTestSchemas(new CatalogDiffer());
+    assertEquals(Collections.emptyList(),
+                 getChangedAttributes(changes, Table.class, "PARENTS"));
+
+    final CatalogDiffer catalogDiffer = new CatalogDiffer();
+    catalogDiffer.setCompareRemarks(true);
+    final List<CatalogChange> remarksChanges = diffTestSchemas(catalogDiffer);
+    assertEquals(Arrays.asList("remarks"),
+                 getChangedAttributes(remarksChanges, Table.class, "PARENTS"));
+  }
+
+  @Test
+  public void diffSameCatalog()
+    throws Exception
+  {
+    final Catalog baseCatalog = getCatalog(".*\\.SYSTEM_LOBS");
+    final Catalog otherCatalog = getCatalog(".*\\.SYSTEM_LOBS");
+
+    assertEquals(0,
+                 new CatalogDiffer().diff(baseCatalog, otherCatalog).size());
+    assertEquals(0,
+                 new CatalogDiffer(4).diff(baseCatalog, otherCatalog).size());
+  }
+
+  @Test
+  public void diffTriggerChanges()
+    throws Exception
+  {
+    final List<CatalogChange> changes = diffTestSchemas(new CatalogDiffer());
+
+    assertEquals(Arrays.asList("actionStatement"),
+                 getChangedAttributes(changes,
+                                      Trigger.class,
+                                      "CHILDREN.TRG_CHILDREN"));
+  }
+
+  @Test
+  public void diffWithRemovedSchema()
+    throws Exception
+  {
+    final Catalog baseCatalog = getCatalog(".*\\.SYSTEM_LOBS");
+    final Catalog otherCatalog = getCatalog(".*\\.SYSTEM_LOBS|.*\\.FOR_LINT");
+
+    final List<CatalogChange> changes = new CatalogDiffer()
+      .diff(baseCatalog, otherCatalog);
+    assertEquals(1, changes.size());
+    assertEquals(CatalogChangeType.removed, changes.get(0).getChangeType());
+    assertEquals("PUBLIC.FOR_LINT", changes.get(0).getKey());
+
+    final List<CatalogChange> reverseChanges = new CatalogDiffer(4)
+      .diff(otherCatalog, baseCatalog);
+    assertEquals(1, reverseChanges.size());
+    assertEquals(CatalogChangeType.added,
+                 reverseChanges.get(0).getChangeType());
+  }
+
+  @Test
+  public void diffWithRemovedTable()
+    throws Exception
+  {
+    final Catalog baseCatalog = getCatalog(".*\\.SYSTEM_LOBS");
+
+    final SchemaCrawlerOptions schemaCrawlerOptions = newSchemaCrawlerOptions(".*\\.SYSTEM_LOBS");
+    schemaCrawlerOptions
+      .setTableInclusionRule(new RegularExpressionExclusionRule(".*\\.BOOKS\\.BOOKAUTHORS"));
+    final Catalog otherCatalog = getCatalog(schemaCrawlerOptions);
+
+    final List<CatalogChange> changes = new CatalogDiffer()
+      .diff(baseCatalog, otherCatalog);
+    assertEquals(changes.toString(), 1, changes.size());
+    assertEquals(Table.class, changes.get(0).getObjectType());
+    assertEquals("BOOKAUTHORS", changes.get(0).getKey());
+    assertEquals(CatalogChangeType.removed, changes.get(0).getChangeType());
+
+    final List<CatalogChange> parallelChanges = new CatalogDiffer(4)
+      .diff(baseCatalog, otherCatalog);
+    assertEquals(changes.toString(), parallelChanges.toString());
+  }
+
+  private void createTestSchema(final Statement statement,
+                                final String schemaName,
+                                final String nameColumnType,
+                                final String codeColumnType,
+                                final String indexType,
+                                final String deleteRule,
+                                final String triggerFunction,
+                                final String remarks)
+    throws Exception
+  {
+    statement
+      .execute(String.format("CREATE SCHEMA %s AUTHORIZATION DBA", schemaName));
+    statement
+      .execute(String.format("CREATE TABLE %s.PARENTS (ID INTEGER NOT NULL, NAME %s, "
+                             + "CONSTRAINT PK_PARENTS PRIMARY KEY (ID))",
+                             schemaName,
+                             nameColumnType));
+    statement
+      .execute(String.format("CREATE TABLE %s.CHILDREN (ID INTEGER NOT NULL, PARENT_ID INTEGER, CODE %s, "
+                             + "CONSTRAINT PK_CHILDREN PRIMARY KEY (ID), "
+                             + "CONSTRAINT FK_PARENT FOREIGN KEY (PARENT_ID) REFERENCES %s.PARENTS (ID) ON DELETE %s)",
+                             schemaName,
+                             codeColumnType,
+                             schemaName,
+                             deleteRule));
+    statement.execute(String.format("CREATE %s %s.IDX_CODE ON %s.CHILDREN (CODE)",
+                                    indexType,
+                                    schemaName,
+                                    schemaName));
+    statement
+      .execute(String.format("CREATE TRIGGER %s.TRG_CHILDREN BEFORE INSERT ON %s.CHILDREN "
+                             + "REFERENCING NEW ROW AS NEWROW FOR EACH ROW SET NEWROW.CODE = %s(NEWROW.CODE)",
+                             schemaName,
+                             schemaName,
+                             triggerFunction));
+    if (remarks != null)
+    {
+      statement.execute(String.format("COMMENT ON TABLE %s.PARENTS IS '%s'",
+                                      schemaName,
+                                      remarks));
+    }
+  }
+
+  /**
+   * Creates two schemas with the same tables, which differ in some
+   * attributes, and finds the changes between them. Each schema is
+   * crawled on its own, so that the schemas are matched even though
+   * they are named differently.
+   */
+  private List<CatalogChange> diffTestSchemas(final CatalogDiffer catalogDiffer)
+    throws Exception
+  {
+    try (final Connection connection = getConnection();
+        final Statement statement = connection.createStatement();)
+    {
+      try
+      {
+        createTestSchema(statement,
+                         "DIFF_BASE",
+                         "VARCHAR(20)",
+                         "VARCHAR(10)",
+                         "INDEX",
+                         "CASCADE",
+                         "UPPER",
+                         null);
+        createTestSchema(statement,
+                         "DIFF_OTHER",
+                         "VARCHAR(20) NOT NULL",
+                         "CHAR(10)",
+                         "UNIQUE INDEX",
+                         "SET NULL",
+                         "LOWER",
+                         "Parents of children");
+
+        // Triggers are obtained from the information schema
+        final Config config = Config
+          .loadResource("/hsqldb.INFORMATION_SCHEMA.config.properties");
+        final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions = new DatabaseSpecificOverrideOptionsBuilder()
+          .fromConfig(config).toOptions();
+
+        final Catalog baseCatalog = getCatalog(databaseSpecificOverrideOptions,
+                                               newSchemaCrawlerOptions(new RegularExpressionInclusionRule(".*\\.DIFF_BASE")));
+        final Catalog otherCatalog = getCatalog(databaseSpecificOverrideOptions,
+                                                newSchemaCrawlerOptions(new RegularExpressionInclusionRule(".*\\.DIFF_OTHER")));
+        return catalogDiffer.diff(baseCatalog, otherCatalog);
+      }
+      finally
+      {
+        statement.execute("DROP SCHEMA IF EXISTS DIFF_BASE CASCADE");
+        statement.execute("DROP SCHEMA IF EXISTS DIFF_OTHER CASCADE");
+      }
+    }
+  }
+
+  private Optional<CatalogChange> findChange(final List<CatalogChange> changes,
+                                             final Class<? extends NamedObject> objectType,
+                                             final String key)
+  {
+    for (final CatalogChange change: changes)
+    {
+      if (change.getObjectType().equals(objectType)
+          && change.getKey().equals(key))
+      {
+        return Optional.of(change);
+      }
+    }
+    return Optional.empty();
+  }
+
+  private Catalog getCatalog(final String schemaExclusionPattern)
+    throws Exception
+  {
+    return getCatalog(newSchemaCrawlerOptions(schemaExclusionPattern));
+  }
+
+  private List<String> getChangedAttributes(final List<CatalogChange> changes,
+                                            final Class<? extends NamedObject> objectType,
+                                            final String key)
+  {
+    final Optional<CatalogChange> change = findChange(changes,
+                                                      objectType,
+                                                      key);
+    assertTrue("No change for " + key + " in " + changes,
+               change.isPresent());
+    assertEquals(change.get().toString(),
+                 CatalogChangeType.changed,
+                 change.get().getChangeType());
+    return change.get().getChangedAttributes();
+  }
+
+  private SchemaCrawlerOptions newSchemaCrawlerOptions(final InclusionRule schemaInclusionRule)
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+    schemaCrawlerOptions.setSchemaInclusionRule(schemaInclusionRule);
+    return schemaCrawlerOptions;
+  }
+
+  private SchemaCrawlerOptions newSchemaCrawlerOptions(final String schemaExclusionPattern)
+  {
+    return newSchemaCrawlerOptions(new RegularExpressionExclusionRule(schemaExclusionPattern));
+  }
+
+}
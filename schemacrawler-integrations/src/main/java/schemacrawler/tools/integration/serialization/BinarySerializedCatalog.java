@@ -0,0 +1,215 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.serialization;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.BaseCatalogDecorator;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.utility.CatalogObjectInputStream;
+
+/**
+ * Decorates a catalog to allow for serialization to and from a compact
+ * binary snapshot. The snapshot starts with a fixed header and a format
+ * version, followed by a compressed object stream. Every object,
+ * including every distinct string, is written once, and is referred to
+ * by an integer handle after that, so repeated names such as schema,
+ * type and column names take up a few bytes each.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class BinarySerializedCatalog
+  extends BaseCatalogDecorator
+{
+
+  private static final long serialVersionUID = -2417346585230521466L;
+
+  private static final byte[] MAGIC = new byte[] {
+                                                   'S', 'C', 'B', 'I', 'N' };
+  private static final int FORMAT_VERSION = 1;
+
+  /**
+   * Checks whether a file is a binary catalog snapshot, by looking at
+   * the header.
+   *
+   * @param snapshotFile
+   *        File to check
+   * @return True if the file has a binary snapshot header
+   */
+  public static boolean isBinarySnapshot(final Path snapshotFile)
+  {
+    if (snapshotFile == null || !Files.isReadable(snapshotFile))
+    {
+      return false;
+    }
+    try (final InputStream in = Files.newInputStream(snapshotFile);)
+    {
+      final byte[] header = new byte[MAGIC.length];
+      return in.read(header) == MAGIC.length && Arrays.equals(header, MAGIC);
+    }
+    catch (final IOException e)
+    {
+      return false;
+    }
+  }
+
+  private static Catalog readCatalog(final InputStream inputStream)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(inputStream, "Input stream not provided");
+    try
+    {
+      final DataInputStream in = new DataInputStream(new BufferedInputStream(inputStream));
+      final byte[] header = new byte[MAGIC.length];
+      in.readFully(header);
+      if (!Arrays.equals(header, MAGIC))
+      {
+        throw new SchemaCrawlerException("Not a binary catalog snapshot");
+      }
+      final int formatVersion = in.readInt();
+      if (formatVersion != FORMAT_VERSION)
+      {
+        throw new SchemaCrawlerException(String
+          .format("Unsupported binary catalog snapshot version %d",
+                  formatVersion));
+      }
+
+      final Inflater inflater = new Inflater();
+      try
+      {
+        final ObjectInputStream objectIn = new CatalogObjectInputStream(new BufferedInputStream(new InflaterInputStream(in,
+                                                                                                                        inflater),
+                                                                                                64 * 1024));
+        return (Catalog) objectIn.readObject();
+      }
+      finally
+      {
+        inflater.end();
+      }
+    }
+    catch (final IOException | ClassNotFoundException | ClassCastException e)
+    {
+      throw new SchemaCrawlerException("Could not read binary catalog snapshot",
+                                       e);
+    }
+  }
+
+  public BinarySerializedCatalog(final Catalog catalog)
+  {
+    super(catalog);
+  }
+
+  public BinarySerializedCatalog(final InputStream inputStream)
+    throws SchemaCrawlerException
+  {
+    this(readCatalog(inputStream));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public final <T> T getAttribute(final String name)
+  {
+    return catalog.getAttribute(name);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public final <T> Optional<T> lookupAttribute(final String name)
+  {
+    return catalog.lookupAttribute(name);
+  }
+
+  /**
+   * Serializes the catalog to the output stream, as a binary snapshot.
+   * The output stream is not closed.
+   *
+   * @param outputStream
+   *        Output stream to save to
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  public void save(final OutputStream outputStream)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(outputStream, "Output stream not provided");
+    try
+    {
+      final DataOutputStream out = new DataOutputStream(outputStream);
+      out.write(MAGIC);
+      out.writeInt(FORMAT_VERSION);
+      out.flush();
+
+      final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+      try
+      {
+        final DeflaterOutputStream deflaterOut = new DeflaterOutputStream(outputStream,
+                                                                          deflater);
+        final ObjectOutputStream objectOut = new InterningObjectOutputStream(new BufferedOutputStream(deflaterOut,
+                                                                                                     64 * 1024));
+        objectOut.writeObject(catalog);
+        objectOut.flush();
+        deflaterOut.finish();
+        outputStream.flush();
+      }
+      finally
+      {
+        deflater.end();
+      }
+    }
+    catch (final IOException e)
+    {
+      throw new SchemaCrawlerException("Could not write binary catalog snapshot",
+                                       e);
+    }
+  }
+
+}
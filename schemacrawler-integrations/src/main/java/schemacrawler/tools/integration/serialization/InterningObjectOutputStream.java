@@ -0,0 +1,69 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.integration.serialization;
+
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Object output stream that replaces equal strings with a single
+ * instance, so that each distinct string is written out once, and
+ * referenced by handle after that.
+ *
+ * @author Sualeh Fatehi
+ */
+class InterningObjectOutputStream
+  extends ObjectOutputStream
+{
+
+  private final Map<String, String> strings = new HashMap<>();
+
+  InterningObjectOutputStream(final OutputStream out)
+    throws IOException
+  {
+    super(out);
+    enableReplaceObject(true);
+  }
+
+  @Override
+  protected Object replaceObject(final Object obj)
+    throws IOException
+  {
+    if (obj instanceof String)
+    {
+      return strings.computeIfAbsent((String) obj, string -> string);
+    }
+    return obj;
+  }
+
+}
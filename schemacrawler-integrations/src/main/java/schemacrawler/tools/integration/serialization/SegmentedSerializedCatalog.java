@@ -0,0 +1,447 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.serialization;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import schemacrawler.crawl.CatalogSegment;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Schema;
+import schemacrawler.schemacrawler.BaseCatalogDecorator;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.utility.CatalogObjectInputStream;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Decorates a catalog to allow for serialization to and from a segmented
+ * binary snapshot. Related schemas are written to separate compressed
+ * segments, followed by a table of contents with the names of the
+ * schemas in each segment and the position of the segment in the file.
+ * When loading, the file is memory-mapped, and only the segments for
+ * schemas that pass the schema filter are read, so commands that need a
+ * few schemas from a large snapshot do not have to materialize the rest
+ * of the catalog. Schemas and system column data types are written once,
+ * with the catalog header, and segments refer to them.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class SegmentedSerializedCatalog
+  extends BaseCatalogDecorator
+{
+
+  /**
+   * Input stream over a memory-mapped region of the snapshot file.
+   */
+  private static final class ByteBufferInputStream
+    extends InputStream
+  {
+
+    private final ByteBuffer buffer;
+
+    ByteBufferInputStream(final ByteBuffer buffer)
+    {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int available()
+    {
+      return buffer.remaining();
+    }
+
+    @Override
+    public int read()
+    {
+      if (!buffer.hasRemaining())
+      {
+        return -1;
+      }
+      return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length)
+    {
+      if (!buffer.hasRemaining())
+      {
+        return -1;
+      }
+      final int count = Math.min(length, buffer.remaining());
+      buffer.get(bytes, offset, count);
+      return count;
+    }
+
+  }
+
+  /**
+   * Reads a segment, resolving references to shared objects with the
+   * instances in the catalog header.
+   */
+  private static final class SegmentObjectInputStream
+    extends CatalogObjectInputStream
+  {
+
+    private final Catalog catalogHeader;
+
+    SegmentObjectInputStream(final InputStream in,
+                             final Catalog catalogHeader)
+      throws IOException
+    {
+      super(in);
+      this.catalogHeader = catalogHeader;
+      enableResolveObject(catalogHeader != null);
+    }
+
+    @Override
+    protected Object resolveObject(final Object obj)
+      throws IOException
+    {
+      return CatalogSegment.resolveSharedObject(catalogHeader, obj);
+    }
+
+  }
+
+  /**
+   * Writes a segment, replacing shared objects that are in the catalog
+   * header with references.
+   */
+  private static final class SegmentObjectOutputStream
+    extends InterningObjectOutputStream
+  {
+
+    private final Catalog catalogHeader;
+
+    SegmentObjectOutputStream(final OutputStream out,
+                              final Catalog catalogHeader)
+      throws IOException
+    {
+      super(out);
+      this.catalogHeader = catalogHeader;
+    }
+
+    @Override
+    protected Object replaceObject(final Object obj)
+      throws IOException
+    {
+      if (catalogHeader == null)
+      {
+        return super.replaceObject(obj);
+      }
+      return super.replaceObject(CatalogSegment
+        .replaceSharedObject(catalogHeader, obj));
+    }
+
+  }
+
+  private static final long serialVersionUID = 2385624733154726102L;
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(SegmentedSerializedCatalog.class.getName());
+
+  private static final byte[] MAGIC = new byte[] {
+                                                   'S', 'C', 'S', 'E', 'G' };
+  // Version 2 refers to schemas and system column data types in the
+  // catalog header, instead of repeating them in every segment
+  private static final int FORMAT_VERSION = 2;
+
+  /**
+   * Checks whether a file is a segmented catalog snapshot, by looking at
+   * the header.
+   *
+   * @param snapshotFile
+   *        File to check
+   * @return True if the file has a segmented snapshot header
+   */
+  public static boolean isSegmentedSnapshot(final Path snapshotFile)
+  {
+    if (snapshotFile == null || !Files.isReadable(snapshotFile))
+    {
+      return false;
+    }
+    try (final InputStream in = Files.newInputStream(snapshotFile);)
+    {
+      final byte[] header = new byte[MAGIC.length];
+      return in.read(header) == MAGIC.length && Arrays.equals(header, MAGIC);
+    }
+    catch (final IOException e)
+    {
+      return false;
+    }
+  }
+
+  private static Catalog readCatalog(final Path snapshotFile,
+                                     final Predicate<String> schemaFilter)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(snapshotFile, "No snapshot file provided");
+    requireNonNull(schemaFilter, "No schema filter provided");
+    try (final FileChannel channel = FileChannel
+      .open(snapshotFile, StandardOpenOption.READ);)
+    {
+      final long fileSize = channel.size();
+      final DataInputStream header = new DataInputStream(new ByteBufferInputStream(channel
+        .map(MapMode.READ_ONLY, 0, MAGIC.length + 4)));
+      final byte[] magic = new byte[MAGIC.length];
+      header.readFully(magic);
+      if (!Arrays.equals(magic, MAGIC))
+      {
+        throw new SchemaCrawlerException("Not a segmented catalog snapshot");
+      }
+      final int formatVersion = header.readInt();
+      if (formatVersion < 1 || formatVersion > FORMAT_VERSION)
+      {
+        throw new SchemaCrawlerException(String
+          .format("Unsupported segmented catalog snapshot version %d",
+                  formatVersion));
+      }
+
+      // Table of contents is at the end of the file, and the last
+      // eight bytes have its position
+      final long tocOffset = channel.map(MapMode.READ_ONLY, fileSize - 8, 8)
+        .getLong();
+      final DataInputStream toc = new DataInputStream(new BufferedInputStream(new ByteBufferInputStream(channel
+        .map(MapMode.READ_ONLY, tocOffset, fileSize - 8 - tocOffset))));
+
+      final Catalog catalogHeader = (Catalog) readSegment(channel,
+                                                          toc.readLong(),
+                                                          toc.readInt(),
+                                                          null);
+      final List<CatalogSegment> segments = new ArrayList<>();
+      final int segmentCount = toc.readInt();
+      int skippedCount = 0;
+      for (int i = 0; i < segmentCount; i++)
+      {
+        final long offset = toc.readLong();
+        final int length = toc.readInt();
+        final int schemaCount = toc.readInt();
+        boolean include = schemaCount == 0;
+        for (int j = 0; j < schemaCount; j++)
+        {
+          include = schemaFilter.test(toc.readUTF()) || include;
+        }
+        if (include)
+        {
+          segments.add((CatalogSegment) readSegment(channel,
+                                                    offset,
+                                                    length,
+                                                    catalogHeader));
+        }
+        else
+        {
+          skippedCount++;
+        }
+      }
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Loaded %d catalog segments, and skipped %d",
+                                  segments.size(),
+                                  skippedCount));
+
+      return CatalogSegment.assemble(catalogHeader, segments);
+    }
+    catch (final IOException | ClassCastException e)
+    {
+      throw new SchemaCrawlerException("Could not read segmented catalog snapshot",
+                                       e);
+    }
+  }
+
+  /**
+   * Reads a segment. The catalog header is read without a catalog
+   * header, and every other segment resolves shared objects with the
+   * catalog header.
+   */
+  private static Object readSegment(final FileChannel channel,
+                                    final long offset,
+                                    final int length,
+                                    final Catalog catalogHeader)
+    throws IOException, SchemaCrawlerException
+  {
+    final ByteBuffer buffer = channel.map(MapMode.READ_ONLY, offset, length);
+    try (final ObjectInputStream in = new SegmentObjectInputStream(new BufferedInputStream(new InflaterInputStream(new ByteBufferInputStream(buffer)),
+                                                                                           64 * 1024),
+                                                                   catalogHeader);)
+    {
+      return in.readObject();
+    }
+    catch (final ClassNotFoundException e)
+    {
+      throw new SchemaCrawlerException("Could not read catalog segment", e);
+    }
+  }
+
+  private static byte[] writeSegment(final Object segment,
+                                     final Catalog catalogHeader)
+    throws IOException
+  {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try (final ObjectOutputStream out = new SegmentObjectOutputStream(new BufferedOutputStream(new DeflaterOutputStream(bytes,
+                                                                                                                        deflater),
+                                                                                               64 * 1024),
+                                                                      catalogHeader);)
+    {
+      out.writeObject(segment);
+    }
+    finally
+    {
+      deflater.end();
+    }
+    return bytes.toByteArray();
+  }
+
+  public SegmentedSerializedCatalog(final Catalog catalog)
+  {
+    super(catalog);
+  }
+
+  /**
+   * Loads a segmented catalog snapshot, with only the segments that
+   * have at least one schema that passes the schema filter.
+   *
+   * @param snapshotFile
+   *        Segmented snapshot file
+   * @param schemaFilter
+   *        Filter for schema full names
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  public SegmentedSerializedCatalog(final Path snapshotFile,
+                                    final Predicate<String> schemaFilter)
+    throws SchemaCrawlerException
+  {
+    this(readCatalog(snapshotFile, schemaFilter));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public final <T> T getAttribute(final String name)
+  {
+    return catalog.getAttribute(name);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public final <T> Optional<T> lookupAttribute(final String name)
+  {
+    return catalog.lookupAttribute(name);
+  }
+
+  /**
+   * Serializes the catalog to a file, as a segmented snapshot. Segments
+   * are written one at a time, so only one segment is held in memory in
+   * serialized form.
+   *
+   * @param snapshotFile
+   *        File to save to
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  public void save(final Path snapshotFile)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(snapshotFile, "No snapshot file provided");
+    try (final FileChannel channel = FileChannel
+      .open(snapshotFile,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE);)
+    {
+      final ByteArrayOutputStream tocBytes = new ByteArrayOutputStream();
+      final DataOutputStream toc = new DataOutputStream(tocBytes);
+
+      final ByteBuffer header = ByteBuffer.allocate(MAGIC.length + 4);
+      header.put(MAGIC).putInt(FORMAT_VERSION).flip();
+      channel.write(header);
+
+      final Catalog catalogHeader = CatalogSegment.catalogHeader(catalog);
+      final byte[] catalogHeaderBytes = writeSegment(catalogHeader, null);
+      toc.writeLong(channel.position());
+      toc.writeInt(catalogHeaderBytes.length);
+      channel.write(ByteBuffer.wrap(catalogHeaderBytes));
+
+      final List<CatalogSegment> segments = CatalogSegment.split(catalog);
+      toc.writeInt(segments.size());
+      for (final CatalogSegment segment: segments)
+      {
+        final byte[] segmentBytes = writeSegment(segment, catalogHeader);
+        toc.writeLong(channel.position());
+        toc.writeInt(segmentBytes.length);
+        final List<Schema> schemas = segment.getSchemas();
+        toc.writeInt(schemas.size());
+        for (final Schema schema: schemas)
+        {
+          toc.writeUTF(schema.getFullName());
+        }
+        channel.write(ByteBuffer.wrap(segmentBytes));
+      }
+
+      final long tocOffset = channel.position();
+      toc.writeLong(tocOffset);
+      toc.flush();
+      channel.write(ByteBuffer.wrap(tocBytes.toByteArray()));
+    }
+    catch (final IOException | IllegalArgumentException e)
+    {
+      throw new SchemaCrawlerException("Could not write segmented catalog snapshot",
+                                       e);
+    }
+  }
+
+}
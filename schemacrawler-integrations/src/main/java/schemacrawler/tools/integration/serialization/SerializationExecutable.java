@@ -29,7 +29,9 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.integration.serialization;
 
 
+import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.file.Files;
 import java.sql.Connection;
 
 import schemacrawler.schema.Catalog;
@@ -45,6 +47,8 @@ public final class SerializationExecutable
 {
 
   static final String COMMAND = "serialize";
+  static final String BINARY_FORMAT = "binary";
+  static final String SEGMENTED_FORMAT = "segmented";
 
   public SerializationExecutable()
   {
@@ -63,6 +67,22 @@ public final class SerializationExecutable
   public void executeOn(final Catalog db, final Connection connection)
     throws Exception
   {
+    if (BINARY_FORMAT.equals(outputOptions.getOutputFormatValue()))
+    {
+      final BinarySerializedCatalog catalog = new BinarySerializedCatalog(db);
+      try (final OutputStream out = Files
+        .newOutputStream(outputOptions.getOutputFile());)
+      {
+        catalog.save(out);
+      }
+      return;
+    }
+    if (SEGMENTED_FORMAT.equals(outputOptions.getOutputFormatValue()))
+    {
+      new SegmentedSerializedCatalog(db).save(outputOptions.getOutputFile());
+      return;
+    }
+
     final SerializableCatalog catalog = new XmlSerializedCatalog(db);
     outputOptions.forceCompressedOutputFile();
     try (final Writer writer = outputOptions.openNewOutputWriter();)
@@ -33,12 +33,17 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.PrintWriter;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
 
 import org.apache.commons.io.IOUtils;
 import org.custommonkey.xmlunit.DetailedDiff;
@@ -46,16 +51,119 @@ import org.custommonkey.xmlunit.Diff;
 import org.junit.Test;
 
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
 import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
 import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.tools.integration.serialization.BinarySerializedCatalog;
+import schemacrawler.tools.integration.serialization.SegmentedSerializedCatalog;
 import schemacrawler.tools.integration.serialization.XmlSerializedCatalog;
+import sf.util.IOUtility;
 
 public class SchemaSerializationTest
   extends BaseDatabaseTest
 {
 
+  @Test
+  public void schemaSerializationWithBinary()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+
+    final Catalog catalog = getCatalog(schemaCrawlerOptions);
+    assertNotNull("Could not obtain catalog", catalog);
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new BinarySerializedCatalog(catalog).save(out);
+    assertTrue("Catalog was not serialized to binary", out.size() > 0);
+
+    final Catalog deserializedCatalog = new BinarySerializedCatalog(new ByteArrayInputStream(out
+      .toByteArray()));
+    final Schema deserializedSchema = deserializedCatalog
+      .lookupSchema("PUBLIC.BOOKS").orElse(null);
+    assertNotNull("Could not obtain deserialized schema", deserializedSchema);
+    assertEquals("Unexpected number of tables in the deserialized schema",
+                 6,
+                 deserializedCatalog.getTables(deserializedSchema).size());
+    assertEquals("Unexpected number of tables in the deserialized catalog",
+                 catalog.getTables().size(),
+                 deserializedCatalog.getTables().size());
+
+    for (final Table table: catalog.getTables())
+    {
+      final Table deserializedTable = deserializedCatalog
+        .lookupTable(table.getSchema(), table.getName()).orElse(null);
+      assertNotNull("Could not obtain deserialized table " + table,
+                    deserializedTable);
+      assertEquals("Unexpected columns in deserialized table " + table,
+                   table.getColumns().toString(),
+                   deserializedTable.getColumns().toString());
+      assertEquals("Unexpected foreign keys in deserialized table " + table,
+                   table.getForeignKeys().size(),
+                   deserializedTable.getForeignKeys().size());
+    }
+  }
+
+  @Test
+  public void schemaSerializationWithSegments()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+
+    final Catalog catalog = getCatalog(schemaCrawlerOptions);
+    assertNotNull("Could not obtain catalog", catalog);
+
+    final Path snapshotFile = IOUtility.createTempFilePath("schemacrawler",
+                                                           "seg");
+    new SegmentedSerializedCatalog(catalog).save(snapshotFile);
+    assertTrue(SegmentedSerializedCatalog.isSegmentedSnapshot(snapshotFile));
+
+    final Catalog fullCatalog = new SegmentedSerializedCatalog(snapshotFile,
+                                                               schema -> true);
+    assertEquals("Unexpected number of tables in the deserialized catalog",
+                 catalog.getTables().size(),
+                 fullCatalog.getTables().size());
+    // Objects from every segment share schemas and system column data
+    // types with the catalog header
+    for (final Table table: fullCatalog.getTables())
+    {
+      assertSame("Schema was not shared for " + table,
+                 fullCatalog.lookupSchema(table.getSchema().getFullName())
+                   .get(),
+                 table.getSchema());
+      for (final Column column: table.getColumns())
+      {
+        final ColumnDataType columnDataType = column.getColumnDataType();
+        final Optional<? extends ColumnDataType> systemColumnDataType = fullCatalog
+          .lookupSystemColumnDataType(columnDataType.getName());
+        if (systemColumnDataType.isPresent()
+            && columnDataType.equals(systemColumnDataType.get()))
+        {
+          assertSame("Column data type was not shared for " + column,
+                     systemColumnDataType.get(),
+                     columnDataType);
+        }
+      }
+    }
+
+    final Catalog booksCatalog = new SegmentedSerializedCatalog(snapshotFile,
+                                                                schema -> schema
+                                                                  .equals("PUBLIC.BOOKS"));
+    final Schema booksSchema = booksCatalog.lookupSchema("PUBLIC.BOOKS")
+      .orElse(null);
+    assertNotNull("Could not obtain deserialized schema", booksSchema);
+    assertEquals("Unexpected number of tables in the deserialized schema",
+                 6,
+                 booksCatalog.getTables(booksSchema).size());
+    assertTrue("Unrelated schemas should not be loaded",
+               booksCatalog.getTables().size() < catalog.getTables().size());
+  }
+
   @Test
   public void schemaSerializationWithXStream()
     throws Exception
@@ -33,6 +33,7 @@ import static java.util.Objects.requireNonNull;
 import java.io.Serializable;
 import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -143,6 +144,26 @@ public abstract class BaseLinter
     return table != null && tableInclusionRule.test(table.getFullName());
   }
 
+  /**
+   * Lints a number of tables that are included for this linter. By
+   * default, each table is linted in turn. Can be overridden by linters
+   * that can lint many tables at a time more efficiently, for example
+   * with fewer queries.
+   *
+   * @param tables
+   *        Tables to lint
+   * @param connection
+   *        Connection to lint with
+   */
+  protected void lint(final List<Table> tables, final Connection connection)
+    throws SchemaCrawlerException
+  {
+    for (final Table table: tables)
+    {
+      lint(table, connection);
+    }
+  }
+
   protected abstract void lint(Table table, Connection connection)
     throws SchemaCrawlerException;
 
@@ -178,15 +199,36 @@ public abstract class BaseLinter
   final void lint(final Catalog catalog, final Connection connection)
     throws SchemaCrawlerException
   {
-    this.catalog = requireNonNull(catalog, "No catalog provided");
+    startLint(catalog, connection);
+    lintTables(catalog.getTables(), connection);
+    endLint(connection);
+  }
 
-    start(connection);
-    for (final Table table: catalog.getTables())
+  /**
+   * Ends linting the catalog.
+   */
+  final void endLint(final Connection connection)
+    throws SchemaCrawlerException
+  {
+    end(connection);
+    catalog = null;
+  }
+
+  /**
+   * Lints the tables that are included for this linter. Tables can be
+   * linted in any number of calls, once linting is started.
+   */
+  final void lintTables(final Collection<Table> tables,
+                        final Connection connection)
+    throws SchemaCrawlerException
+  {
+    final List<Table> includedTables = new ArrayList<>(tables.size());
+    for (final Table table: tables)
     {
       if (tableInclusionRule.test(table.getFullName())
           && tableTypesFilter.test(table))
       {
-        lint(table, connection);
+        includedTables.add(table);
       }
       else
       {
@@ -196,8 +238,20 @@ public abstract class BaseLinter
                                     getLinterId()));
       }
     }
-    end(connection);
-    this.catalog = null;
+    if (!includedTables.isEmpty())
+    {
+      lint(includedTables, connection);
+    }
+  }
+
+  /**
+   * Starts linting the catalog.
+   */
+  final void startLint(final Catalog catalog, final Connection connection)
+    throws SchemaCrawlerException
+  {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    start(connection);
   }
 
   private final void setColumnInclusionRule(final InclusionRule columnInclusionRule)
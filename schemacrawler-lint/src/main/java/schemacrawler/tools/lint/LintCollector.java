@@ -34,6 +34,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 import schemacrawler.schema.AttributedObject;
 import schemacrawler.schema.NamedObject;
@@ -57,16 +58,43 @@ public final class LintCollector
     return lints;
   }
 
+  /**
+   * Creates a collector that only records lints, without attaching
+   * them to the linted objects. Recorded lints are added to another
+   * collector with {@link #addAll(LintCollector)}, so that lints found
+   * on other threads are attached on the calling thread, in a
+   * predictable order.
+   *
+   * @return Collector that records lints
+   */
+  static LintCollector deferred()
+  {
+    return new LintCollector(new ArrayList<>());
+  }
+
   private final List<Lint<? extends Serializable>> lints;
+  private final List<Consumer<LintCollector>> deferredLints;
 
   public LintCollector()
+  {
+    this(null);
+  }
+
+  private LintCollector(final List<Consumer<LintCollector>> deferredLints)
   {
     lints = new ArrayList<>();
+    this.deferredLints = deferredLints;
   }
 
   public <N extends NamedObject & AttributedObject> void addLint(final N namedObject,
                                                                  final Lint<?> lint)
   {
+    if (deferredLints != null)
+    {
+      deferredLints.add(collector -> collector.addLint(namedObject, lint));
+      return;
+    }
+
     if (namedObject != null && lint != null
         && namedObject.getFullName().equals(lint.getObjectName()))
     {
@@ -91,4 +119,23 @@ public final class LintCollector
     return lints.size();
   }
 
+  /**
+   * Adds lints recorded by a deferred collector, in the order in which
+   * they were found.
+   *
+   * @param deferredCollector
+   *        Collector that recorded lints
+   */
+  void addAll(final LintCollector deferredCollector)
+  {
+    if (deferredCollector == null || deferredCollector.deferredLints == null)
+    {
+      return;
+    }
+    for (final Consumer<LintCollector> deferredLint: deferredCollector.deferredLints)
+    {
+      deferredLint.accept(this);
+    }
+  }
+
 }
@@ -0,0 +1,59 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.lint;
+
+
+/**
+ * How a linter can be run alongside other linters, when lints are run
+ * with more than one thread.
+ *
+ * @author Sualeh Fatehi
+ */
+public enum LintConcurrency
+{
+
+ /**
+  * Linter keeps state from one table to the next, and is run on the
+  * calling thread, with the connection that was provided for linting.
+  */
+ sequential,
+ /**
+  * Linter reads only the catalog, and keeps no state from one table to
+  * the next, so tables can be linted on any thread. The linter is not
+  * given a connection when tables are linted concurrently.
+  */
+ catalog,
+ /**
+  * Linter runs SQL, and keeps no state from one table to the next, so
+  * tables can be linted on any thread with a connection for the thread,
+  * if a data source is available. The linter is started and ended with
+  * the connection that was provided for linting.
+  */
+ connection,;
+
+}
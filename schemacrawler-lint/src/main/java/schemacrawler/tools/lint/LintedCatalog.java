@@ -35,6 +35,8 @@ import java.sql.Connection;
 import java.util.Optional;
 import java.util.logging.Level;
 
+import javax.sql.DataSource;
+
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.BaseCatalogDecorator;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
@@ -53,7 +55,9 @@ public final class LintedCatalog
 
   public LintedCatalog(final Catalog catalog,
                        final Connection connection,
-                       final Linters linters)
+                       final DataSource dataSource,
+                       final Linters linters,
+                       final int maxThreads)
     throws SchemaCrawlerException
   {
     super(catalog);
@@ -70,10 +74,18 @@ public final class LintedCatalog
     }
 
     requireNonNull(linters, "No linters provided");
-    linters.lint(catalog, connection);
+    linters.lint(catalog, connection, dataSource, maxThreads);
     collector = linters.getCollector();
   }
 
+  public LintedCatalog(final Catalog catalog,
+                       final Connection connection,
+                       final Linters linters)
+    throws SchemaCrawlerException
+  {
+    this(catalog, connection, null, linters, 1);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -32,6 +32,7 @@ import static sf.util.IOUtility.readResourceFully;
 
 import java.io.Serializable;
 import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 
 import schemacrawler.schema.AttributedObject;
@@ -55,20 +56,36 @@ public abstract class Linter
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(Linter.class.getName());
 
+  private final ThreadLocal<LintCollector> taskCollector;
+  private final AtomicInteger lintCount;
   private LintCollector collector;
   private LintSeverity severity;
   private int threshold;
-  private int lintCount;
 
   protected Linter()
   {
+    taskCollector = new ThreadLocal<>();
+    lintCount = new AtomicInteger();
     severity = LintSeverity.medium; // default value
     threshold = Integer.MAX_VALUE; // default value
   }
 
   public final boolean exceedsThreshold()
   {
-    return lintCount > threshold;
+    return lintCount.get() > threshold;
+  }
+
+  /**
+   * Gets how this linter can be run alongside other linters, when lints
+   * are run with more than one thread. By default, linters are run
+   * sequentially. Can be overridden by linters that do not keep state
+   * from one table to the next.
+   *
+   * @return How this linter can be run concurrently
+   */
+  public LintConcurrency getConcurrency()
+  {
+    return LintConcurrency.sequential;
   }
 
   /**
@@ -102,7 +119,7 @@ public abstract class Linter
    */
   public final int getLintCount()
   {
-    return lintCount;
+    return lintCount.get();
   }
 
   /**
@@ -160,7 +177,8 @@ public abstract class Linter
                                 namedObject,
                                 message,
                                 value));
-    if (collector != null)
+    final LintCollector lintCollector = getLintCollector();
+    if (lintCollector != null)
     {
       final Lint<V> lint = new Lint<>(getLinterId(),
                                       getLinterInstanceId(),
@@ -168,8 +186,8 @@ public abstract class Linter
                                       getSeverity(),
                                       message,
                                       value);
-      collector.addLint(namedObject, lint);
-      lintCount = lintCount + 1;
+      lintCollector.addLint(namedObject, lint);
+      lintCount.incrementAndGet();
     }
   }
 
@@ -218,6 +236,35 @@ public abstract class Linter
     collector = lintCollector;
   }
 
+  /**
+   * Sets a collector for lints found on the current thread, which
+   * takes the place of the linter's collector until it is cleared.
+   *
+   * @param lintCollector
+   *        Collector for the current thread, or null to clear it
+   */
+  final void setTaskLintCollector(final LintCollector lintCollector)
+  {
+    if (lintCollector == null)
+    {
+      taskCollector.remove();
+    }
+    else
+    {
+      taskCollector.set(lintCollector);
+    }
+  }
+
+  private LintCollector getLintCollector()
+  {
+    final LintCollector lintCollector = taskCollector.get();
+    if (lintCollector != null)
+    {
+      return lintCollector;
+    }
+    return collector;
+  }
+
   private void setThreshold(final int threshold)
   {
     this.threshold = threshold;
@@ -31,15 +31,26 @@ package schemacrawler.tools.lint;
 import static java.util.Objects.requireNonNull;
 
 import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 
+import javax.sql.DataSource;
+
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import sf.util.SchemaCrawlerLogger;
 import sf.util.StringFormat;
@@ -48,9 +59,149 @@ public final class Linters
   implements Iterable<Linter>
 {
 
+  @FunctionalInterface
+  private interface LintStep
+  {
+    void lint()
+      throws SchemaCrawlerException;
+  }
+
+  /**
+   * Connections for worker threads, which are opened from the data
+   * source when a thread first needs one, and closed when linting is
+   * done.
+   */
+  private static final class WorkerConnections
+  {
+
+    private final DataSource dataSource;
+    private final ThreadLocal<Connection> threadConnection;
+    private final Queue<Connection> connections;
+
+    WorkerConnections(final DataSource dataSource)
+    {
+      this.dataSource = dataSource;
+      threadConnection = new ThreadLocal<>();
+      connections = new ConcurrentLinkedQueue<>();
+    }
+
+    void close()
+    {
+      Connection connection;
+      while ((connection = connections.poll()) != null)
+      {
+        try
+        {
+          connection.close();
+        }
+        catch (final SQLException e)
+        {
+          LOGGER.log(Level.FINE, "Could not close connection", e);
+        }
+      }
+    }
+
+    Connection get()
+      throws SchemaCrawlerException
+    {
+      Connection connection = threadConnection.get();
+      if (connection == null)
+      {
+        try
+        {
+          connection = dataSource.getConnection();
+        }
+        catch (final SQLException e)
+        {
+          throw new SchemaCrawlerException("Could not obtain a connection for linting",
+                                           e);
+        }
+        connections.add(connection);
+        threadConnection.set(connection);
+      }
+      return connection;
+    }
+
+  }
+
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(Linters.class.getName());
 
+  /**
+   * Number of table chunks per thread, so that threads that finish
+   * early can pick up more work.
+   */
+  private static final int CHUNKS_PER_THREAD = 4;
+
+  private static LintCollector await(final Future<LintCollector> future)
+    throws SchemaCrawlerException
+  {
+    try
+    {
+      return future.get();
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerException("Interrupted while linting", e);
+    }
+    catch (final ExecutionException e)
+    {
+      final Throwable cause = e.getCause();
+      if (cause instanceof SchemaCrawlerException)
+      {
+        throw (SchemaCrawlerException) cause;
+      }
+      else if (cause instanceof RuntimeException)
+      {
+        throw (RuntimeException) cause;
+      }
+      else
+      {
+        throw new SchemaCrawlerException(cause.getMessage(), cause);
+      }
+    }
+  }
+
+  private static boolean isLintTablesConcurrently(final Linter linter,
+                                                  final DataSource dataSource)
+  {
+    if (!(linter instanceof BaseLinter))
+    {
+      return false;
+    }
+    switch (linter.getConcurrency())
+    {
+      case catalog:
+        return true;
+      case connection:
+        return dataSource != null;
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * Runs a step of linting, and records the lints that are found in a
+   * collector of their own.
+   */
+  private static LintCollector lintDeferred(final Linter linter,
+                                            final LintStep lintStep)
+    throws SchemaCrawlerException
+  {
+    final LintCollector deferredCollector = LintCollector.deferred();
+    linter.setTaskLintCollector(deferredCollector);
+    try
+    {
+      lintStep.lint();
+    }
+    finally
+    {
+      linter.setTaskLintCollector(null);
+    }
+    return deferredCollector;
+  }
+
   private final List<Linter> linters = new ArrayList<>();
   private final LintCollector collector = new LintCollector();
   private final LinterRegistry registry = new LinterRegistry();
@@ -201,6 +352,140 @@ public final class Linters
     }
   }
 
+  /**
+   * Lints the catalog with a number of threads. Linters that only read
+   * the catalog lint tables on any thread, and linters that run SQL
+   * lint tables on any thread with a connection for the thread from the
+   * data source. Other linters are run on the calling thread with the
+   * connection provided. Lints are
+   * collected in the same order as when linters are run one after
+   * another, so the results do not depend on the number of threads.
+   *
+   * @param catalog
+   *        Catalog to lint
+   * @param connection
+   *        Connection for linters that are run on the calling thread
+   * @param dataSource
+   *        Data source for additional connections, or null if linters
+   *        that run SQL should use the connection provided
+   * @param maxThreads
+   *        Maximum number of threads to lint with
+   */
+  public void lint(final Catalog catalog,
+                   final Connection connection,
+                   final DataSource dataSource,
+                   final int maxThreads)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(catalog, "No catalog provided");
+    if (maxThreads <= 1 || linters.isEmpty())
+    {
+      lint(catalog, connection);
+      return;
+    }
+
+    LOGGER.log(Level.CONFIG,
+               new StringFormat("Linting with %d threads", maxThreads));
+
+    final List<Table> tables = new ArrayList<>(catalog.getTables());
+    final int chunkSize = Math
+      .max(1,
+           (tables.size() + maxThreads * CHUNKS_PER_THREAD - 1)
+              / (maxThreads * CHUNKS_PER_THREAD));
+
+    final ExecutorService executor = Executors.newFixedThreadPool(maxThreads);
+    final WorkerConnections workerConnections = new WorkerConnections(dataSource);
+    try
+    {
+      // Start all work that can be done on other threads. Linters are
+      // started on the calling thread, and linters that run SQL are
+      // given the connection provided, since it is not in use yet.
+      final List<List<Future<LintCollector>>> results = new ArrayList<>();
+      for (final Linter linter: linters)
+      {
+        final List<Future<LintCollector>> linterResults = new ArrayList<>();
+        if (isLintTablesConcurrently(linter, dataSource))
+        {
+          final BaseLinter baseLinter = (BaseLinter) linter;
+          final boolean isConnectionNeeded = linter
+            .getConcurrency() == LintConcurrency.connection;
+          LOGGER.log(Level.FINE,
+                     new StringFormat("Linting with <%s>, concurrently",
+                                      linter.getLinterInstanceId()));
+          linterResults.add(CompletableFuture
+            .completedFuture(lintDeferred(linter,
+                                          () -> baseLinter
+                                            .startLint(catalog,
+                                                       isConnectionNeeded? connection
+                                                                         : null))));
+          for (int i = 0; i < tables.size(); i = i + chunkSize)
+          {
+            final List<Table> chunk = tables
+              .subList(i, Math.min(i + chunkSize, tables.size()));
+            linterResults.add(executor
+              .submit(() -> lintDeferred(linter,
+                                         () -> baseLinter
+                                           .lintTables(chunk,
+                                                       isConnectionNeeded? workerConnections
+                                                         .get(): null))));
+          }
+        }
+        results.add(linterResults);
+      }
+
+      // Run sequential linters on the calling thread in the meantime
+      for (int i = 0; i < linters.size(); i++)
+      {
+        final Linter linter = linters.get(i);
+        if (results.get(i).isEmpty())
+        {
+          LOGGER.log(Level.FINE,
+                     new StringFormat("Linting with <%s>",
+                                      linter.getLinterInstanceId()));
+          results.get(i).add(CompletableFuture
+            .completedFuture(lintDeferred(linter,
+                                          () -> linter.lint(catalog,
+                                                            connection))));
+        }
+      }
+
+      // Wait for all linters to finish, before lints are attached to
+      // catalog objects that other threads may still be reading
+      final List<LintCollector> deferredCollectors = new ArrayList<>();
+      for (int i = 0; i < linters.size(); i++)
+      {
+        final Linter linter = linters.get(i);
+        for (final Future<LintCollector> linterResult: results.get(i))
+        {
+          deferredCollectors.add(await(linterResult));
+        }
+        if (isLintTablesConcurrently(linter, dataSource))
+        {
+          final BaseLinter baseLinter = (BaseLinter) linter;
+          final boolean isConnectionNeeded = linter
+            .getConcurrency() == LintConcurrency.connection;
+          deferredCollectors
+            .add(lintDeferred(linter,
+                              () -> baseLinter
+                                .endLint(isConnectionNeeded? connection
+                                                           : null)));
+        }
+      }
+
+      // Collect lints in linter order, and in table order for each
+      // linter
+      for (final LintCollector deferredCollector: deferredCollectors)
+      {
+        collector.addAll(deferredCollector);
+      }
+    }
+    finally
+    {
+      executor.shutdownNow();
+      workerConnections.close();
+    }
+  }
+
   @Override
   public String toString()
   {
@@ -70,7 +70,12 @@ public class LintExecutable
                                                           getAdditionalConfiguration());
     final Linters linters = new Linters(linterConfigs);
 
-    final LintedCatalog catalog = new LintedCatalog(db, connection, linters);
+    final LintedCatalog catalog = new LintedCatalog(db,
+                                                    connection,
+                                                    getDataSource(),
+                                                    linters,
+                                                    lintOptions
+                                                      .getMaxThreads());
 
     generateReport(catalog);
 
@@ -65,10 +65,10 @@ final class LintJsonFormatter
       final JSONObject jsonDatabase = new JSONObject();
       try
       {
-        jsonRoot.accumulate("database_lints", jsonDatabase);
-
         final JSONArray jsonLints = handleLints(lints);
         jsonDatabase.put("lints", jsonLints);
+
+        accumulate("database_lints", jsonDatabase);
       }
       catch (final JSONException e)
       {
@@ -89,14 +89,14 @@ final class LintJsonFormatter
       final JSONObject jsonTable = new JSONObject();
       try
       {
-        jsonRoot.accumulate("table_lints", jsonTable);
-
         jsonTable.put("name", table.getName());
         jsonTable.put("fullName", table.getFullName());
         jsonTable.put("type", table.getTableType());
 
         final JSONArray jsonLints = handleLints(lints);
         jsonTable.put("lints", jsonLints);
+
+        accumulate("table_lints", jsonTable);
       }
       catch (final JSONException e)
       {
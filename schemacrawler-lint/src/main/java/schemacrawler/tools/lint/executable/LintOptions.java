@@ -37,6 +37,7 @@ public class LintOptions
   private static final long serialVersionUID = -5917925090616219096L;
 
   private String linterConfigs;
+  private int maxThreads = 1;
 
   /**
    * Gets the path to the linter configs file.
@@ -48,6 +49,16 @@ public class LintOptions
     return linterConfigs;
   }
 
+  /**
+   * Gets the maximum number of threads to lint with.
+   *
+   * @return Maximum number of threads
+   */
+  public int getMaxThreads()
+  {
+    return maxThreads;
+  }
+
   /**
    * Sets the path to the linter configs file.
    *
@@ -59,4 +70,17 @@ public class LintOptions
     this.linterConfigs = linterConfigs;
   }
 
+  /**
+   * Sets the maximum number of threads to lint with. Linters that run
+   * SQL open a connection of their own on each thread, when there is
+   * more than one thread.
+   *
+   * @param maxThreads
+   *        Maximum number of threads, at least 1
+   */
+  public void setMaxThreads(final int maxThreads)
+  {
+    this.maxThreads = Math.max(1, maxThreads);
+  }
+
 }
@@ -38,6 +38,7 @@ public class LintOptionsBuilder
   private static final String CLI_LINTER_CONFIGS = "linterconfigs";
   private static final String LINTER_CONFIGS = SCHEMACRAWLER_FORMAT_PREFIX
                                                + CLI_LINTER_CONFIGS;
+  private static final String MAX_THREADS = "schemacrawler.lint.max_threads";
 
   public LintOptionsBuilder()
   {
@@ -65,6 +66,9 @@ public class LintOptionsBuilder
       options.setLinterConfigs(config.getStringValue(LINTER_CONFIGS, ""));
     }
 
+    options.setMaxThreads(config.getIntegerValue(MAX_THREADS,
+                                                 options.getMaxThreads()));
+
     return this;
   }
 
@@ -73,6 +77,8 @@ public class LintOptionsBuilder
   {
     final Config config = super.toConfig();
     config.setStringValue(LINTER_CONFIGS, options.getLinterConfigs());
+    config.setStringValue(MAX_THREADS,
+                          String.valueOf(options.getMaxThreads()));
     return config;
   }
 
@@ -85,4 +91,13 @@ public class LintOptionsBuilder
     return this;
   }
 
+  /**
+   * Maximum number of threads to lint with.
+   */
+  public LintOptionsBuilder withMaxThreads(final int maxThreads)
+  {
+    options.setMaxThreads(maxThreads);
+    return this;
+  }
+
 }
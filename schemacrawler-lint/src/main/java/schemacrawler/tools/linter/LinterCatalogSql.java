@@ -38,6 +38,7 @@ import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.Config;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.LintConcurrency;
 import schemacrawler.utility.Query;
 
 public class LinterCatalogSql
@@ -47,6 +48,12 @@ public class LinterCatalogSql
   private String message;
   private String sql;
 
+  @Override
+  public LintConcurrency getConcurrency()
+  {
+    return LintConcurrency.connection;
+  }
+
   @Override
   public String getSummary()
   {
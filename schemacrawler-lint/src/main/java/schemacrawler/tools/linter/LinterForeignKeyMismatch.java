@@ -40,6 +40,7 @@ import schemacrawler.schema.ForeignKeyColumnReference;
 import schemacrawler.schema.Table;
 import schemacrawler.schema.View;
 import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.LintConcurrency;
 import schemacrawler.tools.lint.LintSeverity;
 
 public class LinterForeignKeyMismatch
@@ -51,6 +52,12 @@ public class LinterForeignKeyMismatch
     setSeverity(LintSeverity.high);
   }
 
+  @Override
+  public LintConcurrency getConcurrency()
+  {
+    return LintConcurrency.catalog;
+  }
+
   @Override
   public String getSummary()
   {
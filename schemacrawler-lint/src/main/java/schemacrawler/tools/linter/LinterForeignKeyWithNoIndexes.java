@@ -42,6 +42,7 @@ import schemacrawler.schema.ForeignKey;
 import schemacrawler.schema.Table;
 import schemacrawler.schema.View;
 import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.LintConcurrency;
 import schemacrawler.tools.lint.LintSeverity;
 
 public class LinterForeignKeyWithNoIndexes
@@ -53,6 +54,12 @@ public class LinterForeignKeyWithNoIndexes
     setSeverity(LintSeverity.low);
   }
 
+  @Override
+  public LintConcurrency getConcurrency()
+  {
+    return LintConcurrency.catalog;
+  }
+
   @Override
   public String getSummary()
   {
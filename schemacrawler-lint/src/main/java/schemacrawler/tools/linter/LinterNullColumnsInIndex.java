@@ -40,11 +40,18 @@ import schemacrawler.schema.Index;
 import schemacrawler.schema.IndexColumn;
 import schemacrawler.schema.Table;
 import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.LintConcurrency;
 
 public class LinterNullColumnsInIndex
   extends BaseLinter
 {
 
+  @Override
+  public LintConcurrency getConcurrency()
+  {
+    return LintConcurrency.catalog;
+  }
+
   @Override
   public String getSummary()
   {
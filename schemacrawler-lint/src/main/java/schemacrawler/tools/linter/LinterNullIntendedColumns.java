@@ -39,6 +39,7 @@ import schemacrawler.filter.TableTypesFilter;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.Table;
 import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.LintConcurrency;
 
 public class LinterNullIntendedColumns
   extends BaseLinter
@@ -49,6 +50,12 @@ public class LinterNullIntendedColumns
     setTableTypesFilter(new TableTypesFilter("TABLE"));
   }
 
+  @Override
+  public LintConcurrency getConcurrency()
+  {
+    return LintConcurrency.catalog;
+  }
+
   @Override
   public String getSummary()
   {
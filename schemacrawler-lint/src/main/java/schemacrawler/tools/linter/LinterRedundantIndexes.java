@@ -44,6 +44,7 @@ import schemacrawler.filter.TableTypesFilter;
 import schemacrawler.schema.Index;
 import schemacrawler.schema.Table;
 import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.LintConcurrency;
 import schemacrawler.tools.lint.LintSeverity;
 import schemacrawler.utility.MetaDataUtility;
 
@@ -57,6 +58,12 @@ public class LinterRedundantIndexes
     setTableTypesFilter(new TableTypesFilter("TABLE"));
   }
 
+  @Override
+  public LintConcurrency getConcurrency()
+  {
+    return LintConcurrency.catalog;
+  }
+
   @Override
   public String getSummary()
   {
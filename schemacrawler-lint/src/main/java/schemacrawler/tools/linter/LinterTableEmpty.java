@@ -29,20 +29,37 @@ package schemacrawler.tools.linter;
 
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.tools.analysis.counts.CountsUtility.getRowCount;
+import static schemacrawler.tools.analysis.counts.CountsUtility.hasRowCount;
 import static schemacrawler.utility.QueryUtility.executeForLong;
+import static schemacrawler.utility.QueryUtility.executeForScalars;
 
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 
 import schemacrawler.filter.TableTypesFilter;
 import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.Config;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.LintConcurrency;
 import schemacrawler.tools.lint.LintSeverity;
 import schemacrawler.utility.Query;
 import sf.util.SchemaCrawlerLogger;
 import sf.util.StringFormat;
 
+/**
+ * Finds empty tables. Tables are counted a batch at a time, with the
+ * counts for the tables in a batch combined into a single query. Row
+ * counts that are already in the catalog, such as estimated counts from
+ * optimizer statistics, can be used instead of counting rows.
+ *
+ * @author Sualeh Fatehi
+ */
 public class LinterTableEmpty
   extends BaseLinter
 {
@@ -50,10 +67,22 @@ public class LinterTableEmpty
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(LinterTableEmpty.class.getName());
 
+  private static final int DEFAULT_BATCH_SIZE = 100;
+
+  private int batchSize;
+  private boolean useRowCounts;
+
   public LinterTableEmpty()
   {
     setSeverity(LintSeverity.low);
     setTableTypesFilter(new TableTypesFilter("TABLE"));
+    batchSize = DEFAULT_BATCH_SIZE;
+  }
+
+  @Override
+  public LintConcurrency getConcurrency()
+  {
+    return LintConcurrency.connection;
   }
 
   @Override
@@ -62,20 +91,73 @@ public class LinterTableEmpty
     return "empty table";
   }
 
+  @Override
+  protected void configure(final Config config)
+  {
+    requireNonNull(config, "No configuration provided");
+
+    batchSize = config.getIntegerValue("batch-size", DEFAULT_BATCH_SIZE);
+    useRowCounts = config.getBooleanValue("use-row-counts", false);
+  }
+
+  @Override
+  protected void lint(final List<Table> tables, final Connection connection)
+    throws SchemaCrawlerException
+  {
+    final List<Table> uncountedTables = new ArrayList<>();
+    for (final Table table: tables)
+    {
+      if (!isRowCountAvailable(table))
+      {
+        uncountedTables.add(table);
+      }
+    }
+
+    final Map<Table, Object> counts;
+    if (batchSize > 1 && !uncountedTables.isEmpty())
+    {
+      requireNonNull(connection, "No connection provided");
+      counts = executeForScalars(newCountQuery(),
+                                 connection,
+                                 uncountedTables,
+                                 batchSize);
+    }
+    else
+    {
+      counts = Collections.emptyMap();
+    }
+
+    for (final Table table: tables)
+    {
+      final Object count = counts.get(table);
+      if (count instanceof Number)
+      {
+        lintRowCount(table, ((Number) count).longValue());
+      }
+      else
+      {
+        lint(table, connection);
+      }
+    }
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
     requireNonNull(table, "No table provided");
+
+    if (isRowCountAvailable(table))
+    {
+      lintRowCount(table, getRowCount(table));
+      return;
+    }
+
     requireNonNull(connection, "No connection provided");
 
-    final Query query = new Query("Count", "SELECT COUNT(*) FROM ${table}");
     try
     {
-      final long count = executeForLong(query, connection, table);
-      if (count == 0)
-      {
-        addTableLint(table, getSummary());
-      }
+      final long count = executeForLong(newCountQuery(), connection, table);
+      lintRowCount(table, count);
     }
     catch (final SchemaCrawlerException e)
     {
@@ -85,4 +167,22 @@ public class LinterTableEmpty
     }
   }
 
+  private boolean isRowCountAvailable(final Table table)
+  {
+    return useRowCounts && hasRowCount(table);
+  }
+
+  private void lintRowCount(final Table table, final long count)
+  {
+    if (count == 0)
+    {
+      addTableLint(table, getSummary());
+    }
+  }
+
+  private Query newCountQuery()
+  {
+    return new Query("Count", "SELECT COUNT(*) AS ROW_COUNT FROM ${table}");
+  }
+
 }
@@ -30,23 +30,34 @@ package schemacrawler.tools.linter;
 
 import static java.util.Objects.requireNonNull;
 import static schemacrawler.utility.QueryUtility.executeForScalar;
+import static schemacrawler.utility.QueryUtility.executeForScalars;
 import static sf.util.Utility.isBlank;
 
 import java.sql.Connection;
+import java.util.List;
+import java.util.Map;
 
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.Config;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.LintConcurrency;
 import schemacrawler.utility.Query;
 
 public class LinterTableSql
   extends BaseLinter
 {
 
+  private int batchSize;
   private String message;
   private String sql;
 
+  @Override
+  public LintConcurrency getConcurrency()
+  {
+    return LintConcurrency.connection;
+  }
+
   @Override
   public String getSummary()
   {
@@ -69,6 +80,41 @@ public class LinterTableSql
     {
       throw new IllegalArgumentException("No SQL provided");
     }
+
+    // The SQL is run for one table at a time, unless batches are asked
+    // for, since results from queries that are combined with UNION ALL
+    // may be converted to a common data type
+    batchSize = config.getIntegerValue("batch-size", 1);
+  }
+
+  @Override
+  protected void lint(final List<Table> tables, final Connection connection)
+    throws SchemaCrawlerException
+  {
+    if (isBlank(sql) || batchSize <= 1)
+    {
+      super.lint(tables, connection);
+      return;
+    }
+
+    requireNonNull(connection, "No connection provided");
+
+    final Query query = new Query(message, sql);
+    final Map<Table, Object> queryResults = executeForScalars(query,
+                                                              connection,
+                                                              tables,
+                                                              batchSize);
+    for (final Table table: tables)
+    {
+      if (queryResults.containsKey(table))
+      {
+        lintQueryResult(table, queryResults.get(table));
+      }
+      else
+      {
+        lint(table, connection);
+      }
+    }
   }
 
   @Override
@@ -85,6 +131,11 @@ public class LinterTableSql
 
     final Query query = new Query(message, sql);
     final Object queryResult = executeForScalar(query, connection, table);
+    lintQueryResult(table, queryResult);
+  }
+
+  private void lintQueryResult(final Table table, final Object queryResult)
+  {
     if (queryResult != null)
     {
       addTableLint(table, getSummary() + " " + queryResult);
@@ -43,6 +43,7 @@ import schemacrawler.schemacrawler.InclusionRule;
 import schemacrawler.schemacrawler.RegularExpressionInclusionRule;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.LintConcurrency;
 
 public class LinterTableWithBadlyNamedColumns
   extends BaseLinter
@@ -50,6 +51,12 @@ public class LinterTableWithBadlyNamedColumns
 
   private InclusionRule columnNames;
 
+  @Override
+  public LintConcurrency getConcurrency()
+  {
+    return LintConcurrency.catalog;
+  }
+
   @Override
   public String getSummary()
   {
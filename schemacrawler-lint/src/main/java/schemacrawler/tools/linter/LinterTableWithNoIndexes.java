@@ -35,6 +35,7 @@ import schemacrawler.filter.TableTypesFilter;
 import schemacrawler.schema.Index;
 import schemacrawler.schema.Table;
 import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.LintConcurrency;
 
 public class LinterTableWithNoIndexes
   extends BaseLinter
@@ -45,6 +46,12 @@ public class LinterTableWithNoIndexes
     setTableTypesFilter(new TableTypesFilter("TABLE"));
   }
 
+  @Override
+  public LintConcurrency getConcurrency()
+  {
+    return LintConcurrency.catalog;
+  }
+
   @Override
   public String getSummary()
   {
@@ -36,6 +36,7 @@ import schemacrawler.filter.TableTypesFilter;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.Table;
 import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.LintConcurrency;
 import schemacrawler.tools.lint.LintSeverity;
 
 public class LinterTableWithNoPrimaryKey
@@ -48,6 +49,12 @@ public class LinterTableWithNoPrimaryKey
     setTableTypesFilter(new TableTypesFilter("TABLE"));
   }
 
+  @Override
+  public LintConcurrency getConcurrency()
+  {
+    return LintConcurrency.catalog;
+  }
+
   @Override
   public String getSummary()
   {
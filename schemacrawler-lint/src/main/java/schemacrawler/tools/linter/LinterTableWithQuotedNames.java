@@ -39,12 +39,19 @@ import schemacrawler.schema.Column;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.LintConcurrency;
 import schemacrawler.utility.Identifiers;
 
 public class LinterTableWithQuotedNames
   extends BaseLinter
 {
 
+  @Override
+  public LintConcurrency getConcurrency()
+  {
+    return LintConcurrency.connection;
+  }
+
   @Override
   public String getSummary()
   {
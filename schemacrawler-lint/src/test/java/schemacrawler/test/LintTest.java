@@ -32,7 +32,11 @@ package schemacrawler.test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 
@@ -44,6 +48,7 @@ import schemacrawler.schemacrawler.RegularExpressionInclusionRule;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.test.utility.BaseDatabaseTest;
 import schemacrawler.test.utility.TestWriter;
+import schemacrawler.tools.analysis.counts.CatalogWithCounts;
 import schemacrawler.tools.lint.Lint;
 import schemacrawler.tools.lint.LintCollector;
 import schemacrawler.tools.lint.LintedCatalog;
@@ -57,6 +62,31 @@ public class LintTest
 
   private static final String LINTS_OUTPUT = "lints_output/";
 
+  private static Connection countStatements(final Connection connection,
+                                            final AtomicInteger statementsCount)
+  {
+    return (Connection) Proxy
+      .newProxyInstance(LintTest.class.getClassLoader(),
+                        new Class<?>[] { Connection.class },
+                        (proxy, method, args) -> {
+                          final String methodName = method.getName();
+                          if (methodName.equals("createStatement")
+                              || methodName.equals("prepareStatement")
+                              || methodName.equals("prepareCall"))
+                          {
+                            statementsCount.incrementAndGet();
+                          }
+                          try
+                          {
+                            return method.invoke(connection, args);
+                          }
+                          catch (final InvocationTargetException e)
+                          {
+                            throw e.getCause();
+                          }
+                        });
+  }
+
   @Test
   public void lints()
     throws Exception
@@ -107,6 +137,114 @@ public class LintTest
     }
   }
 
+  @Test
+  public void lintsConcurrently()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions
+      .setTableTypes(Arrays.asList("TABLE", "VIEW", "GLOBAL TEMPORARY"));
+    schemaCrawlerOptions
+      .setSchemaInclusionRule(new RegularExpressionInclusionRule(".*FOR_LINT"));
+
+    final Catalog catalog = getCatalog(schemaCrawlerOptions);
+    assertNotNull(catalog);
+
+    final LinterConfigs linterConfigs = new LinterConfigs(new Config());
+    final LinterConfig linterConfig = new LinterConfig("schemacrawler.tools.linter.LinterTableWithBadlyNamedColumns");
+    linterConfig.setThreshold(0);
+    linterConfig.put("bad-column-names", ".*\\.COUNTRY");
+    linterConfigs.add(linterConfig);
+
+    final Linters linters = new Linters(linterConfigs);
+
+    final LintedCatalog lintedDatabase = new LintedCatalog(catalog,
+                                                           getConnection(),
+                                                           getDataSource(),
+                                                           linters,
+                                                           4);
+    final LintCollector lintCollector = lintedDatabase.getCollector();
+    assertEquals(56, lintCollector.size());
+
+    try (final TestWriter out = new TestWriter("text");)
+    {
+      for (final Lint<?> lint: lintCollector)
+      {
+        out.println(lint);
+      }
+
+      out.assertEquals(LINTS_OUTPUT + "schemacrawler.lints.txt");
+    }
+
+    try (final TestWriter out = new TestWriter("text");)
+    {
+      out.println(linters.getLintSummary());
+      out.assertEquals(LINTS_OUTPUT + "schemacrawler.lints.summary.txt");
+    }
+  }
+
+  @Test
+  public void lintsWithRowCounts()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions
+      .setTableTypes(Arrays.asList("TABLE", "VIEW", "GLOBAL TEMPORARY"));
+    schemaCrawlerOptions
+      .setSchemaInclusionRule(new RegularExpressionInclusionRule(".*FOR_LINT"));
+
+    final Connection connection = getConnection();
+    final Catalog catalog = new CatalogWithCounts(getCatalog(schemaCrawlerOptions),
+                                                  connection,
+                                                  schemaCrawlerOptions);
+    assertNotNull(catalog);
+
+    final LinterConfigs linterConfigs = new LinterConfigs(new Config());
+    final LinterConfig linterConfig = new LinterConfig("schemacrawler.tools.linter.LinterTableWithBadlyNamedColumns");
+    linterConfig.setThreshold(0);
+    linterConfig.put("bad-column-names", ".*\\.COUNTRY");
+    linterConfigs.add(linterConfig);
+    final LinterConfig emptyTableLinterConfig = new LinterConfig("schemacrawler.tools.linter.LinterTableEmpty");
+    emptyTableLinterConfig.put("use-row-counts", "true");
+    linterConfigs.add(emptyTableLinterConfig);
+
+    final Linters linters = new Linters(linterConfigs);
+
+    // Lint with a connection that counts statements, to show that
+    // tables are not counted again
+    final AtomicInteger statementsCount = new AtomicInteger();
+    final LintedCatalog lintedDatabase = new LintedCatalog(catalog,
+                                                           countStatements(connection,
+                                                                           statementsCount),
+                                                           linters);
+    assertEquals("Tables should not be counted again",
+                 0,
+                 statementsCount.get());
+
+    final LintCollector lintCollector = lintedDatabase.getCollector();
+    assertEquals(56, lintCollector.size());
+    int emptyTableLintsCount = 0;
+    for (final Lint<?> lint: lintCollector)
+    {
+      if (lint.getLinterId()
+        .equals("schemacrawler.tools.linter.LinterTableEmpty"))
+      {
+        emptyTableLintsCount++;
+      }
+    }
+    assertEquals(7, emptyTableLintsCount);
+
+    try (final TestWriter out = new TestWriter("text");)
+    {
+      for (final Lint<?> lint: lintCollector)
+      {
+        out.println(lint);
+      }
+
+      out.assertEquals(LINTS_OUTPUT + "schemacrawler.lints.txt");
+    }
+  }
+
   @Test
   public void lintsWithExcludedColumns()
     throws Exception
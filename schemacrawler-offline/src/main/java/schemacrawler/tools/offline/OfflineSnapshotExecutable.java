@@ -34,7 +34,10 @@ import static schemacrawler.filter.FilterFactory.routineFilter;
 import static schemacrawler.filter.FilterFactory.tableFilter;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.util.function.Predicate;
 import java.util.logging.Level;
@@ -52,10 +55,13 @@ import schemacrawler.schema.Sequence;
 import schemacrawler.schema.Synonym;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import schemacrawler.schemacrawler.InclusionRule;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.executable.BaseExecutable;
 import schemacrawler.tools.executable.SchemaCrawlerExecutable;
 import schemacrawler.tools.executable.StagedExecutable;
+import schemacrawler.tools.integration.serialization.BinarySerializedCatalog;
+import schemacrawler.tools.integration.serialization.SegmentedSerializedCatalog;
 import schemacrawler.tools.integration.serialization.XmlSerializedCatalog;
 import schemacrawler.tools.offline.jdbc.OfflineConnection;
 import schemacrawler.tools.options.OutputOptions;
@@ -88,11 +94,23 @@ public class OfflineSnapshotExecutable
   {
     checkConnection(connection);
 
-    inputOptions = new OutputOptions();
-    inputOptions.setCompressedInputFile(((OfflineConnection) connection)
-      .getOfflineDatabasePath());
-
-    final Catalog catalog = loadCatalog();
+    final Path offlineDatabasePath = ((OfflineConnection) connection)
+      .getOfflineDatabasePath();
+    final Catalog catalog;
+    if (SegmentedSerializedCatalog.isSegmentedSnapshot(offlineDatabasePath))
+    {
+      catalog = loadSegmentedCatalog(offlineDatabasePath);
+    }
+    else if (BinarySerializedCatalog.isBinarySnapshot(offlineDatabasePath))
+    {
+      catalog = loadBinaryCatalog(offlineDatabasePath);
+    }
+    else
+    {
+      inputOptions = new OutputOptions();
+      inputOptions.setCompressedInputFile(offlineDatabasePath);
+      catalog = loadCatalog();
+    }
 
     executeOn(catalog, connection);
   }
@@ -143,6 +161,19 @@ public class OfflineSnapshotExecutable
     }
   }
 
+  private Catalog loadBinaryCatalog(final Path offlineDatabasePath)
+    throws SchemaCrawlerException
+  {
+    try (final InputStream in = Files.newInputStream(offlineDatabasePath);)
+    {
+      return new BinarySerializedCatalog(in);
+    }
+    catch (final IOException e)
+    {
+      throw new SchemaCrawlerException("Cannot open binary snapshot", e);
+    }
+  }
+
   private Catalog loadCatalog()
     throws SchemaCrawlerException
   {
@@ -160,6 +191,26 @@ public class OfflineSnapshotExecutable
     return xmlDatabase;
   }
 
+  private Catalog loadSegmentedCatalog(final Path offlineDatabasePath)
+    throws SchemaCrawlerException
+  {
+    // Only materialize segments with schemas that will not be reduced
+    // away later
+    final InclusionRule schemaInclusionRule = schemaCrawlerOptions == null? null
+                                                                          : schemaCrawlerOptions
+                                                                            .getSchemaInclusionRule();
+    final Predicate<String> schemaFilter;
+    if (schemaInclusionRule == null)
+    {
+      schemaFilter = schemaFullName -> true;
+    }
+    else
+    {
+      schemaFilter = schemaInclusionRule;
+    }
+    return new SegmentedSerializedCatalog(offlineDatabasePath, schemaFilter);
+  }
+
   private void loadOfflineSnapshotOptions()
   {
     if (inputOptions == null)
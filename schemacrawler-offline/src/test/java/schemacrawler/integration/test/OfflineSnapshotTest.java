@@ -29,6 +29,7 @@ package schemacrawler.integration.test;
 
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.newOutputStream;
 import static java.nio.file.Files.size;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -37,6 +38,7 @@ import static org.junit.Assert.assertTrue;
 import static schemacrawler.test.utility.TestUtility.flattenCommandlineArgs;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Writer;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -56,6 +58,8 @@ import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
 import schemacrawler.test.utility.BaseDatabaseTest;
 import schemacrawler.test.utility.TestWriter;
 import schemacrawler.tools.executable.Executable;
+import schemacrawler.tools.integration.serialization.BinarySerializedCatalog;
+import schemacrawler.tools.integration.serialization.SegmentedSerializedCatalog;
 import schemacrawler.tools.integration.serialization.XmlSerializedCatalog;
 import schemacrawler.tools.iosource.CompressedFileOutputResource;
 import schemacrawler.tools.offline.OfflineSnapshotExecutable;
@@ -165,6 +169,63 @@ public class OfflineSnapshotTest
                       OFFLINE_EXECUTABLE_OUTPUT + "details.txt");
   }
 
+  @Test
+  public void offlineBinarySnapshotExecutable()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+
+    final Catalog catalog = getCatalog(schemaCrawlerOptions);
+    final Path binarySnapshotFile = IOUtility.createTempFilePath("schemacrawler",
+                                                                 "bin");
+    try (final OutputStream out = newOutputStream(binarySnapshotFile);)
+    {
+      new BinarySerializedCatalog(catalog).save(out);
+    }
+    assertTrue("Database was not serialized to binary",
+               size(binarySnapshotFile) < size(serializedDatabaseFile));
+
+    final OfflineSnapshotExecutable executable = new OfflineSnapshotExecutable("details");
+    executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
+
+    try (final TestWriter out = new TestWriter("text");)
+    {
+      final OutputOptions outputOptions = new OutputOptions("text", out);
+
+      executable.setOutputOptions(outputOptions);
+      executable.execute(new OfflineConnection(binarySnapshotFile));
+
+      out.assertEquals(OFFLINE_EXECUTABLE_OUTPUT + "details.txt");
+    }
+  }
+
+  @Test
+  public void offlineSegmentedSnapshotExecutable()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+
+    final Catalog catalog = getCatalog(schemaCrawlerOptions);
+    final Path segmentedSnapshotFile = IOUtility
+      .createTempFilePath("schemacrawler", "seg");
+    new SegmentedSerializedCatalog(catalog).save(segmentedSnapshotFile);
+
+    final OfflineSnapshotExecutable executable = new OfflineSnapshotExecutable("details");
+    executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
+
+    try (final TestWriter out = new TestWriter("text");)
+    {
+      final OutputOptions outputOptions = new OutputOptions("text", out);
+
+      executable.setOutputOptions(outputOptions);
+      executable.execute(new OfflineConnection(segmentedSnapshotFile));
+
+      out.assertEquals(OFFLINE_EXECUTABLE_OUTPUT + "details.txt");
+    }
+  }
+
   @Before
   public void serializeCatalog()
     throws SchemaCrawlerException, IOException
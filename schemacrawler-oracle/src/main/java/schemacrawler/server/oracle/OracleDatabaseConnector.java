@@ -59,7 +59,8 @@ public final class OracleDatabaseConnector
     databaseSpecificOverrideOptionsBuilder
       .withTableColumnRetrievalStrategy(MetadataRetrievalStrategy.data_dictionary_all)
       .withForeignKeyRetrievalStrategy(MetadataRetrievalStrategy.data_dictionary_all)
-      .withIndexRetrievalStrategy(MetadataRetrievalStrategy.data_dictionary_all);
+      .withIndexRetrievalStrategy(MetadataRetrievalStrategy.data_dictionary_all)
+      .withBulkMetadataFetchSize(5000);
     return databaseSpecificOverrideOptionsBuilder;
   }
 
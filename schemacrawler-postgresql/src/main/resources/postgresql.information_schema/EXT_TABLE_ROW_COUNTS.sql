@@ -0,0 +1,15 @@
+SELECT
+  NULL AS TABLE_CATALOG,
+  NAMESPACES.NSPNAME AS TABLE_SCHEMA,
+  CLASSES.RELNAME AS TABLE_NAME,
+  CAST(CLASSES.RELTUPLES AS BIGINT) AS ROW_COUNT
+FROM
+  PG_CLASS CLASSES
+  INNER JOIN PG_NAMESPACE NAMESPACES
+    ON CLASSES.RELNAMESPACE = NAMESPACES.OID
+WHERE
+  CLASSES.RELKIND IN ('r', 'm', 'p')
+  AND CLASSES.RELTUPLES >= 0
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME
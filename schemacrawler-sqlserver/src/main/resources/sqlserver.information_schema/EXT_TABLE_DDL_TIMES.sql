@@ -0,0 +1,16 @@
+SELECT
+  DB_NAME()
+    AS TABLE_CATALOG,
+  SCHEMA_NAME(objects.schema_id)
+    AS TABLE_SCHEMA,
+  objects.name
+    AS TABLE_NAME,
+  CONVERT(VARCHAR(23), objects.modify_date, 121)
+    AS LAST_DDL_TIME
+FROM
+  sys.objects objects
+WHERE
+  objects.type IN ('U', 'V')
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME
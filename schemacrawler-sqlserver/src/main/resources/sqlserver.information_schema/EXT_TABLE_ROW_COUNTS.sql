@@ -0,0 +1,22 @@
+SELECT
+  DB_NAME()
+    AS TABLE_CATALOG,
+  SCHEMA_NAME(objects.schema_id)
+    AS TABLE_SCHEMA,
+  objects.name
+    AS TABLE_NAME,
+  SUM(partitions.rows)
+    AS ROW_COUNT
+FROM
+  sys.objects objects
+  INNER JOIN sys.partitions partitions
+    ON objects.object_id = partitions.object_id
+WHERE
+  objects.type = 'U'
+  AND partitions.index_id IN (0, 1)
+GROUP BY
+  objects.schema_id,
+  objects.name
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME
@@ -30,10 +30,12 @@ package schemacrawler.tools.analysis.associations;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 
+import schemacrawler.schema.Column;
 import schemacrawler.schema.ColumnReference;
 import schemacrawler.schema.ForeignKey;
 import schemacrawler.schema.ForeignKeyColumnReference;
@@ -42,7 +44,13 @@ import schemacrawler.schema.Table;
 final class ForeignKeys
 {
 
-  private final Collection<ColumnReference> foreignKeys;
+  private static List<Column> columnPair(final ColumnReference columnRef)
+  {
+    return Arrays.asList(columnRef.getPrimaryKeyColumn(),
+                         columnRef.getForeignKeyColumn());
+  }
+
+  private final Collection<List<Column>> foreignKeys;
 
   ForeignKeys(final List<Table> tables)
   {
@@ -56,17 +64,9 @@ final class ForeignKeys
       return false;
     }
 
-    // We have to loop through the collection, since we want to use the
-    // equals from the WeakAssociation
-    for (final ColumnReference foreignKey: foreignKeys)
-    {
-      final boolean equals = columnMap.equals(foreignKey);
-      if (equals)
-      {
-        return true;
-      }
-    }
-    return false;
+    // Look up by primary key and foreign key columns, which is how
+    // column references are compared for equality
+    return foreignKeys.contains(columnPair(columnMap));
   }
 
   @Override
@@ -75,18 +75,18 @@ final class ForeignKeys
     return foreignKeys.toString();
   }
 
-  private Collection<ColumnReference> mapForeignKeyColumns(final List<Table> tables)
+  private Collection<List<Column>> mapForeignKeyColumns(final List<Table> tables)
   {
     requireNonNull(tables);
 
-    final Collection<ColumnReference> fkColumnsMap = new HashSet<>();
+    final Collection<List<Column>> fkColumnsMap = new HashSet<>();
     for (final Table table: tables)
     {
       for (final ForeignKey foreignKey: table.getForeignKeys())
       {
         for (final ForeignKeyColumnReference columnRef: foreignKey)
         {
-          fkColumnsMap.add(columnRef);
+          fkColumnsMap.add(columnPair(columnRef));
         }
       }
     }
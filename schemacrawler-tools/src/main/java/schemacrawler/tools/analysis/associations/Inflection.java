@@ -3,6 +3,8 @@ package schemacrawler.tools.analysis.associations;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 /**
@@ -24,6 +26,15 @@ public class Inflection
 
   private static final List<String> uncountable = new ArrayList<>();
 
+  /**
+   * Singular forms of words that have already been singularized, shared
+   * by all threads. The cache is bounded, since table names come from
+   * any number of databases.
+   */
+  private static final Map<String, String> singularized = new ConcurrentHashMap<>();
+
+  private static final int MAX_SINGULARIZED = 100_000;
+
   static
   {
     // plural is "singular to plural form"
@@ -145,6 +156,27 @@ public class Inflection
    * @return The singularized word
    */
   public static String singularize(final String word)
+  {
+    if (word == null)
+    {
+      return word;
+    }
+
+    final String singularWord = singularized.get(word);
+    if (singularWord != null)
+    {
+      return singularWord;
+    }
+
+    final String computedSingularWord = computeSingular(word);
+    if (singularized.size() < MAX_SINGULARIZED)
+    {
+      singularized.put(word, computedSingularWord);
+    }
+    return computedSingularWord;
+  }
+
+  private static String computeSingular(final String word)
   {
     if (Inflection.isUncountable(word))
     {
@@ -193,6 +225,8 @@ public class Inflection
 
   private final boolean ignoreCase;
 
+  private final Pattern compiledPattern;
+
   public Inflection(final String pattern)
   {
     this(pattern, null, true);
@@ -210,6 +244,13 @@ public class Inflection
     this.pattern = pattern;
     this.replacement = replacement;
     this.ignoreCase = ignoreCase;
+
+    int flags = 0;
+    if (ignoreCase)
+    {
+      flags = flags | Pattern.CASE_INSENSITIVE;
+    }
+    compiledPattern = Pattern.compile(pattern, flags);
   }
 
   /**
@@ -221,12 +262,7 @@ public class Inflection
    */
   public boolean match(final String word)
   {
-    int flags = 0;
-    if (ignoreCase)
-    {
-      flags = flags | Pattern.CASE_INSENSITIVE;
-    }
-    return Pattern.compile(pattern, flags).matcher(word).find();
+    return compiledPattern.matcher(word).find();
   }
 
   /**
@@ -238,12 +274,6 @@ public class Inflection
    */
   public String replace(final String word)
   {
-    int flags = 0;
-    if (ignoreCase)
-    {
-      flags = flags | Pattern.CASE_INSENSITIVE;
-    }
-    return Pattern.compile(pattern, flags).matcher(word)
-      .replaceAll(replacement);
+    return compiledPattern.matcher(word).replaceAll(replacement);
   }
 }
@@ -35,6 +35,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -47,7 +48,6 @@ import sf.util.Multimap;
 import sf.util.ObjectToString;
 import sf.util.SchemaCrawlerLogger;
 import sf.util.StringFormat;
-import sf.util.Utility;
 
 final class TableMatchKeys
 {
@@ -55,6 +55,41 @@ final class TableMatchKeys
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(TableMatchKeys.class.getName());
 
+  private static long countPairs(final long count)
+  {
+    return count * (count - 1) / 2;
+  }
+
+  /**
+   * Splits a common prefix into all the prefixes that end with "_".
+   *
+   * @param commonPrefix
+   *        Common prefix of table names
+   * @return Prefixes, including the common prefix itself
+   */
+  private static List<String> splitCommonPrefixes(final String commonPrefix)
+  {
+    final List<String> splitCommonPrefixes = new ArrayList<>();
+    final String[] splitPrefix = commonPrefix.split("_");
+    if (splitPrefix != null && splitPrefix.length > 0)
+    {
+      for (int k = 0; k < splitPrefix.length; k++)
+      {
+        final StringBuilder buffer = new StringBuilder(1024);
+        for (int l = 0; l < k; l++)
+        {
+          buffer.append(splitPrefix[l]).append("_");
+        }
+        if (buffer.length() > 0)
+        {
+          splitCommonPrefixes.add(buffer.toString());
+        }
+      }
+    }
+    splitCommonPrefixes.add(commonPrefix);
+    return splitCommonPrefixes;
+  }
+
   private final List<Table> tables;
 
   private final Multimap<Table, String> tableKeys;
@@ -98,59 +133,93 @@ final class TableMatchKeys
   }
 
   /**
-   * Finds table prefixes. A prefix ends with "_".
+   * Counts table name prefixes. Every pair of table names whose common
+   * prefix ends with "_" counts once towards that prefix, and towards
+   * each shorter prefix that ends with "_". Rather than comparing every
+   * pair of table names, pairs are counted from the number of table
+   * names that start with each prefix.
    *
    * @param tables
    *        Tables
-   * @return Table name prefixes
+   * @return Counts of pairs of table names, by lower case prefix
    */
-  private Collection<String> findTableNamePrefixes(final List<Table> tables)
+  private SortedMap<String, Long> countTableNamePrefixes(final List<Table> tables)
   {
-    final SortedMap<String, Integer> prefixesMap = new TreeMap<>();
-    for (int i = 0; i < tables.size(); i++)
+    // Count table names by each prefix ending with "_", by that prefix
+    // and the next character, and by the full name
+    final Map<String, Long> prefixCounts = new HashMap<>();
+    final Map<String, Long> nextCharacterCounts = new HashMap<>();
+    final Map<String, Long> nameCounts = new HashMap<>();
+    for (final Table table: tables)
     {
-      for (int j = i + 1; j < tables.size(); j++)
+      final String tableName = table.getName();
+      for (int i = tableName.indexOf('_'); i >= 0; i = tableName
+        .indexOf('_', i + 1))
       {
-        final String table1 = tables.get(i).getName();
-        final String table2 = tables.get(j).getName();
-        final String commonPrefix = Utility.commonPrefix(table1, table2);
-        if (!isBlank(commonPrefix) && commonPrefix.endsWith("_"))
+        prefixCounts.merge(tableName.substring(0, i + 1), 1L, Long::sum);
+        if (i + 1 < tableName.length())
         {
-          final List<String> splitCommonPrefixes = new ArrayList<>();
-          final String[] splitPrefix = commonPrefix.split("_");
-          if (splitPrefix != null && splitPrefix.length > 0)
-          {
-            for (int k = 0; k < splitPrefix.length; k++)
-            {
-              final StringBuilder buffer = new StringBuilder(1024);
-              for (int l = 0; l < k; l++)
-              {
-                buffer.append(splitPrefix[l]).append("_");
-              }
-              if (buffer.length() > 0)
-              {
-                splitCommonPrefixes.add(buffer.toString());
-              }
-            }
-          }
-          splitCommonPrefixes.add(commonPrefix);
+          nextCharacterCounts.merge(tableName.substring(0, i + 2),
+                                    1L,
+                                    Long::sum);
+        }
+      }
+      nameCounts.merge(tableName, 1L, Long::sum);
+    }
 
-          for (final String splitCommonPrefix: splitCommonPrefixes)
-          {
-            final int prevCount;
-            if (prefixesMap.containsKey(splitCommonPrefix))
-            {
-              prevCount = prefixesMap.get(splitCommonPrefix);
-            }
-            else
-            {
-              prevCount = 0;
-            }
-            prefixesMap.put(splitCommonPrefix, prevCount + 1);
-          }
+    // Pairs with a given common prefix are all the pairs starting with
+    // that prefix, less the pairs that have a longer common prefix,
+    // and less the pairs of identical names, which have no common
+    // prefix
+    final Map<String, Long> pairCounts = new HashMap<>();
+    for (final Entry<String, Long> prefixCount: prefixCounts.entrySet())
+    {
+      pairCounts.put(prefixCount.getKey(), countPairs(prefixCount.getValue()));
+    }
+    for (final Entry<String, Long> nextCharacterCount: nextCharacterCounts
+      .entrySet())
+    {
+      final String prefix = nextCharacterCount.getKey();
+      pairCounts.merge(prefix.substring(0, prefix.length() - 1),
+                       -countPairs(nextCharacterCount.getValue()),
+                       Long::sum);
+    }
+    for (final Entry<String, Long> nameCount: nameCounts.entrySet())
+    {
+      if (pairCounts.containsKey(nameCount.getKey()))
+      {
+        pairCounts.merge(nameCount.getKey(),
+                         -countPairs(nameCount.getValue()),
+                         Long::sum);
+      }
+    }
+
+    final SortedMap<String, Long> prefixesMap = new TreeMap<>();
+    for (final Entry<String, Long> pairCount: pairCounts.entrySet())
+    {
+      final long count = pairCount.getValue();
+      if (count > 0)
+      {
+        final String commonPrefix = pairCount.getKey().toLowerCase();
+        for (final String splitCommonPrefix: splitCommonPrefixes(commonPrefix))
+        {
+          prefixesMap.merge(splitCommonPrefix, count, Long::sum);
         }
       }
     }
+    return prefixesMap;
+  }
+
+  /**
+   * Finds table prefixes. A prefix ends with "_".
+   *
+   * @param tables
+   *        Tables
+   * @return Table name prefixes
+   */
+  private Collection<String> findTableNamePrefixes(final List<Table> tables)
+  {
+    final SortedMap<String, Long> prefixesMap = countTableNamePrefixes(tables);
 
     // Make sure we have the smallest prefixes
     final List<String> keySet = new ArrayList<>(prefixesMap.keySet());
@@ -183,14 +252,14 @@ final class TableMatchKeys
 
     // Sort prefixes by the number of tables using them, in descending
     // order
-    final List<Map.Entry<String, Integer>> prefixesList = new ArrayList<>(prefixesMap
+    final List<Map.Entry<String, Long>> prefixesList = new ArrayList<>(prefixesMap
       .entrySet());
-    Collections.sort(prefixesList, new Comparator<Map.Entry<String, Integer>>()
+    Collections.sort(prefixesList, new Comparator<Map.Entry<String, Long>>()
     {
 
       @Override
-      public int compare(final Entry<String, Integer> entry1,
-                         final Entry<String, Integer> entry2)
+      public int compare(final Entry<String, Long> entry1,
+                         final Entry<String, Long> entry2)
       {
         return entry1.getValue().compareTo(entry2.getValue());
       }
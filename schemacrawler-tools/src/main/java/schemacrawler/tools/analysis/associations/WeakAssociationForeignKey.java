@@ -77,6 +77,21 @@ public class WeakAssociationForeignKey
       return -1;
     }
 
+    if (obj instanceof WeakAssociationForeignKey)
+    {
+      // Compare column references in place, since weak associations are
+      // sorted often, and copying them into lists is expensive
+      final SortedSet<WeakAssociation> otherColumnReferences = ((WeakAssociationForeignKey) obj).columnReferences;
+      int comparison = columnReferences.size() - otherColumnReferences.size();
+      final Iterator<WeakAssociation> iter1 = columnReferences.iterator();
+      final Iterator<WeakAssociation> iter2 = otherColumnReferences.iterator();
+      while (comparison == 0 && iter1.hasNext() && iter2.hasNext())
+      {
+        comparison = iter1.next().compareTo(iter2.next());
+      }
+      return comparison;
+    }
+
     final BaseForeignKey<?> other = (BaseForeignKey<?>) obj;
     final List<? extends ColumnReference> thisColumnReferences = getColumnReferences();
     final List<? extends ColumnReference> otherColumnReferences = other
@@ -29,8 +29,10 @@ package schemacrawler.tools.analysis.associations;
 
 
 import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
 import static schemacrawler.tools.analysis.associations.WeakAssociationsUtility.addWeakAssociationToTable;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -45,6 +47,16 @@ import schemacrawler.utility.MetaDataUtility;
 import sf.util.SchemaCrawlerLogger;
 import sf.util.StringFormat;
 
+/**
+ * Finds weak associations between tables, by matching column names to
+ * table names, and to the names of primary key and unique columns. The
+ * match key indexes are built once, and then tables are analyzed in
+ * parallel, since the indexes are only read. Weak associations are
+ * added to the results, and to the tables, in table order, so the
+ * results do not depend on the order in which the tables are analyzed.
+ *
+ * @author Sualeh Fatehi
+ */
 final class WeakAssociationsAnalyzer
 {
 
@@ -103,55 +115,76 @@ final class WeakAssociationsAnalyzer
       LOGGER.log(Level.FINER,
                  new StringFormat("Column match keys <%s>", tableMatchKeys));
     }
-    for (final Table table: tables)
+
+    final List<List<WeakAssociation>> tablesWeakAssociations = tables
+      .parallelStream()
+      .map(table -> findWeakAssociations(table,
+                                         foreignKeys,
+                                         columnMatchKeysMap,
+                                         tableMatchKeys))
+      .collect(toList());
+    for (final List<WeakAssociation> tableWeakAssociations: tablesWeakAssociations)
     {
-      final TableCandidateKeys tableCandidateKeys = new TableCandidateKeys(table);
-      LOGGER
-        .log(Level.FINER,
-             new StringFormat("Table candidate keys <%s>", tableCandidateKeys));
-      for (final Column pkColumn: tableCandidateKeys)
+      for (final WeakAssociation weakAssociation: tableWeakAssociations)
       {
-        final Set<String> fkColumnMatchKeys = new HashSet<>();
-        // Look for all columns matching this table match key
-        if (pkColumn.isPartOfPrimaryKey())
-        {
-          fkColumnMatchKeys.addAll(tableMatchKeys.get(table));
-        }
-        // Look for all columns matching this column match key
-        if (columnMatchKeysMap.containsKey(pkColumn))
+        addWeakAssociation(weakAssociation);
+      }
+    }
+  }
+
+  private List<WeakAssociation> findWeakAssociations(final Table table,
+                                                     final ForeignKeys foreignKeys,
+                                                     final ColumnMatchKeysMap columnMatchKeysMap,
+                                                     final TableMatchKeys tableMatchKeys)
+  {
+    final List<WeakAssociation> tableWeakAssociations = new ArrayList<>();
+    final TableCandidateKeys tableCandidateKeys = new TableCandidateKeys(table);
+    LOGGER
+      .log(Level.FINER,
+           new StringFormat("Table candidate keys <%s>", tableCandidateKeys));
+    for (final Column pkColumn: tableCandidateKeys)
+    {
+      final Set<String> fkColumnMatchKeys = new HashSet<>();
+      // Look for all columns matching this table match key
+      if (pkColumn.isPartOfPrimaryKey())
+      {
+        fkColumnMatchKeys.addAll(tableMatchKeys.get(table));
+      }
+      // Look for all columns matching this column match key
+      if (columnMatchKeysMap.containsKey(pkColumn))
+      {
+        fkColumnMatchKeys.addAll(columnMatchKeysMap.get(pkColumn));
+      }
+
+      final Set<Column> fkColumns = new HashSet<>();
+      for (final String fkColumnMatchKey: fkColumnMatchKeys)
+      {
+        if (columnMatchKeysMap.containsKey(fkColumnMatchKey))
         {
-          fkColumnMatchKeys.addAll(columnMatchKeysMap.get(pkColumn));
+          fkColumns.addAll(columnMatchKeysMap.get(fkColumnMatchKey));
         }
+      }
 
-        final Set<Column> fkColumns = new HashSet<>();
-        for (final String fkColumnMatchKey: fkColumnMatchKeys)
+      for (final Column fkColumn: fkColumns)
+      {
+        if (pkColumn.equals(fkColumn))
         {
-          if (columnMatchKeysMap.containsKey(fkColumnMatchKey))
-          {
-            fkColumns.addAll(columnMatchKeysMap.get(fkColumnMatchKey));
-          }
+          continue;
         }
 
-        for (final Column fkColumn: fkColumns)
+        final WeakAssociation weakAssociation = new WeakAssociation(pkColumn,
+                                                                    fkColumn);
+        if (weakAssociation.isValid()
+            && !foreignKeys.contains(weakAssociation))
         {
-          if (pkColumn.equals(fkColumn))
-          {
-            continue;
-          }
-
-          final WeakAssociation weakAssociation = new WeakAssociation(pkColumn,
-                                                                      fkColumn);
-          if (weakAssociation.isValid()
-              && !foreignKeys.contains(weakAssociation))
-          {
-            LOGGER.log(Level.FINE,
-                       new StringFormat("Found weak association <%s>",
-                                        weakAssociation));
-            addWeakAssociation(weakAssociation);
-          }
+          LOGGER.log(Level.FINE,
+                     new StringFormat("Found weak association <%s>",
+                                      weakAssociation));
+          tableWeakAssociations.add(weakAssociation);
         }
       }
     }
+    return tableWeakAssociations;
   }
 
 }
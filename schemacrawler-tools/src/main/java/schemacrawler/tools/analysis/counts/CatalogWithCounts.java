@@ -28,22 +28,40 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.analysis.counts;
 
 
+import static java.util.Objects.requireNonNull;
 import static schemacrawler.tools.analysis.counts.CountsUtility.addRowCountToTable;
+import static schemacrawler.utility.QueryUtility.executeAgainstSchema;
 import static schemacrawler.utility.QueryUtility.executeForLong;
 import static sf.util.DatabaseUtility.checkConnection;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 
+import javax.sql.DataSource;
+
 import schemacrawler.crawl.TablesReducer;
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.BaseCatalogDecorator;
+import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.tools.text.operation.Operation;
@@ -66,6 +84,25 @@ public final class CatalogWithCounts
                            final Connection connection,
                            final SchemaCrawlerOptions options)
     throws SchemaCrawlerException
+  {
+    this(catalog,
+         connection,
+         options,
+         new InformationSchemaViews(),
+         new TableCountsOptions());
+  }
+
+  /**
+   * Counts table rows one table at a time on the connection provided.
+   * Estimated counts are used where the database provides them, if
+   * they are asked for.
+   */
+  public CatalogWithCounts(final Catalog catalog,
+                           final Connection connection,
+                           final SchemaCrawlerOptions options,
+                           final InformationSchemaViews informationSchemaViews,
+                           final TableCountsOptions tableCountsOptions)
+    throws SchemaCrawlerException
   {
     super(catalog);
 
@@ -83,27 +120,69 @@ public final class CatalogWithCounts
       return;
     }
 
-    final Query query = Operation.count.getQuery();
     final List<Table> allTables = new ArrayList<>(catalog.getTables());
-    for (final Table table: allTables)
+    if (tableCountsOptions.isEstimatedCounts())
     {
-      try
+      retrieveEstimatedCounts(connection,
+                              informationSchemaViews,
+                              options,
+                              allTables);
+    }
+
+    try (final Statement statement = connection.createStatement();)
+    {
+      statement.setQueryTimeout(tableCountsOptions.getQueryTimeoutSeconds());
+      for (final Table table: allTables)
       {
-        final long count = executeForLong(query, connection, table);
-        counts.put(table, count);
-        addRowCountToTable(table, count);
+        countRows(statement, table).ifPresent(count -> counts.put(table,
+                                                                  count));
       }
-      catch (final SchemaCrawlerException e)
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerException("Could not count table rows", e);
+    }
+
+    addCountsToTables(options);
+  }
+
+  /**
+   * Counts table rows concurrently, on as many connections from the
+   * data source as are allowed by the options. Each worker takes the
+   * next uncounted table until all tables have been counted. If the
+   * calling thread is interrupted, running queries are cancelled.
+   */
+  public CatalogWithCounts(final Catalog catalog,
+                           final DataSource dataSource,
+                           final SchemaCrawlerOptions options,
+                           final InformationSchemaViews informationSchemaViews,
+                           final TableCountsOptions tableCountsOptions)
+    throws SchemaCrawlerException
+  {
+    super(catalog);
+    requireNonNull(dataSource, "No data source provided");
+
+    counts = new HashMap<>();
+
+    final List<Table> allTables = new ArrayList<>(catalog.getTables());
+    if (tableCountsOptions.isEstimatedCounts())
+    {
+      try (final Connection connection = dataSource.getConnection();)
       {
-        LOGGER
-          .log(Level.WARNING,
-               new StringFormat("Could not get count for table <%s>", table),
-               e);
+        retrieveEstimatedCounts(connection,
+                                informationSchemaViews,
+                                options,
+                                allTables);
+      }
+      catch (final SQLException e)
+      {
+        throw new SchemaCrawlerException("Could not obtain a connection", e);
       }
     }
 
-    reduce(Table.class,
-           new TablesReducer(options, new TableCountFilter(options)));
+    countRowsConcurrently(dataSource, tableCountsOptions, allTables);
+
+    addCountsToTables(options);
   }
 
   /**
@@ -129,4 +208,212 @@ public final class CatalogWithCounts
     return Optional.of(getAttribute(name));
   }
 
+  private void addCountsToTables(final SchemaCrawlerOptions options)
+  {
+    for (final Map.Entry<Table, Long> count: counts.entrySet())
+    {
+      addRowCountToTable(count.getKey(), count.getValue());
+    }
+
+    reduce(Table.class,
+           new TablesReducer(options, new TableCountFilter(options)));
+  }
+
+  private Optional<Long> countRows(final Statement statement,
+                                   final Table table)
+  {
+    final Query query = Operation.count.getQuery();
+    try
+    {
+      return Optional.of(executeForLong(query, statement, table));
+    }
+    catch (final SchemaCrawlerException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not get count for table <%s>", table),
+                 e);
+      return Optional.empty();
+    }
+  }
+
+  private void countRowsConcurrently(final DataSource dataSource,
+                                     final TableCountsOptions tableCountsOptions,
+                                     final List<Table> tables)
+    throws SchemaCrawlerException
+  {
+    if (tables.isEmpty())
+    {
+      return;
+    }
+
+    final int numWorkers = Math
+      .min(tableCountsOptions.getMaxConnections(), tables.size());
+    final Queue<Table> uncountedTables = new ConcurrentLinkedQueue<>(tables);
+    final Map<Table, Long> concurrentCounts = new ConcurrentHashMap<>();
+    final Set<Statement> runningStatements = ConcurrentHashMap.newKeySet();
+
+    final ExecutorService executorService = Executors
+      .newFixedThreadPool(numWorkers);
+    try
+    {
+      final List<Future<Void>> workers = new ArrayList<>(numWorkers);
+      for (int i = 0; i < numWorkers; i++)
+      {
+        workers.add(executorService.submit(() -> {
+          try (final Connection connection = dataSource.getConnection();
+              final Statement statement = connection.createStatement();)
+          {
+            statement
+              .setQueryTimeout(tableCountsOptions.getQueryTimeoutSeconds());
+            runningStatements.add(statement);
+            try
+            {
+              Table table;
+              while (!Thread.currentThread().isInterrupted()
+                     && (table = uncountedTables.poll()) != null)
+              {
+                final Table countedTable = table;
+                countRows(statement, countedTable)
+                  .ifPresent(count -> concurrentCounts.put(countedTable,
+                                                           count));
+              }
+            }
+            finally
+            {
+              runningStatements.remove(statement);
+            }
+          }
+          return null;
+        }));
+      }
+
+      for (final Future<Void> worker: workers)
+      {
+        try
+        {
+          worker.get();
+        }
+        catch (final ExecutionException e)
+        {
+          // Other workers continue to drain the queue
+          LOGGER.log(Level.WARNING,
+                     "Could not count table rows on a connection",
+                     e.getCause());
+        }
+      }
+    }
+    catch (final InterruptedException e)
+    {
+      for (final Statement statement: runningStatements)
+      {
+        try
+        {
+          statement.cancel();
+        }
+        catch (final SQLException e1)
+        {
+          LOGGER.log(Level.FINE, "Could not cancel row count query", e1);
+        }
+      }
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerException("Interrupted while counting table rows",
+                                       e);
+    }
+    finally
+    {
+      executorService.shutdownNow();
+    }
+
+    counts.putAll(concurrentCounts);
+    if (!uncountedTables.isEmpty())
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not get counts for %d tables",
+                                  uncountedTables.size()));
+    }
+  }
+
+  private Optional<Table> lookupTable(final String catalogName,
+                                      final String schemaName,
+                                      final String tableName)
+  {
+    for (final Schema schema: getSchemas())
+    {
+      if ((catalogName == null
+           || Objects.equals(catalogName, schema.getCatalogName()))
+          && Objects.equals(schemaName, schema.getName()))
+      {
+        final Optional<? extends Table> table = lookupTable(schema,
+                                                            tableName);
+        if (table.isPresent())
+        {
+          return Optional.of(table.get());
+        }
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Reads estimated row counts from optimizer statistics, and removes
+   * the tables that have an estimate from the list of tables that
+   * still need to be counted.
+   */
+  private void retrieveEstimatedCounts(final Connection connection,
+                                       final InformationSchemaViews informationSchemaViews,
+                                       final SchemaCrawlerOptions options,
+                                       final List<Table> tables)
+  {
+    if (!informationSchemaViews.hasExtTableRowCountsSql())
+    {
+      LOGGER
+        .log(Level.INFO,
+             "Not retrieving estimated table row counts, since no SQL was provided");
+      return;
+    }
+
+    final Query query = informationSchemaViews.getExtTableRowCountsSql();
+    try (final Statement statement = connection.createStatement();
+        final ResultSet results = executeAgainstSchema(query,
+                                                       statement,
+                                                       options
+                                                         .getSchemaInclusionRule());)
+    {
+      if (results == null)
+      {
+        return;
+      }
+      while (results.next())
+      {
+        final String catalogName = results.getString("TABLE_CATALOG");
+        final String schemaName = results.getString("TABLE_SCHEMA");
+        final String tableName = results.getString("TABLE_NAME");
+        final long count = results.getLong("ROW_COUNT");
+        if (results.wasNull() || count < 0)
+        {
+          continue;
+        }
+
+        final Optional<Table> table = lookupTable(catalogName,
+                                                  schemaName,
+                                                  tableName);
+        if (table.isPresent())
+        {
+          counts.put(table.get(), count);
+        }
+      }
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 "Could not retrieve estimated table row counts",
+                 e);
+    }
+
+    tables.removeAll(counts.keySet());
+    LOGGER.log(Level.INFO,
+               new StringFormat("Using estimated row counts for %d tables",
+                                counts.size()));
+  }
+
 }
@@ -0,0 +1,89 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.analysis.counts;
+
+
+import schemacrawler.schemacrawler.Options;
+
+/**
+ * Options for obtaining table row counts.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class TableCountsOptions
+  implements Options
+{
+
+  private static final long serialVersionUID = 2936458127460351374L;
+
+  private int maxConnections = 1;
+  private int queryTimeoutSeconds;
+  private boolean isEstimatedCounts;
+
+  /**
+   * Maximum number of connections used to count rows concurrently.
+   */
+  public int getMaxConnections()
+  {
+    return maxConnections;
+  }
+
+  /**
+   * Timeout in seconds for each row count query, or zero for no
+   * timeout.
+   */
+  public int getQueryTimeoutSeconds()
+  {
+    return queryTimeoutSeconds;
+  }
+
+  /**
+   * Whether row counts are read from the optimizer statistics of the
+   * database, where available, instead of counting rows.
+   */
+  public boolean isEstimatedCounts()
+  {
+    return isEstimatedCounts;
+  }
+
+  public void setEstimatedCounts(final boolean isEstimatedCounts)
+  {
+    this.isEstimatedCounts = isEstimatedCounts;
+  }
+
+  public void setMaxConnections(final int maxConnections)
+  {
+    this.maxConnections = Math.max(1, maxConnections);
+  }
+
+  public void setQueryTimeoutSeconds(final int queryTimeoutSeconds)
+  {
+    this.queryTimeoutSeconds = Math.max(0, queryTimeoutSeconds);
+  }
+
+}
@@ -0,0 +1,119 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.analysis.counts;
+
+
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.OptionsBuilder;
+
+public final class TableCountsOptionsBuilder
+  implements OptionsBuilder<TableCountsOptions>
+{
+
+  private static final String SCHEMACRAWLER_COUNTS_PREFIX = "schemacrawler.counts.";
+
+  private static final String MAX_CONNECTIONS = SCHEMACRAWLER_COUNTS_PREFIX
+                                                + "max_connections";
+  private static final String QUERY_TIMEOUT_SECONDS = SCHEMACRAWLER_COUNTS_PREFIX
+                                                      + "query_timeout_seconds";
+  private static final String ESTIMATED = SCHEMACRAWLER_COUNTS_PREFIX
+                                          + "estimated";
+
+  private final TableCountsOptions options;
+
+  public TableCountsOptionsBuilder()
+  {
+    options = new TableCountsOptions();
+  }
+
+  public TableCountsOptionsBuilder estimated(final boolean value)
+  {
+    options.setEstimatedCounts(value);
+    return this;
+  }
+
+  @Override
+  public TableCountsOptionsBuilder fromConfig(final Config map)
+  {
+    if (map == null)
+    {
+      return this;
+    }
+
+    final Config config = new Config(map);
+
+    options.setMaxConnections(config
+      .getIntegerValue(MAX_CONNECTIONS, options.getMaxConnections()));
+    options.setQueryTimeoutSeconds(config
+      .getIntegerValue(QUERY_TIMEOUT_SECONDS,
+                       options.getQueryTimeoutSeconds()));
+    options.setEstimatedCounts(config
+      .getBooleanValue(ESTIMATED, options.isEstimatedCounts()));
+
+    return this;
+  }
+
+  public TableCountsOptionsBuilder maxConnections(final int value)
+  {
+    options.setMaxConnections(value);
+    return this;
+  }
+
+  public TableCountsOptionsBuilder queryTimeoutSeconds(final int value)
+  {
+    options.setQueryTimeoutSeconds(value);
+    return this;
+  }
+
+  @Override
+  public Config toConfig()
+  {
+    final Config config = new Config();
+
+    config.setStringValue(MAX_CONNECTIONS,
+                          String.valueOf(options.getMaxConnections()));
+    config.setStringValue(QUERY_TIMEOUT_SECONDS,
+                          String.valueOf(options.getQueryTimeoutSeconds()));
+    config.setBooleanValue(ESTIMATED, options.isEstimatedCounts());
+
+    return config;
+  }
+
+  @Override
+  public TableCountsOptions toOptions()
+  {
+    return options;
+  }
+
+  @Override
+  public String toString()
+  {
+    return options.toString();
+  }
+
+}
@@ -35,17 +35,78 @@ import java.util.logging.Level;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.tools.traversal.CompositeSchemaTraversalHandler;
+import schemacrawler.tools.traversal.SchemaTraversalHandler;
+import schemacrawler.tools.traversal.SchemaTraverser;
 import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
 
 /**
  * Allows chaining multiple executables with the same configuration. The
  * catalog is obtained just once, and passed on from executable to
- * executable for efficiency in execution.
+ * executable for efficiency in execution. Decorated catalogs are shared
+ * between the executables, and executables that traverse the same
+ * catalog in the same order share a single traversal. Executables that
+ * do not traverse the catalog still run in command order.
  */
 abstract class BaseCommandChainExecutable
   extends BaseStagedExecutable
 {
 
+  /**
+   * Executables that share a single traversal of a catalog.
+   */
+  private static final class SharedTraversal
+  {
+
+    private final SchemaTraverser traverser;
+    private final List<BaseStagedExecutable> executables;
+    private final List<SchemaTraversalHandler> handlers;
+
+    SharedTraversal(final SchemaTraverser traverser)
+    {
+      this.traverser = traverser;
+      executables = new ArrayList<>();
+      handlers = new ArrayList<>();
+    }
+
+    void add(final BaseStagedExecutable executable,
+             final SchemaTraverser executableTraverser)
+    {
+      executables.add(executable);
+      handlers.add(executableTraverser.getHandler());
+    }
+
+    boolean isSharedWith(final SchemaTraverser executableTraverser)
+    {
+      return traverser.getCatalog() == executableTraverser.getCatalog()
+             && traverser.getTablesComparator()
+               .equals(executableTraverser.getTablesComparator())
+             && traverser.getRoutinesComparator()
+               .equals(executableTraverser.getRoutinesComparator());
+    }
+
+    void traverse()
+      throws Exception
+    {
+      if (handlers.size() == 1)
+      {
+        traverser.setHandler(handlers.get(0));
+      }
+      else
+      {
+        traverser.setHandler(new CompositeSchemaTraversalHandler(handlers));
+      }
+      traverser.traverse();
+
+      for (final BaseStagedExecutable executable: executables)
+      {
+        executable.afterSchemaTraversal();
+      }
+    }
+
+  }
+
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(BaseCommandChainExecutable.class.getName());
 
@@ -65,6 +126,10 @@ abstract class BaseCommandChainExecutable
   {
     if (executable != null)
     {
+      if (executable instanceof BaseStagedExecutable)
+      {
+        ((BaseStagedExecutable) executable).shareDecoratedCatalogs(this);
+      }
       executables.add(executable);
     }
     return executable;
@@ -80,13 +145,68 @@ abstract class BaseCommandChainExecutable
       return;
     }
 
+    // Executables that traverse the catalog are prepared, and traversed
+    // together when the next executable that does not traverse the
+    // catalog is reached, so that executables that do not traverse the
+    // catalog run in command order
+    final List<SharedTraversal> sharedTraversals = new ArrayList<>();
+    int traversalsCount = 0;
     for (final Executable executable: executables)
     {
-      if (executable instanceof BaseStagedExecutable)
+      if (!(executable instanceof BaseStagedExecutable))
+      {
+        continue;
+      }
+
+      final BaseStagedExecutable stagedExecutable = (BaseStagedExecutable) executable;
+      final SchemaTraverser traverser = stagedExecutable
+        .prepareSchemaTraversal(catalog, connection);
+      if (traverser == null)
+      {
+        traversalsCount = traversalsCount + traverse(sharedTraversals);
+        stagedExecutable.executeOn(catalog, connection);
+        continue;
+      }
+
+      SharedTraversal sharedTraversal = null;
+      for (final SharedTraversal otherSharedTraversal: sharedTraversals)
+      {
+        if (otherSharedTraversal.isSharedWith(traverser))
+        {
+          sharedTraversal = otherSharedTraversal;
+          break;
+        }
+      }
+      if (sharedTraversal == null)
       {
-        ((BaseStagedExecutable) executable).executeOn(catalog, connection);
+        sharedTraversal = new SharedTraversal(traverser);
+        sharedTraversals.add(sharedTraversal);
       }
+      sharedTraversal.add(stagedExecutable, traverser);
+    }
+    traversalsCount = traversalsCount + traverse(sharedTraversals);
+
+    LOGGER.log(Level.INFO,
+               new StringFormat("Executed %d commands with %d traversals",
+                                executables.size(),
+                                traversalsCount));
+  }
+
+  /**
+   * Runs traversals that are pending, and clears them.
+   *
+   * @return Number of traversals that were run
+   */
+  private int traverse(final List<SharedTraversal> sharedTraversals)
+    throws Exception
+  {
+    final int traversalsCount = sharedTraversals.size();
+    for (final SharedTraversal sharedTraversal: sharedTraversals)
+    {
+      sharedTraversal.traverse();
     }
+    sharedTraversals.clear();
+    return traversalsCount;
   }
 
 }
@@ -32,11 +32,22 @@ package schemacrawler.tools.executable;
 import static java.util.Objects.requireNonNull;
 
 import java.sql.Connection;
+import java.util.Optional;
 import java.util.logging.Level;
 
+import javax.sql.DataSource;
+
 import schemacrawler.crawl.SchemaCrawler;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.tools.analysis.associations.CatalogWithAssociations;
+import schemacrawler.tools.analysis.counts.CatalogWithCounts;
+import schemacrawler.tools.analysis.counts.TableCountsOptions;
+import schemacrawler.tools.analysis.counts.TableCountsOptionsBuilder;
+import schemacrawler.tools.traversal.SchemaTraverser;
+import schemacrawler.utility.CatalogCache;
 import sf.util.ObjectToString;
 import sf.util.SchemaCrawlerLogger;
 import sf.util.StringFormat;
@@ -54,9 +65,15 @@ public abstract class BaseStagedExecutable
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(BaseStagedExecutable.class.getName());
 
+  private DataSource dataSource;
+  private InformationSchemaViews informationSchemaViews;
+  private DecoratedCatalogs decoratedCatalogs;
+
   protected BaseStagedExecutable(final String command)
   {
     super(command);
+    informationSchemaViews = new InformationSchemaViews();
+    decoratedCatalogs = new DecoratedCatalogs();
   }
 
   /**
@@ -86,11 +103,171 @@ public abstract class BaseStagedExecutable
       LOGGER.log(Level.FINE, ObjectToString.toString(additionalConfiguration));
     }
 
-    final SchemaCrawler schemaCrawler = new SchemaCrawler(connection,
-                                                          databaseSpecificOverrideOptions);
-    final Catalog catalog = schemaCrawler.crawl(schemaCrawlerOptions);
+    informationSchemaViews = databaseSpecificOverrideOptions
+      .getInformationSchemaViews();
+
+    if (executeInChunks(connection, databaseSpecificOverrideOptions))
+    {
+      return;
+    }
+
+    final Optional<CatalogCache> catalogCache = CatalogCache
+      .fromConfig(additionalConfiguration);
+    Catalog catalog = null;
+    if (catalogCache.isPresent())
+    {
+      catalog = catalogCache.get()
+        .load(connection, schemaCrawlerOptions, databaseSpecificOverrideOptions)
+        .orElse(null);
+    }
+    if (catalog == null)
+    {
+      final SchemaCrawler schemaCrawler = new SchemaCrawler(connection,
+                                                            databaseSpecificOverrideOptions);
+      catalog = schemaCrawler.crawl(schemaCrawlerOptions);
+      if (catalogCache.isPresent())
+      {
+        catalogCache.get().store(connection,
+                                 schemaCrawlerOptions,
+                                 databaseSpecificOverrideOptions,
+                                 catalog);
+      }
+    }
 
     executeOn(catalog, connection);
   }
 
+  /**
+   * Gets the optional data source, which is used to open additional
+   * connections for work that can be done concurrently.
+   *
+   * @return Data source, or null if none was provided
+   */
+  protected final DataSource getDataSource()
+  {
+    return dataSource;
+  }
+
+  /**
+   * Sets an optional data source, which is used to open additional
+   * connections for work that can be done concurrently, such as
+   * counting table rows.
+   *
+   * @param dataSource
+   *        Data source for the same database as the connection that
+   *        the executable is run on
+   */
+  public final void setDataSource(final DataSource dataSource)
+  {
+    this.dataSource = dataSource;
+  }
+
+  /**
+   * Completes the execution after the catalog was traversed with the
+   * traverser from {@link #prepareSchemaTraversal(Catalog, Connection)}.
+   */
+  protected void afterSchemaTraversal()
+    throws Exception
+  {
+  }
+
+  /**
+   * Decorates the catalog with weak associations. The decorated catalog
+   * is shared with other commands in the same chain.
+   */
+  protected final Catalog newCatalogWithAssociations(final Catalog catalog)
+  {
+    Catalog catalogWithAssociations = decoratedCatalogs
+      .getCatalogWithAssociations(catalog);
+    if (catalogWithAssociations == null)
+    {
+      catalogWithAssociations = new CatalogWithAssociations(catalog);
+      decoratedCatalogs.putCatalogWithAssociations(catalog,
+                                                   catalogWithAssociations);
+    }
+    return catalogWithAssociations;
+  }
+
+  /**
+   * Decorates the catalog with table row counts, counting concurrently
+   * if a data source was provided, and more than one connection is
+   * allowed by the additional configuration. The decorated catalog is
+   * shared with other commands in the same chain, so tables are counted
+   * only once.
+   */
+  protected final Catalog newCatalogWithCounts(final Catalog catalog,
+                                               final Connection connection)
+    throws SchemaCrawlerException
+  {
+    final Catalog sharedCatalogWithCounts = decoratedCatalogs
+      .getCatalogWithCounts(catalog);
+    if (sharedCatalogWithCounts != null)
+    {
+      return sharedCatalogWithCounts;
+    }
+
+    final TableCountsOptions tableCountsOptions = new TableCountsOptionsBuilder()
+      .fromConfig(additionalConfiguration).toOptions();
+    final Catalog catalogWithCounts;
+    if (dataSource != null && tableCountsOptions.getMaxConnections() > 1)
+    {
+      catalogWithCounts = new CatalogWithCounts(catalog,
+                                                dataSource,
+                                                schemaCrawlerOptions,
+                                                informationSchemaViews,
+                                                tableCountsOptions);
+    }
+    else
+    {
+      catalogWithCounts = new CatalogWithCounts(catalog,
+                                                connection,
+                                                schemaCrawlerOptions,
+                                                informationSchemaViews,
+                                                tableCountsOptions);
+    }
+    decoratedCatalogs.putCatalogWithCounts(catalog, catalogWithCounts);
+    return catalogWithCounts;
+  }
+
+  /**
+   * Prepares a traversal of the catalog, with the traversal handler and
+   * sort order of this executable, but does not traverse it. Chains of
+   * commands use this to feed the handlers of several commands from a
+   * single traversal, and then call {@link #afterSchemaTraversal()}.
+   * Executables that do not traverse the catalog in this way return
+   * null, and are run with {@link #executeOn(Catalog, Connection)}.
+   *
+   * @return Traverser, with the catalog and handler set, or null
+   */
+  protected SchemaTraverser prepareSchemaTraversal(final Catalog catalog,
+                                                   final Connection connection)
+    throws Exception
+  {
+    return null;
+  }
+
+  /**
+   * Shares decorated catalogs with another executable, such as the
+   * chain that runs this executable.
+   */
+  final void shareDecoratedCatalogs(final BaseStagedExecutable executable)
+  {
+    decoratedCatalogs = executable.decoratedCatalogs;
+  }
+
+  /**
+   * Crawls and executes a few schemas at a time, without first crawling
+   * the whole catalog, if the executable supports it with its current
+   * options.
+   *
+   * @return True if the executable was run in chunks, or false if the
+   *         whole catalog needs to be crawled first
+   */
+  protected boolean executeInChunks(final Connection connection,
+                                    final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions)
+    throws Exception
+  {
+    return false;
+  }
+
 }
@@ -28,12 +28,29 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.executable;
 
 
+import static java.nio.file.Files.deleteIfExists;
+import static java.nio.file.Files.exists;
+import static java.nio.file.Files.newBufferedReader;
+import static sf.util.IOUtility.copy;
+import static sf.util.IOUtility.createTempFilePath;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Path;
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.Config;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.options.TextOutputFormat;
 import schemacrawler.tools.text.base.CommonTextOptionsBuilder;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
 
 /**
  * Allows chaining multiple executables together, that produce shared
@@ -43,6 +60,9 @@ public final class CommandDaisyChainExecutable
   extends BaseCommandChainExecutable
 {
 
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(CommandDaisyChainExecutable.class.getName());
+
   public CommandDaisyChainExecutable(final String commands)
     throws SchemaCrawlerException
   {
@@ -61,6 +81,15 @@ public final class CommandDaisyChainExecutable
       throw new SchemaCrawlerException("No command specified");
     }
 
+    // Commands that share a traversal write their output at the same
+    // time, so each command writes to a file of its own, and the files
+    // are joined in command order at the end
+    final boolean isOutputJoined = commands.hasMultipleCommands()
+                                   && TextOutputFormat
+                                     .isTextOutputFormat(outputOptions
+                                       .getOutputFormatValue());
+    final List<Path> commandOutputFiles = new ArrayList<>();
+
     for (final String command: commands)
     {
       final Executable executable = addNext(command);
@@ -102,10 +131,74 @@ public final class CommandDaisyChainExecutable
       executableAdditionalConfig.putAll(commonTextOptions.toConfig());
       executable.setAdditionalConfiguration(executableAdditionalConfig);
 
+      if (isOutputJoined)
+      {
+        final Path commandOutputFile = createTempFilePath(command,
+                                                          outputOptions
+                                                            .getOutputFormatValue());
+        final OutputOptions commandOutputOptions = new OutputOptions(outputOptions
+          .getOutputFormatValue(), commandOutputFile);
+        commandOutputOptions.setOutputEncoding(outputOptions.getOutputCharset());
+        executable.setOutputOptions(commandOutputOptions);
+        commandOutputFiles.add(commandOutputFile);
+      }
     }
 
-    executeChain(catalog, connection);
+    try
+    {
+      executeChain(catalog, connection);
 
+      if (isOutputJoined)
+      {
+        joinOutputFiles(commandOutputFiles);
+      }
+    }
+    finally
+    {
+      deleteOutputFiles(commandOutputFiles);
+    }
+  }
+
+  private void deleteOutputFiles(final List<Path> commandOutputFiles)
+  {
+    for (final Path commandOutputFile: commandOutputFiles)
+    {
+      try
+      {
+        deleteIfExists(commandOutputFile);
+      }
+      catch (final IOException e)
+      {
+        LOGGER.log(Level.WARNING,
+                   new StringFormat("Could not delete temporary output file <%s>",
+                                    commandOutputFile),
+                   e);
+      }
+    }
+  }
+
+  private void joinOutputFiles(final List<Path> commandOutputFiles)
+    throws IOException
+  {
+    final boolean appendOutput = new CommonTextOptionsBuilder()
+      .fromConfig(additionalConfiguration).toOptions().isAppendOutput();
+    try (final Writer writer = outputOptions
+      .openNewOutputWriter(appendOutput);)
+    {
+      for (final Path commandOutputFile: commandOutputFiles)
+      {
+        if (!exists(commandOutputFile))
+        {
+          continue;
+        }
+        try (final Reader reader = newBufferedReader(commandOutputFile,
+                                                     outputOptions
+                                                       .getOutputCharset());)
+        {
+          copy(reader, writer);
+        }
+      }
+    }
   }
 
   private final Executable addNext(final String command)
@@ -121,6 +214,10 @@ public final class CommandDaisyChainExecutable
       }
 
       executable.setAdditionalConfiguration(additionalConfiguration);
+      if (executable instanceof BaseStagedExecutable)
+      {
+        ((BaseStagedExecutable) executable).setDataSource(getDataSource());
+      }
 
       return addNext(executable);
     }
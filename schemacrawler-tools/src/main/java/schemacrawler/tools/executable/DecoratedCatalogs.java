@@ -0,0 +1,77 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.executable;
+
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import schemacrawler.schema.Catalog;
+
+/**
+ * Catalogs decorated with weak associations or row counts, shared by
+ * the commands that are run together in a chain, so that each
+ * decoration of a catalog is computed only once.
+ *
+ * @author Sualeh Fatehi
+ */
+final class DecoratedCatalogs
+{
+
+  private final Map<Catalog, Catalog> catalogsWithAssociations;
+  private final Map<Catalog, Catalog> catalogsWithCounts;
+
+  DecoratedCatalogs()
+  {
+    catalogsWithAssociations = new IdentityHashMap<>();
+    catalogsWithCounts = new IdentityHashMap<>();
+  }
+
+  Catalog getCatalogWithAssociations(final Catalog catalog)
+  {
+    return catalogsWithAssociations.get(catalog);
+  }
+
+  Catalog getCatalogWithCounts(final Catalog catalog)
+  {
+    return catalogsWithCounts.get(catalog);
+  }
+
+  void putCatalogWithAssociations(final Catalog catalog,
+                                  final Catalog catalogWithAssociations)
+  {
+    catalogsWithAssociations.put(catalog, catalogWithAssociations);
+  }
+
+  void putCatalogWithCounts(final Catalog catalog,
+                            final Catalog catalogWithCounts)
+  {
+    catalogsWithCounts.put(catalog, catalogWithCounts);
+  }
+
+}
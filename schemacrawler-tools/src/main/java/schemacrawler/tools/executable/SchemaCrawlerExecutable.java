@@ -116,6 +116,7 @@ public final class SchemaCrawlerExecutable
     }
 
     executable.setAdditionalConfiguration(additionalConfiguration);
+    executable.setDataSource(getDataSource());
 
     executable.executeOn(catalog, connection);
   }
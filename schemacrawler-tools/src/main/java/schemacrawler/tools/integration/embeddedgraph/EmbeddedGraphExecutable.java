@@ -30,15 +30,9 @@ package schemacrawler.tools.integration.embeddedgraph;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.Files.newBufferedReader;
-import static java.nio.file.Files.newBufferedWriter;
-import static java.nio.file.StandardOpenOption.CREATE;
-import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
-import static java.nio.file.StandardOpenOption.WRITE;
-import static sf.util.IOUtility.copy;
 import static sf.util.IOUtility.createTempFilePath;
 
 import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.Writer;
 import java.nio.file.Path;
@@ -68,7 +62,6 @@ public class EmbeddedGraphExecutable
   public void executeOn(final Catalog catalog, final Connection connection)
     throws Exception
   {
-    final Path finalHtmlFile = createTempFilePath("schemacrawler", "html");
     final Path baseHtmlFile = createTempFilePath("schemacrawler", "html");
     final Path baseSvgFile = createTempFilePath("schemacrawler", "svg");
 
@@ -81,13 +74,8 @@ public class EmbeddedGraphExecutable
 
     chain.executeOn(catalog, connection);
 
-    // Interleave HTML and SVG
-    try (
-        final BufferedWriter finalHtmlFileWriter = newBufferedWriter(finalHtmlFile,
-                                                                     UTF_8,
-                                                                     WRITE,
-                                                                     CREATE,
-                                                                     TRUNCATE_EXISTING);
+    // Interleave HTML and SVG, directly into the output
+    try (final Writer writer = outputOptions.openNewOutputWriter();
         final BufferedReader baseHtmlFileReader = newBufferedReader(baseHtmlFile,
                                                                     UTF_8);
         final BufferedReader baseSvgFileReader = newBufferedReader(baseSvgFile,
@@ -98,23 +86,18 @@ public class EmbeddedGraphExecutable
       {
         if (svgInsertionPoint.matcher(line).matches())
         {
-          insertSvg(finalHtmlFileWriter, baseSvgFileReader);
+          insertSvg(writer, baseSvgFileReader);
         }
-        finalHtmlFileWriter.append(line).append(System.lineSeparator());
+        writer.append(line).append(System.lineSeparator());
       }
     }
-
-    try (final Writer writer = outputOptions.openNewOutputWriter();)
-    {
-      copy(newBufferedReader(finalHtmlFile, UTF_8), writer);
-    }
   }
 
-  private void insertSvg(final BufferedWriter finalHtmlFileWriter,
+  private void insertSvg(final Writer writer,
                          final BufferedReader baseSvgFileReader)
     throws IOException
   {
-    finalHtmlFileWriter.append(System.lineSeparator());
+    writer.append(System.lineSeparator());
     boolean skipLines = true;
     String line;
     while ((line = baseSvgFileReader.readLine()) != null)
@@ -125,10 +108,10 @@ public class EmbeddedGraphExecutable
       }
       if (!skipLines)
       {
-        finalHtmlFileWriter.append(line).append(System.lineSeparator());
+        writer.append(line).append(System.lineSeparator());
       }
     }
-    finalHtmlFileWriter.append(System.lineSeparator());
+    writer.append(System.lineSeparator());
   }
 
 }
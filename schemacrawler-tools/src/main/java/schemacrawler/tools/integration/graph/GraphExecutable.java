@@ -36,8 +36,6 @@ import java.sql.Connection;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
-import schemacrawler.tools.analysis.associations.CatalogWithAssociations;
-import schemacrawler.tools.analysis.counts.CatalogWithCounts;
 import schemacrawler.tools.executable.BaseStagedExecutable;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.text.schema.SchemaDotFormatter;
@@ -54,6 +52,8 @@ public final class GraphExecutable
 {
 
   private GraphOptions graphOptions;
+  private GraphOutputFormat graphOutputFormat;
+  private Path dotFile;
 
   public GraphExecutable(final String command)
   {
@@ -66,6 +66,48 @@ public final class GraphExecutable
   @Override
   public void executeOn(final Catalog db, final Connection connection)
     throws Exception
+  {
+    final SchemaTraverser traverser = prepareSchemaTraversal(db, connection);
+    traverser.traverse();
+    afterSchemaTraversal();
+  }
+
+  public final GraphOptions getGraphOptions()
+  {
+    loadGraphOptions();
+    return graphOptions;
+  }
+
+  public final void setGraphOptions(final GraphOptions graphOptions)
+  {
+    this.graphOptions = graphOptions;
+  }
+
+  /**
+   * Creates the graph image from the dot file, unless the dot file is
+   * the output.
+   */
+  @Override
+  protected void afterSchemaTraversal()
+    throws Exception
+  {
+    if (graphOutputFormat != GraphOutputFormat.scdot)
+    {
+      // Create graph image
+      final GraphOptions graphOptions = getGraphOptions();
+      final GraphProcessExecutor graphProcessExecutor = new GraphProcessExecutor(dotFile,
+                                                                                 outputOptions
+                                                                                   .getOutputFile(),
+                                                                                 graphOptions,
+                                                                                 graphOutputFormat);
+      graphProcessExecutor.call();
+    }
+  }
+
+  @Override
+  protected SchemaTraverser prepareSchemaTraversal(final Catalog db,
+                                                   final Connection connection)
+    throws Exception
   {
     loadGraphOptions();
 
@@ -73,23 +115,21 @@ public final class GraphExecutable
     Catalog catalog = db;
     if (graphOptions.isShowWeakAssociations())
     {
-      catalog = new CatalogWithAssociations(catalog);
+      catalog = newCatalogWithAssociations(catalog);
     }
     if (graphOptions.isShowRowCounts()
         || schemaCrawlerOptions.isHideEmptyTables())
     {
-      catalog = new CatalogWithCounts(catalog,
-                                      connection,
-                                      schemaCrawlerOptions);
+      catalog = newCatalogWithCounts(catalog, connection);
     }
 
-    final GraphOutputFormat graphOutputFormat = GraphOutputFormat
+    graphOutputFormat = GraphOutputFormat
       .fromFormat(outputOptions.getOutputFormatValue());
     // Set the format, in case we are using the default
     outputOptions.setOutputFormatValue(graphOutputFormat.getFormat());
 
     // Create dot file
-    final Path dotFile = createTempFilePath("schemacrawler.", "dot");
+    dotFile = createTempFilePath("schemacrawler.", "dot");
     final OutputOptions dotFileOutputOptions;
     if (graphOutputFormat == GraphOutputFormat.scdot)
     {
@@ -110,30 +150,7 @@ public final class GraphExecutable
     traverser.setRoutinesComparator(NamedObjectSort
       .getNamedObjectSort(getGraphOptions().isAlphabeticalSortForRoutines()));
 
-    traverser.traverse();
-
-    if (graphOutputFormat != GraphOutputFormat.scdot)
-    {
-      // Create graph image
-      final GraphOptions graphOptions = getGraphOptions();
-      final GraphProcessExecutor graphProcessExecutor = new GraphProcessExecutor(dotFile,
-                                                                                 outputOptions
-                                                                                   .getOutputFile(),
-                                                                                 graphOptions,
-                                                                                 graphOutputFormat);
-      graphProcessExecutor.call();
-    }
-  }
-
-  public final GraphOptions getGraphOptions()
-  {
-    loadGraphOptions();
-    return graphOptions;
-  }
-
-  public final void setGraphOptions(final GraphOptions graphOptions)
-  {
-    this.graphOptions = graphOptions;
+    return traverser;
   }
 
   private SchemaTextDetailType getSchemaTextDetailType()
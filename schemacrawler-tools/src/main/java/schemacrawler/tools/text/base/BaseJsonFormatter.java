@@ -29,7 +29,12 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.text.base;
 
 
+import static schemacrawler.tools.text.utility.JsonFormattingHelper.INDENT_FACTOR;
+
+import java.io.IOException;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.logging.Level;
 
 import schemacrawler.schema.CrawlInfo;
@@ -44,6 +49,7 @@ import schemacrawler.tools.text.utility.JsonFormattingHelper;
 import schemacrawler.tools.text.utility.org.json.JSONArray;
 import schemacrawler.tools.text.utility.org.json.JSONException;
 import schemacrawler.tools.text.utility.org.json.JSONObject;
+import schemacrawler.tools.text.utility.org.json.SpooledJSONArray;
 import sf.util.SchemaCrawlerLogger;
 import sf.util.StringFormat;
 
@@ -60,6 +66,7 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
     .getLogger(BaseJsonFormatter.class.getName());
 
   protected final JSONObject jsonRoot;
+  private final Map<String, SpooledJSONArray> spooledArrays;
 
   protected BaseJsonFormatter(final O options,
                               final boolean printVerboseDatabaseInfo,
@@ -68,6 +75,7 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
   {
     super(options, printVerboseDatabaseInfo, outputOptions);
     jsonRoot = new JSONObject();
+    spooledArrays = new HashMap<>();
   }
 
   @Override
@@ -84,7 +92,24 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
   public void end()
     throws SchemaCrawlerException
   {
-    ((JsonFormattingHelper) formattingHelper).write(jsonRoot);
+    try
+    {
+      ((JsonFormattingHelper) formattingHelper).write(jsonRoot);
+    }
+    finally
+    {
+      for (final SpooledJSONArray spooledArray: spooledArrays.values())
+      {
+        try
+        {
+          spooledArray.close();
+        }
+        catch (final IOException e)
+        {
+          LOGGER.log(Level.WARNING, "Could not delete JSON spool file", e);
+        }
+      }
+    }
 
     if (options.isNoFooter())
     {
@@ -261,6 +286,56 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
   {
   }
 
+  /**
+   * Accumulates a completed value under a key of the root JSON object,
+   * in the same way as {@link JSONObject#accumulate(String, Object)}.
+   * The value is rendered right away, and spooled to a temporary file
+   * until the root object is written, so it should not be changed
+   * afterwards.
+   *
+   * @param key
+   *        Key of the root JSON object
+   * @param value
+   *        Completed value
+   * @throws JSONException
+   *         If the value could not be spooled
+   */
+  protected final void accumulate(final String key, final JSONObject value)
+    throws JSONException
+  {
+    SpooledJSONArray spooledArray = spooledArrays.get(key);
+    if (spooledArray == null)
+    {
+      spooledArray = putSpooledArray(key, true);
+    }
+    spooledArray.spool(value);
+  }
+
+  /**
+   * Puts a new spooled JSON array under a key of the root JSON object.
+   * The array is written when the root object is written, and its spool
+   * file is deleted at the end of the output.
+   *
+   * @param key
+   *        Key of the root JSON object
+   * @param accumulated
+   *        Whether a single value is written on its own, as with
+   *        accumulated values
+   * @return Spooled JSON array
+   * @throws JSONException
+   *         If the array could not be put in the root object
+   */
+  protected final SpooledJSONArray putSpooledArray(final String key,
+                                                   final boolean accumulated)
+    throws JSONException
+  {
+    final SpooledJSONArray spooledArray = new SpooledJSONArray(INDENT_FACTOR,
+                                                               accumulated);
+    jsonRoot.put(key, spooledArray);
+    spooledArrays.put(key, spooledArray);
+    return spooledArray;
+  }
+
   private JSONObject printJdbcDriverProperty(final JdbcDriverProperty driverProperty)
   {
     final JSONObject jsonDriverProperty = new JSONObject();
@@ -29,9 +29,11 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.text.operation;
 
 
+import static schemacrawler.tools.text.utility.JsonFormattingHelper.INDENT_FACTOR;
+
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.List;
+import java.util.Arrays;
 
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
@@ -40,6 +42,7 @@ import schemacrawler.tools.text.base.BaseJsonFormatter;
 import schemacrawler.tools.text.utility.org.json.JSONArray;
 import schemacrawler.tools.text.utility.org.json.JSONException;
 import schemacrawler.tools.text.utility.org.json.JSONObject;
+import schemacrawler.tools.text.utility.org.json.SpooledJSONArray;
 import schemacrawler.tools.traversal.DataTraversalHandler;
 import schemacrawler.utility.Query;
 
@@ -53,8 +56,10 @@ final class DataJsonFormatter
   implements DataTraversalHandler
 {
 
+  private static final String ROWS_PLACEHOLDER = "\0rows\0";
+
   private final Operation operation;
-  private final JSONArray jsonDataArray;
+  private final SpooledJSONArray jsonDataArray;
 
   /**
    * Text formatting of data.
@@ -74,14 +79,13 @@ final class DataJsonFormatter
     super(options, /* printVerboseDatabaseInfo */false, outputOptions);
     this.operation = operation;
 
-    jsonDataArray = new JSONArray();
     try
     {
       if (operation != null)
       {
         jsonRoot.put("description", operation.getDescription());
       }
-      jsonRoot.put("data", jsonDataArray);
+      jsonDataArray = putSpooledArray("data", false);
     }
     catch (final JSONException e)
     {
@@ -180,27 +184,35 @@ final class DataJsonFormatter
       {
         final long aggregate = handleAggregateOperationForTable(title, rows);
         jsonData.put("value", aggregate);
+        jsonDataArray.spool(jsonData);
       }
       else
       {
         try
         {
-          final DataResultSet dataRows = new DataResultSet(rows,
-                                                           options
-                                                             .isShowLobs());
+          final DataResultSet dataRows = new DataResultSet(rows, options);
 
           jsonData.put("columnNames", new JSONArray(dataRows.getColumnNames()));
+          jsonData.put("rows", ROWS_PLACEHOLDER);
+
+          // Render the data object with a placeholder for the rows, and
+          // stream the rows in place of it, so that the rows of large
+          // tables are not held in memory
+          final String jsonDataText = jsonData.toString(INDENT_FACTOR);
+          final String rowsPlaceholder = JSONObject.quote(ROWS_PLACEHOLDER);
+          final int rowsIndex = jsonDataText.indexOf(rowsPlaceholder);
 
-          final JSONArray jsonRows = iterateRows(dataRows);
-          jsonData.put("rows", jsonRows);
+          jsonDataArray.startValue();
+          jsonDataArray.spool(jsonDataText.substring(0, rowsIndex), 0);
+          iterateRows(dataRows, INDENT_FACTOR);
+          jsonDataArray.spool(jsonDataText
+            .substring(rowsIndex + rowsPlaceholder.length()), 0);
         }
         catch (final SQLException e)
         {
           throw new SchemaCrawlerException(e.getMessage(), e);
         }
       }
-
-      jsonDataArray.put(jsonData);
     }
     catch (final JSONException e)
     {
@@ -209,15 +221,52 @@ final class DataJsonFormatter
 
   }
 
-  private JSONArray iterateRows(final DataResultSet dataRows)
-    throws SQLException
+  /**
+   * Spools rows as they are read, laid out in the same way as a JSON
+   * array of rows at the given indentation. Only the first row is held
+   * back, since a single row is laid out differently.
+   */
+  private void iterateRows(final DataResultSet dataRows, final int indent)
+    throws SQLException, JSONException
   {
-    final JSONArray jsonRows = new JSONArray();
+    final int rowIndent = indent + INDENT_FACTOR;
+    String firstRow = null;
+    int rowCount = 0;
     while (dataRows.next())
     {
-      final List<Object> currentRow = dataRows.row();
-      jsonRows.put(new JSONArray(currentRow));
+      final Object[] currentRow = dataRows.row();
+      final String row = new JSONArray(Arrays.asList(currentRow))
+        .toString(INDENT_FACTOR);
+      rowCount++;
+      if (rowCount == 1)
+      {
+        firstRow = row;
+        continue;
+      }
+      if (rowCount == 2)
+      {
+        jsonDataArray.spool("[\n", rowIndent);
+        jsonDataArray.spool(firstRow, rowIndent);
+        firstRow = null;
+      }
+      jsonDataArray.spool(",\n", rowIndent);
+      jsonDataArray.spool(row, rowIndent);
+    }
+
+    if (rowCount == 0)
+    {
+      jsonDataArray.spool("[]", 0);
+    }
+    else if (rowCount == 1)
+    {
+      jsonDataArray.spool("[", 0);
+      jsonDataArray.spool(firstRow, indent);
+      jsonDataArray.spool("]", 0);
+    }
+    else
+    {
+      jsonDataArray.spool("\n", indent);
+      jsonDataArray.spool("]", 0);
     }
-    return jsonRows;
   }
 }
@@ -29,13 +29,20 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.text.operation;
 
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
-import static sf.util.IOUtility.readFully;
 
-import java.io.BufferedInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
+import java.io.Writer;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
@@ -43,7 +50,6 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Types;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
 
@@ -54,26 +60,73 @@ import schemacrawler.tools.text.utility.BinaryData;
 import sf.util.SchemaCrawlerLogger;
 
 /**
- * Text formatting of data.
+ * Text formatting of data. Rows are read into a buffer that is reused
+ * for every row, and LOB data is read in chunks, up to the maximum
+ * length that is shown, or only hashed, so that large LOBs are never
+ * held in memory in full.
  *
  * @author Sualeh Fatehi
  */
 final class DataResultSet
 {
 
+  /**
+   * Discards bytes that are written, for when only a digest of the
+   * bytes is needed.
+   */
+  private static final class DiscardingOutputStream
+    extends OutputStream
+  {
+
+    @Override
+    public void write(final byte[] b, final int off, final int len)
+    {
+      // Discard
+    }
+
+    @Override
+    public void write(final int b)
+    {
+      // Discard
+    }
+
+  }
+
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(DataResultSet.class.getName());
 
+  private static final String HASH_ALGORITHM = "SHA-256";
+  private static final int BUFFER_SIZE = 0x10000;
+
+  private static String toHex(final byte[] bytes)
+  {
+    final StringBuilder hex = new StringBuilder(bytes.length * 2);
+    for (final byte b: bytes)
+    {
+      hex.append(String.format("%02x", b));
+    }
+    return hex.toString();
+  }
+
   private final ResultSet rows;
   private final List<ResultsColumn> resultsColumns;
   private final boolean showLobs;
+  private final boolean showLobHashes;
+  private final int maxLobLength;
+  private final Object[] currentRow;
+  private final char[] buffer;
 
-  public DataResultSet(final ResultSet rows, final boolean showLobs)
+  public DataResultSet(final ResultSet rows, final OperationOptions options)
     throws SchemaCrawlerException
   {
     this.rows = requireNonNull(rows, "Cannot use null results");
-    this.showLobs = showLobs;
+    requireNonNull(options, "No operation options provided");
+    showLobs = options.isShowLobs();
+    showLobHashes = options.isShowLobHashes();
+    maxLobLength = options.getMaxLobLength();
     resultsColumns = SchemaCrawler.getResultColumns(rows).getColumns();
+    currentRow = new Object[resultsColumns.size()];
+    buffer = new char[BUFFER_SIZE];
   }
 
   public String[] getColumnNames()
@@ -93,16 +146,22 @@ final class DataResultSet
     return rows.next();
   }
 
-  public List<Object> row()
+  /**
+   * Reads the values of the current row. The same array is returned
+   * for every row, so values need to be used before moving to the next
+   * row.
+   *
+   * @return Values of the current row
+   * @throws SQLException
+   *         On an exception reading the values
+   */
+  public Object[] row()
     throws SQLException
   {
-    final int columnCount = resultsColumns.size();
-    final List<Object> currentRow = new ArrayList<>(columnCount);
-    for (int i = 0; i < columnCount; i++)
+    for (int i = 0; i < currentRow.length; i++)
     {
-      currentRow.add(getColumnData(i));
+      currentRow[i] = getColumnData(i);
     }
-
     return currentRow;
   }
 
@@ -189,6 +248,58 @@ final class DataResultSet
     return columnData;
   }
 
+  private BinaryData hashLob(final InputStream stream)
+    throws IOException
+  {
+    final MessageDigest digest = newMessageDigest();
+    final InputStream in = new DigestInputStream(stream, digest);
+    final byte[] bytes = new byte[BUFFER_SIZE];
+    long length = 0;
+    int read;
+    while ((read = in.read(bytes)) != -1)
+    {
+      length = length + read;
+    }
+    return new BinaryData(String.format("<%d bytes, %s %s>",
+                                        length,
+                                        HASH_ALGORITHM,
+                                        toHex(digest.digest())));
+  }
+
+  private BinaryData hashLob(final Reader reader)
+    throws IOException
+  {
+    final MessageDigest digest = newMessageDigest();
+    final Writer out = new OutputStreamWriter(new DigestOutputStream(new DiscardingOutputStream(),
+                                                                     digest),
+                                              UTF_8);
+    long length = 0;
+    int read;
+    while ((read = reader.read(buffer)) != -1)
+    {
+      out.write(buffer, 0, read);
+      length = length + read;
+    }
+    out.flush();
+    return new BinaryData(String.format("<%d characters, %s %s>",
+                                        length,
+                                        HASH_ALGORITHM,
+                                        toHex(digest.digest())));
+  }
+
+  private MessageDigest newMessageDigest()
+  {
+    try
+    {
+      return MessageDigest.getInstance(HASH_ALGORITHM);
+    }
+    catch (final NoSuchAlgorithmException e)
+    {
+      // Every Java platform supports SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
   private BinaryData readBlob(final Blob blob)
   {
     if (blob == null)
@@ -213,14 +324,14 @@ final class DataResultSet
 
         if (in != null)
         {
-          lobData = new BinaryData(readFully(in));
+          lobData = readLob(in);
         }
         else
         {
           lobData = new BinaryData();
         }
       }
-      catch (final SQLException e)
+      catch (final SQLException | IOException e)
       {
         LOGGER.log(Level.WARNING, "Could not read BLOB data", e);
         lobData = new BinaryData();
@@ -271,23 +382,33 @@ final class DataResultSet
           }
         }
 
-        if (rdr != null)
+        if (rdr != null && showLobHashes)
+        {
+          lobData = hashLob(rdr);
+        }
+        else if (rdr != null)
         {
-          String lobDataString = readFully(rdr);
-          if (lobDataString.isEmpty())
+          lobData = readLob(rdr);
+          if (lobData.toString().isEmpty())
           {
             // Attempt yet another read
             final long clobLength = clob.length();
-            lobDataString = clob.getSubString(1, (int) clobLength);
+            final long readLength = maxLobLength > 0? Math
+              .min(clobLength, maxLobLength): clobLength;
+            String lobDataString = clob.getSubString(1, (int) readLength);
+            if (readLength < clobLength)
+            {
+              lobDataString = lobDataString + "...";
+            }
+            lobData = new BinaryData(lobDataString);
           }
-          lobData = new BinaryData(lobDataString);
         }
         else
         {
           lobData = new BinaryData();
         }
       }
-      catch (final SQLException e)
+      catch (final SQLException | IOException e)
       {
         LOGGER.log(Level.WARNING, "Could not read CLOB data", e);
         lobData = new BinaryData();
@@ -301,11 +422,65 @@ final class DataResultSet
   }
 
   /**
-   * Reads data from an input stream into a string. Default system
-   * encoding is assumed.
+   * Reads binary LOB data as UTF-8 text, or hashes it.
+   */
+  private BinaryData readLob(final InputStream stream)
+    throws IOException
+  {
+    if (showLobHashes)
+    {
+      return hashLob(stream);
+    }
+    else
+    {
+      return readLob(new InputStreamReader(stream, UTF_8));
+    }
+  }
+
+  /**
+   * Reads character LOB data in chunks, up to the maximum length that
+   * is shown. Data beyond the maximum length is marked with an
+   * ellipsis, and is not read.
+   */
+  private BinaryData readLob(final Reader reader)
+    throws IOException
+  {
+    final StringBuilder lobData = new StringBuilder();
+    boolean isTruncated = false;
+    int read;
+    do
+    {
+      int readLength = buffer.length;
+      if (maxLobLength > 0)
+      {
+        final int remaining = maxLobLength - lobData.length();
+        if (remaining == 0)
+        {
+          isTruncated = reader.read() != -1;
+          break;
+        }
+        readLength = Math.min(readLength, remaining);
+      }
+      read = reader.read(buffer, 0, readLength);
+      if (read > 0)
+      {
+        lobData.append(buffer, 0, read);
+      }
+    } while (read >= 0);
+
+    if (isTruncated)
+    {
+      lobData.append("...");
+    }
+    return new BinaryData(lobData.toString());
+  }
+
+  /**
+   * Reads data from an input stream into a string. UTF-8 encoding is
+   * assumed.
    *
-   * @param columnData
-   *        Column data object returned by JDBC
+   * @param stream
+   *        Stream of column data returned by JDBC
    * @return A string with the contents of the LOB
    */
   private BinaryData readStream(final InputStream stream)
@@ -316,9 +491,15 @@ final class DataResultSet
     }
     else if (showLobs)
     {
-      final BufferedInputStream in = new BufferedInputStream(stream);
-      final BinaryData lobData = new BinaryData(readFully(in));
-      return lobData;
+      try
+      {
+        return readLob(stream);
+      }
+      catch (final IOException e)
+      {
+        LOGGER.log(Level.WARNING, "Could not read LOB data", e);
+        return new BinaryData();
+      }
     }
     else
     {
@@ -33,7 +33,6 @@ import static schemacrawler.tools.analysis.counts.CountsUtility.getRowCountMessa
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.List;
 
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
@@ -208,8 +207,7 @@ final class DataTextFormatter
       formattingHelper.writeObjectNameRow("", title, "", Color.white);
       try
       {
-        final DataResultSet dataRows = new DataResultSet(rows,
-                                                         options.isShowLobs());
+        final DataResultSet dataRows = new DataResultSet(rows, options);
 
         formattingHelper.writeRowHeader(dataRows.getColumnNames());
 
@@ -230,10 +228,7 @@ final class DataTextFormatter
   {
     while (dataRows.next())
     {
-      final List<Object> currentRow = dataRows.row();
-      final Object[] columnData = currentRow
-        .toArray(new Object[currentRow.size()]);
-      formattingHelper.writeRow(columnData);
+      formattingHelper.writeRow(dataRows.row());
     }
   }
 
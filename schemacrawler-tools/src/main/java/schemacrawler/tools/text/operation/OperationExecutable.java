@@ -37,11 +37,21 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 
+import javax.sql.DataSource;
+
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
@@ -61,9 +71,85 @@ import sf.util.StringFormat;
 public final class OperationExecutable
   extends BaseStagedExecutable
 {
+  /**
+   * Results of a query for a table, run on a connection of its own.
+   * Closing the results returns the connection for the next query.
+   */
+  private static final class TableResults
+    implements AutoCloseable
+  {
+
+    private final Connection connection;
+    private final Statement statement;
+    private final ResultSet results;
+    private final Queue<Connection> connections;
+
+    TableResults(final Connection connection,
+                 final Statement statement,
+                 final ResultSet results,
+                 final Queue<Connection> connections)
+    {
+      this.connection = connection;
+      this.statement = statement;
+      this.results = results;
+      this.connections = connections;
+    }
+
+    @Override
+    public void close()
+      throws SQLException
+    {
+      try
+      {
+        if (results != null)
+        {
+          results.close();
+        }
+        statement.close();
+      }
+      finally
+      {
+        connections.add(connection);
+      }
+    }
+
+    ResultSet getResults()
+    {
+      return results;
+    }
+
+  }
+
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(OperationExecutable.class.getName());
 
+  private static TableResults await(final Future<TableResults> future)
+    throws Exception
+  {
+    try
+    {
+      return future.get();
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerException("Interrupted while running queries",
+                                       e);
+    }
+    catch (final ExecutionException e)
+    {
+      final Throwable cause = e.getCause();
+      if (cause instanceof Exception)
+      {
+        throw (Exception) cause;
+      }
+      else
+      {
+        throw new SchemaCrawlerException(cause.getMessage(), cause);
+      }
+    }
+  }
+
   private OperationOptions operationOptions;
 
   public OperationExecutable(final String command)
@@ -100,9 +186,21 @@ public final class OperationExecutable
       handler.handle(catalog.getJdbcDriverInfo());
       handler.handleInfoEnd();
 
-      if (query.isQueryOver())
+      final List<? extends Table> tables = getSortedTables(catalog);
+      final DataSource dataSource = getDataSource();
+      final int maxThreads = operationOptions.getMaxThreads();
+      if (query.isQueryOver() && dataSource != null && maxThreads > 1
+          && tables.size() > 1)
+      {
+        handleTablesConcurrently(handler,
+                                 query,
+                                 tables,
+                                 dataSource,
+                                 maxThreads);
+      }
+      else if (query.isQueryOver())
       {
-        for (final Table table: getSortedTables(catalog))
+        for (final Table table: tables)
         {
           final boolean isAlphabeticalSortForTableColumns = operationOptions
             .isAlphabeticalSortForTableColumns();
@@ -231,6 +329,79 @@ public final class OperationExecutable
     return tables;
   }
 
+  /**
+   * Runs the queries for tables on a pool of connections, while the
+   * results are handled on this thread, in table order. Queries run
+   * ahead of the output by at most one table for each thread, and each
+   * query holds its connection only until its results are handled, so
+   * results are never buffered, and the number of connections is
+   * bounded by the number of threads.
+   */
+  private void handleTablesConcurrently(final DataTraversalHandler handler,
+                                        final Query query,
+                                        final List<? extends Table> tables,
+                                        final DataSource dataSource,
+                                        final int maxThreads)
+    throws Exception
+  {
+    final boolean isAlphabeticalSortForTableColumns = operationOptions
+      .isAlphabeticalSortForTableColumns();
+    final Queue<Connection> connections = new ConcurrentLinkedQueue<>();
+    final Deque<Future<TableResults>> pendingResults = new ArrayDeque<>();
+    final ExecutorService executorService = Executors
+      .newFixedThreadPool(Math.min(maxThreads, tables.size()));
+    try
+    {
+      int submitted = 0;
+      for (final Table table: tables)
+      {
+        while (submitted < tables.size()
+               && pendingResults.size() < maxThreads)
+        {
+          final Table nextTable = tables.get(submitted);
+          pendingResults.add(executorService
+            .submit(() -> openTableResults(query,
+                                           nextTable,
+                                           isAlphabeticalSortForTableColumns,
+                                           dataSource,
+                                           connections)));
+          submitted++;
+        }
+
+        try (final TableResults results = await(pendingResults.remove());)
+        {
+          handler.handleData(table, results.getResults());
+        }
+      }
+    }
+    finally
+    {
+      executorService.shutdown();
+      for (final Future<TableResults> pendingResult: pendingResults)
+      {
+        try
+        {
+          await(pendingResult).close();
+        }
+        catch (final Exception e)
+        {
+          LOGGER.log(Level.FINE, "Could not close results", e);
+        }
+      }
+      for (final Connection connection: connections)
+      {
+        try
+        {
+          connection.close();
+        }
+        catch (final SQLException e)
+        {
+          LOGGER.log(Level.FINE, "Could not close connection", e);
+        }
+      }
+    }
+  }
+
   private void loadOperationOptions()
   {
     if (operationOptions == null)
@@ -240,4 +411,42 @@ public final class OperationExecutable
     }
   }
 
+  /**
+   * Runs the query for a table, on a connection from the pool, or on a
+   * new connection if all of the pooled connections are in use.
+   */
+  private TableResults openTableResults(final Query query,
+                                        final Table table,
+                                        final boolean isAlphabeticalSortForTableColumns,
+                                        final DataSource dataSource,
+                                        final Queue<Connection> connections)
+    throws Exception
+  {
+    Connection connection = connections.poll();
+    if (connection == null)
+    {
+      connection = dataSource.getConnection();
+    }
+
+    Statement statement = null;
+    try
+    {
+      statement = createStatement(connection);
+      final ResultSet results = executeAgainstTable(query,
+                                                    statement,
+                                                    table,
+                                                    isAlphabeticalSortForTableColumns);
+      return new TableResults(connection, statement, results, connections);
+    }
+    catch (final Exception e)
+    {
+      if (statement != null)
+      {
+        statement.close();
+      }
+      connections.add(connection);
+      throw e;
+    }
+  }
+
 }
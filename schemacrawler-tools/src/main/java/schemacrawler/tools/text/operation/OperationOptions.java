@@ -43,6 +43,43 @@ public final class OperationOptions
   private static final long serialVersionUID = -7977434852526746391L;
 
   private boolean isShowLobs;
+  private boolean isShowLobHashes;
+  private int maxLobLength;
+  private int maxThreads = 1;
+
+  /**
+   * Maximum number of characters of LOB data to show for each value,
+   * or 0 to show all of the data.
+   *
+   * @return Maximum number of characters of LOB data
+   */
+  public int getMaxLobLength()
+  {
+    return maxLobLength;
+  }
+
+  /**
+   * Maximum number of threads, each with its own connection, that run
+   * the queries for tables concurrently. Output is always in table
+   * order.
+   *
+   * @return Maximum number of threads
+   */
+  public int getMaxThreads()
+  {
+    return maxThreads;
+  }
+
+  /**
+   * Whether to show a hash and the length of LOB data, instead of the
+   * data itself.
+   *
+   * @return Whether to show hashes of LOBs.
+   */
+  public boolean isShowLobHashes()
+  {
+    return isShowLobHashes;
+  }
 
   /**
    * Whether to show LOBs.
@@ -54,6 +91,43 @@ public final class OperationOptions
     return isShowLobs;
   }
 
+  /**
+   * Maximum number of characters of LOB data to show for each value,
+   * or 0 to show all of the data.
+   *
+   * @param maxLobLength
+   *        Maximum number of characters of LOB data
+   */
+  public void setMaxLobLength(final int maxLobLength)
+  {
+    this.maxLobLength = Math.max(maxLobLength, 0);
+  }
+
+  /**
+   * Maximum number of threads, each with its own connection, that run
+   * the queries for tables concurrently. Output is always in table
+   * order.
+   *
+   * @param maxThreads
+   *        Maximum number of threads
+   */
+  public void setMaxThreads(final int maxThreads)
+  {
+    this.maxThreads = Math.max(maxThreads, 1);
+  }
+
+  /**
+   * Whether to show a hash and the length of LOB data, instead of the
+   * data itself.
+   *
+   * @param showLobHashes
+   *        Whether to show hashes of LOBs
+   */
+  public void setShowLobHashes(final boolean showLobHashes)
+  {
+    isShowLobHashes = showLobHashes;
+  }
+
   /**
    * Whether to show LOBs.
    *
@@ -43,6 +43,12 @@ public final class OperationOptionsBuilder
 
   private static final String SHOW_LOBS = SCHEMACRAWLER_FORMAT_PREFIX
                                           + "data.show_lobs";
+  private static final String SHOW_LOB_HASHES = SCHEMACRAWLER_FORMAT_PREFIX
+                                                + "data.show_lob_hashes";
+  private static final String MAX_LOB_LENGTH = SCHEMACRAWLER_FORMAT_PREFIX
+                                               + "data.max_lob_length";
+  private static final String MAX_THREADS = SCHEMACRAWLER_FORMAT_PREFIX
+                                            + "data.max_threads";
 
   /**
    * Operator options, defaults.
@@ -63,10 +69,44 @@ public final class OperationOptionsBuilder
 
     final Config config = new Config(map);
     options.setShowLobs(config.getBooleanValue(SHOW_LOBS, false));
+    options
+      .setShowLobHashes(config.getBooleanValue(SHOW_LOB_HASHES, false));
+    options.setMaxLobLength(config.getIntegerValue(MAX_LOB_LENGTH, 0));
+    options.setMaxThreads(config.getIntegerValue(MAX_THREADS, 1));
 
     return this;
   }
 
+  /**
+   * Maximum number of characters of LOB data to show for each value,
+   * or 0 to show all of the data.
+   */
+  public OperationOptionsBuilder maxLobLength(final int value)
+  {
+    options.setMaxLobLength(value);
+    return this;
+  }
+
+  /**
+   * Maximum number of threads, each with its own connection, that run
+   * the queries for tables concurrently.
+   */
+  public OperationOptionsBuilder maxThreads(final int value)
+  {
+    options.setMaxThreads(value);
+    return this;
+  }
+
+  /**
+   * Whether to show a hash and the length of LOB data, instead of the
+   * data itself.
+   */
+  public OperationOptionsBuilder showLobHashes(final boolean value)
+  {
+    options.setShowLobHashes(value);
+    return this;
+  }
+
   /**
    * Whether to show LOBs.
    */
@@ -81,6 +121,11 @@ public final class OperationOptionsBuilder
   {
     final Config config = super.toConfig();
     config.setBooleanValue(SHOW_LOBS, options.isShowLobs());
+    config.setBooleanValue(SHOW_LOB_HASHES, options.isShowLobHashes());
+    config.setStringValue(MAX_LOB_LENGTH,
+                          String.valueOf(options.getMaxLobLength()));
+    config.setStringValue(MAX_THREADS,
+                          String.valueOf(options.getMaxThreads()));
     return config;
   }
 
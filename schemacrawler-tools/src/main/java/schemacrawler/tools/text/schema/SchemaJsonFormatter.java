@@ -122,8 +122,6 @@ final class SchemaJsonFormatter
       try
       {
         final JSONObject jsonColumnDataType = new JSONObject();
-        jsonRoot.accumulate("columnDataypes", jsonColumnDataType);
-
         final String databaseSpecificTypeName;
         if (options.isShowUnqualifiedNames())
         {
@@ -147,6 +145,8 @@ final class SchemaJsonFormatter
                                columnDataType.isAutoIncrementable());
         jsonColumnDataType.put("searchable",
                                columnDataType.getSearchable().toString());
+
+        accumulate("columnDataypes", jsonColumnDataType);
       }
       catch (final JSONException e)
       {
@@ -170,8 +170,6 @@ final class SchemaJsonFormatter
     try
     {
       final JSONObject jsonRoutine = new JSONObject();
-      jsonRoot.accumulate("routines", jsonRoutine);
-
       jsonRoutine.put("name", routine.getName());
       if (!options.isShowUnqualifiedNames())
       {
@@ -205,6 +203,8 @@ final class SchemaJsonFormatter
           }
         }
       }
+
+      accumulate("routines", jsonRoutine);
     }
     catch (final JSONException e)
     {
@@ -228,8 +228,6 @@ final class SchemaJsonFormatter
     try
     {
       final JSONObject jsonSequence = new JSONObject();
-      jsonRoot.accumulate("sequences", jsonSequence);
-
       jsonSequence.put("name", sequence.getName());
       if (!options.isShowUnqualifiedNames())
       {
@@ -244,6 +242,8 @@ final class SchemaJsonFormatter
         jsonSequence.put("maximumValue", sequence.getMaximumValue());
         jsonSequence.put("cycle", sequence.isCycle());
       }
+
+      accumulate("sequences", jsonSequence);
     }
     catch (final JSONException e)
     {
@@ -267,8 +267,6 @@ final class SchemaJsonFormatter
     try
     {
       final JSONObject jsonSynonym = new JSONObject();
-      jsonRoot.accumulate("synonyms", jsonSynonym);
-
       jsonSynonym.put("name", synonym.getName());
       if (!options.isShowUnqualifiedNames())
       {
@@ -289,6 +287,8 @@ final class SchemaJsonFormatter
         }
         jsonSynonym.put("referencedObject", referencedObjectName);
       }
+
+      accumulate("synonyms", jsonSynonym);
     }
     catch (final JSONException e)
     {
@@ -307,8 +307,6 @@ final class SchemaJsonFormatter
 
     try
     {
-      jsonRoot.accumulate("tables", jsonTable);
-
       jsonTable.put("name", table.getName());
       if (!options.isShowUnqualifiedNames())
       {
@@ -413,6 +411,8 @@ final class SchemaJsonFormatter
           jsonTable.put("additionalInformation", jsonAdditionalInformation);
         }
       }
+
+      accumulate("tables", jsonTable);
     }
     catch (final JSONException e)
     {
@@ -31,10 +31,10 @@ package schemacrawler.tools.text.schema;
 
 import java.sql.Connection;
 
+import schemacrawler.crawl.SchemaCrawler;
 import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
-import schemacrawler.tools.analysis.associations.CatalogWithAssociations;
-import schemacrawler.tools.analysis.counts.CatalogWithCounts;
 import schemacrawler.tools.executable.BaseStagedExecutable;
 import schemacrawler.tools.options.TextOutputFormat;
 import schemacrawler.tools.traversal.SchemaTraversalHandler;
@@ -60,6 +60,26 @@ public final class SchemaTextExecutable
   @Override
   public void executeOn(final Catalog db, final Connection connection)
     throws Exception
+  {
+    final SchemaTraverser traverser = prepareSchemaTraversal(db, connection);
+    traverser.traverse();
+  }
+
+  public final SchemaTextOptions getSchemaTextOptions()
+  {
+    loadSchemaTextOptions();
+    return schemaTextOptions;
+  }
+
+  public final void setSchemaTextOptions(final SchemaTextOptions schemaTextOptions)
+  {
+    this.schemaTextOptions = schemaTextOptions;
+  }
+
+  @Override
+  protected SchemaTraverser prepareSchemaTraversal(final Catalog db,
+                                                   final Connection connection)
+    throws Exception
   {
     loadSchemaTextOptions();
 
@@ -67,41 +87,46 @@ public final class SchemaTextExecutable
     Catalog catalog = db;
     if (schemaTextOptions.isShowWeakAssociations())
     {
-      catalog = new CatalogWithAssociations(catalog);
+      catalog = newCatalogWithAssociations(catalog);
     }
     if (schemaTextOptions.isShowRowCounts()
         || schemaCrawlerOptions.isHideEmptyTables())
     {
-      catalog = new CatalogWithCounts(catalog,
-                                      connection,
-                                      schemaCrawlerOptions);
+      catalog = newCatalogWithCounts(catalog, connection);
     }
 
-    final SchemaTraversalHandler formatter = getSchemaTraversalHandler();
-
-    final SchemaTraverser traverser = new SchemaTraverser();
+    final SchemaTraverser traverser = newSchemaTraverser();
     traverser.setCatalog(catalog);
-    traverser.setHandler(formatter);
-    traverser.setTablesComparator(NamedObjectSort
-      .getNamedObjectSort(getSchemaTextOptions()
-        .isAlphabeticalSortForTables()));
-    traverser.setRoutinesComparator(NamedObjectSort
-      .getNamedObjectSort(getSchemaTextOptions()
-        .isAlphabeticalSortForRoutines()));
-
-    traverser.traverse();
-
+    return traverser;
   }
 
-  public final SchemaTextOptions getSchemaTextOptions()
+  /**
+   * Streams tables to the output as each chunk of schemas is crawled,
+   * unless weak associations or row counts are needed, since those
+   * decorate the whole catalog.
+   */
+  @Override
+  protected boolean executeInChunks(final Connection connection,
+                                    final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions)
+    throws Exception
   {
     loadSchemaTextOptions();
-    return schemaTextOptions;
-  }
 
-  public final void setSchemaTextOptions(final SchemaTextOptions schemaTextOptions)
-  {
-    this.schemaTextOptions = schemaTextOptions;
+    final int schemasPerChunk = schemaTextOptions.getSchemasPerChunk();
+    if (schemasPerChunk <= 0 || schemaTextOptions.isShowWeakAssociations()
+        || schemaTextOptions.isShowRowCounts()
+        || schemaCrawlerOptions.isHideEmptyTables())
+    {
+      return false;
+    }
+
+    final SchemaCrawler schemaCrawler = new SchemaCrawler(connection,
+                                                          databaseSpecificOverrideOptions);
+    final SchemaTraverser traverser = newSchemaTraverser();
+    traverser
+      .traverseInChunks(schemaCrawler, schemaCrawlerOptions, schemasPerChunk);
+
+    return true;
   }
 
   private SchemaTextDetailType getSchemaTextDetailType()
@@ -148,6 +173,22 @@ public final class SchemaTextExecutable
     return formatter;
   }
 
+  private SchemaTraverser newSchemaTraverser()
+    throws SchemaCrawlerException
+  {
+    final SchemaTraversalHandler formatter = getSchemaTraversalHandler();
+
+    final SchemaTraverser traverser = new SchemaTraverser();
+    traverser.setHandler(formatter);
+    traverser.setTablesComparator(NamedObjectSort
+      .getNamedObjectSort(getSchemaTextOptions()
+        .isAlphabeticalSortForTables()));
+    traverser.setRoutinesComparator(NamedObjectSort
+      .getNamedObjectSort(getSchemaTextOptions()
+        .isAlphabeticalSortForRoutines()));
+    return traverser;
+  }
+
   private void loadSchemaTextOptions()
   {
     if (schemaTextOptions == null)
@@ -50,6 +50,16 @@ public class SchemaTextOptions
   private boolean isShowOrdinalNumbers;
   private boolean isShowStandardColumnTypeNames;
   private boolean isShowRowCounts;
+  private int schemasPerChunk;
+
+  /**
+   * Number of schemas to crawl and output at a time, or 0 to crawl the
+   * whole catalog before any output is produced.
+   */
+  public int getSchemasPerChunk()
+  {
+    return schemasPerChunk;
+  }
 
   public boolean isAlphabeticalSortForForeignKeys()
   {
@@ -166,6 +176,11 @@ public class SchemaTextOptions
     this.isHideTriggerNames = isHideTriggerNames;
   }
 
+  public void setSchemasPerChunk(final int schemasPerChunk)
+  {
+    this.schemasPerChunk = schemasPerChunk;
+  }
+
   public void setShowOrdinalNumbers(final boolean isShowOrdinalNumbers)
   {
     this.isShowOrdinalNumbers = isShowOrdinalNumbers;
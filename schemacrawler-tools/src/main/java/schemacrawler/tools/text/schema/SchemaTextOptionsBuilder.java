@@ -60,6 +60,9 @@ public class SchemaTextOptionsBuilder
   private static final String SHOW_WEAK_ASSOCIATIONS = SCHEMACRAWLER_FORMAT_PREFIX
                                                        + "show_weak_associations";
 
+  private static final String SCHEMAS_PER_CHUNK = SCHEMACRAWLER_FORMAT_PREFIX
+                                                  + "streaming.schemas_per_chunk";
+
   private static final String SC_SORT_ALPHABETICALLY_TABLE_INDEXES = SCHEMACRAWLER_FORMAT_PREFIX
                                                                      + "sort_alphabetically.table_indexes";
   private static final String SC_SORT_ALPHABETICALLY_TABLE_FOREIGNKEYS = SCHEMACRAWLER_FORMAT_PREFIX
@@ -104,6 +107,7 @@ public class SchemaTextOptionsBuilder
     options.setHideRemarks(config.getBooleanValue(HIDE_REMARKS));
     options
       .setShowWeakAssociations(config.getBooleanValue(SHOW_WEAK_ASSOCIATIONS));
+    options.setSchemasPerChunk(config.getIntegerValue(SCHEMAS_PER_CHUNK, 0));
 
     options.setAlphabeticalSortForForeignKeys(config
       .getBooleanValue(SC_SORT_ALPHABETICALLY_TABLE_FOREIGNKEYS));
@@ -162,6 +166,8 @@ public class SchemaTextOptionsBuilder
     config.setBooleanValue(HIDE_REMARKS, options.isHideRemarks());
     config.setBooleanValue(SHOW_WEAK_ASSOCIATIONS,
                            options.isShowWeakAssociations());
+    config.setStringValue(SCHEMAS_PER_CHUNK,
+                          String.valueOf(options.getSchemasPerChunk()));
 
     config.setBooleanValue(SC_SORT_ALPHABETICALLY_TABLE_FOREIGNKEYS,
                            options.isAlphabeticalSortForForeignKeys());
@@ -171,6 +177,12 @@ public class SchemaTextOptionsBuilder
     return config;
   }
 
+  public SchemaTextOptionsBuilder streaming(final int schemasPerChunk)
+  {
+    options.setSchemasPerChunk(schemasPerChunk);
+    return this;
+  }
+
   public SchemaTextOptionsBuilder weakAssociations(final boolean value)
   {
     options.setShowWeakAssociations(value);
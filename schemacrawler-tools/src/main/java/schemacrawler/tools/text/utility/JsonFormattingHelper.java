@@ -39,6 +39,12 @@ public class JsonFormattingHelper
   extends PlainTextFormattingHelper
 {
 
+  /**
+   * Number of spaces to add to each level of indentation in the JSON
+   * output.
+   */
+  public static final int INDENT_FACTOR = 2;
+
   public JsonFormattingHelper(final PrintWriter out,
                               final TextOutputFormat outputFormat)
   {
@@ -50,7 +56,7 @@ public class JsonFormattingHelper
   {
     try
     {
-      jsonObject.write(out, 2);
+      jsonObject.write(out, INDENT_FACTOR);
     }
     catch (final JSONException e)
     {
@@ -0,0 +1,317 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.utility.org.json;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A JSON array whose values are rendered as soon as they are added, and
+ * spooled to a temporary file, so that the array does not need to be
+ * held in memory until it is written. The array writes exactly the
+ * same text as a JSONArray holding the same values. Values are added
+ * with {@link #spool(Object)}, or written in parts with
+ * {@link #startValue()} and {@link #spool(String, int)}; the inherited
+ * accessors and put methods do not see spooled values.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class SpooledJSONArray
+  extends JSONArray
+  implements Closeable
+{
+
+  /**
+   * Separates values in the spool file. JSON text never contains a raw
+   * NUL character, since it is escaped in quoted strings.
+   */
+  private static final char VALUE_SEPARATOR = '\0';
+
+  private final int indentFactor;
+  private final boolean accumulated;
+  private Path spoolFile;
+  private Writer spool;
+  private int length;
+  private JSONObject firstValue;
+
+  /**
+   * Creates a spooled JSON array.
+   *
+   * @param indentFactor
+   *        The number of spaces to add to each level of indentation,
+   *        which has to be the same as the one the array is written
+   *        with.
+   * @param accumulated
+   *        Whether the array holds values accumulated under a key of a
+   *        JSON object, in which case a single value is written on its
+   *        own, and not as an array.
+   */
+  public SpooledJSONArray(final int indentFactor, final boolean accumulated)
+  {
+    this.indentFactor = indentFactor;
+    this.accumulated = accumulated;
+  }
+
+  /**
+   * Deletes the spool file.
+   */
+  @Override
+  public void close()
+    throws IOException
+  {
+    if (spool != null)
+    {
+      spool.close();
+      spool = null;
+    }
+    if (spoolFile != null)
+    {
+      Files.deleteIfExists(spoolFile);
+      spoolFile = null;
+    }
+    firstValue = null;
+  }
+
+  /**
+   * Get the number of values that were spooled.
+   *
+   * @return The length.
+   */
+  @Override
+  public int length()
+  {
+    return length;
+  }
+
+  /**
+   * Renders a value, and spools it to the end of the array.
+   *
+   * @param value
+   *        Value to add to the array
+   * @return this.
+   * @throws JSONException
+   *         If the value cannot be rendered, or spooled.
+   */
+  public SpooledJSONArray spool(final Object value)
+    throws JSONException
+  {
+    startValue();
+    spool(JSONObject.valueToString(value, indentFactor, 0), 0);
+    if (accumulated && length == 1 && value instanceof JSONObject)
+    {
+      // Keep the value, in case it is the only one, since a single
+      // accumulated value is written differently
+      firstValue = (JSONObject) value;
+    }
+    return this;
+  }
+
+  /**
+   * Spools part of the text of the current value, rendered at an
+   * indentation of zero, and shifted by the given indentation.
+   *
+   * @param text
+   *        JSON text
+   * @param indent
+   *        Number of spaces to add after each line break in the text
+   * @throws JSONException
+   *         If the text cannot be spooled.
+   */
+  public void spool(final String text, final int indent)
+    throws JSONException
+  {
+    try
+    {
+      for (int i = 0; i < text.length(); i++)
+      {
+        final char ch = text.charAt(i);
+        spool.write(ch);
+        if (ch == '\n')
+        {
+          indent(spool, indent);
+        }
+      }
+    }
+    catch (final IOException e)
+    {
+      throw new JSONException(e);
+    }
+  }
+
+  /**
+   * Starts a new value at the end of the array, the text of which is
+   * spooled with {@link #spool(String, int)}.
+   *
+   * @throws JSONException
+   *         If the spool file cannot be created.
+   */
+  public void startValue()
+    throws JSONException
+  {
+    try
+    {
+      if (spool == null)
+      {
+        spoolFile = Files.createTempFile("schemacrawler", ".json");
+        spool = Files.newBufferedWriter(spoolFile, UTF_8);
+      }
+      if (length > 0)
+      {
+        spool.write(VALUE_SEPARATOR);
+      }
+      length++;
+      firstValue = null;
+    }
+    catch (final IOException e)
+    {
+      throw new JSONException(e);
+    }
+  }
+
+  @Override
+  String toString(final int indentFactor, final int indent)
+    throws JSONException
+  {
+    if (accumulated && length == 1 && firstValue != null)
+    {
+      return firstValue.toString(indentFactor, indent);
+    }
+    if (length == 0)
+    {
+      return "[]";
+    }
+
+    final StringWriter writer = new StringWriter();
+    try
+    {
+      writeValues(writer, indent, ",\n");
+    }
+    catch (final IOException e)
+    {
+      throw new JSONException(e);
+    }
+    return writer.toString();
+  }
+
+  @Override
+  void write(final PrintWriter writer, final int indentFactor, final int indent)
+    throws JSONException
+  {
+    if (accumulated && length == 1 && firstValue != null)
+    {
+      firstValue.write(writer, indentFactor, indent);
+      return;
+    }
+    if (length == 0)
+    {
+      super.write(writer, indentFactor, indent);
+      return;
+    }
+
+    try
+    {
+      writeValues(writer, indent, "," + System.lineSeparator());
+    }
+    catch (final IOException e)
+    {
+      throw new JSONException(e);
+    }
+  }
+
+  private void indent(final Writer writer, final int indent)
+    throws IOException
+  {
+    for (int i = 0; i < indent; i++)
+    {
+      writer.write(' ');
+    }
+  }
+
+  /**
+   * Copies the spooled values, framed in the same way as the values of
+   * a JSONArray.
+   */
+  private void writeValues(final Writer writer,
+                           final int indent,
+                           final String separator)
+    throws IOException
+  {
+    spool.flush();
+
+    final int valueIndent;
+    writer.write('[');
+    if (length == 1)
+    {
+      valueIndent = indent;
+    }
+    else
+    {
+      valueIndent = indent + indentFactor;
+      writer.write(separator.substring(1));
+      indent(writer, valueIndent);
+    }
+
+    try (final Reader reader = Files.newBufferedReader(spoolFile, UTF_8);)
+    {
+      int ch;
+      while ((ch = reader.read()) != -1)
+      {
+        if (ch == VALUE_SEPARATOR)
+        {
+          writer.write(separator);
+          indent(writer, valueIndent);
+        }
+        else
+        {
+          writer.write(ch);
+          if (ch == '\n')
+          {
+            indent(writer, valueIndent);
+          }
+        }
+      }
+    }
+
+    if (length > 1)
+    {
+      writer.write(separator.substring(1));
+      indent(writer, indent);
+    }
+    writer.write(']');
+  }
+
+}
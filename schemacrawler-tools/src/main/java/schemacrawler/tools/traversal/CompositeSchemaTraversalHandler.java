@@ -0,0 +1,316 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.traversal;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.DatabaseInfo;
+import schemacrawler.schema.JdbcDriverInfo;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.SchemaCrawlerInfo;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+
+/**
+ * Feeds several schema traversal handlers from a single traversal of
+ * the catalog. Each event is passed on to the handlers in the order in
+ * which they were added.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class CompositeSchemaTraversalHandler
+  implements SchemaTraversalHandler
+{
+
+  private final List<SchemaTraversalHandler> handlers;
+
+  public CompositeSchemaTraversalHandler(final List<SchemaTraversalHandler> handlers)
+  {
+    requireNonNull(handlers, "No handlers provided");
+    this.handlers = new ArrayList<>(handlers);
+  }
+
+  @Override
+  public void begin()
+    throws SchemaCrawlerException
+  {
+    for (final SchemaTraversalHandler handler: handlers)
+    {
+      handler.begin();
+    }
+  }
+
+  @Override
+  public void end()
+    throws SchemaCrawlerException
+  {
+    for (final SchemaTraversalHandler handler: handlers)
+    {
+      handler.end();
+    }
+  }
+
+  @Override
+  public void handle(final ColumnDataType columnDataType)
+    throws SchemaCrawlerException
+  {
+    for (final SchemaTraversalHandler handler: handlers)
+    {
+      handler.handle(columnDataType);
+    }
+  }
+
+  @Override
+  public void handle(final CrawlInfo crawlInfo)
+    throws SchemaCrawlerException
+  {
+    for (final SchemaTraversalHandler handler: handlers)
+    {
+      handler.handle(crawlInfo);
+    }
+  }
+
+  @Override
+  public void handle(final DatabaseInfo databaseInfo)
+    throws SchemaCrawlerException
+  {
+    for (final SchemaTraversalHandler handler: handlers)
+    {
+      handler.handle(databaseInfo);
+    }
+  }
+
+  @Override
+  public void handle(final JdbcDriverInfo jdbcDriverInfo)
+    throws SchemaCrawlerException
+  {
+    for (final SchemaTraversalHandler handler: handlers)
+    {
+      handler.handle(jdbcDriverInfo);
+    }
+  }
+
+  @Override
+  public void handle(final Routine routine)
+    throws SchemaCrawlerException
+  {
+    for (final SchemaTraversalHandler handler: handlers)
+    {
+      handler.handle(routine);
+    }
+  }
+
+  @Override
+  public void handle(final SchemaCrawlerInfo schemaCrawlerInfo)
+    throws SchemaCrawlerException
+  {
+    for (final SchemaTraversalHandler handler: handlers)
+    {
+      handler.handle(schemaCrawlerInfo);
+    }
+  }
+
+  @Override
+  public void handle(final Sequence sequence)
+    throws SchemaCrawlerException
+  {
+    for (final SchemaTraversalHandler handler: handlers)
+    {
+      handler.handle(sequence);
+    }
+  }
+
+  @Override
+  public void handle(final Synonym synonym)
+    throws SchemaCrawlerException
+  {
+    for (final SchemaTraversalHandler handler: handlers)
+    {
+      handler.handle(synonym);
+    }
+  }
+
+  @Override
+  public void handle(final Table table)
+    throws SchemaCrawlerException
+  {
+    for (final SchemaTraversalHandler handler: handlers)
+    {
+      handler.handle(table);
+    }
+  }
+
+  @Override
+  public void handleColumnDataTypesEnd()
+    throws SchemaCrawlerException
+  {
+    for (final SchemaTraversalHandler handler: handlers)
+    {
+      handler.handleColumnDataTypesEnd();
+    }
+  }
+
+  @Override
+  public void handleColumnDataTypesStart()
+    throws SchemaCrawlerException
+  {
+    for (final SchemaTraversalHandler handler: handlers)
+    {
+      handler.handleColumnDataTypesStart();
+    }
+  }
+
+  @Override
+  public void handleHeaderEnd()
+    throws SchemaCrawlerException
+  {
+    for (final SchemaTraversalHandler handler: handlers)
+    {
+      handler.handleHeaderEnd();
+    }
+  }
+
+  @Override
+  public void handleHeaderStart()
+    throws SchemaCrawlerException
+  {
+    for (final SchemaTraversalHandler handler: handlers)
+    {
+      handler.handleHeaderStart();
+    }
+  }
+
+  @Override
+  public void handleInfoEnd()
+    throws SchemaCrawlerException
+  {
+    for (final SchemaTraversalHandler handler: handlers)
+    {
+      handler.handleInfoEnd();
+    }
+  }
+
+  @Override
+  public void handleInfoStart()
+    throws SchemaCrawlerException
+  {
+    for (final SchemaTraversalHandler handler: handlers)
+    {
+      handler.handleInfoStart();
+    }
+  }
+
+  @Override
+  public void handleRoutinesEnd()
+    throws SchemaCrawlerException
+  {
+    for (final SchemaTraversalHandler handler: handlers)
+    {
+      handler.handleRoutinesEnd();
+    }
+  }
+
+  @Override
+  public void handleRoutinesStart()
+    throws SchemaCrawlerException
+  {
+    for (final SchemaTraversalHandler handler: handlers)
+    {
+      handler.handleRoutinesStart();
+    }
+  }
+
+  @Override
+  public void handleSequencesEnd()
+    throws SchemaCrawlerException
+  {
+    for (final SchemaTraversalHandler handler: handlers)
+    {
+      handler.handleSequencesEnd();
+    }
+  }
+
+  @Override
+  public void handleSequencesStart()
+    throws SchemaCrawlerException
+  {
+    for (final SchemaTraversalHandler handler: handlers)
+    {
+      handler.handleSequencesStart();
+    }
+  }
+
+  @Override
+  public void handleSynonymsEnd()
+    throws SchemaCrawlerException
+  {
+    for (final SchemaTraversalHandler handler: handlers)
+    {
+      handler.handleSynonymsEnd();
+    }
+  }
+
+  @Override
+  public void handleSynonymsStart()
+    throws SchemaCrawlerException
+  {
+    for (final SchemaTraversalHandler handler: handlers)
+    {
+      handler.handleSynonymsStart();
+    }
+  }
+
+  @Override
+  public void handleTablesEnd()
+    throws SchemaCrawlerException
+  {
+    for (final SchemaTraversalHandler handler: handlers)
+    {
+      handler.handleTablesEnd();
+    }
+  }
+
+  @Override
+  public void handleTablesStart()
+    throws SchemaCrawlerException
+  {
+    for (final SchemaTraversalHandler handler: handlers)
+    {
+      handler.handleTablesStart();
+    }
+  }
+
+}
@@ -36,6 +36,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 
+import schemacrawler.crawl.SchemaCrawler;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.ColumnDataType;
 import schemacrawler.schema.NamedObject;
@@ -44,6 +45,7 @@ import schemacrawler.schema.Sequence;
 import schemacrawler.schema.Synonym;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.utility.NamedObjectSort;
 
 public class SchemaTraverser
@@ -103,34 +105,108 @@ public class SchemaTraverser
   public final void traverse()
     throws SchemaCrawlerException
   {
-
-    final Collection<ColumnDataType> columnDataTypes = catalog
-      .getColumnDataTypes();
     final Collection<Table> tables = catalog.getTables();
-    final Collection<Routine> routines = catalog.getRoutines();
-    final Collection<Synonym> synonyms = catalog.getSynonyms();
-    final Collection<Sequence> sequences = catalog.getSequences();
 
     handler.begin();
 
-    handler.handleHeaderStart();
-    handler.handle(catalog.getCrawlInfo());
-    handler.handleHeaderEnd();
+    handleHeader(catalog);
 
     if (!tables.isEmpty())
     {
-
       handler.handleTablesStart();
+      handleTables(tables);
+      handler.handleTablesEnd();
+    }
 
-      final List<? extends Table> tablesList = new ArrayList<>(tables);
-      Collections.sort(tablesList, tablesComparator);
-      for (final Table table: tablesList)
-      {
-        handler.handle(table);
-      }
+    handleRemaining(catalog);
+
+    handler.end();
+  }
+
+  /**
+   * Crawls and traverses the database, with tables handled one chunk of
+   * schemas at a time, as soon as each chunk is crawled. Tables are only
+   * sorted within a chunk, and chunks are traversed in schema order.
+   * Routines, sequences, synonyms and column data types are traversed
+   * after all the tables, as usual. The catalog without tables is
+   * available from {@link #getCatalog()} after the traversal.
+   *
+   * @param schemaCrawler
+   *        SchemaCrawler to crawl the database with
+   * @param schemaCrawlerOptions
+   *        SchemaCrawler options
+   * @param schemasPerChunk
+   *        Number of schemas in each chunk of tables
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  public final void traverseInChunks(final SchemaCrawler schemaCrawler,
+                                     final SchemaCrawlerOptions schemaCrawlerOptions,
+                                     final int schemasPerChunk)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(schemaCrawler, "No SchemaCrawler provided");
 
+    // Chunks are handled in a lambda, so track progress in arrays
+    final boolean[] headerHandled = new boolean[] { false };
+    final boolean[] tablesStarted = new boolean[] { false };
+
+    handler.begin();
+
+    final Catalog catalog = schemaCrawler
+      .crawlInChunks(schemaCrawlerOptions, schemasPerChunk, chunk -> {
+        if (!headerHandled[0])
+        {
+          handleHeader(chunk);
+          headerHandled[0] = true;
+        }
+        final Collection<Table> tables = chunk.getTables();
+        if (!tables.isEmpty())
+        {
+          if (!tablesStarted[0])
+          {
+            handler.handleTablesStart();
+            tablesStarted[0] = true;
+          }
+          handleTables(tables);
+        }
+      });
+
+    if (!headerHandled[0])
+    {
+      handleHeader(catalog);
+    }
+    if (tablesStarted[0])
+    {
       handler.handleTablesEnd();
     }
+    setCatalog(catalog);
+
+    handleRemaining(catalog);
+
+    handler.end();
+  }
+
+  private void handleHeader(final Catalog catalog)
+    throws SchemaCrawlerException
+  {
+    handler.handleHeaderStart();
+    handler.handle(catalog.getCrawlInfo());
+    handler.handleHeaderEnd();
+  }
+
+  /**
+   * Handles routines, sequences, synonyms, column data types and
+   * information about the database.
+   */
+  private void handleRemaining(final Catalog catalog)
+    throws SchemaCrawlerException
+  {
+    final Collection<ColumnDataType> columnDataTypes = catalog
+      .getColumnDataTypes();
+    final Collection<Routine> routines = catalog.getRoutines();
+    final Collection<Synonym> synonyms = catalog.getSynonyms();
+    final Collection<Sequence> sequences = catalog.getSequences();
 
     if (!routines.isEmpty())
     {
@@ -181,8 +257,17 @@ public class SchemaTraverser
     handler.handle(catalog.getDatabaseInfo());
     handler.handle(catalog.getJdbcDriverInfo());
     handler.handleInfoEnd();
+  }
 
-    handler.end();
+  private void handleTables(final Collection<Table> tables)
+    throws SchemaCrawlerException
+  {
+    final List<? extends Table> tablesList = new ArrayList<>(tables);
+    Collections.sort(tablesList, tablesComparator);
+    for (final Table table: tablesList)
+    {
+      handler.handle(table);
+    }
   }
 
 }
@@ -0,0 +1,532 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.utility;
+
+
+import static java.util.Objects.requireNonNull;
+import static sf.util.DatabaseUtility.checkConnection;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import schemacrawler.schemacrawler.InclusionRule;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.RegularExpressionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevel;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * An on-disk cache of crawled catalogs. Entries are keyed by the JDBC
+ * URL, the user name, the SchemaCrawler options (including the schema
+ * info level and the title), and the database specific override
+ * options. An entry is used only if it is younger than the
+ * time-to-live, and if a cheap probe of the database table list
+ * matches the one taken when the catalog was crawled. Changes that do
+ * not add, drop or rename tables are only picked up once the entry
+ * expires.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class CatalogCache
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(CatalogCache.class.getName());
+
+  public static final String CACHE_DIRECTORY = "schemacrawler.cache.directory";
+  public static final String CACHE_TTL_SECONDS = "schemacrawler.cache.ttl_seconds";
+
+  private static final long DEFAULT_TTL_SECONDS = 3600;
+
+  /**
+   * Creates a catalog cache from configuration, if a cache directory is
+   * configured.
+   *
+   * @param config
+   *        Configuration properties
+   * @return Catalog cache, or empty if caching is not configured
+   */
+  public static Optional<CatalogCache> fromConfig(final Config config)
+  {
+    if (config == null || !config.hasValue(CACHE_DIRECTORY))
+    {
+      return Optional.empty();
+    }
+    final Path cacheDirectory = Paths
+      .get(config.getStringValue(CACHE_DIRECTORY, "."));
+    final Duration ttl = Duration
+      .ofSeconds(config.getLongValue(CACHE_TTL_SECONDS, DEFAULT_TTL_SECONDS));
+    return Optional.of(new CatalogCache(cacheDirectory, ttl));
+  }
+
+  private static void appendKey(final StringBuilder buffer,
+                                final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions)
+  {
+    appendKey(buffer,
+              "supportsCatalogs",
+              databaseSpecificOverrideOptions.hasOverrideForSupportsCatalogs()
+                                  ? databaseSpecificOverrideOptions
+                                    .isSupportsCatalogs()
+                                  : null);
+    appendKey(buffer,
+              "supportsSchemas",
+              databaseSpecificOverrideOptions.hasOverrideForSupportsSchemas()
+                                 ? databaseSpecificOverrideOptions
+                                   .isSupportsSchemas()
+                                 : null);
+    appendKey(buffer,
+              "identifierQuoteString",
+              databaseSpecificOverrideOptions.getIdentifierQuoteString());
+    appendKey(buffer,
+              "tableRetrievalStrategy",
+              databaseSpecificOverrideOptions.getTableRetrievalStrategy());
+    appendKey(buffer,
+              "tableColumnRetrievalStrategy",
+              databaseSpecificOverrideOptions
+                .getTableColumnRetrievalStrategy());
+    appendKey(buffer,
+              "primaryKeyRetrievalStrategy",
+              databaseSpecificOverrideOptions
+                .getPrimaryKeyRetrievalStrategy());
+    appendKey(buffer,
+              "indexRetrievalStrategy",
+              databaseSpecificOverrideOptions.getIndexRetrievalStrategy());
+    appendKey(buffer,
+              "foreignKeyRetrievalStrategy",
+              databaseSpecificOverrideOptions
+                .getForeignKeyRetrievalStrategy());
+    final InformationSchemaViews informationSchemaViews = databaseSpecificOverrideOptions
+      .getInformationSchemaViews();
+    for (final InformationSchemaKey key: InformationSchemaKey.values())
+    {
+      appendKey(buffer, key.name(), informationSchemaViews.getSql(key));
+    }
+  }
+
+  private static void appendKey(final StringBuilder buffer,
+                                final SchemaCrawlerOptions schemaCrawlerOptions)
+  {
+    final SchemaInfoLevel infoLevel = schemaCrawlerOptions
+      .getSchemaInfoLevel();
+    appendKey(buffer,
+              "infoLevel",
+              Arrays.asList(infoLevel.isRetrieveAdditionalColumnAttributes(),
+                            infoLevel.isRetrieveAdditionalDatabaseInfo(),
+                            infoLevel.isRetrieveAdditionalJdbcDriverInfo(),
+                            infoLevel.isRetrieveAdditionalTableAttributes(),
+                            infoLevel.isRetrieveColumnDataTypes(),
+                            infoLevel.isRetrieveDatabaseInfo(),
+                            infoLevel.isRetrieveForeignKeyDefinitions(),
+                            infoLevel.isRetrieveForeignKeys(),
+                            infoLevel.isRetrieveHiddenTableColumns(),
+                            infoLevel.isRetrieveIndexColumnInformation(),
+                            infoLevel.isRetrieveIndexes(),
+                            infoLevel.isRetrieveIndexInformation(),
+                            infoLevel.isRetrievePrimaryKeyDefinitions(),
+                            infoLevel.isRetrieveRoutineColumns(),
+                            infoLevel.isRetrieveRoutineInformation(),
+                            infoLevel.isRetrieveRoutines(),
+                            infoLevel.isRetrieveSequenceInformation(),
+                            infoLevel.isRetrieveSynonymInformation(),
+                            infoLevel.isRetrieveTableColumnPrivileges(),
+                            infoLevel.isRetrieveTableColumns(),
+                            infoLevel.isRetrieveTableConstraintDefinitions(),
+                            infoLevel.isRetrieveTableConstraintInformation(),
+                            infoLevel.isRetrieveTableDefinitionsInformation(),
+                            infoLevel.isRetrieveTablePrivileges(),
+                            infoLevel.isRetrieveTables(),
+                            infoLevel.isRetrieveTriggerInformation(),
+                            infoLevel.isRetrieveUserDefinedColumnDataTypes(),
+                            infoLevel.isRetrieveViewInformation()));
+
+    appendKey(buffer,
+              "schemaInclusionRule",
+              schemaCrawlerOptions.getSchemaInclusionRule());
+    appendKey(buffer,
+              "synonymInclusionRule",
+              schemaCrawlerOptions.getSynonymInclusionRule());
+    appendKey(buffer,
+              "sequenceInclusionRule",
+              schemaCrawlerOptions.getSequenceInclusionRule());
+    appendKey(buffer,
+              "tableTypes",
+              sortedNames(schemaCrawlerOptions.getTableTypes()));
+    appendKey(buffer,
+              "tableNamePattern",
+              schemaCrawlerOptions.getTableNamePattern());
+    appendKey(buffer,
+              "tableInclusionRule",
+              schemaCrawlerOptions.getTableInclusionRule());
+    appendKey(buffer,
+              "columnInclusionRule",
+              schemaCrawlerOptions.getColumnInclusionRule());
+    appendKey(buffer,
+              "routineTypes",
+              sortedNames(schemaCrawlerOptions.getRoutineTypes()));
+    appendKey(buffer,
+              "routineInclusionRule",
+              schemaCrawlerOptions.getRoutineInclusionRule());
+    appendKey(buffer,
+              "routineColumnInclusionRule",
+              schemaCrawlerOptions.getRoutineColumnInclusionRule());
+    appendKey(buffer,
+              "grepColumnInclusionRule",
+              schemaCrawlerOptions.getGrepColumnInclusionRule());
+    appendKey(buffer,
+              "grepRoutineColumnInclusionRule",
+              schemaCrawlerOptions.getGrepRoutineColumnInclusionRule());
+    appendKey(buffer,
+              "grepDefinitionInclusionRule",
+              schemaCrawlerOptions.getGrepDefinitionInclusionRule());
+    appendKey(buffer,
+              "grepInvertMatch",
+              schemaCrawlerOptions.isGrepInvertMatch());
+    appendKey(buffer,
+              "grepOnlyMatching",
+              schemaCrawlerOptions.isGrepOnlyMatching());
+    appendKey(buffer,
+              "hideEmptyTables",
+              schemaCrawlerOptions.isHideEmptyTables());
+    appendKey(buffer,
+              "childTableFilterDepth",
+              schemaCrawlerOptions.getChildTableFilterDepth());
+    appendKey(buffer,
+              "parentTableFilterDepth",
+              schemaCrawlerOptions.getParentTableFilterDepth());
+    // The title is kept in the crawl information of the catalog
+    appendKey(buffer, "title", schemaCrawlerOptions.getTitle());
+  }
+
+  private static void appendKey(final StringBuilder buffer,
+                                final String name,
+                                final Object value)
+  {
+    final String text;
+    if (value instanceof RegularExpressionRule)
+    {
+      // Regular expression rules do not have a stable string form
+      final RegularExpressionRule rule = (RegularExpressionRule) value;
+      text = String.format("%s {+/%s/ -/%s/}",
+                           rule.getClass().getName(),
+                           rule.getInclusionPattern().pattern(),
+                           rule.getExclusionPattern().pattern());
+    }
+    else if (value instanceof InclusionRule)
+    {
+      text = value.getClass().getName();
+    }
+    else
+    {
+      text = String.valueOf(value);
+    }
+    buffer.append(name).append('=').append(text).append('\n');
+  }
+
+  private static String digest(final String text)
+  {
+    try
+    {
+      final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+      final byte[] hash = messageDigest
+        .digest(text.getBytes(StandardCharsets.UTF_8));
+      final StringBuilder buffer = new StringBuilder(hash.length * 2);
+      for (final byte b: hash)
+      {
+        buffer.append(String.format("%02x", b));
+      }
+      return buffer.toString();
+    }
+    catch (final NoSuchAlgorithmException e)
+    {
+      // SHA-256 is required on every Java platform
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Gets the names of the values in a collection in sorted order, since
+   * sets do not print their values in a stable order.
+   */
+  private static List<String> sortedNames(final Collection<?> values)
+  {
+    if (values == null)
+    {
+      return null;
+    }
+    final List<String> names = new ArrayList<>();
+    for (final Object value: values)
+    {
+      names.add(String.valueOf(value));
+    }
+    Collections.sort(names);
+    return names;
+  }
+
+  private final Path cacheDirectory;
+  private final Duration ttl;
+
+  public CatalogCache(final Path cacheDirectory, final Duration ttl)
+  {
+    this.cacheDirectory = requireNonNull(cacheDirectory,
+                                         "No cache directory provided");
+    this.ttl = requireNonNull(ttl, "No time-to-live provided");
+  }
+
+  /**
+   * Removes a cached catalog, if one exists.
+   */
+  public void invalidate(final Connection connection,
+                         final SchemaCrawlerOptions schemaCrawlerOptions,
+                         final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions)
+    throws SchemaCrawlerException
+  {
+    final Path cacheFile = cacheFile(connection,
+                                     schemaCrawlerOptions,
+                                     databaseSpecificOverrideOptions);
+    try
+    {
+      Files.deleteIfExists(cacheFile);
+    }
+    catch (final IOException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not delete cached catalog <%s>",
+                                  cacheFile),
+                 e);
+    }
+  }
+
+  /**
+   * Loads a cached catalog, if there is a fresh entry for the
+   * connection and options. Stale, expired or unreadable entries are
+   * deleted.
+   */
+  public Optional<Catalog> load(final Connection connection,
+                                final SchemaCrawlerOptions schemaCrawlerOptions,
+                                final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions)
+    throws SchemaCrawlerException
+  {
+    final Path cacheFile = cacheFile(connection,
+                                     schemaCrawlerOptions,
+                                     databaseSpecificOverrideOptions);
+    if (!Files.isReadable(cacheFile))
+    {
+      return Optional.empty();
+    }
+
+    try (final ObjectInputStream in = new CatalogObjectInputStream(new GZIPInputStream(Files
+      .newInputStream(cacheFile)));)
+    {
+      final Instant createdAt = (Instant) in.readObject();
+      if (createdAt.plus(ttl).isBefore(Instant.now()))
+      {
+        LOGGER.log(Level.INFO,
+                   new StringFormat("Cached catalog has expired <%s>",
+                                    cacheFile));
+      }
+      else if (!probe(connection).equals(in.readObject()))
+      {
+        LOGGER.log(Level.INFO,
+                   new StringFormat("Cached catalog is stale <%s>",
+                                    cacheFile));
+      }
+      else
+      {
+        final Catalog catalog = (Catalog) in.readObject();
+        LOGGER.log(Level.INFO,
+                   new StringFormat("Loaded cached catalog <%s>", cacheFile));
+        return Optional.of(catalog);
+      }
+    }
+    catch (final IOException | ClassNotFoundException | ClassCastException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not read cached catalog <%s>",
+                                  cacheFile),
+                 e);
+    }
+
+    invalidate(connection,
+               schemaCrawlerOptions,
+               databaseSpecificOverrideOptions);
+    return Optional.empty();
+  }
+
+  /**
+   * Saves a catalog to the cache, along with a probe of the database
+   * table list. The cache file is written to a temporary file first,
+   * so that concurrent readers never see a partial entry.
+   */
+  public void store(final Connection connection,
+                    final SchemaCrawlerOptions schemaCrawlerOptions,
+                    final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions,
+                    final Catalog catalog)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(catalog, "No catalog provided");
+    final Path cacheFile = cacheFile(connection,
+                                     schemaCrawlerOptions,
+                                     databaseSpecificOverrideOptions);
+    final String probe = probe(connection);
+    Path tempFile = null;
+    try
+    {
+      Files.createDirectories(cacheDirectory);
+      tempFile = Files.createTempFile(cacheDirectory, "catalog", ".tmp");
+      try (final ObjectOutputStream out = new ObjectOutputStream(new GZIPOutputStream(Files
+        .newOutputStream(tempFile)));)
+      {
+        out.writeObject(Instant.now());
+        out.writeObject(probe);
+        out.writeObject(catalog);
+      }
+      Files.move(tempFile,
+                 cacheFile,
+                 StandardCopyOption.REPLACE_EXISTING,
+                 StandardCopyOption.ATOMIC_MOVE);
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Saved cached catalog <%s>", cacheFile));
+    }
+    catch (final IOException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not save cached catalog <%s>",
+                                  cacheFile),
+                 e);
+    }
+    finally
+    {
+      deleteTempFile(tempFile);
+    }
+  }
+
+  private Path cacheFile(final Connection connection,
+                         final SchemaCrawlerOptions schemaCrawlerOptions,
+                         final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions)
+    throws SchemaCrawlerException
+  {
+    checkConnection(connection);
+    requireNonNull(schemaCrawlerOptions, "No SchemaCrawler options provided");
+    requireNonNull(databaseSpecificOverrideOptions,
+                   "No database specific override options provided");
+    try
+    {
+      final DatabaseMetaData dbMetaData = connection.getMetaData();
+      final StringBuilder buffer = new StringBuilder(4096);
+      appendKey(buffer, "url", dbMetaData.getURL());
+      appendKey(buffer, "user", dbMetaData.getUserName());
+      appendKey(buffer, schemaCrawlerOptions);
+      appendKey(buffer, databaseSpecificOverrideOptions);
+      return cacheDirectory.resolve(digest(buffer.toString()) + ".ser.gz");
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerException("Could not compute catalog cache key",
+                                       e);
+    }
+  }
+
+  private void deleteTempFile(final Path tempFile)
+  {
+    if (tempFile == null)
+    {
+      return;
+    }
+    try
+    {
+      // The temporary file is already gone if it was moved into place
+      Files.deleteIfExists(tempFile);
+    }
+    catch (final IOException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not delete temporary file <%s>",
+                                  tempFile),
+                 e);
+    }
+  }
+
+  /**
+   * Takes a fingerprint of the tables in the database, which is much
+   * cheaper than a full crawl.
+   */
+  private String probe(final Connection connection)
+    throws SchemaCrawlerException
+  {
+    final StringBuilder buffer = new StringBuilder(4096);
+    int count = 0;
+    try (final ResultSet results = connection.getMetaData()
+      .getTables(null, null, "%", null);)
+    {
+      while (results.next())
+      {
+        buffer.append(results.getString("TABLE_CAT")).append('.')
+          .append(results.getString("TABLE_SCHEM")).append('.')
+          .append(results.getString("TABLE_NAME")).append(':')
+          .append(results.getString("TABLE_TYPE")).append('\n');
+        count++;
+      }
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerException("Could not probe database tables", e);
+    }
+    return count + ":" + digest(buffer.toString());
+  }
+
+}
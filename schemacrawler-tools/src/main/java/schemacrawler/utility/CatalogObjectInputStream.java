@@ -0,0 +1,118 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.utility;
+
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+
+/**
+ * An object input stream that only reads classes that can be part of a
+ * serialized catalog - SchemaCrawler classes, and the JDK value and
+ * collection types that they use. Any other class in the stream is
+ * rejected before it is loaded, so that cached or serialized catalogs
+ * from an untrusted location cannot be used to run arbitrary code.
+ *
+ * @author Sualeh Fatehi
+ */
+public class CatalogObjectInputStream
+  extends ObjectInputStream
+{
+
+  private static final String[] ALLOWED_PACKAGES = {
+                                                     "schemacrawler.",
+                                                     "sf.util.",
+                                                     "java.lang.",
+                                                     "java.math.",
+                                                     "java.sql.",
+                                                     "java.time.",
+                                                     "java.util." };
+
+  private static boolean isAllowed(final String className)
+  {
+    // Arrays are allowed if their component type is allowed
+    String componentName = className;
+    while (componentName.startsWith("["))
+    {
+      componentName = componentName.substring(1);
+    }
+    if (componentName.length() == 1)
+    {
+      // Primitive array
+      return true;
+    }
+    if (componentName.startsWith("L") && componentName.endsWith(";"))
+    {
+      componentName = componentName.substring(1, componentName.length() - 1);
+    }
+
+    // Class loaders and reflection are never part of a catalog
+    if (componentName.startsWith("java.lang.reflect.")
+        || componentName.startsWith("java.lang.invoke."))
+    {
+      return false;
+    }
+    for (final String allowedPackage: ALLOWED_PACKAGES)
+    {
+      if (componentName.startsWith(allowedPackage))
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public CatalogObjectInputStream(final InputStream in)
+    throws IOException
+  {
+    super(in);
+  }
+
+  @Override
+  protected Class<?> resolveClass(final ObjectStreamClass desc)
+    throws IOException, ClassNotFoundException
+  {
+    if (!isAllowed(desc.getName()))
+    {
+      throw new InvalidClassException(desc.getName(),
+                                      "Class is not allowed in a serialized catalog");
+    }
+    return super.resolveClass(desc);
+  }
+
+  @Override
+  protected Class<?> resolveProxyClass(final String[] interfaces)
+    throws IOException
+  {
+    throw new InvalidClassException("Proxy classes are not allowed in a serialized catalog");
+  }
+
+}
@@ -29,10 +29,12 @@ http://www.gnu.org/licenses/
 package schemacrawler.utility;
 
 
+import static java.util.Objects.requireNonNull;
 import static sf.util.DatabaseUtility.checkConnection;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
+import java.util.Optional;
 import java.util.logging.Level;
 
 import schemacrawler.crawl.SchemaCrawler;
@@ -77,6 +79,36 @@ public final class SchemaCrawlerUtility
     return catalog;
   }
 
+  /**
+   * Gets a catalog from the cache if there is a fresh entry, otherwise
+   * crawls the database and caches the result.
+   */
+  public static Catalog getCatalog(final Connection connection,
+                                   final SchemaCrawlerOptions schemaCrawlerOptions,
+                                   final CatalogCache catalogCache)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(catalogCache, "No catalog cache provided");
+    checkConnection(connection);
+
+    final DatabaseSpecificOverrideOptions dbSpecificOverrideOptions = matchDatabaseSpecificOverrideOptions(connection);
+    final Optional<Catalog> cachedCatalog = catalogCache
+      .load(connection, schemaCrawlerOptions, dbSpecificOverrideOptions);
+    if (cachedCatalog.isPresent())
+    {
+      return cachedCatalog.get();
+    }
+
+    final SchemaCrawler schemaCrawler = new SchemaCrawler(connection,
+                                                          dbSpecificOverrideOptions);
+    final Catalog catalog = schemaCrawler.crawl(schemaCrawlerOptions);
+    catalogCache.store(connection,
+                       schemaCrawlerOptions,
+                       dbSpecificOverrideOptions,
+                       catalog);
+    return catalog;
+  }
+
   public static ResultsColumns getResultColumns(final ResultSet resultSet)
   {
     return SchemaCrawler.getResultColumns(resultSet);
@@ -0,0 +1,265 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.utility.CatalogCache;
+import schemacrawler.utility.CatalogObjectInputStream;
+import schemacrawler.utility.SchemaCrawlerUtility;
+
+public class CatalogCacheTest
+  extends BaseDatabaseTest
+{
+
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  @Test
+  public void cachedCatalogIsReused()
+    throws Exception
+  {
+    final Path cacheDirectory = tempFolder.newFolder().toPath();
+    final CatalogCache catalogCache = new CatalogCache(cacheDirectory,
+                                                       Duration.ofHours(1));
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+
+    final Connection connection = getConnection();
+    assertFalse(catalogCache
+      .load(connection, schemaCrawlerOptions, overrideOptions(connection))
+      .isPresent());
+
+    final Catalog catalog = SchemaCrawlerUtility
+      .getCatalog(connection, schemaCrawlerOptions, catalogCache);
+    final Optional<Catalog> cachedCatalog = catalogCache
+      .load(connection, schemaCrawlerOptions, overrideOptions(connection));
+    assertTrue(cachedCatalog.isPresent());
+    assertEquals(catalog.getTables().size(),
+                 cachedCatalog.get().getTables().size());
+    assertEquals(catalog.getSchemas(), cachedCatalog.get().getSchemas());
+
+    final SchemaCrawlerOptions otherOptions = new SchemaCrawlerOptions();
+    otherOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.minimum());
+    assertFalse("Different options should not share a cache entry",
+                catalogCache
+                  .load(connection, otherOptions, overrideOptions(connection))
+                  .isPresent());
+  }
+
+  @Test
+  public void differentOverrideOptionsDoNotShareEntries()
+    throws Exception
+  {
+    final Path cacheDirectory = tempFolder.newFolder().toPath();
+    final CatalogCache catalogCache = new CatalogCache(cacheDirectory,
+                                                       Duration.ofHours(1));
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+
+    final Connection connection = getConnection();
+    SchemaCrawlerUtility.getCatalog(connection,
+                                    schemaCrawlerOptions,
+                                    catalogCache);
+
+    final DatabaseSpecificOverrideOptions otherOverrideOptions = new DatabaseSpecificOverrideOptionsBuilder()
+      .identifierQuoteString("`").toOptions();
+    assertFalse("Different override options should not share a cache entry",
+                catalogCache.load(connection,
+                                  schemaCrawlerOptions,
+                                  otherOverrideOptions)
+                  .isPresent());
+  }
+
+  @Test
+  public void differentTitlesDoNotShareEntries()
+    throws Exception
+  {
+    final Path cacheDirectory = tempFolder.newFolder().toPath();
+    final CatalogCache catalogCache = new CatalogCache(cacheDirectory,
+                                                       Duration.ofHours(1));
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.minimum());
+    schemaCrawlerOptions.setTableTypes(Arrays.asList("TABLE", "VIEW"));
+    schemaCrawlerOptions.setTitle("First title");
+
+    final Connection connection = getConnection();
+    SchemaCrawlerUtility.getCatalog(connection,
+                                    schemaCrawlerOptions,
+                                    catalogCache);
+
+    // Types are part of the key in sorted order
+    final SchemaCrawlerOptions reorderedOptions = new SchemaCrawlerOptions();
+    reorderedOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.minimum());
+    reorderedOptions.setTableTypes(Arrays.asList("VIEW", "TABLE"));
+    reorderedOptions.setTitle("First title");
+    assertTrue(catalogCache
+      .load(connection, reorderedOptions, overrideOptions(connection))
+      .isPresent());
+
+    final SchemaCrawlerOptions otherOptions = new SchemaCrawlerOptions();
+    otherOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.minimum());
+    otherOptions.setTableTypes(Arrays.asList("TABLE", "VIEW"));
+    otherOptions.setTitle("Second title");
+    assertFalse("Different titles should not share a cache entry",
+                catalogCache
+                  .load(connection, otherOptions, overrideOptions(connection))
+                  .isPresent());
+  }
+
+  @Test
+  public void disallowedClassesAreNotRead()
+    throws Exception
+  {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(bytes);)
+    {
+      out.writeObject(new File("catalog"));
+    }
+    try (final ObjectInputStream in = new CatalogObjectInputStream(new ByteArrayInputStream(bytes
+      .toByteArray()));)
+    {
+      in.readObject();
+      fail("Class that is not part of a catalog was read");
+    }
+    catch (final InvalidClassException e)
+    {
+      assertEquals(File.class.getName(), e.classname);
+    }
+  }
+
+  @Test
+  public void expiredCatalogIsNotReused()
+    throws Exception
+  {
+    final Path cacheDirectory = tempFolder.newFolder().toPath();
+    final CatalogCache catalogCache = new CatalogCache(cacheDirectory,
+                                                       Duration.ofMillis(-1));
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+
+    final Connection connection = getConnection();
+    SchemaCrawlerUtility.getCatalog(connection,
+                                    schemaCrawlerOptions,
+                                    catalogCache);
+    assertFalse(catalogCache
+      .load(connection, schemaCrawlerOptions, overrideOptions(connection))
+      .isPresent());
+  }
+
+  @Test
+  public void failedStoreRemovesTemporaryFile()
+    throws Exception
+  {
+    final Path cacheDirectory = tempFolder.newFolder().toPath();
+    final CatalogCache catalogCache = new CatalogCache(cacheDirectory,
+                                                       Duration.ofHours(1));
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+
+    // The invocation handler is not serializable, so writing fails
+    final Catalog catalog = (Catalog) Proxy
+      .newProxyInstance(Catalog.class.getClassLoader(),
+                        new Class<?>[] { Catalog.class },
+                        (proxy, method, args) -> null);
+    final Connection connection = getConnection();
+    catalogCache.store(connection,
+                       schemaCrawlerOptions,
+                       overrideOptions(connection),
+                       catalog);
+
+    try (final Stream<Path> cacheFiles = Files.list(cacheDirectory);)
+    {
+      assertEquals(0, cacheFiles.count());
+    }
+  }
+
+  @Test
+  public void staleCatalogIsNotReused()
+    throws Exception
+  {
+    final Path cacheDirectory = tempFolder.newFolder().toPath();
+    final CatalogCache catalogCache = new CatalogCache(cacheDirectory,
+                                                       Duration.ofHours(1));
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+
+    final Connection connection = getConnection();
+    SchemaCrawlerUtility.getCatalog(connection,
+                                    schemaCrawlerOptions,
+                                    catalogCache);
+    try (final Statement statement = connection.createStatement();)
+    {
+      statement.execute("CREATE TABLE PUBLIC.BOOKS.CACHE_PROBE (ID INTEGER)");
+      try
+      {
+        assertFalse(catalogCache
+          .load(connection, schemaCrawlerOptions, overrideOptions(connection))
+          .isPresent());
+      }
+      finally
+      {
+        statement.execute("DROP TABLE PUBLIC.BOOKS.CACHE_PROBE");
+      }
+    }
+  }
+
+  private DatabaseSpecificOverrideOptions overrideOptions(final Connection connection)
+    throws Exception
+  {
+    return SchemaCrawlerUtility
+      .matchDatabaseSpecificOverrideOptions(connection);
+  }
+
+}
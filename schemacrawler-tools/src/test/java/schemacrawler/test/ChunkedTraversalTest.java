@@ -0,0 +1,248 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.DatabaseInfo;
+import schemacrawler.schema.JdbcDriverInfo;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.SchemaCrawlerInfo;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.tools.traversal.SchemaTraversalHandler;
+import schemacrawler.tools.traversal.SchemaTraverser;
+
+public class ChunkedTraversalTest
+  extends BaseDatabaseTest
+{
+
+  private static class RecordingHandler
+    implements SchemaTraversalHandler
+  {
+
+    private final List<String> sections = new ArrayList<>();
+    private final Set<String> tables = new HashSet<>();
+    private int routines;
+
+    @Override
+    public void begin()
+    {
+      sections.add("begin");
+    }
+
+    @Override
+    public void end()
+    {
+      sections.add("end");
+    }
+
+    @Override
+    public void handle(final ColumnDataType columnDataType)
+    {
+    }
+
+    @Override
+    public void handle(final CrawlInfo crawlInfo)
+    {
+      sections.add("crawlInfo");
+    }
+
+    @Override
+    public void handle(final DatabaseInfo databaseInfo)
+    {
+    }
+
+    @Override
+    public void handle(final JdbcDriverInfo jdbcDriverInfo)
+    {
+    }
+
+    @Override
+    public void handle(final Routine routine)
+    {
+      routines++;
+    }
+
+    @Override
+    public void handle(final SchemaCrawlerInfo schemaCrawlerInfo)
+    {
+    }
+
+    @Override
+    public void handle(final Sequence sequence)
+    {
+    }
+
+    @Override
+    public void handle(final Synonym synonym)
+    {
+    }
+
+    @Override
+    public void handle(final Table table)
+    {
+      assertTrue("Table handled twice " + table,
+                 tables.add(table.getFullName()));
+    }
+
+    @Override
+    public void handleColumnDataTypesEnd()
+    {
+      sections.add("columnDataTypesEnd");
+    }
+
+    @Override
+    public void handleColumnDataTypesStart()
+    {
+      sections.add("columnDataTypesStart");
+    }
+
+    @Override
+    public void handleHeaderEnd()
+    {
+      sections.add("headerEnd");
+    }
+
+    @Override
+    public void handleHeaderStart()
+    {
+      sections.add("headerStart");
+    }
+
+    @Override
+    public void handleInfoEnd()
+    {
+      sections.add("infoEnd");
+    }
+
+    @Override
+    public void handleInfoStart()
+    {
+      sections.add("infoStart");
+    }
+
+    @Override
+    public void handleRoutinesEnd()
+    {
+      sections.add("routinesEnd");
+    }
+
+    @Override
+    public void handleRoutinesStart()
+    {
+      sections.add("routinesStart");
+    }
+
+    @Override
+    public void handleSequencesEnd()
+    {
+      sections.add("sequencesEnd");
+    }
+
+    @Override
+    public void handleSequencesStart()
+    {
+      sections.add("sequencesStart");
+    }
+
+    @Override
+    public void handleSynonymsEnd()
+    {
+      sections.add("synonymsEnd");
+    }
+
+    @Override
+    public void handleSynonymsStart()
+    {
+      sections.add("synonymsStart");
+    }
+
+    @Override
+    public void handleTablesEnd()
+    {
+      sections.add("tablesEnd");
+    }
+
+    @Override
+    public void handleTablesStart()
+    {
+      sections.add("tablesStart");
+    }
+
+  }
+
+  @Test
+  public void chunkedTraversalMatchesTraversal()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+
+    final RecordingHandler handler = new RecordingHandler();
+    final SchemaTraverser traverser = new SchemaTraverser();
+    traverser.setCatalog(getCatalog(schemaCrawlerOptions));
+    traverser.setHandler(handler);
+    traverser.traverse();
+
+    for (final int schemasPerChunk: new int[] { 1, 2, 100 })
+    {
+      final RecordingHandler chunkedHandler = new RecordingHandler();
+      final SchemaTraverser chunkedTraverser = new SchemaTraverser();
+      chunkedTraverser.setHandler(chunkedHandler);
+      chunkedTraverser
+        .traverseInChunks(new SchemaCrawler(getConnection(),
+                                            new DatabaseSpecificOverrideOptions()),
+                          schemaCrawlerOptions,
+                          schemasPerChunk);
+
+      assertEquals(handler.sections, chunkedHandler.sections);
+      assertEquals(handler.tables, chunkedHandler.tables);
+      assertEquals(handler.routines, chunkedHandler.routines);
+      assertTrue(chunkedTraverser.getCatalog().getTables().isEmpty());
+    }
+  }
+
+}
@@ -0,0 +1,110 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Test;
+
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.RegularExpressionExclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.tools.executable.SchemaCrawlerExecutable;
+import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.options.TextOutputFormat;
+import schemacrawler.tools.text.operation.Operation;
+import sf.util.IOUtility;
+
+public class ConcurrentOperationsTest
+  extends BaseDatabaseTest
+{
+
+  @Test
+  public void countConcurrently()
+    throws Exception
+  {
+    assertSameOutput(Operation.count.name(), TextOutputFormat.text);
+    assertSameOutput(Operation.count.name(), TextOutputFormat.json);
+  }
+
+  @Test
+  public void dumpConcurrently()
+    throws Exception
+  {
+    assertSameOutput(Operation.dump.name(), TextOutputFormat.text);
+    assertSameOutput(Operation.dump.name(), TextOutputFormat.json);
+  }
+
+  private void assertSameOutput(final String command,
+                                final TextOutputFormat outputFormat)
+    throws Exception
+  {
+    final String sequentialOutput = execute(command, outputFormat, 1);
+    final String concurrentOutput = execute(command, outputFormat, 4);
+
+    assertTrue(sequentialOutput.contains("PUBLIC.BOOKS.AUTHORS"));
+    assertEquals(sequentialOutput, concurrentOutput);
+  }
+
+  private String execute(final String command,
+                         final TextOutputFormat outputFormat,
+                         final int maxThreads)
+    throws Exception
+  {
+    final Config config = new Config();
+    config.put("schemacrawler.format.no_info", "true");
+    config.put("schemacrawler.format.data.max_threads",
+               String.valueOf(maxThreads));
+
+    final Path testOutputFile = IOUtility
+      .createTempFilePath(command, outputFormat.getFormat());
+    final OutputOptions outputOptions = new OutputOptions(outputFormat,
+                                                          testOutputFile);
+
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions
+      .setSchemaInclusionRule(new RegularExpressionExclusionRule(".*\\.SYSTEM_LOBS|.*\\.FOR_LINT"));
+
+    final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable(command);
+    executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
+    executable.setOutputOptions(outputOptions);
+    executable.setAdditionalConfiguration(config);
+    executable.setDataSource(getDataSource());
+    executable.execute(getConnection());
+
+    return new String(Files.readAllBytes(testOutputFile), UTF_8);
+  }
+
+}
@@ -0,0 +1,107 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Test;
+
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.tools.executable.SchemaCrawlerExecutable;
+import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.options.TextOutputFormat;
+import sf.util.IOUtility;
+
+public class DataLobsTest
+  extends BaseDatabaseTest
+{
+
+  @Test
+  public void lobHashes()
+    throws Exception
+  {
+    final Config config = new Config();
+    config.put("schemacrawler.format.data.show_lobs", "true");
+    config.put("schemacrawler.format.data.show_lob_hashes", "true");
+
+    final String output = executeLobQuery(config);
+    assertTrue(output,
+               output
+                 .contains("<25 characters, SHA-256 7bcdaedc108a214086253d23cdd3d3611c03d6c12837f905b3485579b75e0809>"));
+    assertFalse(output, output.contains("This is the latest update"));
+  }
+
+  @Test
+  public void maxLobLength()
+    throws Exception
+  {
+    final Config config = new Config();
+    config.put("schemacrawler.format.data.show_lobs", "true");
+    config.put("schemacrawler.format.data.max_lob_length", "11");
+
+    final String output = executeLobQuery(config);
+    assertTrue(output, output.contains("This is the..."));
+    assertTrue(output, output.contains("Some update"));
+    assertFalse(output, output.contains("Some update..."));
+    assertFalse(output, output.contains("This is the latest update"));
+  }
+
+  private String executeLobQuery(final Config config)
+    throws Exception
+  {
+    final String command = "lobs";
+    config.put(command,
+               "SELECT \"UPDATE\" FROM PUBLIC.BOOKS.BOOKAUTHORS ORDER BY BOOKID, AUTHORID");
+
+    final Path testOutputFile = IOUtility.createTempFilePath(command, "text");
+    final OutputOptions outputOptions = new OutputOptions(TextOutputFormat.text,
+                                                          testOutputFile);
+
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions
+      .setSchemaInclusionRule(new RegularExpressionInclusionRule(".*\\.BOOKS"));
+
+    final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable(command);
+    executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
+    executable.setOutputOptions(outputOptions);
+    executable.setAdditionalConfiguration(config);
+    executable.execute(getConnection());
+
+    return new String(Files.readAllBytes(testOutputFile), UTF_8);
+  }
+
+}
@@ -0,0 +1,196 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2017, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.RegularExpressionExclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.tools.executable.BaseStagedExecutable;
+import schemacrawler.tools.executable.CommandChainExecutable;
+import schemacrawler.tools.executable.SchemaCrawlerExecutable;
+import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.options.TextOutputFormat;
+import schemacrawler.tools.traversal.SchemaTraversalHandler;
+import schemacrawler.tools.traversal.SchemaTraverser;
+import sf.util.IOUtility;
+
+public class SharedTraversalTest
+  extends BaseDatabaseTest
+{
+
+  /**
+   * Records when it runs, either after a traversal of the catalog, or
+   * on its own.
+   */
+  private static final class RecordingExecutable
+    extends BaseStagedExecutable
+  {
+
+    private final List<String> executed;
+    private final boolean isTraversed;
+
+    RecordingExecutable(final String command,
+                        final List<String> executed,
+                        final boolean isTraversed)
+    {
+      super(command);
+      this.executed = executed;
+      this.isTraversed = isTraversed;
+    }
+
+    @Override
+    public void executeOn(final Catalog catalog, final Connection connection)
+      throws Exception
+    {
+      executed.add(getCommand());
+    }
+
+    @Override
+    protected void afterSchemaTraversal()
+    {
+      executed.add(getCommand());
+    }
+
+    @Override
+    protected SchemaTraverser prepareSchemaTraversal(final Catalog catalog,
+                                                     final Connection connection)
+    {
+      if (!isTraversed)
+      {
+        return null;
+      }
+      final SchemaTraverser traverser = new SchemaTraverser();
+      traverser.setCatalog(catalog);
+      traverser.setHandler((SchemaTraversalHandler) Proxy
+        .newProxyInstance(SharedTraversalTest.class.getClassLoader(),
+                          new Class<?>[] { SchemaTraversalHandler.class },
+                          (proxy, method, args) -> null));
+      return traverser;
+    }
+
+  }
+
+  @Test
+  public void commandOrder()
+    throws Exception
+  {
+    final List<String> executed = new ArrayList<>();
+    final CommandChainExecutable chain = new CommandChainExecutable();
+    chain.addNext(new RecordingExecutable("first", executed, true));
+    chain.addNext(new RecordingExecutable("operation", executed, false));
+    chain.addNext(new RecordingExecutable("second", executed, true));
+    chain.addNext(new RecordingExecutable("third", executed, true));
+
+    chain.executeOn(getCatalog(new SchemaCrawlerOptions()), getConnection());
+
+    // Commands that do not traverse the catalog run in command order
+    assertEquals(Arrays.asList("first", "operation", "second", "third"),
+                 executed);
+  }
+
+  @Test
+  public void sharedTraversalHtml()
+    throws Exception
+  {
+    assertSameOutput(TextOutputFormat.html);
+  }
+
+  @Test
+  public void sharedTraversalText()
+    throws Exception
+  {
+    assertSameOutput(TextOutputFormat.text);
+  }
+
+  private void assertSameOutput(final TextOutputFormat outputFormat)
+    throws Exception
+  {
+    final Config firstConfig = new Config();
+    firstConfig.put("schemacrawler.format.no_footer", "true");
+    final Config middleConfig = new Config();
+    middleConfig.put("schemacrawler.format.no_header", "true");
+    middleConfig.put("schemacrawler.format.no_footer", "true");
+    final Config lastConfig = new Config();
+    lastConfig.put("schemacrawler.format.no_header", "true");
+
+    final String separateOutput = execute("list", outputFormat, firstConfig)
+                                  + execute("brief", outputFormat, middleConfig)
+                                  + execute("count", outputFormat, lastConfig);
+    final String chainedOutput = execute("list,brief,count",
+                                         outputFormat,
+                                         new Config());
+
+    assertTrue(chainedOutput.contains("PUBLIC.BOOKS.AUTHORS"));
+    assertEquals(separateOutput, chainedOutput);
+  }
+
+  private String execute(final String command,
+                         final TextOutputFormat outputFormat,
+                         final Config commandConfig)
+    throws Exception
+  {
+    final Config config = new Config();
+    config.put("schemacrawler.format.no_info", "true");
+    config.putAll(commandConfig);
+
+    final Path testOutputFile = IOUtility
+      .createTempFilePath("shared", outputFormat.getFormat());
+    final OutputOptions outputOptions = new OutputOptions(outputFormat,
+                                                          testOutputFile);
+
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions
+      .setSchemaInclusionRule(new RegularExpressionExclusionRule(".*\\.SYSTEM_LOBS|.*\\.FOR_LINT"));
+
+    final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable(command);
+    executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
+    executable.setOutputOptions(outputOptions);
+    executable.setAdditionalConfiguration(config);
+    executable.execute(getConnection());
+
+    return new String(Files.readAllBytes(testOutputFile), UTF_8);
+  }
+
+}
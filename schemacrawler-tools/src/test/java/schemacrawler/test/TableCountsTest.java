@@ -30,8 +30,10 @@ package schemacrawler.test;
 
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 import java.util.Arrays;
+import java.util.Map;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -39,6 +41,8 @@ import org.junit.Test;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
 import schemacrawler.schemacrawler.RegularExpressionExclusionRule;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
@@ -47,6 +51,8 @@ import schemacrawler.test.utility.TestName;
 import schemacrawler.test.utility.TestWriter;
 import schemacrawler.tools.analysis.counts.CatalogWithCounts;
 import schemacrawler.tools.analysis.counts.CountsUtility;
+import schemacrawler.tools.analysis.counts.TableCountsOptions;
+import schemacrawler.tools.analysis.counts.TableCountsOptionsBuilder;
 import schemacrawler.utility.NamedObjectSort;
 
 public class TableCountsTest
@@ -91,4 +97,65 @@ public class TableCountsTest
     }
   }
 
+  @Test
+  public void estimatedTableCounts()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+    schemaCrawlerOptions
+      .setSchemaInclusionRule(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
+
+    // Pretend that the optimizer statistics know about one table only
+    final InformationSchemaViews informationSchemaViews = new InformationSchemaViewsBuilder()
+      .withExtTableRowCountsSql("SELECT TABLE_CAT AS TABLE_CATALOG, TABLE_SCHEM AS TABLE_SCHEMA, TABLE_NAME, 1000 AS ROW_COUNT "
+                                + "FROM INFORMATION_SCHEMA.SYSTEM_TABLES "
+                                + "WHERE TABLE_SCHEM = 'BOOKS' AND TABLE_NAME = 'AUTHORS'")
+      .toOptions();
+    final TableCountsOptions tableCountsOptions = new TableCountsOptionsBuilder()
+      .estimated(true).toOptions();
+
+    final Catalog baseCatalog = getCatalog(schemaCrawlerOptions);
+    final CatalogWithCounts catalog = new CatalogWithCounts(baseCatalog,
+                                                            getConnection(),
+                                                            schemaCrawlerOptions,
+                                                            informationSchemaViews,
+                                                            tableCountsOptions);
+
+    final Table authors = catalog.lookupTable(catalog
+      .lookupSchema("PUBLIC.BOOKS").get(), "AUTHORS").get();
+    assertEquals(1000L, CountsUtility.getRowCount(authors));
+    final Table books = catalog
+      .lookupTable(catalog.lookupSchema("PUBLIC.BOOKS").get(), "BOOKS")
+      .get();
+    assertEquals(20L, CountsUtility.getRowCount(books));
+  }
+
+  @Test
+  public void tableCountsInParallel()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+    schemaCrawlerOptions
+      .setSchemaInclusionRule(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
+
+    final Map<Table, Long> counts = new CatalogWithCounts(getCatalog(schemaCrawlerOptions),
+                                                          getConnection(),
+                                                          schemaCrawlerOptions)
+                                                            .getCounts();
+
+    final TableCountsOptions tableCountsOptions = new TableCountsOptionsBuilder()
+      .maxConnections(4).queryTimeoutSeconds(30).toOptions();
+    final Map<Table, Long> parallelCounts = new CatalogWithCounts(getCatalog(schemaCrawlerOptions),
+                                                                  getDataSource(),
+                                                                  schemaCrawlerOptions,
+                                                                  new InformationSchemaViews(),
+                                                                  tableCountsOptions)
+                                                                    .getCounts();
+
+    assertFalse("No tables were counted", counts.isEmpty());
+    assertEquals(counts, parallelCounts);
+  }
+
 }